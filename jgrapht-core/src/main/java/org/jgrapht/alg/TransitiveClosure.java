@@ -26,6 +26,11 @@ import java.util.*;
 /**
  * Constructs the transitive closure of the input graph.
  *
+ * <p>
+ * The closure is materialized as edges of the graph. For reachability queries on large graphs
+ * see {@link org.jgrapht.alg.connectivity.BitsetReachabilityIndex}, which does not modify the
+ * graph.
+ *
  * @author Vinayak R. Borkar
  * @since May 5, 2007
  */
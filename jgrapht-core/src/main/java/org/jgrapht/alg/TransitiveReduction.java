@@ -18,8 +18,11 @@
 package org.jgrapht.alg;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * An implementation of Harry Hsu's
@@ -38,6 +41,16 @@ import java.util.*;
  * Overflow</a>
  * </p>
  *
+ * <p>
+ * This algorithm builds a dense path matrix and runs in $O(n^3)$ time. It is only used for graphs
+ * which contain cycles. Acyclic graphs are reduced by a sparse algorithm: the successors of every
+ * vertex are visited in topological order, and an edge to a successor is transitive if the
+ * successor is a descendant of a successor visited before. The search for the descendants stops at
+ * the last successor in topological order. The vertices are checked in parallel on a
+ * {@link ForkJoinPool}, and every worker needs only $O(n)$ space, thus large acyclic graphs can be
+ * reduced.
+ * </p>
+ *
  * @author Christophe Thiebaud
  * @since Aug 13, 2015
  */
@@ -49,6 +62,8 @@ public class TransitiveReduction
      */
     public static final TransitiveReduction INSTANCE = new TransitiveReduction();
 
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
     /**
      * Private Constructor.
      */
@@ -134,8 +149,27 @@ public class TransitiveReduction
      * @param <E> the graph edge type
      */
     public <V, E> void reduce(final Graph<V, E> directedGraph)
+    {
+        reduce(directedGraph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * This method will remove all transitive edges from the graph passed as input parameter. If
+     * the graph is acyclic, the vertices are checked in parallel using the given pool.
+     *
+     * @param directedGraph the directed graph that will be reduced transitively
+     * @param pool the pool used to reduce acyclic graphs in parallel
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public <V, E> void reduce(final Graph<V, E> directedGraph, ForkJoinPool pool)
     {
         GraphTests.requireDirected(directedGraph, "Graph must be directed");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        if (reduceAcyclic(directedGraph, pool)) {
+            return;
+        }
 
         final List<V> vertices = new ArrayList<>(directedGraph.vertexSet());
 
@@ -183,6 +217,143 @@ public class TransitiveReduction
             }
         }
     }
+
+    /**
+     * Remove all transitive edges from an acyclic graph.
+     *
+     * @return false, without modifying the graph, if the graph contains a cycle
+     */
+    private static <V, E> boolean reduceAcyclic(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+        int n = adjacency.getVertexCount();
+        int[] start = adjacency.getStart();
+        int[] target = adjacency.getTarget();
+        int m = start[n];
+
+        // topological order by Kahn's algorithm
+        int[] inDegree = new int[n];
+        for (int i = 0; i < m; i++) {
+            inDegree[target[i]]++;
+        }
+        int[] order = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                if (--inDegree[target[i]] == 0) {
+                    order[tail++] = target[i];
+                }
+            }
+        }
+        if (tail < n) {
+            return false;
+        }
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        // the successors of every vertex, sorted by topological order
+        adjacency.sortEdges(i -> rank[target[i]]);
+
+        boolean[] transitive = new boolean[m];
+        int leafSize = Math.max(SEQUENTIAL_THRESHOLD, n / (4 * pool.getParallelism()));
+        pool.invoke(new ReductionTask(start, target, rank, transitive, 0, n, leafSize));
+
+        for (int i = 0; i < m; i++) {
+            if (transitive[i]) {
+                graph.removeEdge(adjacency.getEdge(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks the transitive outgoing edges of a range of vertices. An edge is transitive if its
+     * target is reached from an earlier successor, searching only up to the last successor in
+     * topological order.
+     */
+    private static class ReductionTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 7463024129852917761L;
+
+        private final int[] start;
+        private final int[] target;
+        private final int[] rank;
+        private final boolean[] transitive;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        ReductionTask(
+            int[] start, int[] target, int[] rank, boolean[] transitive, int from, int to,
+            int leafSize)
+        {
+            this.start = start;
+            this.target = target;
+            this.rank = rank;
+            this.transitive = transitive;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new ReductionTask(start, target, rank, transitive, from, mid, leafSize),
+                    new ReductionTask(start, target, rank, transitive, mid, to, leafSize));
+                return;
+            }
+
+            int n = rank.length;
+            int[] visited = new int[n];
+            int[] stack = new int[n];
+            int stamp = 0;
+            for (int u = from; u < to; u++) {
+                if (start[u + 1] - start[u] < 2) {
+                    continue;
+                }
+                stamp++;
+                int last = rank[target[start[u + 1] - 1]];
+                for (int i = start[u]; i < start[u + 1]; i++) {
+                    int v = target[i];
+                    if (visited[v] == stamp) {
+                        transitive[i] = true;
+                        continue;
+                    }
+
+                    // mark the descendants of v up to the last successor of u
+                    int top = 0;
+                    stack[top++] = v;
+                    while (top > 0) {
+                        int x = stack[--top];
+                        for (int j = start[x]; j < start[x + 1]; j++) {
+                            int y = target[j];
+                            if (rank[y] > last) {
+                                break;
+                            }
+                            if (visited[y] != stamp) {
+                                visited[y] = stamp;
+                                stack[top++] = y;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
 
 // End TransitiveReduction.java
@@ -0,0 +1,438 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Branch and bound algorithm for computing a
+ * <a href = "http://mathworld.wolfram.com/MaximumClique.html">maximum cardinality clique</a>.
+ *
+ * <p>
+ * Contrary to the Bron-Kerbosch variants, which enumerate all maximal cliques, the algorithm
+ * searches directly for a maximum clique and prunes every branch which cannot lead to a clique
+ * larger than the best clique found so far. The upper bound of a branch is computed using a greedy
+ * sequential coloring of the candidate vertices, since a clique cannot contain two vertices of the
+ * same color. The branching and bounding follows the MCQ/MCS family of algorithms described in
+ * <ul>
+ * <li>E. Tomita and T. Seki. An efficient branch-and-bound algorithm for finding a maximum clique.
+ * Discrete Mathematics and Theoretical Computer Science, LNCS 2731, 278--289, 2003.</li>
+ * <li>E. Tomita, Y. Sutani, T. Higashi, S. Takahashi and M. Wakatsuki. A simple and faster
+ * branch-and-bound algorithm for finding a maximum clique. WALCOM: Algorithms and Computation, LNCS
+ * 5942, 191--203, 2010.</li>
+ * </ul>
+ *
+ * <p>
+ * The candidate sets and the adjacency matrix are stored as {@code long[]} bitsets and the
+ * coloring is computed word by word as in
+ * <ul>
+ * <li>P. San Segundo, D. Rodríguez-Losada and A. Jiménez. An exact bit-parallel algorithm for the
+ * maximum clique problem. Computers &amp; Operations Research, 38(2):571--581, 2011.</li>
+ * </ul>
+ *
+ * <p>
+ * Before the search, an initial clique is computed greedily using a degeneracy ordering and all
+ * vertices whose core number is smaller than the size of this clique are discarded, which keeps
+ * the bitset adjacency small on large sparse graphs. The top-level branches of the search are
+ * solved in parallel using a {@link ForkJoinPool} and share the size of the best clique found so
+ * far as a bound.
+ *
+ * <p>
+ * A timeout can be set using the constructor parameters. If the time limit is reached the
+ * algorithm returns the largest clique found so far, which is not necessarily a maximum clique.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ChordalGraphMaxCliqueFinder
+ */
+public class BranchAndBoundMaximumCliqueFinder<V, E>
+    implements
+    CliqueAlgorithm<V>
+{
+    private final Graph<V, E> graph;
+    private final long nanos;
+    private final ForkJoinPool pool;
+
+    private Clique<V> maximumClique;
+    private boolean timeLimitReached;
+
+    /**
+     * Constructs a new clique finder which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public BranchAndBoundMaximumCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public BranchAndBoundMaximumCliqueFinder(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param pool the pool used to execute the top-level branches in parallel
+     */
+    public BranchAndBoundMaximumCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (timeout == 0L) {
+            this.nanos = Long.MAX_VALUE;
+        } else {
+            this.nanos = unit.toNanos(timeout);
+        }
+        if (this.nanos < 1L) {
+            throw new IllegalArgumentException("Invalid timeout, must be positive");
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Computes a maximum clique of the graph. If the time limit is reached, the largest clique
+     * found so far is returned.
+     *
+     * @return a maximum clique
+     */
+    @Override
+    public Clique<V> getClique()
+    {
+        lazyRun();
+        return maximumClique;
+    }
+
+    /**
+     * Check whether the computation has stopped due to a time limit, in which case the returned
+     * clique is not necessarily a maximum one.
+     *
+     * @return true if the computation has stopped due to a time limit, false otherwise
+     */
+    public boolean isTimeLimitReached()
+    {
+        lazyRun();
+        return timeLimitReached;
+    }
+
+    private void lazyRun()
+    {
+        if (maximumClique != null) {
+            return;
+        }
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+
+        long nanosTimeLimit;
+        try {
+            nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+        } catch (ArithmeticException ignore) {
+            nanosTimeLimit = Long.MAX_VALUE;
+        }
+
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        int n = vertices.size();
+        int[][] neighbors = IntAdjacency.neighbors(graph, IntAdjacency.index(vertices));
+        int[] core = new int[n];
+        int[] order = IntAdjacency.degeneracyOrder(neighbors, core);
+
+        /*
+         * Greedy initial clique, starting from the densest core
+         */
+        int[] initial = new int[n];
+        int initialSize = 0;
+        int[] hits = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int v = order[i];
+            if (hits[v] == initialSize) {
+                initial[initialSize++] = v;
+                for (int u : neighbors[v]) {
+                    hits[u]++;
+                }
+            }
+        }
+
+        /*
+         * Only vertices with core number at least the size of the initial clique can belong to a
+         * larger clique.
+         */
+        int m = 0;
+        int[] remaining = new int[n];
+        int[] localIndex = new int[n];
+        Arrays.fill(localIndex, -1);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = order[i];
+            if (core[v] >= initialSize) {
+                localIndex[v] = m;
+                remaining[m++] = v;
+            }
+        }
+
+        Search search = new Search(m, initialSize, nanosTimeLimit);
+        for (int a = 0; a < m; a++) {
+            long[] row = search.rows[a];
+            for (int u : neighbors[remaining[a]]) {
+                int b = localIndex[u];
+                if (b != -1) {
+                    row[b >>> 6] |= 1L << b;
+                }
+            }
+        }
+        if (m > initialSize) {
+            search.run();
+        }
+
+        Set<V> clique = new HashSet<>();
+        if (search.best != null) {
+            for (int a : search.best) {
+                clique.add(vertices.get(remaining[a]));
+            }
+        } else {
+            for (int i = 0; i < initialSize; i++) {
+                clique.add(vertices.get(initial[i]));
+            }
+        }
+        timeLimitReached = search.timeout.get();
+        maximumClique = new CliqueImpl<>(clique, clique.size());
+    }
+
+    /**
+     * The branch and bound search on the bitset adjacency of the remaining vertices.
+     */
+    private class Search
+    {
+        final int m;
+        final int words;
+        final long[][] rows;
+        final long nanosTimeLimit;
+        final AtomicBoolean timeout;
+
+        volatile int bestSize;
+        int[] best;
+
+        Search(int m, int initialSize, long nanosTimeLimit)
+        {
+            this.m = m;
+            this.words = (m + 63) >>> 6;
+            this.rows = new long[m][words];
+            this.nanosTimeLimit = nanosTimeLimit;
+            this.timeout = new AtomicBoolean(false);
+            this.bestSize = initialSize;
+        }
+
+        void run()
+        {
+            long[] P = new long[words];
+            for (int a = 0; a < m; a++) {
+                P[a >>> 6] |= 1L << a;
+            }
+
+            /*
+             * Compute the top-level branches, highest colors first.
+             */
+            int[] verts = new int[m];
+            int[] colors = new int[m];
+            int count = color(P, verts, colors, 1);
+            int[] branchVertex = new int[count];
+            int[] branchColor = new int[count];
+            long[][] branchP = new long[count][];
+            for (int i = count - 1, j = 0; i >= 0; i--, j++) {
+                int v = verts[i];
+                branchVertex[j] = v;
+                branchColor[j] = colors[i];
+                branchP[j] = intersect(P, rows[v]);
+                P[v >>> 6] &= ~(1L << v);
+            }
+
+            pool.invoke(new BranchesTask(branchVertex, branchColor, branchP, 0, count));
+        }
+
+        /**
+         * Branch on the top-level vertices in a range.
+         */
+        private class BranchesTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 4962301725383547012L;
+
+            private final int[] branchVertex;
+            private final int[] branchColor;
+            private final long[][] branchP;
+            private final int from;
+            private final int to;
+
+            BranchesTask(int[] branchVertex, int[] branchColor, long[][] branchP, int from, int to)
+            {
+                this.branchVertex = branchVertex;
+                this.branchColor = branchColor;
+                this.branchP = branchP;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from == 1) {
+                    if (branchColor[from] > bestSize && !timeout.get()) {
+                        int[] clique = new int[m];
+                        clique[0] = branchVertex[from];
+                        long[] P = branchP[from];
+                        branchP[from] = null;
+                        if (isEmpty(P)) {
+                            improve(clique, 1);
+                        } else {
+                            expand(P, clique, 1);
+                        }
+                    }
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new BranchesTask(branchVertex, branchColor, branchP, from, mid),
+                    new BranchesTask(branchVertex, branchColor, branchP, mid, to));
+            }
+        }
+
+        private void expand(long[] P, int[] clique, int depth)
+        {
+            /*
+             * Check if timeout
+             */
+            if (timeout.get()) {
+                return;
+            }
+            if (nanosTimeLimit - System.nanoTime() < 0) {
+                timeout.set(true);
+                return;
+            }
+
+            int size = 0;
+            for (long w : P) {
+                size += Long.bitCount(w);
+            }
+            int[] verts = new int[size];
+            int[] colors = new int[size];
+            int count = color(P, verts, colors, Math.max(1, bestSize - depth + 1));
+
+            for (int i = count - 1; i >= 0; i--) {
+                if (depth + colors[i] <= bestSize) {
+                    return;
+                }
+                int v = verts[i];
+                clique[depth] = v;
+                long[] newP = intersect(P, rows[v]);
+                if (isEmpty(newP)) {
+                    improve(clique, depth + 1);
+                } else {
+                    expand(newP, clique, depth + 1);
+                }
+                P[v >>> 6] &= ~(1L << v);
+            }
+        }
+
+        /**
+         * Greedy sequential coloring of the candidate set. Only vertices with color at least
+         * {@code minColor} are reported, in non-decreasing order of their colors.
+         */
+        private int color(long[] P, int[] verts, int[] colors, int minColor)
+        {
+            long[] U = P.clone();
+            long[] Q = new long[words];
+            int count = 0;
+            int k = 1;
+            int first = 0;
+            while (true) {
+                while (first < words && U[first] == 0L) {
+                    first++;
+                }
+                if (first == words) {
+                    break;
+                }
+                System.arraycopy(U, first, Q, first, words - first);
+                for (int w = first; w < words; w++) {
+                    while (Q[w] != 0L) {
+                        int v = (w << 6) + Long.numberOfTrailingZeros(Q[w]);
+                        U[w] &= ~(1L << v);
+                        Q[w] &= ~(1L << v);
+                        long[] row = rows[v];
+                        for (int i = w; i < words; i++) {
+                            Q[i] &= ~row[i];
+                        }
+                        if (k >= minColor) {
+                            verts[count] = v;
+                            colors[count] = k;
+                            count++;
+                        }
+                    }
+                }
+                k++;
+            }
+            return count;
+        }
+
+        private synchronized void improve(int[] clique, int size)
+        {
+            if (size > bestSize) {
+                best = Arrays.copyOf(clique, size);
+                bestSize = size;
+            }
+        }
+
+        private long[] intersect(long[] a, long[] b)
+        {
+            long[] result = new long[words];
+            for (int i = 0; i < words; i++) {
+                result[i] = a[i] & b[i];
+            }
+            return result;
+        }
+    }
+
+    private static boolean isEmpty(long[] set)
+    {
+        for (long w : set) {
+            if (w != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
+
+// End BranchAndBoundMaximumCliqueFinder.java
@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Helper methods for clique algorithms which operate on a graph relabeled with consecutive
+ * integers $0, \dots, n-1$ and stored as one sorted array of neighbors per vertex.
+ */
+final class IntAdjacency
+{
+    private IntAdjacency()
+    {
+    }
+
+    /**
+     * Index the vertices of a graph with consecutive integers in iteration order.
+     *
+     * @param vertices the vertices
+     * @param <V> the graph vertex type
+     * @return the index of each vertex
+     */
+    static <V> Map<V, Integer> index(List<V> vertices)
+    {
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        return index;
+    }
+
+    /**
+     * Build sorted and duplicate free adjacency arrays of a graph. Directed graphs are treated as
+     * undirected.
+     *
+     * @param graph the graph
+     * @param index the index of each vertex
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the adjacency arrays
+     */
+    static <V, E> int[][] neighbors(Graph<V, E> graph, Map<V, Integer> index)
+    {
+        int[][] neighbors = new int[index.size()][];
+        for (Map.Entry<V, Integer> entry : index.entrySet()) {
+            V v = entry.getKey();
+            Set<E> edges = graph.edgesOf(v);
+            int[] a = new int[edges.size()];
+            int k = 0;
+            for (E e : edges) {
+                a[k++] = index.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+            neighbors[entry.getValue()] = sortedUnique(a);
+        }
+        return neighbors;
+    }
+
+    /**
+     * Relabel adjacency arrays using a permutation.
+     *
+     * @param neighbors the adjacency arrays
+     * @param order the permutation, the vertex at position $i$ of the order becomes vertex $i$
+     * @return the relabeled adjacency arrays
+     */
+    static int[][] relabel(int[][] neighbors, int[] order)
+    {
+        int n = order.length;
+        int[] position = new int[n];
+        for (int i = 0; i < n; i++) {
+            position[order[i]] = i;
+        }
+        int[][] result = new int[n][];
+        for (int i = 0; i < n; i++) {
+            int[] src = neighbors[order[i]];
+            int[] dst = new int[src.length];
+            for (int k = 0; k < src.length; k++) {
+                dst[k] = position[src[k]];
+            }
+            Arrays.sort(dst);
+            result[i] = dst;
+        }
+        return result;
+    }
+
+    /**
+     * Compute a degeneracy ordering using the bucket based algorithm of Batagelj and Zaversnik in
+     * $O(n+m)$ time. Each vertex has at most $d$ neighbors later in the ordering, where $d$ is the
+     * degeneracy of the graph.
+     *
+     * @param neighbors duplicate free adjacency arrays without self-loops
+     * @param core if not null, filled with the core number of each vertex
+     * @return the vertices in degeneracy order
+     */
+    static int[] degeneracyOrder(int[][] neighbors, int[] core)
+    {
+        int n = neighbors.length;
+        int maxDegree = 0;
+        int[] degree = core != null ? core : new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = neighbors[v].length;
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
+        int[] bin = new int[maxDegree + 1];
+        for (int v = 0; v < n; v++) {
+            bin[degree[v]]++;
+        }
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int num = bin[d];
+            bin[d] = start;
+            start += num;
+        }
+        int[] pos = new int[n];
+        int[] vert = new int[n];
+        for (int v = 0; v < n; v++) {
+            pos[v] = bin[degree[v]];
+            vert[pos[v]] = v;
+            bin[degree[v]]++;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+        for (int i = 0; i < n; i++) {
+            int v = vert[i];
+            for (int u : neighbors[v]) {
+                if (degree[u] > degree[v]) {
+                    int du = degree[u];
+                    int pu = pos[u];
+                    int pw = bin[du];
+                    int w = vert[pw];
+                    if (u != w) {
+                        pos[u] = pw;
+                        vert[pu] = w;
+                        pos[w] = pu;
+                        vert[pw] = u;
+                    }
+                    bin[du]++;
+                    degree[u]--;
+                }
+            }
+        }
+        return vert;
+    }
+
+    private static int[] sortedUnique(int[] a)
+    {
+        Arrays.sort(a);
+        int unique = 0;
+        for (int k = 0; k < a.length; k++) {
+            if (unique == 0 || a[unique - 1] != a[k]) {
+                a[unique++] = a[k];
+            }
+        }
+        return unique == a.length ? a : Arrays.copyOf(a, unique);
+    }
+}
+
+// End IntAdjacency.java
@@ -0,0 +1,409 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering,
+ * operating on bitsets.
+ *
+ * <p>
+ * The algorithm computes the same maximal cliques as {@link DegeneracyBronKerboschCliqueFinder},
+ * following the outer loop from the paper
+ * <ul>
+ * <li>David Eppstein, Maarten Löffler and Darren Strash. Listing All Maximal Cliques in Sparse
+ * Graphs in Near-Optimal Time. Algorithms and Computation: 21st International Symposium (ISSAC),
+ * 403--414, 2010.</li>
+ * </ul>
+ *
+ * <p>
+ * The vertices are first relabeled densely as integers $0, \dots, n-1$ in degeneracy order and the
+ * graph is stored as sorted integer adjacency arrays. Every vertex $v$ of the ordering induces an
+ * independent subproblem where the candidate set $P$ contains the neighbors of $v$ later in the
+ * ordering and the exclusion set $X$ the neighbors of $v$ earlier in the ordering. Each
+ * subproblem relabels its own neighborhood locally and keeps $P$, $X$ and the local adjacency as
+ * {@code long[]} bitsets, so that the pivoting rule of Tomita et al. and the set intersections of
+ * the recursion are computed word by word without any hashing. Since $|P| \le d$, where $d$ is the
+ * degeneracy of the graph, the local adjacency uses $O(d \cdot \deg(v))$ bits.
+ *
+ * <p>
+ * The subproblems are independent and are solved in parallel using a {@link ForkJoinPool}. The
+ * output is deterministic, cliques are reported grouped by the first vertex of the clique in
+ * degeneracy order.
+ *
+ * <p>
+ * The algorithm first computes all maximal cliques and then returns the result to the user. A
+ * timeout can be set using the constructor parameters.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinder<V, E>
+    extends
+    BaseBronKerboschCliqueFinder<V, E>
+{
+    /**
+     * Subproblems whose range is at most this size are solved sequentially.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new clique finder which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param pool the pool used to execute the subproblems in parallel
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit, ForkJoinPool pool)
+    {
+        super(graph, timeout, unit);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Lazily execute the enumeration algorithm.
+     */
+    @Override
+    protected void lazyRun()
+    {
+        if (allMaximalCliques != null) {
+            return;
+        }
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+
+        long nanosTimeLimit;
+        try {
+            nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+        } catch (ArithmeticException ignore) {
+            nanosTimeLimit = Long.MAX_VALUE;
+        }
+
+        IndexedGraph indexed = new IndexedGraph();
+        int n = indexed.vertices.size();
+
+        @SuppressWarnings({ "unchecked", "rawtypes" }) List<Set<V>>[] results = new List[n];
+        AtomicBoolean timeout = new AtomicBoolean(false);
+        if (n > 0) {
+            pool.invoke(new SubproblemsTask(indexed, 0, n, results, nanosTimeLimit, timeout));
+        }
+
+        allMaximalCliques = new ArrayList<>();
+        for (List<Set<V>> r : results) {
+            if (r != null) {
+                allMaximalCliques.addAll(r);
+            }
+        }
+        for (Set<V> c : allMaximalCliques) {
+            maxSize = Math.max(maxSize, c.size());
+        }
+        timeLimitReached = timeout.get();
+    }
+
+    /**
+     * The graph relabeled in degeneracy order as sorted integer adjacency arrays.
+     */
+    private class IndexedGraph
+    {
+        final List<V> vertices;
+        final int[][] neighbors;
+
+        IndexedGraph()
+        {
+            List<V> initial = new ArrayList<>(graph.vertexSet());
+            int[][] initialNeighbors = IntAdjacency.neighbors(graph, IntAdjacency.index(initial));
+            int[] order = IntAdjacency.degeneracyOrder(initialNeighbors, null);
+
+            this.vertices = new ArrayList<>(order.length);
+            for (int v : order) {
+                vertices.add(initial.get(v));
+            }
+            this.neighbors = IntAdjacency.relabel(initialNeighbors, order);
+        }
+    }
+
+    /**
+     * Solves a range of top-level subproblems, storing the cliques of subproblem $i$ at position
+     * $i$ of the results so that their order does not depend on the scheduling.
+     */
+    private class SubproblemsTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -3283740453498416187L;
+
+        private final IndexedGraph indexed;
+        private final int from;
+        private final int to;
+        private final List<Set<V>>[] results;
+        private final long nanosTimeLimit;
+        private final AtomicBoolean timeout;
+
+        SubproblemsTask(
+            IndexedGraph indexed, int from, int to, List<Set<V>>[] results, long nanosTimeLimit,
+            AtomicBoolean timeout)
+        {
+            this.indexed = indexed;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.nanosTimeLimit = nanosTimeLimit;
+            this.timeout = timeout;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to && !timeout.get(); i++) {
+                    results[i] = new Subproblem(indexed, i, nanosTimeLimit, timeout).solve();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new SubproblemsTask(indexed, from, mid, results, nanosTimeLimit, timeout),
+                new SubproblemsTask(indexed, mid, to, results, nanosTimeLimit, timeout));
+        }
+    }
+
+    /**
+     * The subproblem of all maximal cliques whose first vertex in degeneracy order is a given
+     * vertex. Local vertices $0, \dots, p-1$ are the later neighbors (initial $P$) and local
+     * vertices $p, \dots, k-1$ the earlier neighbors (initial $X$) of the vertex.
+     */
+    private class Subproblem
+    {
+        private final IndexedGraph indexed;
+        private final int root;
+        private final long nanosTimeLimit;
+        private final AtomicBoolean timeout;
+
+        private final int[] local;
+        private final int p;
+        private final int wordsP;
+        private final int wordsK;
+        private final long[][] rows;
+        private final int[] clique;
+        private final List<Set<V>> result;
+
+        Subproblem(IndexedGraph indexed, int root, long nanosTimeLimit, AtomicBoolean timeout)
+        {
+            this.indexed = indexed;
+            this.root = root;
+            this.nanosTimeLimit = nanosTimeLimit;
+            this.timeout = timeout;
+
+            /*
+             * Local relabeling: later neighbors first, then earlier neighbors.
+             */
+            int[] nbrs = indexed.neighbors[root];
+            int k = nbrs.length;
+            int split = -Arrays.binarySearch(nbrs, root) - 1;
+            this.p = k - split;
+            this.local = new int[k];
+            System.arraycopy(nbrs, split, local, 0, p);
+            System.arraycopy(nbrs, 0, local, p, split);
+            this.wordsP = words(p);
+            this.wordsK = words(k);
+
+            /*
+             * Bitset adjacency, rows of X vertices are restricted to P.
+             */
+            this.rows = new long[k][];
+            for (int a = 0; a < k; a++) {
+                long[] row = new long[a < p ? wordsK : wordsP];
+                int[] other = indexed.neighbors[local[a]];
+                int i = 0, j = 0;
+                while (i < other.length && j < k) {
+                    if (other[i] < nbrs[j]) {
+                        i++;
+                    } else if (other[i] > nbrs[j]) {
+                        j++;
+                    } else {
+                        int b = j >= split ? j - split : p + j;
+                        if (b < p || a < p) {
+                            row[b >>> 6] |= 1L << b;
+                        }
+                        i++;
+                        j++;
+                    }
+                }
+                rows[a] = row;
+            }
+
+            this.clique = new int[p + 1];
+            this.result = new ArrayList<>();
+        }
+
+        List<Set<V>> solve()
+        {
+            long[] P = new long[wordsP];
+            for (int a = 0; a < p; a++) {
+                P[a >>> 6] |= 1L << a;
+            }
+            long[] X = new long[wordsK];
+            for (int a = p; a < local.length; a++) {
+                X[a >>> 6] |= 1L << a;
+            }
+            findCliques(P, X, 0);
+            return result;
+        }
+
+        private void findCliques(long[] P, long[] X, int depth)
+        {
+            /*
+             * Check if maximal clique
+             */
+            boolean emptyP = isEmpty(P);
+            if (emptyP) {
+                if (isEmpty(X)) {
+                    Set<V> maximalClique = new HashSet<>();
+                    maximalClique.add(indexed.vertices.get(root));
+                    for (int i = 0; i < depth; i++) {
+                        maximalClique.add(indexed.vertices.get(local[clique[i]]));
+                    }
+                    result.add(maximalClique);
+                }
+                return;
+            }
+
+            /*
+             * Check if timeout
+             */
+            if (timeout.get()) {
+                return;
+            }
+            if (nanosTimeLimit - System.nanoTime() < 0) {
+                timeout.set(true);
+                return;
+            }
+
+            /*
+             * Choose pivot which maximizes |P \cap N(u)|
+             */
+            int pivot = -1;
+            int max = -1;
+            for (int w = 0; w < wordsK; w++) {
+                long bits = (w < wordsP ? P[w] : 0L) | X[w];
+                while (bits != 0L) {
+                    int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    int count = 0;
+                    long[] row = rows[u];
+                    for (int i = 0; i < wordsP; i++) {
+                        count += Long.bitCount(P[i] & row[i]);
+                    }
+                    if (count > max) {
+                        max = count;
+                        pivot = u;
+                    }
+                }
+            }
+
+            /*
+             * Find candidates for addition
+             */
+            long[] pivotRow = rows[pivot];
+            long[] candidates = new long[wordsP];
+            for (int i = 0; i < wordsP; i++) {
+                candidates[i] = P[i] & ~pivotRow[i];
+            }
+
+            /*
+             * Main loop
+             */
+            for (int w = 0; w < wordsP; w++) {
+                long bits = candidates[w];
+                while (bits != 0L) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+
+                    long[] row = rows[v];
+                    long[] newP = new long[wordsP];
+                    for (int i = 0; i < wordsP; i++) {
+                        newP[i] = P[i] & row[i];
+                    }
+                    long[] newX = new long[wordsK];
+                    for (int i = 0; i < wordsK; i++) {
+                        newX[i] = X[i] & row[i];
+                    }
+
+                    clique[depth] = v;
+                    findCliques(newP, newX, depth + 1);
+
+                    P[w] &= ~(1L << v);
+                    X[w] |= 1L << v;
+                }
+            }
+        }
+    }
+
+    private static int words(int bits)
+    {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean isEmpty(long[] set)
+    {
+        for (long w : set) {
+            if (w != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
+
+// End ParallelDegeneracyBronKerboschCliqueFinder.java
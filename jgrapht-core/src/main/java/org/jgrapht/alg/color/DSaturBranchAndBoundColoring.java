@@ -0,0 +1,438 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.color;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.clique.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Exact coloring algorithm using a branch and bound search based on the DSatur ordering.
+ *
+ * <p>
+ * The search always branches on an uncolored vertex with the largest saturation degree, with ties
+ * broken by the largest degree in the uncolored subgraph, and tries every color not used by its
+ * neighbors plus one new color. A branch is pruned as soon as it would use as many colors as the
+ * best coloring found so far. See:
+ * <ul>
+ * <li>D. Brelaz. New methods to color the vertices of a graph. Communications of ACM,
+ * 22(4):251–256, 1979.</li>
+ * <li>E. C. Sewell. An improved algorithm for exact graph coloring. DIMACS Series in Discrete
+ * Mathematics and Theoretical Computer Science, 26:359--373, 1996.</li>
+ * </ul>
+ *
+ * <p>
+ * The search starts from the coloring of {@link SaturationDegreeColoring}. A maximum clique,
+ * computed with {@link BranchAndBoundMaximumCliqueFinder}, is a lower bound on the number of
+ * colors: its vertices are colored in advance, which removes symmetric branches, and the search
+ * stops as soon as a coloring with as many colors as the clique is found. The colors used by the
+ * neighbors of every vertex are stored in bitsets together with counters, so that assigning and
+ * removing a color takes time linear in the degree of the vertex. The branches near the root of
+ * the search are explored in parallel using a {@link ForkJoinPool} and share the number of colors
+ * of the best coloring found so far.
+ *
+ * <p>
+ * A timeout can be set using the constructor parameters. If the time limit is reached the
+ * algorithm returns the best coloring found so far, which is not necessarily optimal. A quarter of
+ * the time limit is used for the computation of the clique. The graph must be simple.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BrownBacktrackColoring
+ */
+public class DSaturBranchAndBoundColoring<V, E>
+    implements
+    VertexColoringAlgorithm<V>
+{
+    private static final int PARALLEL_DEPTH = 2;
+
+    private final Graph<V, E> graph;
+    private final long nanos;
+    private final ForkJoinPool pool;
+
+    private Coloring<V> coloring;
+    private int lowerBound;
+    private boolean timeLimitReached;
+
+    /**
+     * Construct a new coloring algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public DSaturBranchAndBoundColoring(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Construct a new coloring algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public DSaturBranchAndBoundColoring(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new coloring algorithm.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param pool the pool used to explore the branches in parallel
+     */
+    public DSaturBranchAndBoundColoring(
+        Graph<V, E> graph, long timeout, TimeUnit unit, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (timeout == 0L) {
+            this.nanos = Long.MAX_VALUE;
+        } else {
+            this.nanos = unit.toNanos(timeout);
+        }
+        if (this.nanos < 1L) {
+            throw new IllegalArgumentException("Invalid timeout, must be positive");
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Computes a coloring with the minimum number of colors. If the time limit is reached, the best
+     * coloring found so far is returned.
+     *
+     * @return a coloring of the graph
+     */
+    @Override
+    public Coloring<V> getColoring()
+    {
+        lazyRun();
+        return coloring;
+    }
+
+    /**
+     * Get the lower bound on the chromatic number, which is the size of the largest clique found.
+     * If the time limit was not reached, the number of colors of the coloring is the chromatic
+     * number.
+     *
+     * @return a lower bound on the chromatic number
+     */
+    public int getLowerBound()
+    {
+        lazyRun();
+        return lowerBound;
+    }
+
+    /**
+     * Check whether the computation has stopped due to a time limit, in which case the returned
+     * coloring is not necessarily optimal.
+     *
+     * @return true if the computation has stopped due to a time limit, false otherwise
+     */
+    public boolean isTimeLimitReached()
+    {
+        lazyRun();
+        return timeLimitReached;
+    }
+
+    private void lazyRun()
+    {
+        if (coloring != null) {
+            return;
+        }
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+
+        long nanosTimeLimit;
+        try {
+            nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+        } catch (ArithmeticException ignore) {
+            nanosTimeLimit = Long.MAX_VALUE;
+        }
+
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        int n = vertices.size();
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+        int[][] neighbors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            neighbors[i] = graph
+                .edgesOf(v).stream()
+                .mapToInt(e -> vertexIndex.get(Graphs.getOppositeVertex(graph, e, v))).toArray();
+        }
+
+        /*
+         * Initial upper bound
+         */
+        Map<V, Integer> initial = new SaturationDegreeColoring<>(graph).getColoring().getColors();
+        int[] initialColor = new int[n];
+        int initialSize = 0;
+        for (int i = 0; i < n; i++) {
+            initialColor[i] = initial.get(vertices.get(i));
+            initialSize = Math.max(initialSize, initialColor[i] + 1);
+        }
+
+        /*
+         * Lower bound
+         */
+        BranchAndBoundMaximumCliqueFinder<V, E> cliqueFinder = nanos == Long.MAX_VALUE
+            ? new BranchAndBoundMaximumCliqueFinder<>(graph, 0L, TimeUnit.NANOSECONDS, pool)
+            : new BranchAndBoundMaximumCliqueFinder<>(
+                graph, Math.max(1L, nanos / 4), TimeUnit.NANOSECONDS, pool);
+        Set<V> clique = cliqueFinder.getClique();
+        int[] cliqueVertices = clique.stream().mapToInt(vertexIndex::get).toArray();
+
+        Search search = new Search(neighbors, initialColor, initialSize, cliqueVertices.length,
+            nanosTimeLimit);
+        if (cliqueVertices.length < initialSize) {
+            search.run(cliqueVertices);
+        }
+
+        Map<V, Integer> colors = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            colors.put(vertices.get(i), search.best[i]);
+        }
+        lowerBound = cliqueVertices.length;
+        // any clique is a valid lower bound, it only speeds up the pruning
+        timeLimitReached = search.timeout.get();
+        coloring = new ColoringImpl<>(colors, search.bestSize);
+    }
+
+    /**
+     * The branch and bound search.
+     */
+    private class Search
+    {
+        final int n;
+        final int[][] neighbors;
+        final int maxColors;
+        final int words;
+        final int lowerBound;
+        final long nanosTimeLimit;
+        final AtomicBoolean timeout;
+
+        volatile int bestSize;
+        int[] best;
+
+        Search(
+            int[][] neighbors, int[] initialColor, int initialSize, int lowerBound,
+            long nanosTimeLimit)
+        {
+            this.n = neighbors.length;
+            this.neighbors = neighbors;
+            this.maxColors = initialSize;
+            this.words = (initialSize + 63) >>> 6;
+            this.lowerBound = lowerBound;
+            this.nanosTimeLimit = nanosTimeLimit;
+            this.timeout = new AtomicBoolean(false);
+            this.bestSize = initialSize;
+            this.best = initialColor;
+        }
+
+        void run(int[] clique)
+        {
+            State state = new State();
+            for (int i = 0; i < clique.length; i++) {
+                state.assign(clique[i], i);
+            }
+            pool.invoke(new BranchTask(state, -1, -1, 0));
+        }
+
+        /**
+         * Explore the branches of a vertex in parallel, each on its own copy of the state.
+         */
+        private class BranchTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = -2918243752021937155L;
+
+            private final State parent;
+            private final int v;
+            private final int c;
+            private final int depth;
+
+            BranchTask(State parent, int v, int c, int depth)
+            {
+                this.parent = parent;
+                this.v = v;
+                this.c = c;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute()
+            {
+                State state = parent;
+                if (v != -1) {
+                    state = new State(parent);
+                    state.assign(v, c);
+                }
+                if (depth == PARALLEL_DEPTH || state.uncolored == 0) {
+                    search(state);
+                    return;
+                }
+                int u = state.select();
+                List<BranchTask> tasks = new ArrayList<>();
+                for (int color = 0; color <= Math.min(state.used, bestSize - 2); color++) {
+                    if (!state.isForbidden(u, color)) {
+                        tasks.add(new BranchTask(state, u, color, depth + 1));
+                    }
+                }
+                invokeAll(tasks);
+            }
+        }
+
+        private void search(State state)
+        {
+            if (bestSize <= lowerBound || timeout.get()) {
+                return;
+            }
+            if (nanosTimeLimit - System.nanoTime() < 0) {
+                timeout.set(true);
+                return;
+            }
+            if (state.uncolored == 0) {
+                improve(state);
+                return;
+            }
+
+            int v = state.select();
+            int used = state.used;
+            for (int c = 0; c <= Math.min(used, bestSize - 2); c++) {
+                if (!state.isForbidden(v, c)) {
+                    state.assign(v, c);
+                    search(state);
+                    state.unassign(v, c, used);
+                }
+            }
+        }
+
+        private synchronized void improve(State state)
+        {
+            if (state.used < bestSize) {
+                best = state.color.clone();
+                bestSize = state.used;
+            }
+        }
+
+        /**
+         * A partial coloring. For every vertex the number of neighbors of every color is counted,
+         * and the colors used by the neighbors are stored in a bitset.
+         */
+        private class State
+        {
+            final int[] color;
+            final int[] count;
+            final long[] forbidden;
+            final int[] saturation;
+            final int[] degree;
+            int uncolored;
+            int used;
+
+            State()
+            {
+                this.color = new int[n];
+                Arrays.fill(color, -1);
+                this.count = new int[n * maxColors];
+                this.forbidden = new long[n * words];
+                this.saturation = new int[n];
+                this.degree = new int[n];
+                for (int v = 0; v < n; v++) {
+                    degree[v] = neighbors[v].length;
+                }
+                this.uncolored = n;
+                this.used = 0;
+            }
+
+            State(State other)
+            {
+                this.color = other.color.clone();
+                this.count = other.count.clone();
+                this.forbidden = other.forbidden.clone();
+                this.saturation = other.saturation.clone();
+                this.degree = other.degree.clone();
+                this.uncolored = other.uncolored;
+                this.used = other.used;
+            }
+
+            boolean isForbidden(int v, int c)
+            {
+                return (forbidden[v * words + (c >>> 6)] & (1L << c)) != 0L;
+            }
+
+            void assign(int v, int c)
+            {
+                color[v] = c;
+                uncolored--;
+                used = Math.max(used, c + 1);
+                for (int u : neighbors[v]) {
+                    degree[u]--;
+                    if (count[u * maxColors + c]++ == 0) {
+                        forbidden[u * words + (c >>> 6)] |= 1L << c;
+                        saturation[u]++;
+                    }
+                }
+            }
+
+            void unassign(int v, int c, int previouslyUsed)
+            {
+                color[v] = -1;
+                uncolored++;
+                used = previouslyUsed;
+                for (int u : neighbors[v]) {
+                    degree[u]++;
+                    if (--count[u * maxColors + c] == 0) {
+                        forbidden[u * words + (c >>> 6)] &= ~(1L << c);
+                        saturation[u]--;
+                    }
+                }
+            }
+
+            /**
+             * Select the uncolored vertex with the largest saturation degree, breaking ties by
+             * the degree in the uncolored subgraph.
+             */
+            int select()
+            {
+                int best = -1;
+                for (int v = 0; v < n; v++) {
+                    if (color[v] == -1 && (best == -1 || saturation[v] > saturation[best]
+                        || saturation[v] == saturation[best] && degree[v] > degree[best]))
+                    {
+                        best = v;
+                    }
+                }
+                return best;
+            }
+        }
+    }
+}
+
+// End DSaturBranchAndBoundColoring.java
@@ -0,0 +1,299 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.color;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The parallel coloring algorithm of Jones and Plassmann.
+ *
+ * <p>
+ * See: M. T. Jones and P. E. Plassmann, A parallel graph coloring heuristic, SIAM Journal on
+ * Scientific Computing, 14(3), pp. 654-669, 1993, and W. Hasenplaugh, T. Kaler, T. B. Schardl and
+ * C. E. Leiserson, Ordering heuristics for parallel graph coloring, Proceedings of the 26th ACM
+ * Symposium on Parallelism in Algorithms and Architectures, pp. 166-177, 2014.
+ *
+ * <p>
+ * Every vertex is given a priority, in the order of decreasing degree with ties broken randomly.
+ * A vertex is colored as soon as all its neighbors of higher priority are colored, with the
+ * smallest color not used by them. Thus the result equals the result of {@link GreedyColoring}
+ * using the priority order, and does not depend on the scheduling. The algorithm proceeds in
+ * rounds: all vertices which are ready are colored in parallel, and the vertices which become
+ * ready form the next round. Each vertex counts its uncolored neighbors of higher priority in an
+ * atomic counter, and the colors used by the neighbors are collected in a bitset. The total work
+ * is $O(n+m)$ and the number of rounds is the length of the longest path of decreasing priority.
+ *
+ * <p>
+ * The graph is copied into primitive arrays and the rounds are executed on a
+ * {@link ForkJoinPool}. Self-loops are not allowed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class JonesPlassmannColoring<V, E>
+    implements
+    VertexColoringAlgorithm<V>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final Graph<V, E> graph;
+    private final Random rng;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new coloring algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public JonesPlassmannColoring(Graph<V, E> graph)
+    {
+        this(graph, new Random());
+    }
+
+    /**
+     * Construct a new coloring algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param rng the random number generator used to break ties between vertices of equal degree
+     */
+    public JonesPlassmannColoring(Graph<V, E> graph, Random rng)
+    {
+        this(graph, rng, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new coloring algorithm.
+     *
+     * @param graph the input graph
+     * @param rng the random number generator used to break ties between vertices of equal degree
+     * @param pool the pool used to color the vertices in parallel
+     */
+    public JonesPlassmannColoring(Graph<V, E> graph, Random rng, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coloring<V> getColoring()
+    {
+        // copy the neighbors of every vertex into a contiguous range
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.ALL);
+        int n = adjacency.getVertexCount();
+        int[] start = adjacency.getStart();
+        int[] neighbor = adjacency.getTarget();
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                if (neighbor[k] == v) {
+                    throw new IllegalArgumentException(GreedyColoring.SELF_LOOPS_NOT_ALLOWED);
+                }
+            }
+            maxDegree = Math.max(maxDegree, start[v + 1] - start[v]);
+        }
+
+        Rounds rounds = new Rounds(start, neighbor, priorities(start, maxDegree), maxDegree);
+        rounds.run();
+
+        List<V> vertices = adjacency.getVertices();
+        Map<V, Integer> colors = new HashMap<>();
+        int maxColor = -1;
+        for (int v = 0; v < n; v++) {
+            colors.put(vertices.get(v), rounds.color[v]);
+            maxColor = Math.max(maxColor, rounds.color[v]);
+        }
+        return new ColoringImpl<>(colors, maxColor + 1);
+    }
+
+    /*
+     * Number the vertices by decreasing degree, using a counting sort of a random permutation.
+     * Smaller numbers have higher priority.
+     */
+    private int[] priorities(int[] start, int maxDegree)
+    {
+        int n = start.length - 1;
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = rng.nextInt(i + 1);
+            permutation[i] = permutation[j];
+            permutation[j] = i;
+        }
+        int[] offset = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+            offset[maxDegree - (start[v + 1] - start[v]) + 1]++;
+        }
+        for (int d = 1; d < offset.length; d++) {
+            offset[d] += offset[d - 1];
+        }
+        int[] priority = new int[n];
+        for (int v : permutation) {
+            priority[v] = offset[maxDegree - (start[v + 1] - start[v])]++;
+        }
+        return priority;
+    }
+
+    /**
+     * The state of the rounds of the algorithm.
+     */
+    private class Rounds
+    {
+        private final int[] start;
+        private final int[] neighbor;
+        private final int[] priority;
+        private final int maxDegree;
+        private final int[] color;
+        private final AtomicIntegerArray pending;
+        private int[] frontier;
+        private int[] next;
+        private final AtomicInteger nextSize;
+
+        Rounds(int[] start, int[] neighbor, int[] priority, int maxDegree)
+        {
+            int n = start.length - 1;
+            this.start = start;
+            this.neighbor = neighbor;
+            this.priority = priority;
+            this.maxDegree = maxDegree;
+            this.color = new int[n];
+            this.pending = new AtomicIntegerArray(n);
+            this.frontier = new int[n];
+            this.next = new int[n];
+            this.nextSize = new AtomicInteger();
+        }
+
+        void run()
+        {
+            int n = color.length;
+            int size = 0;
+            for (int v = 0; v < n; v++) {
+                int count = 0;
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    if (priority[neighbor[i]] < priority[v]) {
+                        count++;
+                    }
+                }
+                pending.set(v, count);
+                if (count == 0) {
+                    frontier[size++] = v;
+                }
+            }
+
+            while (size > 0) {
+                nextSize.set(0);
+                pool.invoke(new RoundTask(0, size));
+                int[] tmp = frontier;
+                frontier = next;
+                next = tmp;
+                size = nextSize.get();
+            }
+        }
+
+        /*
+         * Color the vertices of the frontier in the given range and collect the neighbors which
+         * become ready.
+         */
+        void colorRange(int from, int to)
+        {
+            long[] used = new long[(maxDegree >>> 6) + 1];
+            int[] ready = new int[16];
+            int readyCount = 0;
+
+            for (int j = from; j < to; j++) {
+                int v = frontier[j];
+                int degree = start[v + 1] - start[v];
+
+                // all neighbors of higher priority are colored
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    int u = neighbor[i];
+                    if (priority[u] < priority[v] && color[u] <= degree) {
+                        used[color[u] >>> 6] |= 1L << color[u];
+                    }
+                }
+                int w = 0;
+                while (used[w] == -1L) {
+                    w++;
+                }
+                color[v] = (w << 6) + Long.numberOfTrailingZeros(~used[w]);
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    int u = neighbor[i];
+                    if (priority[u] < priority[v] && color[u] <= degree) {
+                        used[color[u] >>> 6] = 0L;
+                    }
+                }
+
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    int u = neighbor[i];
+                    if (priority[u] > priority[v] && pending.decrementAndGet(u) == 0) {
+                        if (readyCount == ready.length) {
+                            ready = Arrays.copyOf(ready, 2 * readyCount);
+                        }
+                        ready[readyCount++] = u;
+                    }
+                }
+            }
+
+            if (readyCount > 0) {
+                System.arraycopy(ready, 0, next, nextSize.getAndAdd(readyCount), readyCount);
+            }
+        }
+
+        /**
+         * Colors a range of the frontier. Every vertex of the frontier only waits for neighbors of
+         * higher priority, which were colored in earlier rounds.
+         */
+        private class RoundTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 6092153468237154720L;
+
+            private final int from;
+            private final int to;
+
+            RoundTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    colorRange(from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new RoundTask(from, mid), new RoundTask(mid, to));
+            }
+        }
+    }
+}
+
+// End JonesPlassmannColoring.java
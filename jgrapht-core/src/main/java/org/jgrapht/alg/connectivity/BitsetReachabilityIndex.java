@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A reachability index which stores the transitive closure of the condensation of a directed
+ * graph as bitsets.
+ *
+ * <p>
+ * The strongly connected components are contracted, and the components are numbered in reverse
+ * topological order. The set of components reachable from a component is stored as a bitset over
+ * the components with a smaller number, which is the union of the bitsets of its successors. The
+ * components are grouped into levels by the length of the longest path to a sink; the components
+ * of a level do not reach each other, thus their bitsets are computed in parallel on a
+ * {@link ForkJoinPool}, one level after the other. A query takes $O(1)$ time.
+ *
+ * <p>
+ * The graph is not modified and the index does not refer to it after construction. The space is
+ * $c^2/16$ bytes, where $c$ is the number of strongly connected components. This is a sixteenth
+ * of a closure stored as a boolean matrix, and much less than a closure materialized as graph
+ * edges, see {@link org.jgrapht.alg.TransitiveClosure}.
+ *
+ * @param <V> the graph vertex type
+ */
+public class BitsetReachabilityIndex<V>
+    implements
+    ReachabilityAlgorithm<V>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    private final CondensedGraph<V> dag;
+    private final long[][] reach;
+
+    /**
+     * Construct a new index which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public <E> BitsetReachabilityIndex(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new index.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to compute the bitsets of a level in parallel
+     * @param <E> the graph edge type
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public <E> BitsetReachabilityIndex(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        GraphTests.requireDirected(graph);
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        this.dag = new CondensedGraph<>(graph);
+
+        // successors have smaller numbers, thus levels are computed in increasing order
+        int c = dag.componentCount;
+        int[] level = new int[c];
+        int levels = 0;
+        for (int a = 0; a < c; a++) {
+            for (int i = dag.start[a]; i < dag.start[a + 1]; i++) {
+                level[a] = Math.max(level[a], level[dag.target[i]] + 1);
+            }
+            levels = Math.max(levels, level[a] + 1);
+        }
+        int[] levelStart = new int[levels + 1];
+        for (int a = 0; a < c; a++) {
+            levelStart[level[a] + 1]++;
+        }
+        for (int l = 0; l < levels; l++) {
+            levelStart[l + 1] += levelStart[l];
+        }
+        int[] byLevel = new int[c];
+        int[] next = Arrays.copyOf(levelStart, levels);
+        for (int a = 0; a < c; a++) {
+            byLevel[next[level[a]]++] = a;
+        }
+
+        this.reach = new long[c][];
+        for (int l = 0; l < levels; l++) {
+            int from = levelStart[l];
+            int to = levelStart[l + 1];
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                compute(byLevel, from, to);
+            } else {
+                pool.invoke(new LevelTask(byLevel, from, to));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReachable(V source, V target)
+    {
+        int a = dag.component[dag.indexOf(source)];
+        int b = dag.component[dag.indexOf(target)];
+        if (a == b) {
+            return true;
+        }
+        if (b > a) {
+            return false;
+        }
+        return (reach[a][b >>> 6] & (1L << b)) != 0;
+    }
+
+    /*
+     * Compute the bitsets of some components whose successors are done.
+     */
+    private void compute(int[] components, int from, int to)
+    {
+        for (int i = from; i < to; i++) {
+            int a = components[i];
+            long[] bits = new long[(a + 63) >>> 6];
+            for (int k = dag.start[a]; k < dag.start[a + 1]; k++) {
+                int b = dag.target[k];
+                bits[b >>> 6] |= 1L << b;
+                long[] other = reach[b];
+                for (int w = 0; w < other.length; w++) {
+                    bits[w] |= other[w];
+                }
+            }
+            reach[a] = bits;
+        }
+    }
+
+    /**
+     * Computes the bitsets of a range of components of one level. They only depend on the lower
+     * levels, which are complete.
+     */
+    private class LevelTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 5102917584382911234L;
+
+        private final int[] components;
+        private final int from;
+        private final int to;
+
+        LevelTask(int[] components, int from, int to)
+        {
+            this.components = components;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                BitsetReachabilityIndex.this.compute(components, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new LevelTask(components, from, mid), new LevelTask(components, mid, to));
+        }
+    }
+}
+
+// End BitsetReachabilityIndex.java
@@ -0,0 +1,192 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+
+import java.util.*;
+
+/**
+ * The condensation of a directed graph, stored in primitive arrays.
+ *
+ * <p>
+ * The strongly connected components are computed with an iterative version of Tarjan's algorithm,
+ * which completes a component only after all components reachable from it. Thus the components
+ * are numbered in reverse topological order and every edge of the condensation leads from a
+ * component to a component with a smaller number. The successors of each component are stored
+ * without duplicates in a contiguous range.
+ *
+ * @param <V> the graph vertex type
+ */
+class CondensedGraph<V>
+{
+    final Map<V, Integer> vertexIndex;
+    final int[] component;
+    final int componentCount;
+    final int[] start;
+    final int[] target;
+
+    <E> CondensedGraph(Graph<V, E> graph)
+    {
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+        int n = adjacency.getVertexCount();
+        this.vertexIndex = adjacency.getVertexIndex();
+        int[] edgeStart = adjacency.getStart();
+        int[] edgeTarget = adjacency.getTarget();
+
+        this.component = new int[n];
+        this.componentCount = computeComponents(n, edgeStart, edgeTarget);
+
+        // group the vertices by component
+        int c = componentCount;
+        int[] memberStart = new int[c + 1];
+        for (int v = 0; v < n; v++) {
+            memberStart[component[v] + 1]++;
+        }
+        for (int a = 0; a < c; a++) {
+            memberStart[a + 1] += memberStart[a];
+        }
+        int[] members = new int[n];
+        int[] next = Arrays.copyOf(memberStart, c);
+        for (int v = 0; v < n; v++) {
+            members[next[component[v]]++] = v;
+        }
+
+        // collect the distinct successors of each component, counting them first
+        int[] stamp = new int[c];
+        this.start = new int[c + 1];
+        collectSuccessors(memberStart, members, edgeStart, edgeTarget, stamp, null);
+        for (int a = 0; a < c; a++) {
+            start[a + 1] += start[a];
+        }
+        this.target = new int[start[c]];
+        collectSuccessors(memberStart, members, edgeStart, edgeTarget, stamp, target);
+    }
+
+    private void collectSuccessors(
+        int[] memberStart, int[] members, int[] edgeStart, int[] edgeTarget, int[] stamp,
+        int[] out)
+    {
+        Arrays.fill(stamp, -1);
+        for (int a = 0; a < componentCount; a++) {
+            int count = 0;
+            for (int i = memberStart[a]; i < memberStart[a + 1]; i++) {
+                int v = members[i];
+                for (int e = edgeStart[v]; e < edgeStart[v + 1]; e++) {
+                    int b = component[edgeTarget[e]];
+                    if (b != a && stamp[b] != a) {
+                        stamp[b] = a;
+                        if (out != null) {
+                            out[start[a] + count] = b;
+                        }
+                        count++;
+                    }
+                }
+            }
+            if (out == null) {
+                start[a + 1] = count;
+            }
+        }
+    }
+
+    /*
+     * Tarjan's algorithm with explicit stacks. Returns the number of components.
+     */
+    private int computeComponents(int n, int[] edgeStart, int[] edgeTarget)
+    {
+        int[] index = new int[n];
+        Arrays.fill(index, -1);
+        int[] low = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callVertex = new int[n];
+        int[] callEdge = new int[n];
+        int sp = 0;
+        int nextIndex = 0;
+        int count = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] != -1) {
+                continue;
+            }
+            int cp = 0;
+            callVertex[cp] = s;
+            callEdge[cp] = edgeStart[s];
+            cp++;
+            index[s] = low[s] = nextIndex++;
+            stack[sp++] = s;
+            onStack[s] = true;
+
+            while (cp > 0) {
+                int v = callVertex[cp - 1];
+                int e = callEdge[cp - 1];
+                if (e < edgeStart[v + 1]) {
+                    callEdge[cp - 1]++;
+                    int w = edgeTarget[e];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = nextIndex++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        callVertex[cp] = w;
+                        callEdge[cp] = edgeStart[w];
+                        cp++;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+
+                cp--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--sp];
+                        onStack[w] = false;
+                        component[w] = count;
+                    } while (w != v);
+                    count++;
+                }
+                if (cp > 0) {
+                    int u = callVertex[cp - 1];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not a vertex of the graph
+     */
+    int indexOf(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex: " + v);
+        }
+        return index;
+    }
+}
+
+// End CondensedGraph.java
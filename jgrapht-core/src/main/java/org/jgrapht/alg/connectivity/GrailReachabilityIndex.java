@@ -0,0 +1,391 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+import org.jgrapht.event.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A reachability index for large directed acyclic graphs using randomized interval labels.
+ *
+ * <p>
+ * See: H. Yildirim, V. Chaoji and M. J. Zaki, GRAIL: scalable reachability index for large graphs,
+ * Proceedings of the VLDB Endowment, 3(1-2), pp. 276-284, 2010.
+ *
+ * <p>
+ * The graph is traversed several times by a depth-first search which visits the roots and the
+ * successors of every vertex in random order. In every traversal a vertex $v$ gets the interval
+ * $[low(v), high(v)]$, where $high(v)$ is its rank in post-order and $low(v)$ is the smallest rank
+ * of a vertex reachable from it. If $u$ reaches $v$, every interval of $v$ is contained in the
+ * corresponding interval of $u$. Thus most negative queries are answered in $O(k)$ time from the
+ * labels alone, where $k$ is the number of traversals. The remaining queries are answered by a
+ * depth-first search in the graph which skips every vertex whose intervals do not contain the
+ * intervals of the target. The space is $O(kn)$, so the index scales to graphs whose transitive
+ * closure, even stored as bitsets in {@link BitsetReachabilityIndex}, is too large.
+ *
+ * <p>
+ * The index is also a {@link GraphListener}. If the graph is wrapped in a
+ * {@link DefaultListenableGraph} and the index is added as a listener, edges added through the
+ * wrapper, which are checked for cycles by {@link DirectedAcyclicGraph#addEdge(Object, Object)},
+ * widen the intervals of the source and its ancestors as much as necessary, instead of rebuilding
+ * the index. Added vertices get new intervals and removed edges and vertices need no update, since
+ * the intervals are only a necessary condition for reachability. Many updates make the intervals
+ * wider and the queries slower, until the index is rebuilt. If the index is added as listener to a
+ * graph other than the one it indexes, results are undefined.
+ *
+ * <p>
+ * The index counts the vertices and edges reported to it. If these counts differ from the sizes of
+ * the graph at a query, the graph was modified without notifying the index, for example by calling
+ * {@link DirectedAcyclicGraph#addEdge(Object, Object)} directly, and the index is rebuilt before
+ * the query is answered. Direct modifications which leave both counts unchanged, such as removing
+ * an edge and adding another one, cannot be detected.
+ *
+ * <p>
+ * This class makes no claims to thread safety, and concurrent usage from multiple threads will
+ * produce undefined results.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class GrailReachabilityIndex<V, E>
+    implements
+    ReachabilityAlgorithm<V>,
+    GraphListener<V, E>
+{
+    /**
+     * Default number of traversals
+     */
+    public static final int DEFAULT_TRAVERSALS = 5;
+
+    private final DirectedAcyclicGraph<V, E> graph;
+    private final int k;
+    private final Random rng;
+    private final Map<V, Integer> vertexIndex;
+    private int[] low;
+    private int[] high;
+    private int[] visited;
+    private int stamp;
+    private int size;
+    private int rank;
+    private int vertexCount;
+    private int edgeCount;
+
+    /**
+     * Construct a new index with the default number of traversals.
+     *
+     * @param graph the input graph
+     */
+    public GrailReachabilityIndex(DirectedAcyclicGraph<V, E> graph)
+    {
+        this(graph, DEFAULT_TRAVERSALS, new Random());
+    }
+
+    /**
+     * Construct a new index.
+     *
+     * @param graph the input graph
+     * @param traversals the number of randomized traversals, which is the number of intervals of
+     *        every vertex
+     * @param rng the random number generator used to order the traversals
+     * @throws IllegalArgumentException if the number of traversals is not positive
+     */
+    public GrailReachabilityIndex(DirectedAcyclicGraph<V, E> graph, int traversals, Random rng)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        if (traversals < 1) {
+            throw new IllegalArgumentException("Number of traversals must be positive");
+        }
+        this.k = traversals;
+        this.vertexIndex = new HashMap<>();
+        build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReachable(V source, V target)
+    {
+        if (isStale()) {
+            build();
+        }
+        int u = indexOf(source);
+        int v = indexOf(target);
+        if (u == v) {
+            return true;
+        }
+        if (!contains(u, v)) {
+            return false;
+        }
+
+        // guided search, which only enters vertices whose intervals contain the target
+        stamp++;
+        visited[u] = stamp;
+        Deque<V> stack = new ArrayDeque<>();
+        stack.push(source);
+        while (!stack.isEmpty()) {
+            for (E e : graph.outgoingEdgesOf(stack.pop())) {
+                V y = graph.getEdgeTarget(e);
+                int w = vertexIndex.get(y);
+                if (w == v) {
+                    return true;
+                }
+                if (visited[w] != stamp && contains(w, v)) {
+                    visited[w] = stamp;
+                    stack.push(y);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @see GraphListener#edgeAdded(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        edgeCount++;
+        if (isStale()) {
+            build();
+            return;
+        }
+        int u = indexOf(e.getEdgeSource());
+        if (!widen(u, indexOf(e.getEdgeTarget()))) {
+            return;
+        }
+
+        // the intervals of every edge into a widened vertex must be restored
+        Deque<V> stack = new ArrayDeque<>();
+        stack.push(e.getEdgeSource());
+        while (!stack.isEmpty()) {
+            V x = stack.pop();
+            int w = vertexIndex.get(x);
+            for (E edge : graph.incomingEdgesOf(x)) {
+                V p = graph.getEdgeSource(edge);
+                if (widen(vertexIndex.get(p), w)) {
+                    stack.push(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * @see GraphListener#edgeRemoved(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        edgeCount--;
+        // the intervals remain a necessary condition
+    }
+
+    /**
+     * @see VertexSetListener#vertexAdded(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        vertexCount++;
+        if (isStale()) {
+            build();
+            return;
+        }
+        int v = size++;
+        if (v == visited.length) {
+            int capacity = Math.max(16, 2 * v);
+            visited = Arrays.copyOf(visited, capacity);
+            low = Arrays.copyOf(low, capacity * k);
+            high = Arrays.copyOf(high, capacity * k);
+        }
+        vertexIndex.put(e.getVertex(), v);
+        rank++;
+        Arrays.fill(low, v * k, (v + 1) * k, rank);
+        Arrays.fill(high, v * k, (v + 1) * k, rank);
+    }
+
+    /**
+     * @see VertexSetListener#vertexRemoved(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        vertexCount--;
+        vertexIndex.remove(e.getVertex());
+    }
+
+    /*
+     * Test if the graph was modified without notifying the index.
+     */
+    private boolean isStale()
+    {
+        return vertexCount != graph.vertexSet().size() || edgeCount != graph.edgeSet().size();
+    }
+
+    /*
+     * Compute the intervals of all vertices from scratch.
+     */
+    @SuppressWarnings("unchecked")
+    private void build()
+    {
+        V[] vertices = (V[]) graph.vertexSet().toArray();
+        int n = vertices.length;
+        vertexIndex.clear();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices[i], i);
+        }
+        CompressedAdjacency<V, E> adjacency =
+            new CompressedAdjacency<>(graph, vertices, vertexIndex, Direction.OUTGOING);
+        int[] start = adjacency.getStart();
+        int[] target = adjacency.getTarget();
+        int rootCount = 0;
+        for (int v = 0; v < n; v++) {
+            if (graph.inDegreeOf(vertices[v]) == 0) {
+                rootCount++;
+            }
+        }
+        int[] roots = new int[rootCount];
+        rootCount = 0;
+        for (int v = 0; v < n; v++) {
+            if (graph.inDegreeOf(vertices[v]) == 0) {
+                roots[rootCount++] = v;
+            }
+        }
+
+        this.low = new int[n * k];
+        this.high = new int[n * k];
+        this.visited = new int[n];
+        for (int i = 0; i < k; i++) {
+            shuffle(roots, 0, roots.length, rng);
+            for (int v = 0; v < n; v++) {
+                shuffle(target, start[v], start[v + 1], rng);
+            }
+            traverse(i, n, roots, start, target);
+        }
+        this.size = n;
+        this.rank = n;
+        this.vertexCount = n;
+        this.edgeCount = graph.edgeSet().size();
+    }
+
+    /*
+     * Test if every interval of vertex u contains the corresponding interval of vertex v.
+     */
+    private boolean contains(int u, int v)
+    {
+        int a = u * k;
+        int b = v * k;
+        for (int i = 0; i < k; i++) {
+            if (low[a + i] > low[b + i] || high[a + i] < high[b + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Widen the intervals of vertex u to contain the intervals of vertex v.
+     */
+    private boolean widen(int u, int v)
+    {
+        int a = u * k;
+        int b = v * k;
+        boolean changed = false;
+        for (int i = 0; i < k; i++) {
+            if (low[a + i] > low[b + i]) {
+                low[a + i] = low[b + i];
+                changed = true;
+            }
+            if (high[a + i] < high[b + i]) {
+                high[a + i] = high[b + i];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /*
+     * Compute the intervals of traversal i by an iterative depth-first search from the roots.
+     */
+    private void traverse(int i, int n, int[] roots, int[] start, int[] target)
+    {
+        int[] stack = new int[n];
+        int[] next = new int[n];
+        int post = 0;
+        stamp++;
+        for (int root : roots) {
+            int top = 0;
+            stack[0] = root;
+            next[root] = start[root];
+            visited[root] = stamp;
+            low[root * k + i] = Integer.MAX_VALUE;
+            while (top >= 0) {
+                int v = stack[top];
+                if (next[v] < start[v + 1]) {
+                    int w = target[next[v]++];
+                    if (visited[w] != stamp) {
+                        visited[w] = stamp;
+                        next[w] = start[w];
+                        low[w * k + i] = Integer.MAX_VALUE;
+                        stack[++top] = w;
+                    } else {
+                        // in an acyclic graph a visited successor is finished
+                        low[v * k + i] = Math.min(low[v * k + i], low[w * k + i]);
+                    }
+                    continue;
+                }
+                post++;
+                high[v * k + i] = post;
+                low[v * k + i] = Math.min(low[v * k + i], post);
+                top--;
+                if (top >= 0) {
+                    int p = stack[top] * k + i;
+                    low[p] = Math.min(low[p], low[v * k + i]);
+                }
+            }
+        }
+    }
+
+    private int indexOf(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex must be a vertex of the graph");
+        }
+        return index;
+    }
+
+    private static void shuffle(int[] a, int from, int to, Random rng)
+    {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + rng.nextInt(i - from + 1);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+}
+
+// End GrailReachabilityIndex.java
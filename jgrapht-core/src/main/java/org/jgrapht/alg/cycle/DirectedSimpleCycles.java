@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A common interface for classes implementing algorithms for enumeration of the simple cycles of a
@@ -36,6 +37,20 @@ public interface DirectedSimpleCycles<V, E>
      * @return The list of all simple cycles. Possibly empty but never <code>null</code>.
      */
     List<List<V>> findSimpleCycles();
+
+    /**
+     * Find the simple cycles of the graph and pass each of them to a consumer. The default
+     * implementation collects all cycles using {@link #findSimpleCycles()} first; the algorithms of
+     * this package override it and pass every cycle as soon as it is found, without keeping the
+     * cycles in memory.
+     *
+     * @param consumer the consumer which receives the cycles
+     */
+    default void findSimpleCycles(Consumer<List<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        findSimpleCycles().forEach(consumer);
+    }
 }
 
 // End DirectedSimpleCycles.java
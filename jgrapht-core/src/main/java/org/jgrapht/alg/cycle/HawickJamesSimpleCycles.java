@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the algorithm described by Hawick and James.
@@ -38,13 +39,6 @@ public class HawickJamesSimpleCycles<V, E>
     implements
     DirectedSimpleCycles<V, E>
 {
-    private enum Operation
-    {
-        ENUMERATE,
-        PRINT_ONLY,
-        COUNT_ONLY
-    }
-
     // The graph
     private Graph<V, E> graph;
 
@@ -54,9 +48,6 @@ public class HawickJamesSimpleCycles<V, E>
     // Number of simple cycles
     private long nCycles = 0;
 
-    // Simple cycles found
-    private List<List<V>> cycles = null;
-
     // The main state of the algorithm
     private Integer start = 0;
     private List<Integer>[] Ak = null;
@@ -90,13 +81,10 @@ public class HawickJamesSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState(Operation o)
+    private void initState()
     {
         nCycles = 0;
         nVertices = graph.vertexSet().size();
-        if (o == Operation.ENUMERATE) {
-            cycles = new ArrayList<>();
-        }
         blocked = new boolean[nVertices];
         stack = new ArrayDeque<>(nVertices);
 
@@ -147,7 +135,7 @@ public class HawickJamesSimpleCycles<V, E>
         B = null;
     }
 
-    private boolean circuit(Integer v, Operation o)
+    private boolean circuit(Integer v, Consumer<List<V>> consumer)
     {
         boolean f = false;
 
@@ -160,28 +148,21 @@ public class HawickJamesSimpleCycles<V, E>
             }
 
             if (Objects.equals(w, start)) {
-                if (o == Operation.ENUMERATE) {
+                if (consumer != null) {
                     List<V> cycle = new ArrayList<>(stack.size());
 
                     for (Integer aStack : stack) {
                         cycle.add(iToV[aStack]);
                     }
 
-                    cycles.add(cycle);
-                }
-
-                if (o == Operation.PRINT_ONLY) {
-                    for (Integer i : stack) {
-                        System.out.print(iToV[i].toString() + " ");
-                    }
-                    System.out.println("");
+                    consumer.accept(cycle);
                 }
 
                 nCycles++;
 
                 f = true;
             } else if (!blocked[w]) {
-                if (circuit(w, o)) {
+                if (circuit(w, consumer)) {
                     f = true;
                 }
             }
@@ -266,52 +247,35 @@ public class HawickJamesSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
-        throws IllegalArgumentException
     {
-        if (graph == null) {
-            throw new IllegalArgumentException("Null graph.");
-        }
-
-        initState(Operation.ENUMERATE);
-
-        for (int i = 0; i < nVertices; i++) {
-            for (int j = 0; j < nVertices; j++) {
-                blocked[j] = false;
-                B[j].clear();
-            }
-
-            start = vToI.get(iToV[i]);
-            circuit(start, Operation.ENUMERATE);
-        }
-
-        List<List<V>> result = cycles;
-        clearState();
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(result::add);
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
+        throws IllegalArgumentException
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        run(consumer);
+    }
+
     /**
      * Print to the standard output all simple cycles without building a list to keep them, thus
      * avoiding high memory consumption when investigating large and much connected graphs.
      */
     public void printSimpleCycles()
     {
-        if (graph == null) {
-            throw new IllegalArgumentException("Null graph.");
-        }
-
-        initState(Operation.PRINT_ONLY);
-
-        for (int i = 0; i < nVertices; i++) {
-            for (int j = 0; j < nVertices; j++) {
-                blocked[j] = false;
-                B[j].clear();
+        findSimpleCycles(cycle -> {
+            for (V v : cycle) {
+                System.out.print(v.toString() + " ");
             }
-
-            start = vToI.get(iToV[i]);
-            circuit(start, Operation.PRINT_ONLY);
-        }
-
-        clearState();
+            System.out.println("");
+        });
     }
 
     /**
@@ -320,12 +284,21 @@ public class HawickJamesSimpleCycles<V, E>
      * @return the number of simple cycles
      */
     public long countSimpleCycles()
+    {
+        return run(null);
+    }
+
+    /*
+     * Run the algorithm, passing the cycles to the consumer unless it is null, and return the
+     * number of cycles.
+     */
+    private long run(Consumer<List<V>> consumer)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
 
-        initState(Operation.COUNT_ONLY);
+        initState();
 
         for (int i = 0; i < nVertices; i++) {
             for (int j = 0; j < nVertices; j++) {
@@ -334,12 +307,12 @@ public class HawickJamesSimpleCycles<V, E>
             }
 
             start = vToI.get(iToV[i]);
-            circuit(start, Operation.COUNT_ONLY);
+            circuit(start, consumer);
         }
 
+        long result = nCycles;
         clearState();
-
-        return nCycles;
+        return result;
     }
 }
 
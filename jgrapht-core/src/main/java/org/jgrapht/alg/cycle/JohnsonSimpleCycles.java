@@ -18,10 +18,10 @@
 package org.jgrapht.alg.cycle;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.builder.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Johnson's algorithm.
@@ -31,6 +31,24 @@ import java.util.*;
  * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
  * pp. 77-84.
  *
+ * <p>
+ * The implementation relabels the graph with consecutive integers and works on primitive arrays.
+ * The strongly connected components are computed once. For every start vertex $s$ the search is
+ * restricted to the vertices $v &gt; s$ of the component of $s$ which can reach $s$ in the
+ * subgraph induced by them. Cycles are reported to a consumer as soon as they are found, so they
+ * do not need to be kept in memory.
+ *
+ * <p>
+ * Optionally the length of the cycles can be bounded. In this case the blocking scheme of Johnson
+ * is replaced by the length aware barriers of A. Gupta and T. Suzumura, Finding All Bounded-Length
+ * Simple Cycles in a Directed Graph, arXiv:2105.10094, 2021. Vertices which are further than the
+ * bound from the start vertex are never visited.
+ *
+ * <p>
+ * The cycles starting at different vertices are independent. If a {@link ForkJoinPool} is given,
+ * start vertices are processed in parallel. In this case the order of the reported cycles is
+ * unspecified, while the calls to the consumer are still serialized.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -40,24 +58,12 @@ public class JohnsonSimpleCycles<V, E>
     implements
     DirectedSimpleCycles<V, E>
 {
+    private static final int UNLOCKED = Integer.MAX_VALUE;
+
     // The graph.
-    private Graph<V, E> graph;
-
-    // The main state of the algorithm.
-    private List<List<V>> cycles = null;
-    private V[] iToV = null;
-    private Map<V, Integer> vToI = null;
-    private Set<V> blocked = null;
-    private Map<V, Set<V>> bSets = null;
-    private ArrayDeque<V> stack = null;
-
-    // The state of the embedded Tarjan SCC algorithm.
-    private List<Set<V>> SCCs = null;
-    private int index = 0;
-    private Map<V, Integer> vIndex = null;
-    private Map<V, Integer> vLowlink = null;
-    private ArrayDeque<V> path = null;
-    private Set<V> pathSet = null;
+    private final Graph<V, E> graph;
+    private final int maxLength;
+    private final ForkJoinPool pool;
 
     /**
      * Create a simple cycle finder for the specified graph.
@@ -68,11 +74,47 @@ public class JohnsonSimpleCycles<V, E>
      * null</code>.
      */
     public JohnsonSimpleCycles(Graph<V, E> graph)
+    {
+        this(graph, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a simple cycle finder for the specified graph which only finds cycles with at most
+     * {@code maxLength} edges.
+     *
+     * @param graph - the DirectedGraph in which to find cycles.
+     * @param maxLength the maximum length of a cycle, use {@link Integer#MAX_VALUE} for no bound
+     *
+     * @throws IllegalArgumentException if the graph argument is <code>
+     * null</code> or the maximum length is not positive.
+     */
+    public JohnsonSimpleCycles(Graph<V, E> graph, int maxLength)
+    {
+        this(graph, maxLength, null);
+    }
+
+    /**
+     * Create a simple cycle finder for the specified graph which only finds cycles with at most
+     * {@code maxLength} edges and processes the start vertices in parallel.
+     *
+     * @param graph - the DirectedGraph in which to find cycles.
+     * @param maxLength the maximum length of a cycle, use {@link Integer#MAX_VALUE} for no bound
+     * @param pool the pool to use for the parallel search, or null for a sequential search
+     *
+     * @throws IllegalArgumentException if the graph argument is <code>
+     * null</code> or the maximum length is not positive.
+     */
+    public JohnsonSimpleCycles(Graph<V, E> graph, int maxLength, ForkJoinPool pool)
     {
         this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
         if (GraphTests.hasMultipleEdges(graph)) {
             throw new IllegalArgumentException("Graph should not have multiple (parallel) edges");
         }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        this.maxLength = maxLength;
+        this.pool = pool;
     }
 
     /**
@@ -81,263 +123,505 @@ public class JohnsonSimpleCycles<V, E>
     @Override
     public List<List<V>> findSimpleCycles()
     {
-        if (graph == null) {
-            throw new IllegalArgumentException("Null graph.");
-        }
-        initState();
-
-        int startIndex = 0;
-        int size = graph.vertexSet().size();
-        while (startIndex < size) {
-            Pair<Graph<V, E>, Integer> minSCCGResult = findMinSCSG(startIndex);
-            if (minSCCGResult != null) {
-                startIndex = minSCCGResult.getSecond();
-                Graph<V, E> scg = minSCCGResult.getFirst();
-                V startV = toV(startIndex);
-                for (E e : scg.outgoingEdgesOf(startV)) {
-                    V v = graph.getEdgeTarget(e);
-                    blocked.remove(v);
-                    getBSet(v).clear();
-                }
-                findCyclesInSCG(startIndex, startIndex, scg);
-                startIndex++;
-            } else {
-                break;
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+
+        IndexedGraph<V> g = new IndexedGraph<>(graph);
+        int[] starts = g.startVertices();
+
+        if (pool == null) {
+            Search<V> search = new Search<>(g, maxLength);
+            for (int s : starts) {
+                search.run(s, consumer);
             }
+        } else {
+            Object lock = new Object();
+            Consumer<List<V>> synchronizedConsumer = cycle -> {
+                synchronized (lock) {
+                    consumer.accept(cycle);
+                }
+            };
+            ConcurrentLinkedQueue<Search<V>> searches = new ConcurrentLinkedQueue<>();
+            pool.invoke(
+                new StartsTask<>(g, maxLength, synchronizedConsumer, searches, starts, 0,
+                    starts.length));
         }
+    }
 
-        List<List<V>> result = cycles;
-        clearState();
-        return result;
+    /**
+     * Get an iterator over the simple cycles of the graph. The cycles are computed lazily while
+     * iterating, thus the enumeration can be stopped at any time and only the state of the current
+     * search is kept in memory. The iterator always works sequentially and ignores the pool.
+     *
+     * @return an iterator over the simple cycles of the graph
+     */
+    public Iterator<List<V>> simpleCyclesIterator()
+    {
+        return new CycleIterator<>(new IndexedGraph<>(graph), maxLength);
     }
 
-    private Pair<Graph<V, E>, Integer> findMinSCSG(int startIndex)
+    /**
+     * The graph relabeled with consecutive integers in compressed adjacency form, together with
+     * its strongly connected components.
+     */
+    private static final class IndexedGraph<V>
     {
-        /*
-         * Per Johnson : "adjacency structure of strong component $K$ with least vertex in subgraph
-         * of $G$ induced by $(s, s + 1, n)$". Or in contemporary terms: the strongly connected
-         * component of the subgraph induced by $(v_1, \dotso ,v_n)$ which contains the minimum
-         * (among those SCCs) vertex index. We return that index together with the graph.
-         */
-        initMinSCGState();
-
-        List<Set<V>> SCCs = findSCCS(startIndex);
-
-        // find the SCC with the minimum index
-        int minIndexFound = Integer.MAX_VALUE;
-        Set<V> minSCC = null;
-        for (Set<V> scc : SCCs) {
-            for (V v : scc) {
-                int t = toI(v);
-                if (t < minIndexFound) {
-                    minIndexFound = t;
-                    minSCC = scc;
+        final V[] vertices;
+        final int n;
+        final int[] outStart;
+        final int[] outTarget;
+        final int[] inStart;
+        final int[] inSource;
+        final int[] component;
+        final boolean[] selfLoop;
+
+        @SuppressWarnings("unchecked")
+        <E> IndexedGraph(Graph<V, E> graph)
+        {
+            vertices = (V[]) graph.vertexSet().toArray();
+            n = vertices.length;
+            Map<V, Integer> index = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                index.put(vertices[i], i);
+            }
+
+            int m = graph.edgeSet().size();
+            outStart = new int[n + 1];
+            outTarget = new int[m];
+            inStart = new int[n + 1];
+            inSource = new int[m];
+            selfLoop = new boolean[n];
+            int k = 0;
+            for (int v = 0; v < n; v++) {
+                outStart[v] = k;
+                for (E e : graph.outgoingEdgesOf(vertices[v])) {
+                    int w = index.get(graph.getEdgeTarget(e));
+                    outTarget[k++] = w;
+                    inStart[w + 1]++;
+                    if (w == v) {
+                        selfLoop[v] = true;
+                    }
+                }
+            }
+            outStart[n] = k;
+            for (int v = 0; v < n; v++) {
+                inStart[v + 1] += inStart[v];
+            }
+            int[] fill = Arrays.copyOf(inStart, n);
+            for (int v = 0; v < n; v++) {
+                for (int p = outStart[v]; p < outStart[v + 1]; p++) {
+                    inSource[fill[outTarget[p]]++] = v;
                 }
             }
-        }
-        if (minSCC == null) {
-            return null;
-        }
 
-        // build a graph for the SCC found
-        Graph<V,
-            E> resultGraph = GraphTypeBuilder
-                .<V, E> directed().edgeSupplier(graph.getEdgeSupplier())
-                .vertexSupplier(graph.getVertexSupplier()).allowingMultipleEdges(false)
-                .allowingSelfLoops(true).buildGraph();
-        for (V v : minSCC) {
-            resultGraph.addVertex(v);
+            component = new int[n];
+            computeComponents();
         }
-        for (V v : minSCC) {
-            for (V w : minSCC) {
-                E edge = graph.getEdge(v, w);
-                if (edge != null) {
-                    resultGraph.addEdge(v, w, edge);
+
+        /**
+         * The vertices which may start a cycle, that is the vertices with a self-loop or in a
+         * strongly connected component with more than one vertex.
+         */
+        int[] startVertices()
+        {
+            int[] size = new int[n];
+            for (int v = 0; v < n; v++) {
+                size[component[v]]++;
+            }
+            int count = 0;
+            int[] starts = new int[n];
+            for (int v = 0; v < n; v++) {
+                if (selfLoop[v] || size[component[v]] > 1) {
+                    starts[count++] = v;
                 }
             }
+            return Arrays.copyOf(starts, count);
         }
 
-        Pair<Graph<V, E>, Integer> result = Pair.of(resultGraph, minIndexFound);
-        clearMinSCCState();
-        return result;
-    }
+        /*
+         * Iterative version of Tarjan's strongly connected components algorithm.
+         */
+        private void computeComponents()
+        {
+            int[] index = new int[n];
+            int[] lowlink = new int[n];
+            Arrays.fill(index, -1);
+            boolean[] onStack = new boolean[n];
+            int[] stack = new int[n];
+            int stackSize = 0;
+            int[] callVertex = new int[n];
+            int[] callPos = new int[n];
+            int nextIndex = 0;
+            int nextComponent = 0;
 
-    private List<Set<V>> findSCCS(int startIndex)
-    {
-        // Find SCCs in the subgraph induced
-        // by vertices startIndex and beyond.
-        // A call to StrongConnectivityAlgorithm
-        // would be too expensive because of the
-        // need to materialize the subgraph.
-        // So - do a local search by the Tarjan's
-        // algorithm and pretend that vertices
-        // with an index smaller than startIndex
-        // do not exist.
-        for (V v : graph.vertexSet()) {
-            int vI = toI(v);
-            if (vI < startIndex) {
-                continue;
-            }
-            if (!vIndex.containsKey(v)) {
-                getSCCs(startIndex, vI);
+            for (int root = 0; root < n; root++) {
+                if (index[root] != -1) {
+                    continue;
+                }
+                int top = 0;
+                callVertex[0] = root;
+                callPos[0] = outStart[root];
+                index[root] = lowlink[root] = nextIndex++;
+                stack[stackSize++] = root;
+                onStack[root] = true;
+
+                while (top >= 0) {
+                    int v = callVertex[top];
+                    if (callPos[top] < outStart[v + 1]) {
+                        int w = outTarget[callPos[top]++];
+                        if (index[w] == -1) {
+                            index[w] = lowlink[w] = nextIndex++;
+                            stack[stackSize++] = w;
+                            onStack[w] = true;
+                            top++;
+                            callVertex[top] = w;
+                            callPos[top] = outStart[w];
+                        } else if (onStack[w]) {
+                            lowlink[v] = Math.min(lowlink[v], index[w]);
+                        }
+                    } else {
+                        if (lowlink[v] == index[v]) {
+                            int w;
+                            do {
+                                w = stack[--stackSize];
+                                onStack[w] = false;
+                                component[w] = nextComponent;
+                            } while (w != v);
+                            nextComponent++;
+                        }
+                        top--;
+                        if (top >= 0) {
+                            int u = callVertex[top];
+                            lowlink[u] = Math.min(lowlink[u], lowlink[v]);
+                        }
+                    }
+                }
             }
         }
-        List<Set<V>> result = SCCs;
-        SCCs = null;
-        return result;
     }
 
-    private void getSCCs(int startIndex, int vertexIndex)
+    /**
+     * The search for the cycles whose least vertex is a given start vertex. An instance keeps its
+     * working arrays between start vertices.
+     */
+    private static final class Search<V>
     {
-        V vertex = toV(vertexIndex);
-        vIndex.put(vertex, index);
-        vLowlink.put(vertex, index);
-        index++;
-        path.push(vertex);
-        pathSet.add(vertex);
-
-        Set<E> edges = graph.outgoingEdgesOf(vertex);
-        for (E e : edges) {
-            V successor = graph.getEdgeTarget(e);
-            int successorIndex = toI(successor);
-            if (successorIndex < startIndex) {
-                continue;
+        private final IndexedGraph<V> g;
+        private final int maxLength;
+        private final boolean bounded;
+
+        // vertices allowed for the current start vertex and their distance to it
+        private final int[] allowed;
+        private final int[] distance;
+        private final int[] queue;
+        private int stamp;
+
+        // blocking state
+        private final int[] lock;
+        private final boolean[] onStack;
+        private final int[][] bLists;
+        private final int[] bSizes;
+        private int[] relaxStack;
+
+        // the current path
+        private final int[] path;
+        private final int[] pos;
+        private final int[] blen;
+        private int start;
+        private int top;
+
+        Search(IndexedGraph<V> g, int maxLength)
+        {
+            int n = g.n;
+            this.g = g;
+            this.maxLength = Math.min(maxLength, n);
+            this.bounded = maxLength < n;
+            this.allowed = new int[n];
+            this.distance = new int[n];
+            this.queue = new int[n];
+            this.lock = new int[n];
+            this.onStack = new boolean[n];
+            this.bLists = new int[n][];
+            this.bSizes = new int[n];
+            this.relaxStack = new int[16];
+            this.path = new int[n];
+            this.pos = new int[n];
+            this.blen = new int[n];
+            this.top = -1;
+        }
+
+        void run(int s, Consumer<List<V>> consumer)
+        {
+            start(s);
+            List<V> cycle;
+            while ((cycle = next()) != null) {
+                consumer.accept(cycle);
             }
-            if (!vIndex.containsKey(successor)) {
-                getSCCs(startIndex, successorIndex);
-                vLowlink.put(vertex, Math.min(vLowlink.get(vertex), vLowlink.get(successor)));
-            } else if (pathSet.contains(successor)) {
-                vLowlink.put(vertex, Math.min(vLowlink.get(vertex), vIndex.get(successor)));
+        }
+
+        /*
+         * Prepare the search for the cycles whose least vertex is s.
+         */
+        void start(int s)
+        {
+            int[] component = g.component;
+
+            /*
+             * Backward breadth-first search from s in the subgraph induced by the vertices of its
+             * component which are larger than s.
+             */
+            stamp++;
+            allowed[s] = stamp;
+            distance[s] = 0;
+            lock[s] = UNLOCKED;
+            bSizes[s] = 0;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = s;
+            while (head < tail) {
+                int u = queue[head++];
+                if (distance[u] + 1 >= maxLength) {
+                    continue;
+                }
+                for (int p = g.inStart[u]; p < g.inStart[u + 1]; p++) {
+                    int x = g.inSource[p];
+                    if (x > s && component[x] == component[s] && allowed[x] != stamp) {
+                        allowed[x] = stamp;
+                        distance[x] = distance[u] + 1;
+                        lock[x] = UNLOCKED;
+                        bSizes[x] = 0;
+                        queue[tail++] = x;
+                    }
+                }
             }
+
+            start = s;
+            top = 0;
+            path[0] = s;
+            pos[0] = g.outStart[s];
+            blen[0] = UNLOCKED;
+            onStack[s] = true;
+            lock[s] = 0;
         }
-        if (vLowlink.get(vertex).equals(vIndex.get(vertex))) {
-            Set<V> result = new HashSet<>();
-            V temp;
-            do {
-                temp = path.pop();
-                pathSet.remove(temp);
-                result.add(temp);
-            } while (!vertex.equals(temp));
-            if (result.size() == 1) {
-                V v = result.iterator().next();
-                if (graph.containsEdge(vertex, v)) {
-                    SCCs.add(result);
+
+        /*
+         * Resume the search of the current start vertex until the next cycle is found, or return
+         * null if there are no more cycles.
+         */
+        List<V> next()
+        {
+            int s = start;
+            while (top >= 0) {
+                int v = path[top];
+                if (pos[top] < g.outStart[v + 1]) {
+                    int w = g.outTarget[pos[top]++];
+                    /*
+                     * The distance bound is only applied to bounded searches, since Johnson's
+                     * blocking requires that a failed search does not depend on the length of the
+                     * current path.
+                     */
+                    if (w == s) {
+                        blen[top] = 1;
+                        return cycle(top);
+                    } else if (allowed[w] == stamp && !onStack[w] && top + 1 < lock[w]
+                        && (!bounded || top + 1 + distance[w] <= maxLength))
+                    {
+                        top++;
+                        path[top] = w;
+                        pos[top] = g.outStart[w];
+                        blen[top] = UNLOCKED;
+                        onStack[w] = true;
+                        lock[w] = bounded ? top : 0;
+                    }
+                } else {
+                    onStack[v] = false;
+                    if (top > 0) {
+                        int b = blen[top];
+                        if (b != UNLOCKED) {
+                            relax(v, b);
+                            blen[top - 1] = Math.min(blen[top - 1], b + 1);
+                        }
+                        /*
+                         * A bounded search may have found only long cycles through v because of
+                         * the current path, thus it must also be relaxed later when it succeeds.
+                         */
+                        if (b == UNLOCKED || bounded) {
+                            for (int p = g.outStart[v]; p < g.outStart[v + 1]; p++) {
+                                int w = g.outTarget[p];
+                                if (allowed[w] == stamp) {
+                                    addToBList(w, v);
+                                }
+                            }
+                        }
+                    }
+                    top--;
                 }
-            } else {
-                SCCs.add(result);
             }
+            return null;
         }
-    }
 
-    private boolean findCyclesInSCG(int startIndex, int vertexIndex, Graph<V, E> scg)
-    {
         /*
-         * Find cycles in a strongly connected graph per Johnson.
+         * Unblock a vertex which reaches the start vertex within b edges and, recursively, the
+         * vertices which got blocked because of it.
          */
-        boolean foundCycle = false;
-        V vertex = toV(vertexIndex);
-        stack.push(vertex);
-        blocked.add(vertex);
-
-        for (E e : scg.outgoingEdgesOf(vertex)) {
-            V successor = scg.getEdgeTarget(e);
-            int successorIndex = toI(successor);
-            if (successorIndex == startIndex) {
-                List<V> cycle = new ArrayList<>(stack.size());
-                stack.descendingIterator().forEachRemaining(cycle::add);
-                cycles.add(cycle);
-                foundCycle = true;
-            } else if (!blocked.contains(successor)) {
-                boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
-                foundCycle = foundCycle || gotCycle;
+        private void relax(int v, int b)
+        {
+            int size = 0;
+            relaxStack[size++] = v;
+            relaxStack[size++] = b;
+            while (size > 0) {
+                int bx = relaxStack[--size];
+                int x = relaxStack[--size];
+                int level = bounded ? maxLength - bx + 1 : UNLOCKED;
+                if (lock[x] >= level) {
+                    continue;
+                }
+                lock[x] = level;
+                int[] list = bLists[x];
+                for (int i = 0; i < bSizes[x]; i++) {
+                    int y = list[i];
+                    if (!onStack[y]) {
+                        if (size + 2 > relaxStack.length) {
+                            relaxStack = Arrays.copyOf(relaxStack, 2 * relaxStack.length);
+                        }
+                        relaxStack[size++] = y;
+                        relaxStack[size++] = bx + 1;
+                    }
+                }
+                if (!bounded) {
+                    bSizes[x] = 0;
+                }
             }
         }
-        if (foundCycle) {
-            unblock(vertex);
-        } else {
-            for (E ew : scg.outgoingEdgesOf(vertex)) {
-                V w = scg.getEdgeTarget(ew);
-                Set<V> bSet = getBSet(w);
-                bSet.add(vertex);
+
+        private void addToBList(int w, int v)
+        {
+            int[] list = bLists[w];
+            int size = bSizes[w];
+            if (list == null) {
+                list = bLists[w] = new int[4];
+            } else if (size == list.length) {
+                list = bLists[w] = Arrays.copyOf(list, 2 * size);
             }
+            list[size] = v;
+            bSizes[w] = size + 1;
         }
-        stack.pop();
-        return foundCycle;
-    }
 
-    private void unblock(V vertex)
-    {
-        blocked.remove(vertex);
-        Set<V> bSet = getBSet(vertex);
-        while (bSet.size() > 0) {
-            V w = bSet.iterator().next();
-            bSet.remove(w);
-            if (blocked.contains(w)) {
-                unblock(w);
+        private List<V> cycle(int top)
+        {
+            List<V> cycle = new ArrayList<>(top + 1);
+            for (int i = 0; i <= top; i++) {
+                cycle.add(g.vertices[path[i]]);
             }
+            return cycle;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void initState()
+    /**
+     * Lazy enumeration of the cycles, one start vertex after the other.
+     */
+    private static final class CycleIterator<V>
+        implements
+        Iterator<List<V>>
     {
-        cycles = new LinkedList<>();
-        iToV = (V[]) graph.vertexSet().toArray();
-        vToI = new HashMap<>();
-        blocked = new HashSet<>();
-        bSets = new HashMap<>();
-        stack = new ArrayDeque<>();
-
-        for (int i = 0; i < iToV.length; i++) {
-            vToI.put(iToV[i], i);
+        private final Search<V> search;
+        private final int[] starts;
+        private int nextStart;
+        private List<V> next;
+
+        CycleIterator(IndexedGraph<V> g, int maxLength)
+        {
+            this.search = new Search<>(g, maxLength);
+            this.starts = g.startVertices();
         }
-    }
 
-    private void clearState()
-    {
-        cycles = null;
-        iToV = null;
-        vToI = null;
-        blocked = null;
-        bSets = null;
-        stack = null;
-    }
+        @Override
+        public boolean hasNext()
+        {
+            while (next == null) {
+                next = search.next();
+                if (next == null) {
+                    if (nextStart == starts.length) {
+                        return false;
+                    }
+                    search.start(starts[nextStart++]);
+                }
+            }
+            return true;
+        }
 
-    private void initMinSCGState()
-    {
-        index = 0;
-        SCCs = new ArrayList<>();
-        vIndex = new HashMap<>();
-        vLowlink = new HashMap<>();
-        path = new ArrayDeque<>();
-        pathSet = new HashSet<>();
+        @Override
+        public List<V> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<V> result = next;
+            next = null;
+            return result;
+        }
     }
 
-    private void clearMinSCCState()
+    /**
+     * Process a range of start vertices in parallel.
+     */
+    private static final class StartsTask<V>
+        extends
+        RecursiveAction
     {
-        index = 0;
-        SCCs = null;
-        vIndex = null;
-        vLowlink = null;
-        path = null;
-        pathSet = null;
-    }
+        private static final long serialVersionUID = 1L;
 
-    private Integer toI(V vertex)
-    {
-        return vToI.get(vertex);
-    }
+        private final IndexedGraph<V> g;
+        private final int maxLength;
+        private final Consumer<List<V>> consumer;
+        private final ConcurrentLinkedQueue<Search<V>> searches;
+        private final int[] starts;
+        private final int from;
+        private final int to;
 
-    private V toV(Integer i)
-    {
-        return iToV[i];
-    }
+        StartsTask(
+            IndexedGraph<V> g, int maxLength, Consumer<List<V>> consumer,
+            ConcurrentLinkedQueue<Search<V>> searches, int[] starts, int from, int to)
+        {
+            this.g = g;
+            this.maxLength = maxLength;
+            this.consumer = consumer;
+            this.searches = searches;
+            this.starts = starts;
+            this.from = from;
+            this.to = to;
+        }
 
-    private Set<V> getBSet(V v)
-    {
-        // B sets typically not all needed,
-        // so instantiate lazily.
-        return bSets.computeIfAbsent(v, k -> new HashSet<>());
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new StartsTask<>(g, maxLength, consumer, searches, starts, from, mid),
+                    new StartsTask<>(g, maxLength, consumer, searches, starts, mid, to));
+                return;
+            }
+            if (from == to) {
+                return;
+            }
+            Search<V> search = searches.poll();
+            if (search == null) {
+                search = new Search<>(g, maxLength);
+            }
+            search.run(starts[from], consumer);
+            searches.add(search);
+        }
     }
 }
 
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Schwarcfiter and Lauer's algorithm.
@@ -44,7 +45,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     private Graph<V, E> graph;
 
     // The state of the algorithm.
-    private List<List<V>> cycles = null;
+    private Consumer<List<V>> cycleConsumer = null;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Map<V, Set<V>> bSets = null;
@@ -98,13 +99,25 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
     {
         // Just a straightforward implementation of
         // the algorithm.
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        initState(consumer);
         KosarajuStrongConnectivityInspector<V, E> inspector =
             new KosarajuStrongConnectivityInspector<>(graph);
         List<Set<V>> sccs = inspector.stronglyConnectedSets();
@@ -125,9 +138,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
             cycle(toI(vertex), 0);
         }
 
-        List<List<V>> result = cycles;
         clearState();
-        return result;
     }
 
     private boolean cycle(int v, int q)
@@ -175,7 +186,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                         break;
                     }
                 }
-                cycles.add(cycle);
+                cycleConsumer.accept(cycle);
             } else {
                 noCycle(v, w);
             }
@@ -217,9 +228,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Consumer<List<V>> consumer)
     {
-        cycles = new ArrayList<>();
+        cycleConsumer = consumer;
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         bSets = new HashMap<>();
@@ -238,7 +249,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        cycleConsumer = null;
         iToV = null;
         vToI = null;
         bSets = null;
@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tarjan's algorithm.
@@ -40,7 +41,7 @@ public class TarjanSimpleCycles<V, E>
 {
     private Graph<V, E> graph;
 
-    private List<List<V>> cycles;
+    private Consumer<List<V>> cycleConsumer;
     private Set<V> marked;
     private ArrayDeque<V> markedStack;
     private ArrayDeque<V> pointStack;
@@ -90,11 +91,23 @@ public class TarjanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        initState(consumer);
 
         for (V start : graph.vertexSet()) {
             backtrack(start, start);
@@ -103,9 +116,7 @@ public class TarjanSimpleCycles<V, E>
             }
         }
 
-        List<List<V>> result = cycles;
         clearState();
-        return result;
     }
 
     private boolean backtrack(V start, V vertex)
@@ -138,7 +149,7 @@ public class TarjanSimpleCycles<V, E>
                 while (it.hasNext()) {
                     cycle.add(it.next());
                 }
-                cycles.add(cycle);
+                cycleConsumer.accept(cycle);
             } else if (!marked.contains(currentVertex)) {
                 boolean gotCycle = backtrack(start, currentVertex);
                 foundCycle = foundCycle || gotCycle;
@@ -156,9 +167,9 @@ public class TarjanSimpleCycles<V, E>
         return foundCycle;
     }
 
-    private void initState()
+    private void initState(Consumer<List<V>> consumer)
     {
-        cycles = new ArrayList<>();
+        cycleConsumer = consumer;
         marked = new HashSet<>();
         markedStack = new ArrayDeque<>();
         pointStack = new ArrayDeque<>();
@@ -172,7 +183,7 @@ public class TarjanSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        cycleConsumer = null;
         marked = null;
         markedStack = null;
         pointStack = null;
@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tiernan's algorithm.
@@ -83,15 +84,26 @@ public class TiernanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
         Map<V, Integer> indices = new HashMap<>();
         List<V> path = new ArrayList<>();
         Set<V> pathSet = new HashSet<>();
         Map<V, Set<V>> blocked = new HashMap<>();
-        List<List<V>> cycles = new LinkedList<>();
 
         int index = 0;
         for (V v : graph.vertexSet()) {
@@ -101,7 +113,7 @@ public class TiernanSimpleCycles<V, E>
 
         Iterator<V> vertexIterator = graph.vertexSet().iterator();
         if (!vertexIterator.hasNext()) {
-            return cycles;
+            return;
         }
 
         V startOfPath;
@@ -139,7 +151,7 @@ public class TiernanSimpleCycles<V, E>
             startOfPath = path.get(0);
             if (graph.containsEdge(endOfPath, startOfPath)) {
                 List<V> cycle = new ArrayList<>(path);
-                cycles.add(cycle);
+                consumer.accept(cycle);
             }
 
             // vertex closure
@@ -171,8 +183,6 @@ public class TiernanSimpleCycles<V, E>
             // terminate
             break;
         }
-
-        return cycles;
     }
 }
 
@@ -0,0 +1,40 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.interfaces;
+
+/**
+ * An algorithm which answers reachability queries in a directed graph. A vertex $v$ is reachable
+ * from a vertex $u$ if the graph contains a directed path from $u$ to $v$. Every vertex is
+ * reachable from itself.
+ *
+ * @param <V> the graph vertex type
+ */
+public interface ReachabilityAlgorithm<V>
+{
+    /**
+     * Test whether a vertex is reachable from another vertex.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return true if the target is reachable from the source, false otherwise
+     * @throws IllegalArgumentException if a vertex is not a vertex of the graph
+     */
+    boolean isReachable(V source, V target);
+}
+
+// End ReachabilityAlgorithm.java
@@ -0,0 +1,778 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Computes a canonical labeling of a graph using partition refinement with individualization, in
+ * the style of nauty and bliss. See B. D. McKay and A. Piperno. Practical graph isomorphism, II.
+ * Journal of Symbolic Computation, 60:94–112, 2014.
+ *
+ * <p>
+ * A canonical labeling assigns the numbers $0, \dots, n-1$ to the vertices of a graph such that
+ * relabeling two isomorphic graphs with their canonical labelings yields identical graphs. The
+ * relabeled graph is available as a {@link CanonicalForm}: two graphs are isomorphic if and only
+ * if their canonical forms are equal. Since canonical forms implement {@link Object#equals(Object)}
+ * and {@link Object#hashCode()}, a collection of graphs can be deduplicated by bucketing them in a
+ * hash table instead of comparing all pairs with {@link VF2GraphIsomorphismInspector}. The 64-bit
+ * {@link CanonicalForm#getHash() hash} of a canonical form does not depend on the JVM and can be
+ * stored or exchanged.
+ *
+ * <p>
+ * The search tree is explored depth-first. Every node individualizes a vertex of the first
+ * smallest non-singleton cell of the current ordered partition and refines the partition until it
+ * is equitable. The canonical labeling is the leaf which is maximal with respect to the sequence
+ * of refinement traces along its path and the relabeled adjacency structure. Subtrees are pruned
+ * when their traces are smaller than those of the best leaf found so far and by the automorphisms
+ * discovered whenever two leaves yield the same relabeled graph.
+ *
+ * <p>
+ * Vertices can optionally be colored with integers. Isomorphisms are then required to preserve
+ * colors, which is useful for labeled graphs such as molecules. Edge labels are not supported;
+ * they can be modelled by subdividing labeled edges with colored vertices. The algorithm supports
+ * directed and undirected graphs, including self-loops and multiple edges.
+ *
+ * <p>
+ * The running time is exponential in the worst case but is close to linear for most graphs met in
+ * practice. For a fast but incomplete pre-filter see {@link WeisfeilerLehmanGraphHash}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class CanonicalLabeling<V, E>
+{
+    /*
+     * Limit on the number of stored automorphism generators. Further automorphisms are still used
+     * to backtrack, but not for orbit pruning.
+     */
+    private static final int MAX_GENERATORS = 256;
+
+    private final Graph<V, E> graph;
+    private final ToIntFunction<V> vertexColor;
+
+    private List<V> canonicalOrder;
+    private CanonicalForm canonicalForm;
+
+    /**
+     * Create a new canonical labeling algorithm.
+     *
+     * @param graph the input graph
+     */
+    public CanonicalLabeling(Graph<V, E> graph)
+    {
+        this(graph, v -> 0);
+    }
+
+    /**
+     * Create a new canonical labeling algorithm for a vertex colored graph.
+     *
+     * @param graph the input graph
+     * @param vertexColor the color of each vertex
+     */
+    public CanonicalLabeling(Graph<V, E> graph, ToIntFunction<V> vertexColor)
+    {
+        this.graph = GraphTests.requireDirectedOrUndirected(graph);
+        this.vertexColor = Objects.requireNonNull(vertexColor, "Vertex color cannot be null");
+    }
+
+    /**
+     * Get the vertices of the graph in canonical order. The vertex at position $i$ receives the
+     * canonical label $i$.
+     *
+     * @return the vertices in canonical order
+     */
+    public List<V> getCanonicalOrder()
+    {
+        lazyCompute();
+        return canonicalOrder;
+    }
+
+    /**
+     * Get the canonical labeling of the graph.
+     *
+     * @return the canonical label of each vertex
+     */
+    public Map<V, Integer> getCanonicalLabeling()
+    {
+        lazyCompute();
+        Map<V, Integer> labeling = new HashMap<>();
+        for (int i = 0; i < canonicalOrder.size(); i++) {
+            labeling.put(canonicalOrder.get(i), i);
+        }
+        return labeling;
+    }
+
+    /**
+     * Get the canonical form of the graph.
+     *
+     * @return the canonical form
+     */
+    public CanonicalForm getCanonicalForm()
+    {
+        lazyCompute();
+        return canonicalForm;
+    }
+
+    /**
+     * Get the 64-bit hash of the canonical form of the graph. Isomorphic graphs always have the
+     * same hash.
+     *
+     * @return the hash of the canonical form
+     */
+    public long getHash()
+    {
+        return getCanonicalForm().getHash();
+    }
+
+    private void lazyCompute()
+    {
+        if (canonicalForm != null) {
+            return;
+        }
+
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = IntAdjacency.index(vertices);
+        int n = vertices.size();
+        int[] colors = new int[n];
+        for (int i = 0; i < n; i++) {
+            colors[i] = vertexColor.applyAsInt(vertices.get(i));
+        }
+        boolean directed = graph.getType().isDirected();
+        int[][] out = IntAdjacency.outgoing(graph, index);
+        int[][] in = directed ? IntAdjacency.incoming(graph, index) : out;
+
+        Search search = new Search(out, in, directed, colors);
+        int[] order = search.run();
+
+        List<V> result = new ArrayList<>(n);
+        int[] code = new int[3 + n + search.bestCertificate.length];
+        code[0] = n;
+        code[1] = graph.edgeSet().size();
+        code[2] = directed ? 1 : 0;
+        for (int i = 0; i < n; i++) {
+            result.add(vertices.get(order[i]));
+            code[3 + i] = colors[order[i]];
+        }
+        System.arraycopy(
+            search.bestCertificate, 0, code, 3 + n, search.bestCertificate.length);
+
+        canonicalOrder = Collections.unmodifiableList(result);
+        canonicalForm = new CanonicalForm(code);
+    }
+
+    /**
+     * The canonical form of a graph. It encodes the number of vertices and edges, the
+     * directedness, the vertex colors and the adjacency structure of the graph relabeled by its
+     * canonical labeling.
+     */
+    public static final class CanonicalForm
+        implements
+        Comparable<CanonicalForm>,
+        Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] code;
+        private final long hash;
+
+        CanonicalForm(int[] code)
+        {
+            this.code = code;
+            long h = 0xcbf29ce484222325L;
+            for (int x : code) {
+                h ^= x;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            this.hash = h;
+        }
+
+        /**
+         * Get the 64-bit hash of the canonical form.
+         *
+         * @return the hash
+         */
+        public long getHash()
+        {
+            return hash;
+        }
+
+        @Override
+        public int compareTo(CanonicalForm o)
+        {
+            int c = Integer.compare(code.length, o.code.length);
+            for (int i = 0; c == 0 && i < code.length; i++) {
+                c = Integer.compare(code[i], o.code[i]);
+            }
+            return c;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CanonicalForm)) {
+                return false;
+            }
+            CanonicalForm other = (CanonicalForm) obj;
+            return hash == other.hash && Arrays.equals(code, other.code);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(hash);
+        }
+
+        @Override
+        public String toString()
+        {
+            return Arrays.toString(code);
+        }
+    }
+
+    /**
+     * The individualization-refinement search on a graph with vertices $0, \dots, n-1$.
+     *
+     * <p>
+     * The ordered partition is stored in {@code elements}, where each cell occupies a contiguous
+     * range. The cell of a vertex is identified by the start position of its range.
+     */
+    private static final class Search
+    {
+        private final int n;
+        private final int[][] out;
+        private final int[][] in;
+        private final boolean directed;
+        private final int[] colors;
+
+        private final int[] elements;
+        private final int[] position;
+        private final int[] cellOf;
+        private final int[] cellEnd;
+        private int numCells;
+
+        private final int[] splitLog;
+        private int splitLogSize;
+
+        private final int[] queue;
+        private final boolean[] inQueue;
+        private int queueHead;
+        private int queueSize;
+
+        private final int[] count;
+        private final int[] touchedVertices;
+        private final int[] touchedCells;
+        private final int[] touchedInCell;
+        private final int[] splitter;
+        private final int[] fragments;
+        private final long[] sortBuffer;
+
+        private final int[] path;
+        private final long[] traces;
+        private int[] certificate;
+
+        private int[] firstElements;
+        private int[] firstCertificate;
+        private int[] firstPath;
+        private int firstDepth;
+
+        private int[] bestElements;
+        private int[] bestCertificate;
+        private int[] bestPath;
+        private long[] bestTraces;
+        private int bestDepth;
+        private int bestUpdates;
+
+        private final List<int[]> generators;
+
+        Search(int[][] out, int[][] in, boolean directed, int[] colors)
+        {
+            this.n = colors.length;
+            this.out = out;
+            this.in = in;
+            this.directed = directed;
+            this.colors = colors;
+
+            this.elements = new int[n];
+            this.position = new int[n];
+            this.cellOf = new int[n];
+            this.cellEnd = new int[n];
+            this.splitLog = new int[n];
+            this.queue = new int[n];
+            this.inQueue = new boolean[n];
+            this.count = new int[n];
+            this.touchedVertices = new int[n];
+            this.touchedCells = new int[n];
+            this.touchedInCell = new int[n];
+            this.splitter = new int[n];
+            this.fragments = new int[n];
+            this.sortBuffer = new long[n];
+            this.path = new int[n];
+            this.traces = new long[n];
+
+            int size = n;
+            for (int[] a : out) {
+                size += a.length;
+            }
+            this.certificate = new int[size];
+            this.generators = new ArrayList<>();
+        }
+
+        /**
+         * Run the search.
+         *
+         * @return the vertices in canonical order
+         */
+        int[] run()
+        {
+            if (n == 0) {
+                bestCertificate = certificate;
+                return new int[0];
+            }
+
+            // initial partition by color
+            for (int v = 0; v < n; v++) {
+                sortBuffer[v] = ((long) colors[v] << 32) | v;
+            }
+            Arrays.sort(sortBuffer, 0, n);
+            int start = 0;
+            for (int p = 0; p < n; p++) {
+                int v = (int) sortBuffer[p];
+                elements[p] = v;
+                position[v] = p;
+                if (p > 0 && colors[v] != colors[elements[p - 1]]) {
+                    cellEnd[start] = p;
+                    enqueue(start);
+                    numCells++;
+                    start = p;
+                }
+                cellOf[v] = start;
+            }
+            cellEnd[start] = n;
+            enqueue(start);
+            numCells++;
+
+            refine();
+            search(0, 0);
+            return bestElements;
+        }
+
+        private int search(int depth, int cmp)
+        {
+            if (numCells == n) {
+                return leaf(depth, cmp);
+            }
+
+            // first smallest non-singleton cell
+            int target = -1;
+            int targetSize = Integer.MAX_VALUE;
+            for (int s = 0; s < n; s = cellEnd[s]) {
+                int size = cellEnd[s] - s;
+                if (size > 1 && size < targetSize) {
+                    target = s;
+                    targetSize = size;
+                }
+            }
+            int[] children = Arrays.copyOfRange(elements, target, target + targetSize);
+            Arrays.sort(children);
+
+            int[] explored = new int[targetSize];
+            int numExplored = 0;
+            int[] orbits = null;
+            int knownGenerators = -1;
+
+            for (int v : children) {
+                if (numExplored > 0) {
+                    if (knownGenerators != generators.size()) {
+                        orbits = orbits(depth);
+                        knownGenerators = generators.size();
+                    }
+                    if (orbits != null && inExploredOrbit(orbits, v, explored, numExplored)) {
+                        continue;
+                    }
+                }
+                explored[numExplored++] = v;
+
+                int mark = splitLogSize;
+                path[depth] = v;
+                long trace = mix(individualize(v), refine());
+                traces[depth] = trace;
+
+                int childCmp = cmp;
+                boolean prune = false;
+                if (childCmp == 0 && bestCertificate != null) {
+                    if (depth >= bestDepth) {
+                        childCmp = 1;
+                    } else {
+                        int c = Long.compare(trace, bestTraces[depth]);
+                        if (c < 0) {
+                            prune = true;
+                        } else if (c > 0) {
+                            childCmp = 1;
+                        }
+                    }
+                }
+
+                int updates = bestUpdates;
+                int jump = prune ? depth : search(depth + 1, childCmp);
+                undo(mark);
+                if (bestUpdates != updates) {
+                    // the new best leaf lies below this node, continue against it
+                    cmp = 0;
+                }
+                if (jump < depth) {
+                    return jump;
+                }
+            }
+            return depth - 1;
+        }
+
+        private int leaf(int depth, int cmp)
+        {
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                int[] a = out[elements[i]];
+                certificate[k++] = a.length;
+                int from = k;
+                for (int u : a) {
+                    certificate[k++] = position[u];
+                }
+                Arrays.sort(certificate, from, k);
+            }
+
+            if (firstCertificate == null) {
+                firstElements = elements.clone();
+                firstCertificate = certificate.clone();
+                firstPath = Arrays.copyOf(path, depth);
+                firstDepth = depth;
+                updateBest(depth);
+                return depth - 1;
+            }
+
+            if (Arrays.equals(certificate, firstCertificate)) {
+                addGenerator(firstElements);
+                return commonPrefix(firstPath, firstDepth, depth);
+            }
+            if (cmp == 0 && depth == bestDepth) {
+                int c = compare(certificate, bestCertificate);
+                if (c == 0) {
+                    addGenerator(bestElements);
+                    return commonPrefix(bestPath, bestDepth, depth);
+                }
+                if (c > 0) {
+                    cmp = 1;
+                }
+            }
+            if (cmp > 0) {
+                updateBest(depth);
+            }
+            return depth - 1;
+        }
+
+        private void updateBest(int depth)
+        {
+            bestElements = elements.clone();
+            bestCertificate = certificate.clone();
+            bestPath = Arrays.copyOf(path, depth);
+            bestTraces = Arrays.copyOf(traces, depth);
+            bestDepth = depth;
+            bestUpdates++;
+        }
+
+        private int commonPrefix(int[] otherPath, int otherDepth, int depth)
+        {
+            int k = 0;
+            int max = Math.min(otherDepth, depth);
+            while (k < max && path[k] == otherPath[k]) {
+                k++;
+            }
+            return k;
+        }
+
+        private void addGenerator(int[] otherElements)
+        {
+            if (generators.size() >= MAX_GENERATORS) {
+                return;
+            }
+            int[] g = new int[n];
+            boolean identity = true;
+            for (int i = 0; i < n; i++) {
+                g[elements[i]] = otherElements[i];
+                identity &= elements[i] == otherElements[i];
+            }
+            if (!identity) {
+                generators.add(g);
+            }
+        }
+
+        /*
+         * Orbits of the group generated by the known automorphisms which fix the vertices
+         * individualized on the current path, or null if there are none.
+         */
+        private int[] orbits(int depth)
+        {
+            int[] parent = null;
+            for (int[] g : generators) {
+                boolean fixes = true;
+                for (int i = 0; fixes && i < depth; i++) {
+                    fixes = g[path[i]] == path[i];
+                }
+                if (!fixes) {
+                    continue;
+                }
+                if (parent == null) {
+                    parent = new int[n];
+                    for (int v = 0; v < n; v++) {
+                        parent[v] = v;
+                    }
+                }
+                for (int v = 0; v < n; v++) {
+                    int a = find(parent, v);
+                    int b = find(parent, g[v]);
+                    if (a != b) {
+                        parent[Math.max(a, b)] = Math.min(a, b);
+                    }
+                }
+            }
+            return parent;
+        }
+
+        private static boolean inExploredOrbit(
+            int[] orbits, int v, int[] explored, int numExplored)
+        {
+            int root = find(orbits, v);
+            for (int i = 0; i < numExplored; i++) {
+                if (find(orbits, explored[i]) == root) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int find(int[] parent, int v)
+        {
+            while (parent[v] != v) {
+                parent[v] = parent[parent[v]];
+                v = parent[v];
+            }
+            return v;
+        }
+
+        private long individualize(int v)
+        {
+            int s = cellOf[v];
+            int e = cellEnd[s];
+            int p = position[v];
+            int u = elements[s];
+            elements[p] = u;
+            position[u] = p;
+            elements[s] = v;
+            position[v] = s;
+
+            cellEnd[s] = s + 1;
+            cellEnd[s + 1] = e;
+            for (int q = s + 1; q < e; q++) {
+                cellOf[elements[q]] = s + 1;
+            }
+            splitLog[splitLogSize++] = s + 1;
+            numCells++;
+            enqueue(s);
+            return s;
+        }
+
+        private void undo(int mark)
+        {
+            while (splitLogSize > mark) {
+                int f = splitLog[--splitLogSize];
+                int prev = cellOf[elements[f - 1]];
+                int e = cellEnd[f];
+                for (int q = f; q < e; q++) {
+                    cellOf[elements[q]] = prev;
+                }
+                cellEnd[prev] = e;
+                numCells--;
+            }
+        }
+
+        private void enqueue(int cell)
+        {
+            inQueue[cell] = true;
+            queue[(queueHead + queueSize) % n] = cell;
+            queueSize++;
+        }
+
+        /*
+         * Refine the partition until it is equitable and return a trace of the refinement. The
+         * order of all operations only depends on the ordered partition, thus the trace is an
+         * isomorphism invariant.
+         */
+        private long refine()
+        {
+            long trace = 1;
+            while (queueSize > 0 && numCells < n) {
+                int s = queue[queueHead];
+                queueHead = (queueHead + 1) % n;
+                queueSize--;
+                inQueue[s] = false;
+
+                int size = cellEnd[s] - s;
+                System.arraycopy(elements, s, splitter, 0, size);
+                trace = mix(trace, s);
+                trace = splitBy(directed ? in : out, size, trace);
+                if (directed && numCells < n) {
+                    trace = splitBy(out, size, trace);
+                }
+            }
+            while (queueSize > 0) {
+                inQueue[queue[queueHead]] = false;
+                queueHead = (queueHead + 1) % n;
+                queueSize--;
+            }
+            return mix(trace, numCells);
+        }
+
+        /*
+         * Split all cells by the number of neighbors in the splitter cell, where the neighbors of
+         * a splitter vertex w are given by adjacency[w].
+         */
+        private long splitBy(int[][] adjacency, int splitterSize, long trace)
+        {
+            int numTouched = 0;
+            for (int i = 0; i < splitterSize; i++) {
+                for (int u : adjacency[splitter[i]]) {
+                    if (count[u]++ == 0) {
+                        touchedVertices[numTouched++] = u;
+                    }
+                }
+            }
+            int numCellsTouched = 0;
+            for (int i = 0; i < numTouched; i++) {
+                int c = cellOf[touchedVertices[i]];
+                if (touchedInCell[c]++ == 0) {
+                    touchedCells[numCellsTouched++] = c;
+                }
+            }
+            Arrays.sort(touchedCells, 0, numCellsTouched);
+
+            for (int i = 0; i < numCellsTouched; i++) {
+                int c = touchedCells[i];
+                int end = cellEnd[c];
+                int size = end - c;
+                int touched = touchedInCell[c];
+                touchedInCell[c] = 0;
+                if (size == 1 || (touched == size && uniformCount(c, end))) {
+                    continue;
+                }
+
+                for (int p = c; p < end; p++) {
+                    int v = elements[p];
+                    sortBuffer[p - c] = ((long) count[v] << 32) | v;
+                }
+                Arrays.sort(sortBuffer, 0, size);
+
+                int numFragments = 0;
+                int largest = c;
+                int largestSize = 0;
+                int start = c;
+                for (int p = 0; p <= size; p++) {
+                    if (p < size) {
+                        int v = (int) sortBuffer[p];
+                        elements[c + p] = v;
+                        position[v] = c + p;
+                    }
+                    if (p == size
+                        || (p > 0 && (sortBuffer[p] >>> 32) != (sortBuffer[p - 1] >>> 32)))
+                    {
+                        int fragmentEnd = c + p;
+                        cellEnd[start] = fragmentEnd;
+                        if (start != c) {
+                            for (int q = start; q < fragmentEnd; q++) {
+                                cellOf[elements[q]] = start;
+                            }
+                            splitLog[splitLogSize++] = start;
+                            numCells++;
+                        }
+                        trace = mix(trace, mix(sortBuffer[p - 1] >>> 32, fragmentEnd - start));
+                        if (fragmentEnd - start > largestSize) {
+                            largest = start;
+                            largestSize = fragmentEnd - start;
+                        }
+                        fragments[numFragments++] = start;
+                        start = fragmentEnd;
+                    }
+                }
+                trace = mix(trace, c);
+
+                boolean queued = inQueue[c];
+                for (int j = 0; j < numFragments; j++) {
+                    int f = fragments[j];
+                    if (queued ? f != c : f != largest) {
+                        enqueue(f);
+                    }
+                }
+            }
+
+            for (int i = 0; i < numTouched; i++) {
+                count[touchedVertices[i]] = 0;
+            }
+            return trace;
+        }
+
+        private boolean uniformCount(int start, int end)
+        {
+            int first = count[elements[start]];
+            for (int p = start + 1; p < end; p++) {
+                if (count[elements[p]] != first) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int compare(int[] a, int[] b)
+        {
+            for (int i = 0; i < a.length; i++) {
+                int c = Integer.compare(a[i], b[i]);
+                if (c != 0) {
+                    return c;
+                }
+            }
+            return 0;
+        }
+
+        private static long mix(long h, long x)
+        {
+            h ^= x + 0x9e3779b97f4a7c15L + (h << 6) + (h >>> 2);
+            return h * 0xbf58476d1ce4e5b9L;
+        }
+    }
+}
+
+// End CanonicalLabeling.java
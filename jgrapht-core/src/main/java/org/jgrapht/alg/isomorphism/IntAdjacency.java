@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Helper methods for isomorphism algorithms which operate on a graph relabeled with consecutive
+ * integers $0, \dots, n-1$ and stored as one sorted array of neighbors per vertex.
+ */
+final class IntAdjacency
+{
+    private IntAdjacency()
+    {
+    }
+
+    /**
+     * Index the vertices of a graph with consecutive integers in iteration order.
+     *
+     * @param vertices the vertices
+     * @param <V> the graph vertex type
+     * @return the index of each vertex
+     */
+    static <V> Map<V, Integer> index(List<V> vertices)
+    {
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        return index;
+    }
+
+    /**
+     * Build sorted adjacency arrays of the outgoing edges of a graph. Multiple edges appear
+     * multiple times. In undirected graphs every edge is outgoing from both of its endpoints,
+     * while a self-loop appears only once.
+     *
+     * @param graph the graph
+     * @param index the index of each vertex
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the adjacency arrays
+     */
+    static <V, E> int[][] outgoing(Graph<V, E> graph, Map<V, Integer> index)
+    {
+        return build(graph, index, false);
+    }
+
+    /**
+     * Build sorted adjacency arrays of the incoming edges of a graph. For undirected graphs the
+     * result equals {@link #outgoing(Graph, Map)}.
+     *
+     * @param graph the graph
+     * @param index the index of each vertex
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the adjacency arrays
+     */
+    static <V, E> int[][] incoming(Graph<V, E> graph, Map<V, Integer> index)
+    {
+        return build(graph, index, graph.getType().isDirected());
+    }
+
+    private static <V, E> int[][] build(Graph<V, E> graph, Map<V, Integer> index, boolean reverse)
+    {
+        int n = index.size();
+        boolean directed = graph.getType().isDirected();
+        int[] degree = new int[n];
+        int m = graph.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        int k = 0;
+        for (E e : graph.edgeSet()) {
+            int s = index.get(graph.getEdgeSource(e));
+            int t = index.get(graph.getEdgeTarget(e));
+            if (reverse) {
+                int tmp = s;
+                s = t;
+                t = tmp;
+            }
+            sources[k] = s;
+            targets[k] = t;
+            k++;
+            degree[s]++;
+            if (!directed && s != t) {
+                degree[t]++;
+            }
+        }
+
+        int[][] adjacency = new int[n][];
+        for (int i = 0; i < n; i++) {
+            adjacency[i] = new int[degree[i]];
+            degree[i] = 0;
+        }
+        for (int i = 0; i < m; i++) {
+            int s = sources[i];
+            int t = targets[i];
+            adjacency[s][degree[s]++] = t;
+            if (!directed && s != t) {
+                adjacency[t][degree[t]++] = s;
+            }
+        }
+        for (int[] a : adjacency) {
+            Arrays.sort(a);
+        }
+        return adjacency;
+    }
+}
+
+// End IntAdjacency.java
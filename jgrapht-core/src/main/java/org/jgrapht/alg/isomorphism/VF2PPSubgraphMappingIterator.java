@@ -0,0 +1,686 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * This class is used to iterate over all existing induced subgraph isomorphic mappings between two
+ * graphs. It is used by the {@link VF2SubgraphIsomorphismInspector}.
+ *
+ * <p>
+ * Instead of the VF2 state classes, the matcher works on primitive arrays which are computed once:
+ * sorted adjacency arrays of both graphs (and an adjacency bit-matrix if the first graph is small),
+ * and a static matching order of the vertices of the second graph computed as in VF2++
+ * (Jüttner and Madarasi. VF2++ - An improved subgraph isomorphism algorithm. Discrete Applied
+ * Mathematics, 242:69--81, 2018). The order is a breadth-first ordering starting from a vertex of
+ * maximum degree, where each level is sorted by the number of neighbors already in the order and
+ * then by degree. The order fixes for each depth of the search the edges towards already matched
+ * vertices, so that candidate vertices are taken from the neighborhood of an already matched vertex
+ * and checked against counters of matched neighbors, without any call back into the graphs. Since
+ * the order does not depend on the vertex comparator, label rarity is not used.
+ *
+ * <p>
+ * If a {@link ForkJoinPool} is given, the candidates for the first vertex of the order are taken
+ * in blocks of increasing size, and each block is cut into ranges which are searched in parallel.
+ * The mappings are returned in the same order as in the sequential case, thus the mappings of a
+ * range are buffered until all earlier ranges are exhausted. A range pauses its search when it has
+ * buffered a fixed number of mappings and resumes once they are consumed, so the memory used for
+ * buffering is bounded by a number of mappings and does not grow with the number of candidates.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ */
+class VF2PPSubgraphMappingIterator<V, E>
+    implements
+    Iterator<GraphMapping<V, E>>
+{
+    /**
+     * An adjacency bit-matrix is used for the first graph if it has at most this many vertices.
+     */
+    private static final int BIT_MATRIX_MAX_VERTICES = 4096;
+
+    /**
+     * Maximum number of first level candidates explored at once in parallel mode.
+     */
+    private static final int MAX_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Maximum number of mappings buffered by a range of first level candidates in parallel mode.
+     */
+    private static final int MAX_BUFFERED_MAPPINGS = 1 << 10;
+
+    private final GraphOrdering<V, E> ordering1, ordering2;
+    private final Comparator<V> vertexComparator;
+    private final Comparator<E> edgeComparator;
+    private final ForkJoinPool pool;
+
+    private final boolean directed;
+    private final int n1, n2;
+
+    // first graph
+    private int[][] out1, in1;
+    private long[] matrix1;
+
+    // second graph, indexed by depth in the matching order
+    private int[] order;
+    private int[] outDegree2, inDegree2;
+    private boolean[] loop2;
+    private int[] parent, parentOut;
+    private int[][] backOut, backIn;
+
+    private boolean initialized;
+    private boolean exhausted;
+    private IsomorphicGraphMapping<V, E> nextMapping;
+
+    // sequential mode
+    private State state;
+
+    // parallel mode
+    private ArrayDeque<Range> ranges;
+    private ArrayDeque<State> states;
+    private int nextRoot;
+    private int blockSize;
+
+    public VF2PPSubgraphMappingIterator(
+        GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
+        Comparator<V> vertexComparator, Comparator<E> edgeComparator, ForkJoinPool pool)
+    {
+        this.ordering1 = ordering1;
+        this.ordering2 = ordering2;
+        this.vertexComparator = vertexComparator;
+        this.edgeComparator = edgeComparator;
+        this.pool = pool;
+        this.directed = ordering1.getGraph().getType().isDirected();
+        this.n1 = ordering1.getVertexCount();
+        this.n2 = ordering2.getVertexCount();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (nextMapping == null) {
+            nextMapping = match();
+        }
+        return nextMapping != null;
+    }
+
+    @Override
+    public IsomorphicGraphMapping<V, E> next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        IsomorphicGraphMapping<V, E> tmp = nextMapping;
+        nextMapping = null;
+        return tmp;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Compute the next mapping.
+     *
+     * @return the next mapping or null if there are no more mappings
+     */
+    private IsomorphicGraphMapping<V, E> match()
+    {
+        if (exhausted) {
+            return null;
+        }
+
+        if (!initialized) {
+            initialized = true;
+            Graph<V, E> g1 = ordering1.getGraph(), g2 = ordering2.getGraph();
+            if ((g1.vertexSet().size() < g2.vertexSet().size())
+                || (g1.edgeSet().size() < g2.edgeSet().size()))
+            {
+                exhausted = true;
+                return null;
+            }
+            if (n2 == 0) {
+                exhausted = true;
+                return new IsomorphicGraphMapping<>(
+                    ordering1, ordering2, createEmptyCore(n1), new int[0]);
+            }
+            initialize();
+            if (pool == null) {
+                state = new State();
+                state.reset(0, n1);
+            } else {
+                ranges = new ArrayDeque<>();
+                states = new ArrayDeque<>();
+                blockSize = pool.getParallelism();
+            }
+        }
+
+        if (pool == null) {
+            if (state.next()) {
+                return state.getCurrentMapping();
+            }
+            exhausted = true;
+            return null;
+        }
+
+        while (true) {
+            Range head = ranges.peek();
+            if (head == null) {
+                if (nextRoot == n1) {
+                    exhausted = true;
+                    ranges = null;
+                    states = null;
+                    return null;
+                }
+                nextBlock();
+                continue;
+            }
+            if (!head.buffer.isEmpty()) {
+                return head.buffer.poll();
+            }
+            if (head.exhausted) {
+                states.push(head.state);
+                ranges.poll();
+                continue;
+            }
+
+            // search all ranges with free buffer space, the first range is among them
+            List<Range> pending = new ArrayList<>();
+            for (Range r : ranges) {
+                if (!r.exhausted && r.buffer.size() < MAX_BUFFERED_MAPPINGS) {
+                    pending.add(r);
+                }
+            }
+            pool.invoke(new FillTask(pending, 0, pending.size()));
+        }
+    }
+
+    /**
+     * Cut the next block of candidates for the first vertex of the order into ranges.
+     */
+    private void nextBlock()
+    {
+        int from = nextRoot;
+        int to = (int) Math.min((long) from + blockSize, n1);
+        int count = Math.min(to - from, 4 * pool.getParallelism());
+        for (int i = 0; i < count; i++) {
+            State s = states.isEmpty() ? new State() : states.pop();
+            s.reset(
+                from + (int) ((long) (to - from) * i / count),
+                from + (int) ((long) (to - from) * (i + 1) / count));
+            ranges.add(new Range(s));
+        }
+        nextRoot = to;
+        blockSize = Math.min(2 * blockSize, MAX_BLOCK_SIZE);
+    }
+
+    /**
+     * Compute the adjacency arrays of both graphs and the matching order.
+     */
+    private void initialize()
+    {
+        /*
+         * First graph
+         */
+        out1 = new int[n1][];
+        in1 = directed ? new int[n1][] : out1;
+        for (int v = 0; v < n1; v++) {
+            out1[v] = sorted(ordering1.getOutEdges(v));
+            if (directed) {
+                in1[v] = sorted(ordering1.getInEdges(v));
+            }
+        }
+        if (n1 <= BIT_MATRIX_MAX_VERTICES) {
+            matrix1 = new long[((n1 * n1) + 63) >>> 6];
+            for (int v = 0; v < n1; v++) {
+                for (int u : out1[v]) {
+                    int bit = v * n1 + u;
+                    matrix1[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+
+        /*
+         * Second graph
+         */
+        int[][] out2 = new int[n2][];
+        int[][] in2 = directed ? new int[n2][] : out2;
+        for (int u = 0; u < n2; u++) {
+            out2[u] = ordering2.getOutEdges(u);
+            if (directed) {
+                in2[u] = ordering2.getInEdges(u);
+            }
+        }
+        order = computeOrder(out2, in2);
+
+        int[] position = new int[n2];
+        for (int d = 0; d < n2; d++) {
+            position[order[d]] = d;
+        }
+        outDegree2 = new int[n2];
+        inDegree2 = new int[n2];
+        loop2 = new boolean[n2];
+        parent = new int[n2];
+        parentOut = new int[n2];
+        backOut = new int[n2][];
+        backIn = new int[n2][];
+        for (int d = 0; d < n2; d++) {
+            int u = order[d];
+            outDegree2[d] = out2[u].length;
+            inDegree2[d] = in2[u].length;
+            parent[d] = -1;
+            int parentPosition = d;
+
+            // edges u -> w with w earlier in the order
+            int[] back = new int[out2[u].length];
+            int count = 0;
+            for (int w : out2[u]) {
+                if (w == u) {
+                    loop2[d] = true;
+                } else if (position[w] < d) {
+                    back[count++] = w;
+                    if (position[w] < parentPosition) {
+                        // the image of u is an in-neighbor of the image of w
+                        parentPosition = position[w];
+                        parent[d] = w;
+                        parentOut[d] = 0;
+                    }
+                }
+            }
+            backOut[d] = Arrays.copyOf(back, count);
+
+            if (directed) {
+                // edges w -> u with w earlier in the order
+                back = new int[in2[u].length];
+                count = 0;
+                for (int w : in2[u]) {
+                    if (w != u && position[w] < d) {
+                        back[count++] = w;
+                        if (position[w] < parentPosition) {
+                            // the image of u is an out-neighbor of the image of w
+                            parentPosition = position[w];
+                            parent[d] = w;
+                            parentOut[d] = 1;
+                        }
+                    }
+                }
+                backIn[d] = Arrays.copyOf(back, count);
+            } else {
+                backIn[d] = backOut[d];
+            }
+        }
+    }
+
+    /**
+     * Computes the VF2++ matching order of the second graph.
+     */
+    private int[] computeOrder(int[][] out2, int[][] in2)
+    {
+        int[] degree = new int[n2];
+        for (int u = 0; u < n2; u++) {
+            degree[u] = out2[u].length + (directed ? in2[u].length : 0);
+        }
+
+        int[] result = new int[n2];
+        int size = 0;
+        boolean[] visited = new boolean[n2];
+        int[] connections = new int[n2];
+        int[] level = new int[n2];
+        int[] nextLevel = new int[n2];
+
+        while (size < n2) {
+            int root = -1;
+            for (int u = 0; u < n2; u++) {
+                if (!visited[u] && (root == -1 || degree[u] > degree[root])) {
+                    root = u;
+                }
+            }
+            visited[root] = true;
+            level[0] = root;
+            int levelSize = 1;
+
+            while (levelSize > 0) {
+                // greedily sort the level
+                for (int i = 0; i < levelSize; i++) {
+                    int best = i;
+                    for (int j = i + 1; j < levelSize; j++) {
+                        int a = level[j], b = level[best];
+                        if (connections[a] > connections[b]
+                            || (connections[a] == connections[b] && degree[a] > degree[b]))
+                        {
+                            best = j;
+                        }
+                    }
+                    int u = level[best];
+                    level[best] = level[i];
+                    level[i] = u;
+                    result[size++] = u;
+                    for (int w : out2[u]) {
+                        connections[w]++;
+                    }
+                    if (directed) {
+                        for (int w : in2[u]) {
+                            connections[w]++;
+                        }
+                    }
+                }
+
+                // compute the next level
+                int nextLevelSize = 0;
+                for (int i = 0; i < levelSize; i++) {
+                    int u = level[i];
+                    for (int w : out2[u]) {
+                        if (!visited[w]) {
+                            visited[w] = true;
+                            nextLevel[nextLevelSize++] = w;
+                        }
+                    }
+                    if (directed) {
+                        for (int w : in2[u]) {
+                            if (!visited[w]) {
+                                visited[w] = true;
+                                nextLevel[nextLevelSize++] = w;
+                            }
+                        }
+                    }
+                }
+                int[] tmp = level;
+                level = nextLevel;
+                nextLevel = tmp;
+                levelSize = nextLevelSize;
+            }
+        }
+        return result;
+    }
+
+    private boolean hasEdge1(int v1, int v2)
+    {
+        if (matrix1 != null) {
+            int bit = v1 * n1 + v2;
+            return (matrix1[bit >>> 6] & (1L << bit)) != 0L;
+        }
+        return Arrays.binarySearch(out1[v1], v2) >= 0;
+    }
+
+    private boolean areCompatibleVertexes(int v1, int v2)
+    {
+        return (vertexComparator == null) || (vertexComparator
+            .compare(ordering1.getVertex(v1), ordering2.getVertex(v2)) == 0);
+    }
+
+    private boolean areCompatibleEdges(int v1, int v2, int u1, int u2)
+    {
+        return (edgeComparator == null) || (edgeComparator
+            .compare(ordering1.getEdge(v1, v2), ordering2.getEdge(u1, u2)) == 0);
+    }
+
+    private static int[] sorted(int[] a)
+    {
+        int[] result = a.clone();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int[] createEmptyCore(int n)
+    {
+        int[] core = new int[n];
+        Arrays.fill(core, VF2State.NULL_NODE);
+        return core;
+    }
+
+    /**
+     * The mutable state of a depth-first search over a range of candidates for the first vertex of
+     * the order.
+     */
+    private class State
+    {
+        private final int[] core1, core2;
+        private final int[] outCount, inCount;
+
+        private final int[][] candidates;
+        private final int[] position, end;
+
+        private int depth;
+        private int rootFrom, rootTo;
+
+        State()
+        {
+            core1 = createEmptyCore(n1);
+            core2 = createEmptyCore(n2);
+            outCount = new int[n1];
+            inCount = directed ? new int[n1] : outCount;
+            candidates = new int[n2][];
+            position = new int[n2];
+            end = new int[n2];
+        }
+
+        /**
+         * Restart the search for candidates of the first vertex of the order in a range. Must only
+         * be called when the previous search is exhausted.
+         */
+        void reset(int from, int to)
+        {
+            rootFrom = from;
+            rootTo = to;
+            depth = 0;
+            initCandidates(0);
+        }
+
+        /**
+         * Advance to the next complete mapping.
+         *
+         * @return true if a new mapping was found, false if the search is exhausted
+         */
+        boolean next()
+        {
+            if (depth == n2) {
+                depth--;
+                removePair(depth);
+            }
+            while (true) {
+                int v = nextCandidate(depth);
+                if (v == VF2State.NULL_NODE) {
+                    if (depth == 0) {
+                        return false;
+                    }
+                    depth--;
+                    removePair(depth);
+                    continue;
+                }
+                if (isFeasiblePair(depth, v)) {
+                    addPair(depth, v);
+                    depth++;
+                    if (depth == n2) {
+                        return true;
+                    }
+                    initCandidates(depth);
+                }
+            }
+        }
+
+        IsomorphicGraphMapping<V, E> getCurrentMapping()
+        {
+            return new IsomorphicGraphMapping<>(ordering1, ordering2, core1, core2);
+        }
+
+        private void initCandidates(int d)
+        {
+            int p = parent[d];
+            if (p == -1) {
+                candidates[d] = null;
+                position[d] = d == 0 ? rootFrom : 0;
+                end[d] = d == 0 ? rootTo : n1;
+            } else {
+                int[] c = parentOut[d] == 1 ? out1[core2[p]] : in1[core2[p]];
+                candidates[d] = c;
+                position[d] = 0;
+                end[d] = c.length;
+            }
+        }
+
+        private int nextCandidate(int d)
+        {
+            if (position[d] >= end[d]) {
+                return VF2State.NULL_NODE;
+            }
+            int[] c = candidates[d];
+            return c == null ? position[d]++ : c[position[d]++];
+        }
+
+        private boolean isFeasiblePair(int d, int v)
+        {
+            if (core1[v] != VF2State.NULL_NODE) {
+                return false;
+            }
+
+            // degrees and number of already matched neighbors
+            if (out1[v].length < outDegree2[d] || outCount[v] != backOut[d].length) {
+                return false;
+            }
+            if (directed && (in1[v].length < inDegree2[d] || inCount[v] != backIn[d].length)) {
+                return false;
+            }
+
+            int u = order[d];
+            if (!areCompatibleVertexes(v, u)) {
+                return false;
+            }
+            if (loop2[d] != hasEdge1(v, v) || (loop2[d] && !areCompatibleEdges(v, v, u, u))) {
+                return false;
+            }
+
+            // edges towards already matched vertices
+            for (int w : backOut[d]) {
+                int x = core2[w];
+                if (!hasEdge1(v, x) || !areCompatibleEdges(v, x, u, w)) {
+                    return false;
+                }
+            }
+            if (directed) {
+                for (int w : backIn[d]) {
+                    int x = core2[w];
+                    if (!hasEdge1(x, v) || !areCompatibleEdges(x, v, w, u)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void addPair(int d, int v)
+        {
+            int u = order[d];
+            core1[v] = u;
+            core2[u] = v;
+            for (int x : in1[v]) {
+                outCount[x]++;
+            }
+            if (directed) {
+                for (int x : out1[v]) {
+                    inCount[x]++;
+                }
+            }
+        }
+
+        private void removePair(int d)
+        {
+            int u = order[d];
+            int v = core2[u];
+            core1[v] = VF2State.NULL_NODE;
+            core2[u] = VF2State.NULL_NODE;
+            for (int x : in1[v]) {
+                outCount[x]--;
+            }
+            if (directed) {
+                for (int x : out1[v]) {
+                    inCount[x]--;
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of candidates for the first vertex of the order, together with the search over it and
+     * the mappings found but not yet returned.
+     */
+    private class Range
+    {
+        private final State state;
+        private final ArrayDeque<IsomorphicGraphMapping<V, E>> buffer;
+        private boolean exhausted;
+
+        Range(State state)
+        {
+            this.state = state;
+            this.buffer = new ArrayDeque<>();
+        }
+
+        /**
+         * Continue the search until the buffer is full or the range is exhausted.
+         */
+        void fill()
+        {
+            while (!exhausted && buffer.size() < MAX_BUFFERED_MAPPINGS) {
+                if (state.next()) {
+                    buffer.add(state.getCurrentMapping());
+                } else {
+                    exhausted = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the buffers of a list of ranges, one range per subtask.
+     */
+    private class FillTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 4181839427014628447L;
+
+        private final List<Range> ranges;
+        private final int from, to;
+
+        FillTask(List<Range> ranges, int from, int to)
+        {
+            this.ranges = ranges;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                ranges.get(from).fill();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FillTask(ranges, from, mid), new FillTask(ranges, mid, to));
+        }
+    }
+}
+
+// End VF2PPSubgraphMappingIterator.java
@@ -20,6 +20,7 @@ package org.jgrapht.alg.isomorphism;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * This is an implementation of the VF2 algorithm using its feature of detecting subgraph
@@ -45,6 +46,13 @@ import java.util.*;
  * algorithm is equivalent to running {@link VF2GraphIsomorphismInspector}.
  *
  * <p>
+ * The matching itself uses the candidate ordering of VF2++ and works on primitive adjacency arrays
+ * of both graphs which are computed once per call of {@link #getMappings()}. Optionally, the
+ * candidates for the first matched vertex can be explored in parallel using a
+ * {@link ForkJoinPool}, in which case the comparators must be safe to use from multiple threads.
+ * The mappings are returned in the same order as in the sequential case.
+ *
+ * <p>
  * This implementation of the VF2 algorithm does not support graphs with multiple (parallel) edges.
  *
  * @param <V> the type of the vertices
@@ -54,6 +62,27 @@ public class VF2SubgraphIsomorphismInspector<V, E>
     extends
     VF2AbstractIsomorphismInspector<V, E>
 {
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new VF2 subgraph isomorphism inspector which explores the search space in
+     * parallel.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param vertexComparator comparator for semantic equivalence of vertices
+     * @param edgeComparator comparator for semantic equivalence of edges
+     * @param cacheEdges if true, edges get cached for faster access
+     * @param pool the pool used to explore the candidates of the first matched vertex, if null
+     *        the search is sequential
+     */
+    public VF2SubgraphIsomorphismInspector(
+        Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator, boolean cacheEdges, ForkJoinPool pool)
+    {
+        super(graph1, graph2, vertexComparator, edgeComparator, cacheEdges);
+        this.pool = pool;
+    }
 
     /**
      * Construct a new VF2 subgraph isomorphism inspector.
@@ -68,7 +97,7 @@ public class VF2SubgraphIsomorphismInspector<V, E>
         Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
         Comparator<E> edgeComparator, boolean cacheEdges)
     {
-        super(graph1, graph2, vertexComparator, edgeComparator, cacheEdges);
+        this(graph1, graph2, vertexComparator, edgeComparator, cacheEdges, null);
     }
 
     /**
@@ -83,7 +112,7 @@ public class VF2SubgraphIsomorphismInspector<V, E>
         Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
         Comparator<E> edgeComparator)
     {
-        super(graph1, graph2, vertexComparator, edgeComparator, true);
+        this(graph1, graph2, vertexComparator, edgeComparator, true, null);
     }
 
     /**
@@ -96,7 +125,7 @@ public class VF2SubgraphIsomorphismInspector<V, E>
     public VF2SubgraphIsomorphismInspector(
         Graph<V, E> graph1, Graph<V, E> graph2, boolean cacheEdges)
     {
-        super(graph1, graph2, null, null, cacheEdges);
+        this(graph1, graph2, null, null, cacheEdges, null);
     }
 
     /**
@@ -107,14 +136,14 @@ public class VF2SubgraphIsomorphismInspector<V, E>
      */
     public VF2SubgraphIsomorphismInspector(Graph<V, E> graph1, Graph<V, E> graph2)
     {
-        super(graph1, graph2, true);
+        this(graph1, graph2, null, null, true, null);
     }
 
     @Override
-    public VF2SubgraphMappingIterator<V, E> getMappings()
+    public Iterator<GraphMapping<V, E>> getMappings()
     {
-        return new VF2SubgraphMappingIterator<>(
-            ordering1, ordering2, vertexComparator, edgeComparator);
+        return new VF2PPSubgraphMappingIterator<>(
+            ordering1, ordering2, vertexComparator, edgeComparator, pool);
     }
 }
 
@@ -0,0 +1,217 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Computes a Weisfeiler-Lehman graph hash using color refinement.
+ *
+ * <p>
+ * Every vertex starts with a hash of its color. In each iteration the hash of a vertex is replaced
+ * by a hash of its current value and the sorted multiset of the hashes of its neighbors, where
+ * directed graphs distinguish between outgoing and incoming neighbors. The refinement stops after
+ * the given number of iterations or once the number of distinct vertex hashes no longer
+ * increases. The graph hash combines the sorted multiset of the final vertex hashes.
+ *
+ * <p>
+ * Isomorphic graphs always have the same hash, but the converse does not hold: for instance all
+ * regular graphs with the same number of vertices and the same degree get the same hash. The hash
+ * is therefore a pre-filter: graphs with different hashes are not isomorphic, while graphs with
+ * equal hashes must be compared with {@link CanonicalLabeling} or
+ * {@link VF2GraphIsomorphismInspector}. Each iteration runs in $O(n + m \log m)$ time.
+ *
+ * <p>
+ * The hash only depends on the structure of the graph and the vertex colors and is stable across
+ * JVM instances.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class WeisfeilerLehmanGraphHash<V, E>
+{
+    private final Graph<V, E> graph;
+    private final ToIntFunction<V> vertexColor;
+    private final int iterations;
+
+    private Map<V, Long> vertexHashes;
+    private long hash;
+
+    /**
+     * Create a new hash algorithm which refines until the vertex hashes are stable.
+     *
+     * @param graph the input graph
+     */
+    public WeisfeilerLehmanGraphHash(Graph<V, E> graph)
+    {
+        this(graph, v -> 0);
+    }
+
+    /**
+     * Create a new hash algorithm for a vertex colored graph which refines until the vertex hashes
+     * are stable.
+     *
+     * @param graph the input graph
+     * @param vertexColor the color of each vertex
+     */
+    public WeisfeilerLehmanGraphHash(Graph<V, E> graph, ToIntFunction<V> vertexColor)
+    {
+        this(graph, vertexColor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a new hash algorithm for a vertex colored graph.
+     *
+     * @param graph the input graph
+     * @param vertexColor the color of each vertex
+     * @param iterations the maximum number of refinement iterations
+     */
+    public WeisfeilerLehmanGraphHash(
+        Graph<V, E> graph, ToIntFunction<V> vertexColor, int iterations)
+    {
+        this.graph = GraphTests.requireDirectedOrUndirected(graph);
+        this.vertexColor = Objects.requireNonNull(vertexColor, "Vertex color cannot be null");
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Number of iterations must be non-negative");
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Get the hash of the graph.
+     *
+     * @return the hash of the graph
+     */
+    public long getHash()
+    {
+        lazyCompute();
+        return hash;
+    }
+
+    /**
+     * Get the hashes of the vertices after the last refinement iteration.
+     *
+     * @return the hash of each vertex
+     */
+    public Map<V, Long> getVertexHashes()
+    {
+        lazyCompute();
+        return vertexHashes;
+    }
+
+    private void lazyCompute()
+    {
+        if (vertexHashes != null) {
+            return;
+        }
+
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = IntAdjacency.index(vertices);
+        int n = vertices.size();
+        boolean directed = graph.getType().isDirected();
+        int[][] out = IntAdjacency.outgoing(graph, index);
+        int[][] in = directed ? IntAdjacency.incoming(graph, index) : null;
+
+        long[] colors = new long[n];
+        for (int i = 0; i < n; i++) {
+            colors[i] = mix(0x51afd7ed558ccdL, vertexColor.applyAsInt(vertices.get(i)));
+        }
+        int distinct = countDistinct(colors);
+
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, out[v].length);
+            if (in != null) {
+                maxDegree = Math.max(maxDegree, in[v].length);
+            }
+        }
+        long[] buffer = new long[maxDegree];
+
+        for (int it = 0; it < iterations && n > 0; it++) {
+            long[] next = new long[n];
+            for (int v = 0; v < n; v++) {
+                long h = mix(colors[v], out[v].length);
+                h = mixNeighbors(h, out[v], colors, buffer);
+                if (in != null) {
+                    h = mix(h, in[v].length);
+                    h = mixNeighbors(h, in[v], colors, buffer);
+                }
+                next[v] = h;
+            }
+            colors = next;
+
+            int nextDistinct = countDistinct(colors);
+            if (nextDistinct == distinct) {
+                break;
+            }
+            distinct = nextDistinct;
+        }
+
+        Map<V, Long> result = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            result.put(vertices.get(i), colors[i]);
+        }
+        vertexHashes = Collections.unmodifiableMap(result);
+
+        long[] sorted = colors.clone();
+        Arrays.sort(sorted);
+        long h = mix(mix(n, graph.edgeSet().size()), directed ? 1 : 0);
+        for (long c : sorted) {
+            h = mix(h, c);
+        }
+        hash = h;
+    }
+
+    private static long mixNeighbors(long h, int[] neighbors, long[] colors, long[] buffer)
+    {
+        for (int i = 0; i < neighbors.length; i++) {
+            buffer[i] = colors[neighbors[i]];
+        }
+        Arrays.sort(buffer, 0, neighbors.length);
+        for (int i = 0; i < neighbors.length; i++) {
+            h = mix(h, buffer[i]);
+        }
+        return h;
+    }
+
+    private static int countDistinct(long[] values)
+    {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private static long mix(long h, long x)
+    {
+        h = (h ^ x) * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 31;
+        h *= 0xbf58476d1ce4e5b9L;
+        return h ^ (h >>> 29);
+    }
+}
+
+// End WeisfeilerLehmanGraphHash.java
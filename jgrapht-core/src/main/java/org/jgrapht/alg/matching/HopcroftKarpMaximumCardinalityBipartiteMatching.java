@@ -19,9 +19,10 @@ package org.jgrapht.alg.matching;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Implementation of the well-known Hopcroft Karp algorithm to compute a matching of maximum
@@ -38,6 +39,13 @@ import java.util.*;
  * augmented along all discovered augmenting paths simultaneously.
  *
  * <p>
+ * The graph is copied into primitive adjacency arrays and the matching is kept in {@code int[]}
+ * arrays, starting from a greedy matching. The Breadth First Search proceeds level by level and
+ * the Depth First Search is iterative, with a pointer to the next edge of every vertex, thus long
+ * augmenting paths do not overflow the stack. If a {@link ForkJoinPool} is given, the vertices of
+ * each level of the Breadth First Search are processed in parallel.
+ *
+ * <p>
  * The original algorithm is described in: Hopcroft, John E.; Karp, Richard M. (1973), "An n5/2
  * algorithm for maximum matchings in bipartite graphs", SIAM Journal on Computing 2 (4): 225–231,
  * doi:10.1137/0202019 A coarse overview of the algorithm is given in: <a href=
@@ -53,31 +61,44 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
     implements
     MatchingAlgorithm<V, E>
 {
+    /* Minimum number of vertices of a level which are processed by a single task */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /* Infinity */
+    private static final int INF = Integer.MAX_VALUE;
 
     private final Graph<V, E> graph;
     private final Set<V> partition1;
     private final Set<V> partition2;
+    private final ForkJoinPool pool;
 
-    /* Ordered list of vertices */
-    private List<V> vertices;
-    /* Mapping of a vertex to their unique position in the ordered list of vertices */
-    private Map<V, Integer> vertexIndexMap;
+    /* Number of vertices in partition 1 */
+    private int n1;
 
-    /* Number of matched vertices i partition 1. */
-    private int matchedVertices;
+    /* Adjacency of the vertices of partition 1, neighbors are numbered from 0 in partition 2 */
+    private int[] start;
+    private int[] neighbor;
+    private List<E> edges;
 
-    /* Dummy vertex. All vertices are initially matched against this dummy vertex */
-    private final int DUMMY = 0;
-    /* Infinity */
-    private final int INF = Integer.MAX_VALUE;
+    /* The matching, as positions in the adjacency for partition 1 and as mates for partition 2 */
+    private int[] matchedEdge;
+    private int[] mate;
+
+    /* Number of matched vertices in partition 1. */
+    private int matchedVertices;
 
-    /* Array keeping track of the matching. */
-    private int[] matching;
-    /* Distance array. Used to compute shoretest augmenting paths */
+    /* Distance array. Used to compute shortest augmenting paths */
     private int[] dist;
+    /* Length of the shortest augmenting path */
+    private int limit;
 
-    /* queue used for breadth first search */
-    private FixedSizeIntegerQueue queue;
+    /* Levels of the breadth first search */
+    private int[] frontier;
+    private int[] next;
+    private AtomicInteger nextSize;
+    private AtomicIntegerArray visited;
+    private int phase;
+    private volatile boolean found;
 
     /**
      * Constructs a new instance of the Hopcroft Karp bipartite matching algorithm. The input graph
@@ -91,6 +112,25 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
      */
     public HopcroftKarpMaximumCardinalityBipartiteMatching(
         Graph<V, E> graph, Set<V> partition1, Set<V> partition2)
+    {
+        this(graph, partition1, partition2, null);
+    }
+
+    /**
+     * Constructs a new instance of the Hopcroft Karp bipartite matching algorithm which executes
+     * the levels of the Breadth First Search in parallel. The input graph must be bipartite. For
+     * efficiency reasons, this class does not check whether the input graph is bipartite. Invoking
+     * this class on a non-bipartite graph results in undefined behavior. To test whether a graph
+     * is bipartite, use {@link GraphTests#isBipartite(Graph)}.
+     * 
+     * @param graph bipartite graph
+     * @param partition1 the first partition of vertices in the bipartite graph
+     * @param partition2 the second partition of vertices in the bipartite graph
+     * @param pool the pool used to execute the Breadth First Search, or null to execute it
+     *        sequentially
+     */
+    public HopcroftKarpMaximumCardinalityBipartiteMatching(
+        Graph<V, E> graph, Set<V> partition1, Set<V> partition2, ForkJoinPool pool)
     {
         this.graph = GraphTests.requireUndirected(graph);
 
@@ -102,6 +142,7 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
             this.partition1 = partition2;
             this.partition2 = partition1;
         }
+        this.pool = pool;
     }
 
     /**
@@ -109,17 +150,46 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
      */
     private void init()
     {
-        vertices = new ArrayList<>();
-        vertices.add(null);
-        vertices.addAll(partition1);
-        vertices.addAll(partition2);
-        vertexIndexMap = new HashMap<>();
-        for (int i = 0; i < vertices.size(); i++)
-            vertexIndexMap.put(vertices.get(i), i);
-
-        matching = new int[vertices.size() + 1];
-        dist = new int[partition1.size() + 1];
-        queue = new FixedSizeIntegerQueue(vertices.size());
+        n1 = partition1.size();
+        Map<V, Integer> partition2Index = new HashMap<>();
+        for (V v : partition2) {
+            partition2Index.put(v, partition2Index.size());
+        }
+
+        // edges leaving the partitions are ignored
+        start = new int[n1 + 1];
+        neighbor = new int[Math.max(16, n1)];
+        edges = new ArrayList<>();
+        int u = 0;
+        for (V uOrig : partition1) {
+            int k = start[u];
+            for (E e : graph.edgesOf(uOrig)) {
+                Integer v = partition2Index.get(Graphs.getOppositeVertex(graph, e, uOrig));
+                if (v == null) {
+                    continue;
+                }
+                if (k == neighbor.length) {
+                    neighbor = Arrays.copyOf(neighbor, 2 * k);
+                }
+                neighbor[k++] = v;
+                edges.add(e);
+            }
+            start[++u] = k;
+        }
+
+        matchedEdge = new int[n1];
+        Arrays.fill(matchedEdge, -1);
+        mate = new int[partition2.size()];
+        Arrays.fill(mate, -1);
+        matchedVertices = 0;
+        dist = new int[n1];
+        frontier = new int[n1];
+        next = new int[n1];
+        nextSize = new AtomicInteger();
+        if (pool != null) {
+            visited = new AtomicIntegerArray(n1);
+        }
+        phase = 0;
     }
 
     /**
@@ -127,14 +197,12 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
      */
     private void warmStart()
     {
-        for (V uOrig : partition1) {
-            int u = vertexIndexMap.get(uOrig);
-
-            for (V vOrig : Graphs.neighborListOf(graph, uOrig)) {
-                int v = vertexIndexMap.get(vOrig);
-                if (matching[v] == DUMMY) {
-                    matching[v] = u;
-                    matching[u] = v;
+        for (int u = 0; u < n1; u++) {
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                int v = neighbor[i];
+                if (mate[v] == -1) {
+                    mate[v] = u;
+                    matchedEdge[u] = i;
                     matchedVertices++;
                     break;
                 }
@@ -144,62 +212,122 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
 
     /**
      * BFS function which finds the shortest augmenting path. The length of the shortest augmenting
-     * path is stored in dist[DUMMY].
+     * path is stored in limit.
      * 
      * @return true if an augmenting path was found, false otherwise
      */
     private boolean bfs()
     {
-        queue.clear();
-
-        for (int u = 1; u <= partition1.size(); u++)
-            if (matching[u] == DUMMY) { // Add all unmatched vertices to the queue and set their
-                                        // distance to 0
+        int size = 0;
+        for (int u = 0; u < n1; u++) {
+            if (matchedEdge[u] == -1) { // Add all unmatched vertices to the first level
                 dist[u] = 0;
-                queue.enqueue(u);
-            } else // Set distance of all matched vertices to INF
+                frontier[size++] = u;
+            } else { // Set distance of all matched vertices to INF
                 dist[u] = INF;
-        dist[DUMMY] = INF;
-
-        while (!queue.isEmpty()) {
-            int u = queue.poll();
-            if (dist[u] < dist[DUMMY])
-                for (V vOrig : Graphs.neighborListOf(graph, vertices.get(u))) {
-                    int v = vertexIndexMap.get(vOrig);
-                    if (dist[matching[v]] == INF) {
-                        dist[matching[v]] = dist[u] + 1;
-                        queue.enqueue(matching[v]);
+            }
+        }
+        phase++;
+        found = false;
+
+        // stop after the first level which reaches an unmatched vertex
+        int level = 0;
+        while (size > 0 && !found) {
+            nextSize.set(0);
+            if (pool == null || size <= SEQUENTIAL_THRESHOLD) {
+                expand(0, size, level);
+            } else {
+                pool.invoke(new LevelTask(0, size, level));
+            }
+            int[] tmp = frontier;
+            frontier = next;
+            next = tmp;
+            size = nextSize.get();
+            level++;
+        }
+        limit = level;
+        return found; // Return true if an augmenting path is found
+    }
+
+    /**
+     * Expand the vertices of the current level in a range and collect the next level.
+     */
+    private void expand(int from, int to, int level)
+    {
+        int[] local = new int[Math.min(to - from, 64)];
+        int count = 0;
+        for (int j = from; j < to; j++) {
+            int u = frontier[j];
+            for (int i = start[u]; i < start[u + 1]; i++) {
+                int w = mate[neighbor[i]];
+                if (w == -1) {
+                    found = true;
+                } else if (dist[w] == INF && claim(w)) {
+                    dist[w] = level + 1;
+                    if (count == local.length) {
+                        local = Arrays.copyOf(local, 2 * count);
                     }
+                    local[count++] = w;
                 }
+            }
+        }
+        if (count > 0) {
+            System.arraycopy(local, 0, next, nextSize.getAndAdd(count), count);
         }
-        return dist[DUMMY] != INF; // Return true if an augmenting path is found
     }
 
     /**
-     * Find all vertex disjoint augmenting paths of length dist[DUMMY]. To find paths of dist[DUMMY]
-     * length, we simply follow nodes that are 1 distance increments away from each other.
+     * Claim a vertex for the next level. In parallel mode several tasks may reach the same vertex.
+     */
+    private boolean claim(int w)
+    {
+        if (visited == null) {
+            return true;
+        }
+        int stamp = visited.get(w);
+        return stamp != phase && visited.compareAndSet(w, stamp, phase);
+    }
+
+    /**
+     * Find an augmenting path of length limit starting from an unmatched vertex, following
+     * vertices whose distances increase by one, and augment the matching along it. Every vertex
+     * keeps a pointer to its next unexplored edge, and vertices from which no augmenting path
+     * exists get distance INF, so that they are not visited again.
      * 
-     * @param u vertex from which the DFS is started
-     * @return true if an augmenting path from vertex u was found, false otherwise
+     * @param root unmatched vertex from which the DFS is started
+     * @param it next unexplored edge of every vertex
+     * @param stack vertices of the current path
+     * @return true if an augmenting path from root was found, false otherwise
      */
-    private boolean dfs(int u)
+    private boolean dfs(int root, int[] it, int[] stack)
     {
-        if (u != DUMMY) {
-            for (V vOrig : Graphs.neighborListOf(graph, vertices.get(u))) {
-                int v = vertexIndexMap.get(vOrig);
-                if (dist[matching[v]] == dist[u] + 1)
-                    if (dfs(matching[v])) {
-                        matching[v] = u;
-                        matching[u] = v;
-                        return true;
+        int depth = 0;
+        stack[0] = root;
+        while (depth >= 0) {
+            int u = stack[depth];
+            if (it[u] == start[u + 1]) {
+                dist[u] = INF;
+                depth--;
+                continue;
+            }
+            int i = it[u]++;
+            int w = mate[neighbor[i]];
+            if (w == -1) {
+                if (dist[u] + 1 == limit) {
+                    // augment, the last edge of every vertex on the path is its new matched edge
+                    for (int d = depth; d >= 0; d--) {
+                        int x = stack[d];
+                        int e = it[x] - 1;
+                        matchedEdge[x] = e;
+                        mate[neighbor[e]] = x;
                     }
+                    return true;
+                }
+            } else if (dist[w] == dist[u] + 1) {
+                stack[++depth] = w;
             }
-            // No augmenting path has been found. Set distance of u to INF to ensure that u isn't
-            // visited again.
-            dist[u] = INF;
-            return false;
         }
-        return true;
+        return false;
     }
 
     @Override
@@ -208,21 +336,57 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatching<V, E>
         this.init();
         this.warmStart();
 
-        while (matchedVertices < partition1.size() && bfs()) {
+        int[] it = new int[n1];
+        int[] stack = new int[n1];
+        while (matchedVertices < n1 && bfs()) {
+            System.arraycopy(start, 0, it, 0, n1);
             // Greedily search for vertex disjoint augmenting paths
-            for (int v = 1; v <= partition1.size() && matchedVertices < partition1.size(); v++)
-                if (matching[v] == DUMMY) // v is unmatched
-                    if (dfs(v))
+            for (int u = 0; u < n1 && matchedVertices < n1; u++)
+                if (matchedEdge[u] == -1 && dist[u] == 0) // u is unmatched
+                    if (dfs(u, it, stack))
                         matchedVertices++;
         }
-        assert matchedVertices <= partition1.size();
+        assert matchedVertices <= n1;
+
+        Set<E> matching = new HashSet<>();
+        for (int u = 0; u < n1; u++) {
+            if (matchedEdge[u] != -1) {
+                matching.add(edges.get(matchedEdge[u]));
+            }
+        }
+        return new MatchingImpl<>(graph, matching, matching.size());
+    }
+
+    /**
+     * Expands a range of the current level of the Breadth First Search. A vertex of the next level
+     * is claimed by exactly one task.
+     */
+    private class LevelTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 3905187297658226581L;
+
+        private final int from;
+        private final int to;
+        private final int level;
+
+        LevelTask(int from, int to, int level)
+        {
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
 
-        Set<E> edges = new HashSet<>();
-        for (int i = 0; i < vertices.size(); i++) {
-            if (matching[i] != DUMMY) {
-                edges.add(graph.getEdge(vertices.get(i), vertices.get(matching[i])));
+        @Override
+        protected void compute()
+        {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                expand(from, to, level);
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LevelTask(from, mid, level), new LevelTask(mid, to, level));
         }
-        return new MatchingImpl<>(graph, edges, edges.size());
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The parallel suitor algorithm for computing a $\frac{1}{2}$-approximation of a maximum weight
+ * matching in an arbitrary graph.
+ *
+ * <p>
+ * An edge is locally dominant if it is heavier than all other edges at its endpoints. Matching
+ * locally dominant edges and removing their endpoints until no edges remain yields the same
+ * matching as {@link GreedyWeightedMatching}, which is a $\frac{1}{2}$-approximation, but the
+ * edges do not need to be sorted. In the suitor algorithm every vertex proposes to the neighbor
+ * with the heaviest edge whose current suitor has a lighter edge. If the neighbor already had a
+ * suitor, the previous suitor is displaced and proposes again. At the end two vertices which are
+ * suitors of each other are matched. See:
+ * <ul>
+ * <li>R. Preis, Linear Time $\frac{1}{2}$-Approximation Algorithm for Maximum Weighted Matching in
+ * General Graphs. Symposium on Theoretical Aspects of Computer Science, 259-269, 1999.</li>
+ * <li>F. Manne and M. Halappanavar, New Effective Multithreaded Matching Algorithms. IEEE 28th
+ * International Parallel and Distributed Processing Symposium, 519-528, 2014.</li>
+ * </ul>
+ *
+ * <p>
+ * The graph is copied into primitive arrays and the proposals of all vertices are made in parallel
+ * on a {@link ForkJoinPool}. The suitor of every vertex is stored as an edge in an atomic array and
+ * replaced using compare-and-set, thus no locks are used. Edges with equal weights are ordered by
+ * the positions of their endpoints in the vertex set of the graph, thus the result does not depend
+ * on the scheduling. Contrary to {@link GreedyWeightedMatching}, edge weights are compared exactly
+ * and not with a tolerance. This implementation accepts directed and undirected graphs which may
+ * contain self-loops and multiple (parallel) edges. Edges with non-positive weight are never
+ * matched.
+ *
+ * @see GreedyWeightedMatching
+ * @see PathGrowingWeightedMatching
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class SuitorWeightedMatching<V, E>
+    implements
+    MatchingAlgorithm<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a new instance of the suitor matching algorithm which uses the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public SuitorWeightedMatching(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance of the suitor matching algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to make the proposals in parallel
+     */
+    public SuitorWeightedMatching(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        if (graph == null) {
+            throw new IllegalArgumentException("Input graph cannot be null");
+        }
+        this.graph = graph;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Get a matching that is a $\frac{1}{2}$-approximation of the maximum weighted matching.
+     *
+     * @return a matching
+     */
+    @Override
+    public Matching<V, E> getMatching()
+    {
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.ALL);
+        int n = adjacency.getVertexCount();
+        Proposals proposals = new Proposals(
+            adjacency.getStart(), adjacency.computeSources(), adjacency.getTarget(),
+            adjacency.getWeight());
+        pool.invoke(proposals.new ProposeTask(0, n));
+
+        double matchingWeight = 0d;
+        Set<E> matching = new HashSet<>();
+        for (int v = 0; v < n; v++) {
+            int e = proposals.suitor.get(v);
+            if (e == -1) {
+                continue;
+            }
+            int u = proposals.source[e];
+            int f = proposals.suitor.get(u);
+            if (v < u && f != -1 && proposals.source[f] == v) {
+                matching.add(adjacency.getEdge(e));
+                matchingWeight += proposals.weight[e];
+            }
+        }
+        return new MatchingImpl<>(graph, matching, matchingWeight);
+    }
+
+    /**
+     * The suitors of all vertices. The suitor of a vertex is stored as the position of the edge
+     * to the vertex in the range of the suitor.
+     */
+    private static class Proposals
+    {
+        private final int[] start;
+        private final int[] source;
+        private final int[] target;
+        private final double[] weight;
+        private final AtomicIntegerArray suitor;
+
+        Proposals(int[] start, int[] source, int[] target, double[] weight)
+        {
+            this.start = start;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            int n = start.length - 1;
+            this.suitor = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                suitor.set(v, -1);
+            }
+        }
+
+        /*
+         * Whether edge e is heavier than edge f, where -1 denotes no edge. Edges of equal weight
+         * are ordered by their endpoints, which does not depend on the side an edge is seen from.
+         */
+        private boolean heavier(int e, int f)
+        {
+            if (f == -1 || weight[e] > weight[f]) {
+                return true;
+            }
+            if (weight[e] < weight[f]) {
+                return false;
+            }
+            int e1 = Math.min(source[e], target[e]);
+            int f1 = Math.min(source[f], target[f]);
+            if (e1 != f1) {
+                return e1 > f1;
+            }
+            return Math.max(source[e], target[e]) > Math.max(source[f], target[f]);
+        }
+
+        /*
+         * Let a vertex propose, and let every displaced suitor propose again.
+         */
+        void propose(int u)
+        {
+            int current = u;
+            while (current != -1) {
+                int best = -1;
+                int partner = -1;
+                for (int e = start[current]; e < start[current + 1]; e++) {
+                    int v = target[e];
+                    if (v == current || weight[e] <= 0d) {
+                        continue;
+                    }
+                    if (heavier(e, suitor.get(v)) && (best == -1 || heavier(e, best))) {
+                        best = e;
+                        partner = v;
+                    }
+                }
+                if (best == -1) {
+                    return;
+                }
+                int previous = suitor.get(partner);
+                if (!heavier(best, previous)) {
+                    // a heavier suitor arrived in the meantime, search again
+                    continue;
+                }
+                if (suitor.compareAndSet(partner, previous, best)) {
+                    current = previous == -1 ? -1 : source[previous];
+                }
+            }
+        }
+
+        /**
+         * Lets every vertex of a range propose. A vertex displaced by a proposal proposes again
+         * in the task which displaced it.
+         */
+        private class ProposeTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 7437528134963154816L;
+
+            private final int from;
+            private final int to;
+
+            ProposeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    for (int u = from; u < to; u++) {
+                        propose(u);
+                    }
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new ProposeTask(from, mid), new ProposeTask(mid, to));
+            }
+        }
+    }
+}
+
+// End SuitorWeightedMatching.java
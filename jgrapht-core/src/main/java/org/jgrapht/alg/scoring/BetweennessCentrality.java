@@ -68,6 +68,10 @@ public class BetweennessCentrality<V, E>
      * The actual scores
      */
     private Map<V, Double> scores;
+    /**
+     * The queue for weighted graphs, reused for all sources
+     */
+    private WeightedQueue weightedQueue;
 
     /**
      * Construct a new instance.
@@ -131,7 +135,9 @@ public class BetweennessCentrality<V, E>
         this.graph.vertexSet().forEach(v -> this.scores.put(v, 0.0));
 
         // compute for each source
+        this.weightedQueue = new WeightedQueue();
         this.graph.vertexSet().forEach(this::compute);
+        this.weightedQueue = null;
 
         // For undirected graph, divide scores by two as each shortest path
         // considered twice.
@@ -166,7 +172,7 @@ public class BetweennessCentrality<V, E>
         distance.put(s, 0.0);
 
         MyQueue<V, Double> queue =
-            this.graph.getType().isWeighted() ? new WeightedQueue() : new UnweightedQueue();
+            this.graph.getType().isWeighted() ? weightedQueue : new UnweightedQueue();
         queue.insert(s, 0.0);
 
         // 1. compute the length and the number of shortest paths between all s to v
@@ -228,30 +234,40 @@ public class BetweennessCentrality<V, E>
         MyQueue<V, Double>
     {
 
-        FibonacciHeap<V> delegate = new FibonacciHeap<>();
-        Map<V, FibonacciHeapNode<V>> seen = new HashMap<>();
+        Map<V, Integer> index = new HashMap<>();
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        IntDoubleHeap delegate =
+            new DaryIntDoubleHeap(DaryIntDoubleHeap.DEFAULT_ARITY, vertices.size());
+
+        WeightedQueue()
+        {
+            for (V v : vertices) {
+                index.put(v, index.size());
+            }
+        }
 
         @Override
         public void insert(V t, Double d)
         {
-            FibonacciHeapNode<V> node = new FibonacciHeapNode<>(t);
-            delegate.insert(node, d);
-            seen.put(t, node);
+            delegate.insert(index.get(t), d);
         }
 
         @Override
         public void update(V t, Double d)
         {
-            if (!seen.containsKey(t)) {
+            Integer i = index.get(t);
+            if (i == null) {
                 throw new IllegalArgumentException("Element " + t + " does not exist in queue");
             }
-            delegate.decreaseKey(seen.get(t), d);
+            if (delegate.contains(i) && d < delegate.getKey(i)) {
+                delegate.decreaseKey(i, d);
+            }
         }
 
         @Override
         public V remove()
         {
-            return delegate.removeMin().getData();
+            return vertices.get(delegate.deleteMin());
         }
 
         @Override
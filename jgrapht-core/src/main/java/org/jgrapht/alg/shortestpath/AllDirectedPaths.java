@@ -80,6 +80,50 @@ public class AllDirectedPaths<V, E>
     public List<GraphPath<V, E>> getAllPaths(
         Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
         Integer maxPathLength)
+    {
+        List<GraphPath<V, E>> completePaths = new ArrayList<>();
+        getAllPathsIterator(sourceVertices, targetVertices, simplePathsOnly, maxPathLength)
+            .forEachRemaining(completePaths::add);
+        return completePaths;
+    }
+
+    /**
+     * Get an iterator over all paths from the source vertex to the target vertex. The paths are
+     * generated lazily while iterating, thus the enumeration can be stopped at any time.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered, which may be very slow due to potentially huge output)
+     * @return an iterator over all paths from the source vertex to the target vertex
+     */
+    public Iterator<GraphPath<V, E>> getAllPathsIterator(
+        V sourceVertex, V targetVertex, boolean simplePathsOnly, Integer maxPathLength)
+    {
+        return getAllPathsIterator(
+            Collections.singleton(sourceVertex), Collections.singleton(targetVertex),
+            simplePathsOnly, maxPathLength);
+    }
+
+    /**
+     * Get an iterator over all paths from the source vertices to the target vertices. The paths
+     * are generated lazily while iterating, in the same order as returned by
+     * {@link #getAllPaths(Set, Set, boolean, Integer)}. Only the paths which still need to be
+     * extended are kept in memory, thus the enumeration can be stopped at any time.
+     *
+     * @param sourceVertices the source vertices
+     * @param targetVertices the target vertices
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered, which may be very slow due to potentially huge output)
+     *
+     * @return an iterator over all paths from the sources to the targets containing no more than
+     *         maxPathLength edges
+     */
+    public Iterator<GraphPath<V, E>> getAllPathsIterator(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength)
     {
         if ((maxPathLength != null) && (maxPathLength < 0)) {
             throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
@@ -91,7 +135,7 @@ public class AllDirectedPaths<V, E>
         }
 
         if ((sourceVertices.isEmpty()) || (targetVertices.isEmpty())) {
-            return Collections.emptyList();
+            return Collections.emptyIterator();
         }
 
         // Decorate the edges with the minimum path lengths through them
@@ -100,7 +144,7 @@ public class AllDirectedPaths<V, E>
 
         // Generate all the paths
 
-        return generatePaths(
+        return new PathIterator(
             sourceVertices, targetVertices, simplePathsOnly, maxPathLength,
             edgeMinDistancesFromTargets);
     }
@@ -177,63 +221,97 @@ public class AllDirectedPaths<V, E>
 
     /**
      * Generate all paths from the sources to the targets, using pre-computed minimum distances.
-     *
-     * @param sourceVertices the source vertices
-     * @param targetVertices the target vertices
-     * @param maxPathLength maximum number of edges to allow in a path
-     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths (if null,
-     *        all edges will be considered, which may be expensive)
-     * @param edgeMinDistancesFromTargets the minimum number of edges in a path to a target through
-     *        each edge, as computed by {@code
-     * edgeMinDistancesBackwards}.
-     *
-     * @return a List of all GraphPaths from the sources to the targets satisfying the given
-     *         constraints
+     * The incomplete paths are expanded one at a time, each time the paths which reach a target
+     * are buffered until they have been returned.
      */
-    private List<GraphPath<V, E>> generatePaths(
-        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
-        Integer maxPathLength, Map<E, Integer> edgeMinDistancesFromTargets)
+    private class PathIterator
+        implements
+        Iterator<GraphPath<V, E>>
     {
-        /*
-         * We walk forwards through the network from the source vertices, exploring all outgoing
-         * edges whose minimum distances is small enough.
+        private final Set<V> sourceVertices;
+        private final Set<V> targetVertices;
+        private final boolean simplePathsOnly;
+        private final Integer maxPathLength;
+        private final Map<E, Integer> edgeMinDistancesFromTargets;
+
+        private final Deque<GraphPath<V, E>> completePaths;
+        private final Deque<List<E>> incompletePaths;
+
+        /**
+         * Create a new iterator.
+         *
+         * @param sourceVertices the source vertices
+         * @param targetVertices the target vertices
+         * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+         * @param maxPathLength maximum number of edges to allow in a path (if null, all edges
+         *        will be considered, which may be expensive)
+         * @param edgeMinDistancesFromTargets the minimum number of edges in a path to a target
+         *        through each edge, as computed by {@code edgeMinDistancesBackwards}.
          */
-        List<GraphPath<V, E>> completePaths = new ArrayList<>();
-        Deque<List<E>> incompletePaths = new LinkedList<>();
-
-        // Input sanity checking
-        if (maxPathLength != null && maxPathLength < 0) {
-            throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
-        }
+        PathIterator(
+            Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+            Integer maxPathLength, Map<E, Integer> edgeMinDistancesFromTargets)
+        {
+            this.sourceVertices = sourceVertices;
+            this.targetVertices = targetVertices;
+            this.simplePathsOnly = simplePathsOnly;
+            this.maxPathLength = maxPathLength;
+            this.edgeMinDistancesFromTargets = edgeMinDistancesFromTargets;
+
+            /*
+             * We walk forwards through the network from the source vertices, exploring all
+             * outgoing edges whose minimum distances is small enough.
+             */
+            this.completePaths = new ArrayDeque<>();
+            this.incompletePaths = new ArrayDeque<>();
+
+            // Bootstrap the search with the source vertices
+            for (V source : sourceVertices) {
+                if (targetVertices.contains(source)) {
+                    completePaths.add(GraphWalk.singletonWalk(graph, source, 0d));
+                }
 
-        // Bootstrap the search with the source vertices
-        for (V source : sourceVertices) {
-            if (targetVertices.contains(source)) {
-                completePaths.add(GraphWalk.singletonWalk(graph, source, 0d));
-            }
+                for (E edge : graph.outgoingEdgesOf(source)) {
+                    assert graph.getEdgeSource(edge).equals(source);
 
-            for (E edge : graph.outgoingEdgesOf(source)) {
-                assert graph.getEdgeSource(edge).equals(source);
+                    if (targetVertices.contains(graph.getEdgeTarget(edge))) {
+                        completePaths.add(makePath(Collections.singletonList(edge)));
+                    }
 
-                if (targetVertices.contains(graph.getEdgeTarget(edge))) {
-                    completePaths.add(makePath(Collections.singletonList(edge)));
+                    if (edgeMinDistancesFromTargets.containsKey(edge)
+                        && (maxPathLength == null || maxPathLength > 1))
+                    {
+                        List<E> path = Collections.singletonList(edge);
+                        incompletePaths.add(path);
+                    }
                 }
+            }
+        }
 
-                if (edgeMinDistancesFromTargets.containsKey(edge)
-                    && (maxPathLength == null || maxPathLength > 1))
-                {
-                    List<E> path = Collections.singletonList(edge);
-                    incompletePaths.add(path);
+        @Override
+        public boolean hasNext()
+        {
+            while (completePaths.isEmpty()) {
+                List<E> incompletePath = incompletePaths.poll();
+                if (incompletePath == null) {
+                    return false;
                 }
+                expand(incompletePath);
             }
+            return true;
         }
 
-        if (maxPathLength != null && maxPathLength == 0) {
-            return completePaths;
+        @Override
+        public GraphPath<V, E> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return completePaths.poll();
         }
 
-        // Walk through the queue of incomplete paths
-        for (List<E> incompletePath; (incompletePath = incompletePaths.poll()) != null;) {
+        private void expand(List<E> incompletePath)
+        {
             Integer lengthSoFar = incompletePath.size();
             assert (maxPathLength == null) || (lengthSoFar < maxPathLength);
 
@@ -252,14 +330,14 @@ public class AllDirectedPaths<V, E>
                 if (edgeMinDistancesFromTargets.containsKey(outEdge) && ((maxPathLength == null)
                     || ((edgeMinDistancesFromTargets.get(outEdge) + lengthSoFar) <= maxPathLength)))
                 {
-                    List<E> newPath = new ArrayList<>(incompletePath);
-                    newPath.add(outEdge);
-
                     // If requested, make sure this path isn't self-intersecting
                     if (simplePathsOnly && pathVertices.contains(graph.getEdgeTarget(outEdge))) {
                         continue;
                     }
 
+                    List<E> newPath = new ArrayList<>(incompletePath);
+                    newPath.add(outEdge);
+
                     // If this path reaches a target, add it to completePaths
                     if (targetVertices.contains(graph.getEdgeTarget(outEdge))) {
                         GraphPath<V, E> completePath = makePath(newPath);
@@ -281,9 +359,6 @@ public class AllDirectedPaths<V, E>
                 }
             }
         }
-
-        assert incompletePaths.isEmpty();
-        return completePaths;
     }
 
     /**
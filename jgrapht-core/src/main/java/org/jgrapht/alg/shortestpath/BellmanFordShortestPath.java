@@ -19,9 +19,12 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * The Bellman-Ford algorithm.
@@ -35,6 +38,15 @@ import java.util.*;
  * <p>
  * The running time is $O(|E||V|)$.
  *
+ * <p>
+ * Three modes are supported, see {@link Mode}. The default mode relaxes the edges of the updated
+ * vertices in rounds. The queue based mode is the SPFA variant which keeps the updated vertices in
+ * a FIFO queue and counts the number of edges on the tentative path of each vertex, thus a
+ * negative cycle is reported as soon as some path reaches $|V|$ edges. The parallel mode relaxes
+ * the edges of each round in parallel on a {@link ForkJoinPool} using primitive distance arrays
+ * with atomic minimum updates, and periodically inspects the predecessor graph for a cycle, which
+ * can only exist if the graph contains a negative cycle.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -44,7 +56,12 @@ public class BellmanFordShortestPath<V, E>
     extends
     BaseShortestPathAlgorithm<V, E>
 {
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+    private static final int NONE = -1;
+
     private final Comparator<Double> comparator;
+    private final Mode mode;
+    private final ForkJoinPool pool;
 
     /**
      * Construct a new instance.
@@ -63,9 +80,37 @@ public class BellmanFordShortestPath<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public BellmanFordShortestPath(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, Mode.ROUNDS);
+    }
+
+    /**
+     * Construct a new instance. The parallel mode uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param mode the mode of the algorithm
+     */
+    public BellmanFordShortestPath(Graph<V, E> graph, double epsilon, Mode mode)
+    {
+        this(graph, epsilon, mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param mode the mode of the algorithm
+     * @param pool the pool used by the parallel mode
+     */
+    public BellmanFordShortestPath(
+        Graph<V, E> graph, double epsilon, Mode mode, ForkJoinPool pool)
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.mode = Objects.requireNonNull(mode, "Mode cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     /**
@@ -91,6 +136,15 @@ public class BellmanFordShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        switch (mode) {
+        case QUEUE:
+            return new IndexedGraph().queue(source);
+        case PARALLEL:
+            return new IndexedGraph().parallel(source);
+        default:
+            break;
+        }
+
         /*
          * Initialize distance and predecessor.
          */
@@ -180,4 +234,311 @@ public class BellmanFordShortestPath<V, E>
     {
         return new BellmanFordShortestPath<>(graph).getPath(source, sink);
     }
+
+    /**
+     * The graph copied into primitive arrays. The outgoing edges of each vertex are stored in a
+     * contiguous range.
+     */
+    private class IndexedGraph
+    {
+        private final CompressedAdjacency<V, E> adjacency;
+        private final Map<V, Integer> vertexIndex;
+        private final int n;
+        private final int[] start;
+        private final int[] tail;
+        private final int[] target;
+        private final double[] weight;
+
+        IndexedGraph()
+        {
+            this.adjacency = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+            this.vertexIndex = adjacency.getVertexIndex();
+            this.n = adjacency.getVertexCount();
+            this.start = adjacency.getStart();
+            this.tail = adjacency.computeSources();
+            this.target = adjacency.getTarget();
+            this.weight = adjacency.getWeight();
+        }
+
+        /*
+         * The queue based variant. A vertex is in the queue at most once.
+         */
+        SingleSourcePaths<V, E> queue(V sourceVertex)
+        {
+            double[] dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            int[] pred = new int[n];
+            Arrays.fill(pred, NONE);
+            int[] length = new int[n];
+            boolean[] inQueue = new boolean[n];
+            int[] queue = new int[n];
+            int head = 0;
+            int size = 0;
+
+            int s = vertexIndex.get(sourceVertex);
+            dist[s] = 0d;
+            queue[0] = s;
+            inQueue[s] = true;
+            size = 1;
+
+            while (size > 0) {
+                int u = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                inQueue[u] = false;
+                double du = dist[u];
+                for (int k = start[u]; k < start[u + 1]; k++) {
+                    int v = target[k];
+                    double newDist = du + weight[k];
+                    if (comparator.compare(newDist, dist[v]) >= 0) {
+                        continue;
+                    }
+                    dist[v] = newDist;
+                    pred[v] = k;
+                    length[v] = length[u] + 1;
+                    if (length[v] >= n) {
+                        // a shortest path has at most n-1 edges
+                        throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+                    }
+                    if (!inQueue[v]) {
+                        int tailPos = head + size;
+                        queue[tailPos >= n ? tailPos - n : tailPos] = v;
+                        inQueue[v] = true;
+                        size++;
+                    }
+                }
+            }
+            return createPaths(sourceVertex, dist, pred);
+        }
+
+        /*
+         * The parallel variant.
+         */
+        SingleSourcePaths<V, E> parallel(V sourceVertex)
+        {
+            ParallelRounds rounds = new ParallelRounds(vertexIndex.get(sourceVertex));
+            rounds.run();
+            double[] dist = new double[n];
+            for (int v = 0; v < n; v++) {
+                dist[v] = rounds.distance(v);
+            }
+            return createPaths(sourceVertex, dist, rounds.pred);
+        }
+
+        private SingleSourcePaths<V, E> createPaths(V sourceVertex, double[] dist, int[] pred)
+        {
+            List<V> vertices = adjacency.getVertices();
+            Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+            for (int v = 0; v < n; v++) {
+                E e = pred[v] == NONE ? null : adjacency.getEdge(pred[v]);
+                distanceAndPredecessorMap.put(vertices.get(v), Pair.of(dist[v], e));
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, sourceVertex, distanceAndPredecessorMap);
+        }
+
+        /**
+         * The state of the parallel variant. Each round relaxes the edges of the vertices updated
+         * in the previous round, using their distances at the start of the round. The predecessors
+         * are assigned in a second phase of the round from the edges which produced the new
+         * distances, thus the predecessor graph only contains a cycle if the cycle is negative.
+         */
+        private class ParallelRounds
+        {
+            private final AtomicLongArray dist;
+            private final AtomicIntegerArray mark;
+            private final int[] pred;
+            private int[] frontier;
+            private double[] frontierDist;
+            private int frontierSize;
+            private int[] changed;
+            private final AtomicInteger changedCount;
+            private int round;
+
+            ParallelRounds(int s)
+            {
+                this.dist = new AtomicLongArray(n);
+                long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+                for (int v = 0; v < n; v++) {
+                    dist.set(v, infinity);
+                }
+                dist.set(s, Double.doubleToLongBits(0d));
+                this.mark = new AtomicIntegerArray(n);
+                this.pred = new int[n];
+                Arrays.fill(pred, NONE);
+                this.frontier = new int[n];
+                this.frontierDist = new double[n];
+                this.changed = new int[n];
+                this.changedCount = new AtomicInteger();
+                frontier[0] = s;
+                frontierSize = 1;
+            }
+
+            double distance(int v)
+            {
+                return Double.longBitsToDouble(dist.get(v));
+            }
+
+            void run()
+            {
+                int nextCheck = 1;
+                while (frontierSize > 0) {
+                    round++;
+                    for (int i = 0; i < frontierSize; i++) {
+                        frontierDist[i] = distance(frontier[i]);
+                    }
+                    changedCount.set(0);
+                    if (frontierSize <= SEQUENTIAL_THRESHOLD) {
+                        relax(0, frontierSize);
+                        assignPredecessors(0, frontierSize);
+                    } else {
+                        pool.invoke(new RoundTask(0, frontierSize, true));
+                        pool.invoke(new RoundTask(0, frontierSize, false));
+                    }
+
+                    int[] tmp = frontier;
+                    frontier = changed;
+                    changed = tmp;
+                    frontierSize = changedCount.get();
+
+                    // without negative cycles nothing changes after n-1 rounds
+                    if (frontierSize > 0 && round >= n) {
+                        throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+                    }
+                    if (round == nextCheck) {
+                        nextCheck *= 2;
+                        if (frontierSize > 0 && hasPredecessorCycle()) {
+                            throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+                        }
+                    }
+                }
+            }
+
+            void relax(int from, int to)
+            {
+                for (int i = from; i < to; i++) {
+                    int u = frontier[i];
+                    double du = frontierDist[i];
+                    for (int k = start[u]; k < start[u + 1]; k++) {
+                        int v = target[k];
+                        if (decrease(v, du + weight[k])) {
+                            int old = mark.get(v);
+                            if (old != round && mark.compareAndSet(v, old, round)) {
+                                changed[changedCount.getAndIncrement()] = v;
+                            }
+                        }
+                    }
+                }
+            }
+
+            void assignPredecessors(int from, int to)
+            {
+                for (int i = from; i < to; i++) {
+                    int u = frontier[i];
+                    double du = frontierDist[i];
+                    for (int k = start[u]; k < start[u + 1]; k++) {
+                        int v = target[k];
+                        if (mark.get(v) == round && du + weight[k] == distance(v)) {
+                            // concurrent writes are harmless, each candidate is valid
+                            pred[v] = k;
+                        }
+                    }
+                }
+            }
+
+            /*
+             * Atomically lower the distance of a vertex.
+             */
+            private boolean decrease(int v, double d)
+            {
+                while (true) {
+                    long current = dist.get(v);
+                    if (comparator.compare(d, Double.longBitsToDouble(current)) >= 0) {
+                        return false;
+                    }
+                    if (dist.compareAndSet(v, current, Double.doubleToLongBits(d))) {
+                        return true;
+                    }
+                }
+            }
+
+            /*
+             * Every vertex has at most one predecessor, thus a cycle is found by following the
+             * predecessors from each vertex until reaching a vertex seen before.
+             */
+            private boolean hasPredecessorCycle()
+            {
+                int[] walk = new int[n];
+                for (int v = 0; v < n; v++) {
+                    int x = v;
+                    while (walk[x] == 0) {
+                        walk[x] = v + 1;
+                        if (pred[x] == NONE) {
+                            break;
+                        }
+                        x = tail[pred[x]];
+                    }
+                    if (walk[x] == v + 1 && pred[x] != NONE) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            /**
+             * Runs one of the two phases of a round on a range of the frontier, either relaxing
+             * the edges or assigning the predecessors of the vertices they improved.
+             */
+            private class RoundTask
+                extends
+                RecursiveAction
+            {
+                private static final long serialVersionUID = -5265488235530945017L;
+
+                private final int from;
+                private final int to;
+                private final boolean relax;
+
+                RoundTask(int from, int to, boolean relax)
+                {
+                    this.from = from;
+                    this.to = to;
+                    this.relax = relax;
+                }
+
+                @Override
+                protected void compute()
+                {
+                    if (to - from <= SEQUENTIAL_THRESHOLD) {
+                        if (relax) {
+                            relax(from, to);
+                        } else {
+                            assignPredecessors(from, to);
+                        }
+                        return;
+                    }
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new RoundTask(from, mid, relax), new RoundTask(mid, to, relax));
+                }
+            }
+        }
+    }
+
+    /**
+     * The mode of the algorithm.
+     */
+    public enum Mode
+    {
+        /**
+         * Relax the edges of the updated vertices in rounds.
+         */
+        ROUNDS,
+        /**
+         * Keep the updated vertices in a queue, with early negative cycle detection.
+         */
+        QUEUE,
+        /**
+         * Relax the edges of the updated vertices in parallel rounds.
+         */
+        PARALLEL,
+    }
 }
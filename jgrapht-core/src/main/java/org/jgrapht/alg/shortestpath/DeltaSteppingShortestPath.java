@@ -0,0 +1,502 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel single-source shortest paths using delta-stepping.
+ *
+ * <p>
+ * See: U. Meyer and P. Sanders, $\Delta$-stepping: a parallelizable shortest path algorithm,
+ * Journal of Algorithms, 49 (2003), pp. 114-152.
+ *
+ * <p>
+ * Vertices are kept in buckets of width $\Delta$ according to their tentative distance. The
+ * buckets are processed in increasing order. Edges of weight at most $\Delta$ are light, all
+ * other edges are heavy. The light edges of the vertices of the current bucket are relaxed in
+ * parallel, repeatedly, until the bucket stays empty. Then the heavy edges of all vertices removed
+ * from the bucket are relaxed in parallel, once. A small $\Delta$ behaves like Dijkstra's
+ * algorithm, a large $\Delta$ like the Bellman-Ford algorithm. When no $\Delta$ is given, the
+ * maximum edge weight divided by the average out-degree is used.
+ *
+ * <p>
+ * The graph is first copied into primitive arrays. Tentative distances are updated with an atomic
+ * compare-and-set minimum, and the shortest path tree is computed from the final distances in a
+ * last parallel phase, thus the distances do not depend on the scheduling. The work is executed on
+ * a {@link ForkJoinPool}. Negative edge weights are not allowed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class DeltaSteppingShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+    private static final int NONE = -1;
+
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new instance of the algorithm which uses the common {@link ForkJoinPool} and
+     * computes $\Delta$ from the graph.
+     *
+     * @param graph the input graph
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance of the algorithm which computes $\Delta$ from the graph.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to relax the edges in parallel
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.delta = Double.NaN;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Construct a new instance of the algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param delta the width of the buckets
+     * @throws IllegalArgumentException if delta is not positive
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph, double delta)
+    {
+        this(graph, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param delta the width of the buckets
+     * @param pool the pool used to relax the edges in parallel
+     * @throws IllegalArgumentException if delta is not positive
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph, double delta, ForkJoinPool pool)
+    {
+        super(graph);
+        if (!(delta > 0d)) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        this.delta = delta;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+        Search search = new Search(adjacency);
+        search.run(adjacency.getVertexIndex().get(source));
+
+        List<V> vertices = adjacency.getVertices();
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < vertices.size(); v++) {
+            double d = search.distance(v);
+            if (d != Double.POSITIVE_INFINITY) {
+                int e = search.pred[v];
+                distanceAndPredecessorMap
+                    .put(vertices.get(v), Pair.of(d, e == NONE ? null : adjacency.getEdge(e)));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * The state of a single search. The outgoing edges of each vertex are stored in a contiguous
+     * range, light edges first.
+     */
+    private class Search
+    {
+        private final int n;
+        private final int[] start;
+        private final int[] lightEnd;
+        private final int[] target;
+        private final double[] weight;
+        private final double width;
+
+        private final AtomicLongArray dist;
+        private final AtomicIntegerArray mark;
+        private final int[] changed;
+        private final AtomicInteger changedCount;
+        private final int[] pred;
+        private int phase;
+
+        Search(CompressedAdjacency<V, E> adjacency)
+        {
+            this.n = adjacency.getVertexCount();
+            this.start = adjacency.getStart();
+            this.target = adjacency.getTarget();
+            this.weight = adjacency.getWeight();
+            int m = start[n];
+
+            double maxWeight = 0d;
+            for (int k = 0; k < m; k++) {
+                if (weight[k] < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                // adding zero turns a negative zero into a positive zero
+                weight[k] += 0d;
+                maxWeight = Math.max(maxWeight, weight[k]);
+            }
+            if (!Double.isNaN(delta)) {
+                this.width = delta;
+            } else if (maxWeight > 0d) {
+                this.width = maxWeight / Math.max(1d, (double) m / Math.max(1, n));
+            } else {
+                this.width = 1d;
+            }
+
+            adjacency.sortEdges(k -> weight[k] <= width ? 0 : 1);
+            this.lightEnd = new int[n];
+            for (int v = 0; v < n; v++) {
+                int k = start[v];
+                while (k < start[v + 1] && weight[k] <= width) {
+                    k++;
+                }
+                lightEnd[v] = k;
+            }
+
+            this.dist = new AtomicLongArray(n);
+            long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+            for (int v = 0; v < n; v++) {
+                dist.set(v, infinity);
+            }
+            this.mark = new AtomicIntegerArray(n);
+            this.changed = new int[n];
+            this.changedCount = new AtomicInteger();
+            this.pred = new int[n];
+        }
+
+        double distance(int v)
+        {
+            return Double.longBitsToDouble(dist.get(v));
+        }
+
+        long bucketOf(int v)
+        {
+            return (long) (distance(v) / width);
+        }
+
+        void run(int source)
+        {
+            dist.set(source, Double.doubleToLongBits(0d));
+            TreeMap<Long, IntList> buckets = new TreeMap<>();
+            buckets.put(0L, new IntList(source));
+
+            int[] frontier = new int[n];
+            int[] removed = new int[n];
+            int[] removedMark = new int[n];
+            int round = 0;
+
+            while (!buckets.isEmpty()) {
+                Map.Entry<Long, IntList> entry = buckets.pollFirstEntry();
+                long current = entry.getKey();
+                round++;
+
+                // entries are stale if the vertex moved to a smaller bucket or is repeated
+                int frontierSize = 0;
+                int removedSize = 0;
+                IntList list = entry.getValue();
+                for (int i = 0; i < list.size; i++) {
+                    int v = list.items[i];
+                    if (bucketOf(v) == current && removedMark[v] != round) {
+                        removedMark[v] = round;
+                        removed[removedSize++] = v;
+                        frontier[frontierSize++] = v;
+                    }
+                }
+
+                // relax light edges until no vertex enters the current bucket again
+                while (frontierSize > 0) {
+                    relax(frontier, frontierSize, true);
+                    frontierSize = 0;
+                    int count = changedCount.get();
+                    for (int i = 0; i < count; i++) {
+                        int v = changed[i];
+                        long b = bucketOf(v);
+                        if (b == current) {
+                            frontier[frontierSize++] = v;
+                            if (removedMark[v] != round) {
+                                removedMark[v] = round;
+                                removed[removedSize++] = v;
+                            }
+                        } else {
+                            buckets.computeIfAbsent(b, k -> new IntList()).add(v);
+                        }
+                    }
+                }
+
+                // heavy edges always lead to a later bucket
+                relax(removed, removedSize, false);
+                int count = changedCount.get();
+                for (int i = 0; i < count; i++) {
+                    int v = changed[i];
+                    buckets.computeIfAbsent(bucketOf(v), k -> new IntList()).add(v);
+                }
+            }
+
+            Arrays.fill(pred, NONE);
+            pool.invoke(new TreeTask(0, n));
+            completeTree(source);
+        }
+
+        /*
+         * Relax the light or heavy edges of some vertices in parallel. The vertices whose distance
+         * improved are collected in the changed array, each at most once.
+         */
+        private void relax(int[] items, int size, boolean light)
+        {
+            phase++;
+            changedCount.set(0);
+            if (size <= SEQUENTIAL_THRESHOLD) {
+                relax(items, 0, size, light);
+            } else {
+                pool.invoke(new RelaxTask(items, 0, size, light));
+            }
+        }
+
+        void relax(int[] items, int from, int to, boolean light)
+        {
+            for (int i = from; i < to; i++) {
+                int u = items[i];
+                double du = distance(u);
+                int first = light ? start[u] : lightEnd[u];
+                int last = light ? lightEnd[u] : start[u + 1];
+                for (int k = first; k < last; k++) {
+                    int v = target[k];
+                    if (decrease(v, du + weight[k])) {
+                        int old = mark.get(v);
+                        if (old != phase && mark.compareAndSet(v, old, phase)) {
+                            changed[changedCount.getAndIncrement()] = v;
+                        }
+                    }
+                }
+            }
+        }
+
+        /*
+         * Atomically lower the distance of a vertex. Non-negative doubles are ordered like their
+         * bit patterns.
+         */
+        private boolean decrease(int v, double d)
+        {
+            long bits = Double.doubleToLongBits(d);
+            while (true) {
+                long current = dist.get(v);
+                if (bits >= current) {
+                    return false;
+                }
+                if (dist.compareAndSet(v, current, bits)) {
+                    return true;
+                }
+            }
+        }
+
+        /*
+         * Choose as predecessor of each vertex an edge which is tight and comes from a vertex with
+         * strictly smaller distance. Such an edge exists unless the vertex is only reached by edges
+         * of weight zero.
+         */
+        void tree(int from, int to)
+        {
+            for (int u = from; u < to; u++) {
+                double du = distance(u);
+                if (du == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int k = start[u]; k < start[u + 1]; k++) {
+                    int v = target[k];
+                    double dv = distance(v);
+                    if (du < dv && du + weight[k] == dv) {
+                        // concurrent writes are harmless, each candidate is a valid predecessor
+                        pred[v] = k;
+                    }
+                }
+            }
+        }
+
+        /*
+         * Vertices whose tight edges all come from vertices with equal distance are reached by
+         * edges of weight zero. Connect them with a search from the rest of the tree, which is
+         * needed since zero weight cycles would otherwise be possible.
+         */
+        private void completeTree(int source)
+        {
+            IntList queue = new IntList();
+            boolean missing = false;
+            for (int v = 0; v < n; v++) {
+                if (v == source || pred[v] != NONE) {
+                    queue.add(v);
+                } else if (distance(v) != Double.POSITIVE_INFINITY) {
+                    missing = true;
+                }
+            }
+            if (!missing) {
+                return;
+            }
+            for (int i = 0; i < queue.size; i++) {
+                int u = queue.items[i];
+                for (int k = start[u]; k < lightEnd[u]; k++) {
+                    int v = target[k];
+                    if (weight[k] == 0d && v != source && pred[v] == NONE
+                        && distance(u) == distance(v))
+                    {
+                        pred[v] = k;
+                        queue.add(v);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Relaxes the light or the heavy edges of the vertices removed from a bucket. The vertices
+         * whose distance improved are collected in the changed array.
+         */
+        private class RelaxTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 4378021590438561263L;
+
+            private final int[] items;
+            private final int from;
+            private final int to;
+            private final boolean light;
+
+            RelaxTask(int[] items, int from, int to, boolean light)
+            {
+                this.items = items;
+                this.from = from;
+                this.to = to;
+                this.light = light;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    relax(items, from, to, light);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RelaxTask(items, from, mid, light), new RelaxTask(items, mid, to, light));
+            }
+        }
+
+        /**
+         * Chooses a tight edge from a vertex with smaller distance as predecessor of every vertex,
+         * once all distances are final.
+         */
+        private class TreeTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = -2190872369624437715L;
+
+            private final int from;
+            private final int to;
+
+            TreeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    tree(from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new TreeTask(from, mid), new TreeTask(mid, to));
+            }
+        }
+    }
+
+    /**
+     * A growable list of integers.
+     */
+    private static class IntList
+    {
+        private int[] items;
+        private int size;
+
+        IntList()
+        {
+            this.items = new int[4];
+        }
+
+        IntList(int item)
+        {
+            this();
+            add(item);
+        }
+
+        void add(int item)
+        {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, 2 * size);
+            }
+            items[size++] = item;
+        }
+    }
+}
+
+// End DeltaSteppingShortestPath.java
@@ -53,8 +53,13 @@ class DijkstraClosestFirstIterator<V, E>
     private final Graph<V, E> graph;
     private final V source;
     private final double radius;
-    private final FibonacciHeap<QueueEntry> heap;
-    private final Map<V, FibonacciHeapNode<QueueEntry>> seen;
+    private final IntDoubleHeap heap;
+
+    // seen vertices are numbered in the order they are encountered
+    private final Map<V, Integer> seen;
+    private final List<V> vertices;
+    private final List<E> predecessors;
+    private double[] distances;
 
     /**
      * Creates a new iterator for the specified graph. Iteration will start at the specified start
@@ -79,6 +84,20 @@ class DijkstraClosestFirstIterator<V, E>
      * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraClosestFirstIterator(Graph<V, E> graph, V source, double radius)
+    {
+        this(graph, source, radius, new DaryIntDoubleHeap());
+    }
+
+    /**
+     * Creates a new radius-bounded iterator for the specified graph which uses a given heap.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heap an empty heap
+     */
+    public DijkstraClosestFirstIterator(
+        Graph<V, E> graph, V source, double radius, IntDoubleHeap heap)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         this.source = Objects.requireNonNull(source, "Sourve vertex cannot be null");
@@ -86,8 +105,11 @@ class DijkstraClosestFirstIterator<V, E>
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
-        this.heap = new FibonacciHeap<>();
+        this.heap = Objects.requireNonNull(heap, "Heap cannot be null");
         this.seen = new HashMap<>();
+        this.vertices = new ArrayList<>();
+        this.predecessors = new ArrayList<>();
+        this.distances = new double[16];
 
         // initialize with source vertex
         updateDistance(source, null, 0d);
@@ -102,8 +124,7 @@ class DijkstraClosestFirstIterator<V, E>
         if (heap.isEmpty()) {
             return false;
         }
-        FibonacciHeapNode<QueueEntry> vNode = heap.min();
-        double vDistance = vNode.getKey();
+        double vDistance = heap.findMinKey();
         if (radius < vDistance) {
             heap.clear();
             return false;
@@ -122,9 +143,9 @@ class DijkstraClosestFirstIterator<V, E>
         }
 
         // settle next node
-        FibonacciHeapNode<QueueEntry> vNode = heap.removeMin();
-        V v = vNode.getData().v;
-        double vDistance = vNode.getKey();
+        int vIndex = heap.deleteMin();
+        V v = vertices.get(vIndex);
+        double vDistance = distances[vIndex];
 
         // relax edges
         for (E e : graph.outgoingEdgesOf(v)) {
@@ -169,13 +190,12 @@ class DijkstraClosestFirstIterator<V, E>
     {
         Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
 
-        for (FibonacciHeapNode<QueueEntry> vNode : seen.values()) {
-            double vDistance = vNode.getKey();
+        for (int i = 0; i < vertices.size(); i++) {
+            double vDistance = distances[i];
             if (radius < vDistance) {
                 continue;
             }
-            V v = vNode.getData().v;
-            distanceAndPredecessorMap.put(v, Pair.of(vDistance, vNode.getData().e));
+            distanceAndPredecessorMap.put(vertices.get(i), Pair.of(vDistance, predecessors.get(i)));
         }
 
         return distanceAndPredecessorMap;
@@ -183,26 +203,24 @@ class DijkstraClosestFirstIterator<V, E>
 
     private void updateDistance(V v, E e, double distance)
     {
-        FibonacciHeapNode<QueueEntry> node = seen.get(v);
-        if (node == null) {
-            node = new FibonacciHeapNode<>(new QueueEntry(e, v));
-            heap.insert(node, distance);
-            seen.put(v, node);
-        } else if (distance < node.getKey()) {
-            heap.decreaseKey(node, distance);
-            node.getData().e = e;
-        }
-    }
-
-    class QueueEntry
-    {
-        E e;
-        V v;
-
-        public QueueEntry(E e, V v)
-        {
-            this.e = e;
-            this.v = v;
+        Integer vIndex = seen.get(v);
+        if (vIndex == null) {
+            int i = vertices.size();
+            seen.put(v, i);
+            vertices.add(v);
+            predecessors.add(e);
+            if (i == distances.length) {
+                distances = Arrays.copyOf(distances, 2 * i);
+            }
+            distances[i] = distance;
+            heap.insert(i, distance);
+        } else if (distance < distances[vIndex]) {
+            int i = vIndex;
+            distances[i] = distance;
+            predecessors.set(i, e);
+            heap.decreaseKey(i, distance);
         }
     }
 }
+
+// End DijkstraClosestFirstIterator.java
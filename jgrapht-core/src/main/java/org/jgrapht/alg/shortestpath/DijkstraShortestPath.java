@@ -18,10 +18,16 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
 
 /**
  * An implementation of <a href="http://mathworld.wolfram.com/DijkstrasAlgorithm.html">Dijkstra's
- * shortest path algorithm</a> using a Fibonacci heap.
+ * shortest path algorithm</a> using an addressable heap. By default a {@link DaryIntDoubleHeap} is
+ * used; any other {@link IntDoubleHeap} can be supplied, for instance a {@link RadixIntDoubleHeap}
+ * if all edge weights are integers.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -33,6 +39,7 @@ public final class DijkstraShortestPath<V, E>
     BaseShortestPathAlgorithm<V, E>
 {
     private final double radius;
+    private final Supplier<IntDoubleHeap> heapSupplier;
 
     /**
      * Constructs a new instance of the algorithm for a given graph.
@@ -51,12 +58,26 @@ public final class DijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, DaryIntDoubleHeap::new);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapSupplier supplier of the empty heap used by each search
+     */
+    public DijkstraShortestPath(
+        Graph<V, E> graph, double radius, Supplier<IntDoubleHeap> heapSupplier)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
     }
 
     /**
@@ -76,7 +97,7 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier.get());
 
         while (it.hasNext()) {
             V vertex = it.next();
@@ -103,7 +124,7 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier.get());
 
         while (it.hasNext()) {
             it.next();
@@ -0,0 +1,302 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Exact distance queries using hub labels computed by pruned landmark labeling.
+ *
+ * <p>
+ * See: T. Akiba, Y. Iwata and Y. Yoshida, Fast exact shortest-path distance queries on large
+ * networks by pruned landmark labeling, Proceedings of the 2013 ACM SIGMOD International
+ * Conference on Management of Data, pp. 349-360.
+ *
+ * <p>
+ * Every vertex $v$ stores a label, a set of pairs $(h, d(h,v))$ of hubs and distances, such that
+ * every shortest path between two vertices contains a hub which is in both labels. For directed
+ * graphs every vertex has a label for the distances from hubs and another for the distances to
+ * hubs. The labels are computed by a Dijkstra search from every vertex, in the order of decreasing
+ * degree. A search does not continue from a vertex whose distance is already answered by the
+ * labels computed so far, thus the labels stay small on graphs with high degree central vertices,
+ * like transport and social networks. On grid-like graphs without such vertices the labels, and
+ * the construction time, grow quickly with the size of the graph.
+ *
+ * <p>
+ * The labels are computed in the constructor and stored in flat primitive arrays, sorted by hub.
+ * A distance query merges two labels in time linear in their size, without any search. Paths are
+ * computed with {@link BidirectionalDijkstraShortestPath}, unless the labels show that no path
+ * exists. The graph must not be modified after construction and edge weights must be
+ * non-negative.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class HubLabelingShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final Map<V, Integer> vertexIndex;
+    private final Labels in;
+    private final Labels out;
+
+    /**
+     * Construct a new instance and compute the labels.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    @SuppressWarnings("unchecked")
+    public HubLabelingShortestPath(Graph<V, E> graph)
+    {
+        super(graph);
+        GraphTests.requireDirectedOrUndirected(graph);
+        for (E e : graph.edgeSet()) {
+            if (graph.getEdgeWeight(e) < 0d) {
+                throw new IllegalArgumentException("Graph edge weights cannot be negative");
+            }
+        }
+
+        // hubs are numbered by their rank, thus labels are sorted when created in rank order
+        V[] vertices = (V[]) graph.vertexSet().toArray();
+        Arrays.sort(
+            vertices, (a, b) -> Integer.compare(graph.degreeOf(b), graph.degreeOf(a)));
+        int n = vertices.length;
+        this.vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices[i], i);
+        }
+
+        boolean directed = graph.getType().isDirected();
+        CompressedAdjacency<V, E> forward =
+            new CompressedAdjacency<>(graph, vertices, vertexIndex, Direction.OUTGOING);
+        CompressedAdjacency<V, E> backward = directed
+            ? new CompressedAdjacency<>(graph, vertices, vertexIndex, Direction.INCOMING) : forward;
+        LabelBuilder inBuilder = new LabelBuilder(n);
+        LabelBuilder outBuilder = directed ? new LabelBuilder(n) : inBuilder;
+
+        double[] rootLabel = new double[n];
+        Arrays.fill(rootLabel, Double.POSITIVE_INFINITY);
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        int[] visited = new int[n];
+        IntDoubleHeap heap = new DaryIntDoubleHeap(DaryIntDoubleHeap.DEFAULT_ARITY, n);
+
+        for (int r = 0; r < n; r++) {
+            prunedSearch(r, forward, outBuilder, inBuilder, rootLabel, dist, visited, heap);
+            if (directed) {
+                prunedSearch(r, backward, inBuilder, outBuilder, rootLabel, dist, visited, heap);
+            }
+        }
+
+        this.in = inBuilder.build();
+        this.out = directed ? outBuilder.build() : in;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (getPathWeight(source, sink) == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new BidirectionalDijkstraShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        return new DijkstraShortestPath<>(graph).getPaths(source);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        Integer s = vertexIndex.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        Integer t = vertexIndex.get(sink);
+        if (t == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (s.equals(t)) {
+            return 0d;
+        }
+
+        // merge the two labels, which are sorted by hub
+        int i = out.start[s];
+        int iEnd = out.start[s + 1];
+        int j = in.start[t];
+        int jEnd = in.start[t + 1];
+        double best = Double.POSITIVE_INFINITY;
+        while (i < iEnd && j < jEnd) {
+            int a = out.hub[i];
+            int b = in.hub[j];
+            if (a == b) {
+                best = Math.min(best, out.dist[i] + in.dist[j]);
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get the average number of hubs in a label. For directed graphs both labels of a vertex are
+     * counted.
+     *
+     * @return the average number of hubs in a label
+     */
+    public double getAverageLabelSize()
+    {
+        int n = vertexIndex.size();
+        if (n == 0) {
+            return 0d;
+        }
+        int total = in.hub.length + (out == in ? 0 : out.hub.length);
+        return (double) total / n;
+    }
+
+    /*
+     * Run a Dijkstra search from a root and add the root to the labels of the reached vertices.
+     * A vertex is pruned if the labels computed so far already give its distance, using the
+     * label of the root on the side the search starts from.
+     */
+    private void prunedSearch(
+        int r, CompressedAdjacency<V, E> adjacency, LabelBuilder rootSide,
+        LabelBuilder reachedSide, double[] rootLabel, double[] dist, int[] visited,
+        IntDoubleHeap heap)
+    {
+        for (int i = 0; i < rootSide.size[r]; i++) {
+            rootLabel[rootSide.hub[r][i]] = rootSide.dist[r][i];
+        }
+
+        int[] visitedCount = new int[1];
+        adjacency.dijkstra(r, adjacency.getWeight(), dist, null, u -> {
+            visited[visitedCount[0]++] = u;
+            double du = dist[u];
+
+            // query the distance using the labels computed so far
+            int[] hubs = reachedSide.hub[u];
+            double[] dists = reachedSide.dist[u];
+            for (int i = 0; i < reachedSide.size[u]; i++) {
+                if (rootLabel[hubs[i]] + dists[i] <= du) {
+                    return false;
+                }
+            }
+            reachedSide.add(u, r, du);
+            return true;
+        }, heap);
+
+        for (int i = 0; i < visitedCount[0]; i++) {
+            dist[visited[i]] = Double.POSITIVE_INFINITY;
+        }
+        for (int i = 0; i < rootSide.size[r]; i++) {
+            rootLabel[rootSide.hub[r][i]] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * The labels during construction, one growable array per vertex.
+     */
+    private static class LabelBuilder
+    {
+        private final int[][] hub;
+        private final double[][] dist;
+        private final int[] size;
+
+        LabelBuilder(int n)
+        {
+            this.hub = new int[n][];
+            this.dist = new double[n][];
+            this.size = new int[n];
+            for (int v = 0; v < n; v++) {
+                hub[v] = new int[2];
+                dist[v] = new double[2];
+            }
+        }
+
+        void add(int v, int h, double d)
+        {
+            int k = size[v];
+            if (k == hub[v].length) {
+                hub[v] = Arrays.copyOf(hub[v], 2 * k);
+                dist[v] = Arrays.copyOf(dist[v], 2 * k);
+            }
+            hub[v][k] = h;
+            dist[v][k] = d;
+            size[v] = k + 1;
+        }
+
+        Labels build()
+        {
+            int n = size.length;
+            int[] start = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                start[v + 1] = start[v] + size[v];
+            }
+            int[] flatHub = new int[start[n]];
+            double[] flatDist = new double[start[n]];
+            for (int v = 0; v < n; v++) {
+                System.arraycopy(hub[v], 0, flatHub, start[v], size[v]);
+                System.arraycopy(dist[v], 0, flatDist, start[v], size[v]);
+                hub[v] = null;
+                dist[v] = null;
+            }
+            return new Labels(start, flatHub, flatDist);
+        }
+    }
+
+    /**
+     * The labels of all vertices in flat arrays. The label of vertex $v$ is stored in the range
+     * from {@code start[v]} to {@code start[v+1]}.
+     */
+    private static class Labels
+    {
+        private final int[] start;
+        private final int[] hub;
+        private final double[] dist;
+
+        Labels(int[] start, int[] hub, double[] dist)
+        {
+            this.start = start;
+            this.hub = hub;
+            this.dist = dist;
+        }
+    }
+}
+
+// End HubLabelingShortestPath.java
@@ -19,10 +19,15 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
 
+import java.lang.ref.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -40,6 +45,19 @@ import java.util.*;
  * Since Johnson's algorithm creates additional vertices, this implementation requires the user to
  * provide a graph which is initialized with a vertex supplier.
  *
+ * <p>
+ * When constructed with an {@link ExecutorService}, the algorithm runs in parallel mode. The graph
+ * is copied into primitive arrays, the vertex weights are computed on the arrays without creating
+ * additional vertices, and the Dijkstra executions are distributed among the tasks of the
+ * executor. The shortest paths from a source are computed when they are first requested, together
+ * with those from the other sources of its batch of consecutive sources. By default a batch has as
+ * many sources as the executor has threads, thus every thread runs one Dijkstra execution. The
+ * shortest paths from all sources can be computed at once with {@link #computeAllPaths()}. The
+ * distances and the last edges of the shortest paths are stored as one row of primitive arrays per
+ * source vertex, thus a shortest path tree uses $12n$ bytes instead of a map of $n$ entries. The
+ * rows are only softly referenced, thus they can be reclaimed when memory runs low and are computed
+ * again when needed.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -50,9 +68,20 @@ public class JohnsonShortestPaths<V, E>
     extends
     BaseShortestPathAlgorithm<V, E>
 {
+    private static final int NONE = -1;
+
     private Map<V, SingleSourcePaths<V, E>> paths;
     private final Comparator<Double> comparator;
+    private final double epsilon;
+    private final ExecutorService executor;
+    private final int batchSize;
 
+    private CompressedAdjacency<V, E> adjacency;
+    private Map<V, Integer> vertexIndex;
+    private int[] tail;
+    private double[] vertexWeights;
+    private double[] newWeight;
+    private volatile AtomicReferenceArray<SoftReference<CompletableFuture<Batch>>> batches;
 
     /**
      * Construct a new instance.
@@ -74,6 +103,56 @@ public class JohnsonShortestPaths<V, E>
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.epsilon = epsilon;
+        this.executor = null;
+        this.batchSize = 0;
+    }
+
+    /**
+     * Construct a new instance which runs in parallel mode.
+     *
+     * @param graph the input graph
+     * @param executor the executor which runs the Dijkstra executions
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, ExecutorService executor)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, executor);
+    }
+
+    /**
+     * Construct a new instance which runs in parallel mode. A batch has as many sources as the
+     * executor has threads.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor the executor which runs the Dijkstra executions
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ExecutorService executor)
+    {
+        this(graph, epsilon, executor, parallelism(executor));
+    }
+
+    /**
+     * Construct a new instance which runs in parallel mode.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor the executor which runs the Dijkstra executions
+     * @param batchSize the number of consecutive sources whose shortest paths are computed
+     *        together when the shortest paths from one of them are first requested
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public JohnsonShortestPaths(
+        Graph<V, E> graph, double epsilon, ExecutorService executor, int batchSize)
+    {
+        super(graph);
+        this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.epsilon = epsilon;
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
     }
 
     /**
@@ -92,6 +171,9 @@ public class JohnsonShortestPaths<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
         run();
+        if (executor != null) {
+            return indexedPaths(source).getPath(sink);
+        }
         return paths.get(source).getPath(sink);
     }
 
@@ -111,6 +193,9 @@ public class JohnsonShortestPaths<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
         run();
+        if (executor != null) {
+            return indexedPaths(source).getWeight(sink);
+        }
         return paths.get(source).getWeight(sink);
     }
 
@@ -124,18 +209,65 @@ public class JohnsonShortestPaths<V, E>
     public SingleSourcePaths<V, E> getPaths(V source)
     {
         run();
+        if (executor != null) {
+            if (!graph.containsVertex(source)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            }
+            return indexedPaths(source);
+        }
         return paths.get(source);
     }
 
+    /**
+     * Compute the shortest paths between all pairs of vertices. Otherwise, the parallel mode only
+     * computes the shortest paths from a source when they are first requested. The Dijkstra
+     * executions from all sources whose shortest paths are not known are distributed among the
+     * tasks of the executor at once. In sequential mode the shortest paths between all pairs of
+     * vertices are always computed together.
+     *
+     * @throws IllegalArgumentException in case the provided vertex factory creates vertices which
+     *         are already in the original graph
+     */
+    public void computeAllPaths()
+    {
+        run();
+        if (executor == null) {
+            return;
+        }
+        AtomicReferenceArray<SoftReference<CompletableFuture<Batch>>> batches = this.batches;
+        List<Integer> missing = new ArrayList<>();
+        List<CompletableFuture<Batch>> futures = new ArrayList<>();
+        for (int b = 0; b < batches.length(); b++) {
+            SoftReference<CompletableFuture<Batch>> ref = batches.get(b);
+            if (ref != null && ref.get() != null) {
+                continue;
+            }
+            CompletableFuture<Batch> future = new CompletableFuture<>();
+            if (batches.compareAndSet(b, ref, new SoftReference<>(future))) {
+                missing.add(b);
+                futures.add(future);
+            }
+        }
+        computeBatches(missing, futures);
+    }
+
     /**
      * Executes the actual algorithm.
      */
     private void run()
     {
-        if (paths != null) {
+        if (paths != null || batches != null) {
             return;
         }
         GraphTests.requireDirectedOrUndirected(graph);
+        if (executor != null) {
+            synchronized (this) {
+                if (batches == null) {
+                    runParallel();
+                }
+            }
+            return;
+        }
 
         boolean graphHasNegativeEdgeWeights = false;
         for (E e : graph.edgeSet())
@@ -279,4 +411,296 @@ public class JohnsonShortestPaths<V, E>
         return weights;
     }
 
+    /**
+     * Executes the parallel mode of the algorithm.
+     */
+    private void runParallel()
+    {
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+        int n = adjacency.getVertexCount();
+        int[] start = adjacency.getStart();
+        int[] edgeTail = adjacency.computeSources();
+        int[] target = adjacency.getTarget();
+        double[] weight = adjacency.getWeight();
+        int m = start[n];
+        boolean hasNegativeEdgeWeights = false;
+        for (int k = 0; k < m; k++) {
+            if (comparator.compare(weight[k], 0.0) < 0) {
+                hasNegativeEdgeWeights = true;
+                break;
+            }
+        }
+        if (hasNegativeEdgeWeights && graph.getType().isUndirected()) {
+            throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+        }
+
+        /*
+         * Compute new non-negative edge weights. Rounding errors may produce tiny negative
+         * weights, which are treated as zero.
+         */
+        double[] vertexWeights = hasNegativeEdgeWeights
+            ? computeVertexWeights(n, start, target, weight) : new double[n];
+        double[] newWeight = new double[m];
+        for (int k = 0; k < m; k++) {
+            newWeight[k] =
+                Math.max(0d, weight[k] + vertexWeights[edgeTail[k]] - vertexWeights[target[k]]);
+        }
+
+        this.adjacency = adjacency;
+        this.vertexIndex = adjacency.getVertexIndex();
+        this.tail = edgeTail;
+        this.vertexWeights = vertexWeights;
+        this.newWeight = newWeight;
+        this.batches = new AtomicReferenceArray<>((n + batchSize - 1) / batchSize);
+    }
+
+    /**
+     * Get the number of threads of an executor, if known, or the number of processors otherwise.
+     *
+     * @param executor the executor
+     * @return the number of threads of the executor
+     */
+    private static int parallelism(ExecutorService executor)
+    {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            int threads = ((ThreadPoolExecutor) executor).getCorePoolSize();
+            if (threads > 0) {
+                return threads;
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Get the shortest paths from a source vertex in parallel mode, computing them together with
+     * the other sources of the batch if they are not known. Concurrent requests for the same batch
+     * wait for a single computation, while different batches are computed independently.
+     *
+     * @param source the source vertex
+     * @return the shortest paths from the source vertex
+     */
+    private IndexedSingleSourcePaths indexedPaths(V source)
+    {
+        int s = vertexIndex.get(source);
+        int b = s / batchSize;
+        AtomicReferenceArray<SoftReference<CompletableFuture<Batch>>> batches = this.batches;
+        while (true) {
+            SoftReference<CompletableFuture<Batch>> ref = batches.get(b);
+            CompletableFuture<Batch> future = ref == null ? null : ref.get();
+            if (future == null) {
+                CompletableFuture<Batch> created = new CompletableFuture<>();
+                if (!batches.compareAndSet(b, ref, new SoftReference<>(created))) {
+                    continue;
+                }
+                computeBatches(Collections.singletonList(b), Collections.singletonList(created));
+                future = created;
+            }
+            Batch batch;
+            try {
+                batch = future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            return new IndexedSingleSourcePaths(source, s, batch);
+        }
+    }
+
+    /**
+     * Run Dijkstra using new weights from all sources of some batches and complete their futures.
+     * The sources are distributed among the tasks of the executor.
+     *
+     * @param ids the batches
+     * @param futures the futures of the batches
+     */
+    private void computeBatches(List<Integer> ids, List<CompletableFuture<Batch>> futures)
+    {
+        int n = vertexWeights.length;
+        List<Batch> computed = new ArrayList<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int b : ids) {
+            Batch batch = new Batch(b * batchSize, Math.min((b + 1) * batchSize, n));
+            computed.add(batch);
+            for (int source = batch.from; source < batch.to; source++) {
+                int u = source;
+                tasks.add(() -> {
+                    IntDoubleHeap heap = new DaryIntDoubleHeap(DaryIntDoubleHeap.DEFAULT_ARITY, n);
+                    double[] d = new double[n];
+                    int[] p = new int[n];
+                    Arrays.fill(d, Double.POSITIVE_INFINITY);
+                    Arrays.fill(p, NONE);
+                    adjacency.dijkstra(u, newWeight, d, p, null, heap);
+
+                    // transform distances to original weights
+                    for (int v = 0; v < n; v++) {
+                        if (d[v] != Double.POSITIVE_INFINITY) {
+                            d[v] = d[v] - vertexWeights[u] + vertexWeights[v];
+                        }
+                    }
+                    batch.distances[u - batch.from] = d;
+                    batch.predecessors[u - batch.from] = p;
+                    return null;
+                });
+            }
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new RuntimeException(e);
+        } catch (ExecutionException e) {
+            failure = new RuntimeException(e.getCause());
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (failure == null) {
+                futures.get(i).complete(computed.get(i));
+            } else {
+                // allow a later request to compute the batch again
+                batches.set(ids.get(i), null);
+                futures.get(i).completeExceptionally(failure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Compute vertex weights for edge re-weighting, using the queue based Bellman-Ford algorithm
+     * on primitive arrays. Instead of adding a new vertex with zero weight edges to all vertices,
+     * all vertices start with distance zero.
+     *
+     * @param n the number of vertices
+     * @param start the start of the outgoing edges of each vertex
+     * @param target the target of each edge
+     * @param weight the weight of each edge
+     * @return the vertex weights
+     */
+    private double[] computeVertexWeights(int n, int[] start, int[] target, double[] weight)
+    {
+        double[] dist = new double[n];
+        int[] length = new int[n];
+        boolean[] inQueue = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int size = n;
+        for (int v = 0; v < n; v++) {
+            queue[v] = v;
+            inQueue[v] = true;
+            length[v] = 1;
+        }
+
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            inQueue[u] = false;
+            for (int e = start[u]; e < start[u + 1]; e++) {
+                int v = target[e];
+                double newDist = dist[u] + weight[e];
+                if (newDist < dist[v] && dist[v] - newDist >= epsilon) {
+                    dist[v] = newDist;
+                    length[v] = length[u] + 1;
+                    if (length[v] > n) {
+                        // a shortest path from the new vertex has at most n edges
+                        throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
+                    }
+                    if (!inQueue[v]) {
+                        int pos = head + size;
+                        queue[pos >= n ? pos - n : pos] = v;
+                        inQueue[v] = true;
+                        size++;
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * The shortest path trees of a batch of consecutive sources.
+     */
+    private static class Batch
+    {
+        final int from;
+        final int to;
+        final double[][] distances;
+        final int[][] predecessors;
+
+        Batch(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+            this.distances = new double[to - from][];
+            this.predecessors = new int[to - from][];
+        }
+    }
+
+    /**
+     * A shortest path tree stored as a row of the distance and predecessor arrays of a batch.
+     */
+    private class IndexedSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final V source;
+        private final int s;
+        private final double[] dist;
+        private final int[] pred;
+
+        IndexedSingleSourcePaths(V source, int s, Batch batch)
+        {
+            this.source = source;
+            this.s = s;
+            this.dist = batch.distances[s - batch.from];
+            this.pred = batch.predecessors[s - batch.from];
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return dist[vertexIndex.get(sink)];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            int t = vertexIndex.get(sink);
+            if (s == t || pred[t] == NONE) {
+                return createEmptyPath(source, sink);
+            }
+            LinkedList<E> edgeList = new LinkedList<>();
+            for (int v = t; v != s; v = tail[pred[v]]) {
+                edgeList.addFirst(adjacency.getEdge(pred[v]));
+            }
+            return new GraphWalk<>(graph, source, sink, null, edgeList, dist[t]);
+        }
+    }
 }
@@ -34,6 +34,10 @@ import java.util.stream.*;
  * path it stores the "k" best paths at each pass, yielding a complexity of $O(k \cdot n \cdot
  * (m^2))$ where $m$ is the number of edges and $n$ is the number of vertices.
  *
+ * <p>
+ * All paths are computed at once. If the edge weights are non-negative and the number of paths is
+ * not known in advance, {@link YenShortestPathIterator} computes the paths lazily, one at a time.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
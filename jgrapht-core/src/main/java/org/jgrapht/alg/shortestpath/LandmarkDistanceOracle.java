@@ -0,0 +1,267 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A distance oracle which answers approximate distance queries using a set of landmarks.
+ *
+ * <p>
+ * During construction the distances from every landmark to all vertices, and for directed graphs
+ * from all vertices to every landmark, are computed with Dijkstra's algorithm. The executions run
+ * in parallel on a {@link ForkJoinPool}. Afterwards the graph is not needed anymore. The distance
+ * $d(u,v)$ is bounded using the triangle inequality: the lower bound is the maximum of
+ * $d(u,L)-d(v,L)$ and $d(L,v)-d(L,u)$ and the upper bound is the minimum of $d(u,L)+d(L,v)$ over
+ * all landmarks $L$. Both bounds are exact if $u$ or $v$ is a landmark. A query takes $O(k)$ time
+ * without any search, where $k$ is the number of landmarks, and the space is $O(kn)$.
+ *
+ * <p>
+ * The distance tables are stored in primitive arrays, with the distances of each vertex to all
+ * landmarks next to each other. The oracle is {@link Serializable} if the vertices are, thus it
+ * can be written to a file once and loaded later. See ALT in {@link ALTAdmissibleHeuristic} for a
+ * discussion of landmark selection. Edge weights must be non-negative.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class LandmarkDistanceOracle<V, E>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 3216839421569580234L;
+
+    private final V[] vertices;
+    private final V[] landmarks;
+    private final boolean directed;
+    private final double[] fromLandmark;
+    private final double[] toLandmark;
+    private final Map<V, Integer> vertexIndex;
+
+    /**
+     * Construct a new oracle which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param landmarks the vertices of the graph which are used as landmarks
+     * @throws IllegalArgumentException if no landmarks are provided or a landmark is not a vertex
+     *         of the graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public LandmarkDistanceOracle(Graph<V, E> graph, Set<V> landmarks)
+    {
+        this(graph, landmarks, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new oracle.
+     *
+     * @param graph the input graph
+     * @param landmarks the vertices of the graph which are used as landmarks
+     * @param pool the pool used to compute the distances of the landmarks in parallel
+     * @throws IllegalArgumentException if no landmarks are provided or a landmark is not a vertex
+     *         of the graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    @SuppressWarnings("unchecked")
+    public LandmarkDistanceOracle(Graph<V, E> graph, Set<V> landmarks, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        if (landmarks.isEmpty()) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        if (graph.getType().isDirected()) {
+            this.directed = true;
+        } else if (graph.getType().isUndirected()) {
+            this.directed = false;
+        } else {
+            throw new IllegalArgumentException("Graph must be directed or undirected");
+        }
+
+        this.landmarks = (V[]) landmarks.toArray();
+        for (V l : this.landmarks) {
+            if (!graph.containsVertex(l)) {
+                throw new IllegalArgumentException("Landmark must be a vertex of the graph");
+            }
+        }
+        for (E e : graph.edgeSet()) {
+            if (graph.getEdgeWeight(e) < 0d) {
+                throw new IllegalArgumentException("Graph edge weights cannot be negative");
+            }
+        }
+
+        CompressedAdjacency<V, E> forward = new CompressedAdjacency<>(graph, Direction.OUTGOING);
+        this.vertices = (V[]) forward.getVertices().toArray();
+        this.vertexIndex = forward.getVertexIndex();
+        int n = vertices.length;
+        int k = this.landmarks.length;
+        this.fromLandmark = new double[n * k];
+        this.toLandmark = directed ? new double[n * k] : fromLandmark;
+        CompressedAdjacency<V, E> backward = directed
+            ? new CompressedAdjacency<>(graph, vertices, vertexIndex, Direction.INCOMING) : null;
+        pool.invoke(new LandmarkTask(0, k, forward, backward));
+    }
+
+    /**
+     * Get the landmarks.
+     *
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return Collections.unmodifiableList(Arrays.asList(landmarks));
+    }
+
+    /**
+     * Get a lower bound on the distance from a vertex to another vertex.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return a lower bound on the distance, which is infinite only if the target is not reachable
+     * @throws IllegalArgumentException if a vertex is not a vertex of the graph
+     */
+    public double getLowerBound(V source, V target)
+    {
+        int k = landmarks.length;
+        int u = indexOf(source) * k;
+        int v = indexOf(target) * k;
+        if (u == v) {
+            return 0d;
+        }
+        double bound = 0d;
+        for (int i = 0; i < k; i++) {
+            double estimate;
+            if (directed) {
+                estimate = Math.max(
+                    toLandmark[u + i] - toLandmark[v + i],
+                    fromLandmark[v + i] - fromLandmark[u + i]);
+            } else {
+                estimate = Math.abs(fromLandmark[u + i] - fromLandmark[v + i]);
+            }
+            // the difference of two infinite distances is not a number, and is ignored
+            if (estimate > bound) {
+                bound = estimate;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Get an upper bound on the distance from a vertex to another vertex. The bound is the length
+     * of the shortest path through a landmark.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return an upper bound on the distance, which is infinite if no landmark is reachable from
+     *         the source and reaches the target
+     * @throws IllegalArgumentException if a vertex is not a vertex of the graph
+     */
+    public double getUpperBound(V source, V target)
+    {
+        int k = landmarks.length;
+        int u = indexOf(source) * k;
+        int v = indexOf(target) * k;
+        if (u == v) {
+            return 0d;
+        }
+        double bound = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < k; i++) {
+            bound = Math.min(bound, toLandmark[u + i] + fromLandmark[v + i]);
+        }
+        return bound;
+    }
+
+    private int indexOf(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex must be a vertex of the graph");
+        }
+        return index;
+    }
+
+    /*
+     * Compute the distances from a landmark and store them in column i of a table.
+     */
+    private void dijkstra(
+        CompressedAdjacency<V, E> adjacency, int i, double[] table, IntDoubleHeap heap)
+    {
+        int n = vertices.length;
+        int k = landmarks.length;
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        adjacency.dijkstra(
+            vertexIndex.get(landmarks[i]), adjacency.getWeight(), dist, null, null, heap);
+        for (int v = 0; v < n; v++) {
+            table[v * k + i] = dist[v];
+        }
+    }
+
+    /**
+     * Computes the distance tables of a range of landmarks, one Dijkstra search in each direction
+     * per landmark.
+     */
+    private class LandmarkTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -1837346225186462453L;
+
+        private final int from;
+        private final int to;
+        private final CompressedAdjacency<V, E> forward;
+        private final CompressedAdjacency<V, E> backward;
+
+        LandmarkTask(
+            int from, int to, CompressedAdjacency<V, E> forward,
+            CompressedAdjacency<V, E> backward)
+        {
+            this.from = from;
+            this.to = to;
+            this.forward = forward;
+            this.backward = backward;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new LandmarkTask(from, mid, forward, backward),
+                    new LandmarkTask(mid, to, forward, backward));
+                return;
+            }
+            IntDoubleHeap heap = new DaryIntDoubleHeap();
+            dijkstra(forward, from, fromLandmark, heap);
+            if (backward != null) {
+                dijkstra(backward, from, toLandmark, heap);
+            }
+        }
+    }
+}
+
+// End LandmarkDistanceOracle.java
@@ -0,0 +1,159 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Iterator over the simple paths between two vertices in increasing order of weight, using the
+ * algorithm of Yen.
+ *
+ * <p>
+ * See:<br>
+ * J. Y. Yen, Finding the K Shortest Loopless Paths in a Network, Management Science, 17 (1971),
+ * pp. 712-716.
+ *
+ * <p>
+ * Contrary to {@link KShortestSimplePaths}, the number of paths does not need to be known in
+ * advance. The next path is only computed when it is requested: the spur paths of a path are
+ * computed with {@link DijkstraShortestPath} right before the following path is returned, thus
+ * the enumeration can be stopped at any time. Computing each path takes $O(n)$ shortest path
+ * computations. Edge weights must be non-negative. Graphs with multiple (parallel) edges are
+ * allowed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class YenShortestPathIterator<V, E>
+    implements
+    Iterator<GraphPath<V, E>>
+{
+    private final Graph<V, E> graph;
+    private final V source;
+    private final V sink;
+
+    private final List<GraphPath<V, E>> paths;
+    private final PriorityQueue<GraphPath<V, E>> candidates;
+    private final Set<List<E>> seen;
+    private GraphPath<V, E> last;
+
+    /**
+     * Create a new iterator.
+     *
+     * @param graph the input graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink vertex
+     */
+    public YenShortestPathIterator(Graph<V, E> graph, V source, V sink)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the source vertex!");
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException("Graph must contain the sink vertex!");
+        }
+        this.source = source;
+        this.sink = sink;
+        this.paths = new ArrayList<>();
+        this.candidates =
+            new PriorityQueue<>(Comparator.comparingDouble(GraphPath<V, E>::getWeight));
+        this.seen = new HashSet<>();
+
+        GraphPath<V, E> shortest = new DijkstraShortestPath<>(graph).getPath(source, sink);
+        if (shortest != null) {
+            seen.add(shortest.getEdgeList());
+            candidates.add(shortest);
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (last != null) {
+            addSpurPaths(last);
+            last = null;
+        }
+        return !candidates.isEmpty();
+    }
+
+    @Override
+    public GraphPath<V, E> next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        last = candidates.poll();
+        paths.add(last);
+        return last;
+    }
+
+    /*
+     * Add the candidates which deviate from a path at one of its vertices.
+     */
+    private void addSpurPaths(GraphPath<V, E> path)
+    {
+        List<V> vertices = path.getVertexList();
+        List<E> edges = path.getEdgeList();
+        Set<V> rootVertices = new HashSet<>();
+        Set<E> removedEdges = new HashSet<>();
+        double rootWeight = 0d;
+
+        for (int i = 0; i < edges.size(); i++) {
+            V spurVertex = vertices.get(i);
+            List<E> rootEdges = edges.subList(0, i);
+
+            // remove the next edge of every path which shares the root
+            removedEdges.clear();
+            for (GraphPath<V, E> p : paths) {
+                List<E> pEdges = p.getEdgeList();
+                if (pEdges.size() > i && pEdges.subList(0, i).equals(rootEdges)) {
+                    removedEdges.add(pEdges.get(i));
+                }
+            }
+
+            Graph<V, E> spurGraph =
+                new MaskSubgraph<>(graph, rootVertices::contains, removedEdges::contains);
+            GraphPath<V, E> spur = new DijkstraShortestPath<>(spurGraph).getPath(spurVertex, sink);
+            if (spur != null) {
+                List<E> candidateEdges = new ArrayList<>(i + spur.getLength());
+                candidateEdges.addAll(rootEdges);
+                candidateEdges.addAll(spur.getEdgeList());
+                if (seen.add(candidateEdges)) {
+                    List<V> candidateVertices =
+                        new ArrayList<>(i + spur.getVertexList().size());
+                    candidateVertices.addAll(vertices.subList(0, i));
+                    candidateVertices.addAll(spur.getVertexList());
+                    candidates.add(
+                        new GraphWalk<>(
+                            graph, source, sink, candidateVertices, candidateEdges,
+                            rootWeight + spur.getWeight()));
+                }
+            }
+
+            rootVertices.add(spurVertex);
+            rootWeight += graph.getEdgeWeight(edges.get(i));
+        }
+    }
+}
+
+// End YenShortestPathIterator.java
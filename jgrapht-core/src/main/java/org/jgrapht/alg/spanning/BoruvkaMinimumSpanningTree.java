@@ -32,10 +32,10 @@ import java.util.*;
  * information on the history of the algorithm.
  * 
  * <p>
- * This implementation uses a union-find data structure (with union by rank and path compression
- * heuristic) in order to track components. In graphs where edges have identical weights, edges with
- * equal weights are ordered lexicographically. The running time is $O((E+V) \log V)$ under the
- * assumption that the union-find uses path-compression.
+ * This implementation uses an array based union-find data structure (with union by rank and path
+ * halving heuristic) in order to track components. In graphs where edges have identical weights,
+ * edges with equal weights are ordered lexicographically. The running time is $O((E+V) \log V)$
+ * under the assumption that the union-find uses path-compression.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -72,75 +72,75 @@ public class BoruvkaMinimumSpanningTree<V, E>
         double mstWeight = 0d;
 
         // fix edge order for unique comparison of edge weights
-        Map<E, Integer> edgeOrder = new HashMap<>();
-        int i = 0;
-        for (E e : graph.edgeSet()) {
-            edgeOrder.put(e, i++);
+        @SuppressWarnings("unchecked") E[] edges = (E[]) graph.edgeSet().toArray();
+
+        // initialize forest, vertices are mapped to indices once
+        IndexedUnionFind<V> vertices = new IndexedUnionFind<>(graph.vertexSet());
+        IntUnionFind forest = vertices.getIntUnionFind();
+        int[] source = new int[edges.length];
+        int[] target = new int[edges.length];
+        double[] weight = new double[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            source[i] = vertices.indexOf(graph.getEdgeSource(edges[i]));
+            target[i] = vertices.indexOf(graph.getEdgeTarget(edges[i]));
+            weight[i] = graph.getEdgeWeight(edges[i]);
         }
+        int[] bestEdge = new int[vertices.size()];
+        Arrays.fill(bestEdge, -1);
 
-        // initialize forest
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
-        Map<V, E> bestEdge = new LinkedHashMap<>();
-
+        boolean found;
         do {
             // find safe edges
-            bestEdge.clear();
-            for (E e : graph.edgeSet()) {
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
+            found = false;
+            for (int e = 0; e < edges.length; e++) {
+                int sTree = forest.find(source[e]);
+                int tTree = forest.find(target[e]);
 
-                if (sTree.equals(tTree)) {
+                if (sTree == tTree) {
                     // same tree, skip
                     continue;
                 }
-
-                double eWeight = graph.getEdgeWeight(e);
+                found = true;
 
                 // check if better edge
-                E sTreeEdge = bestEdge.get(sTree);
-                if (sTreeEdge == null) {
-                    bestEdge.put(sTree, e);
-                } else {
-                    double sTreeEdgeWeight = graph.getEdgeWeight(sTreeEdge);
-                    int c = comparator.compare(eWeight, sTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(sTreeEdge))) {
-                        bestEdge.put(sTree, e);
-                    }
+                if (isBetter(e, bestEdge[sTree], weight)) {
+                    bestEdge[sTree] = e;
                 }
 
                 // check if better edge
-                E tTreeEdge = bestEdge.get(tTree);
-                if (tTreeEdge == null) {
-                    bestEdge.put(tTree, e);
-                } else {
-                    double tTreeEdgeWeight = graph.getEdgeWeight(tTreeEdge);
-                    int c = comparator.compare(eWeight, tTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(tTreeEdge))) {
-                        bestEdge.put(tTree, e);
-                    }
+                if (isBetter(e, bestEdge[tTree], weight)) {
+                    bestEdge[tTree] = e;
                 }
             }
 
             // add safe edges to forest
-            for (V v : bestEdge.keySet()) {
-                E e = bestEdge.get(v);
-
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
+            for (int v = 0; v < bestEdge.length; v++) {
+                int e = bestEdge[v];
+                if (e == -1) {
+                    continue;
+                }
+                bestEdge[v] = -1;
 
-                if (sTree.equals(tTree)) {
+                if (!forest.union(source[e], target[e])) {
                     // same tree, skip
                     continue;
                 }
 
-                mstEdges.add(e);
-                mstWeight += graph.getEdgeWeight(e);
-
-                forest.union(sTree, tTree);
+                mstEdges.add(edges[e]);
+                mstWeight += weight[e];
             }
-        } while (!bestEdge.isEmpty());
+        } while (found);
 
         // return mst
         return new SpanningTreeImpl<>(mstEdges, mstWeight);
     }
+
+    private boolean isBetter(int e, int current, double[] weight)
+    {
+        if (current == -1) {
+            return true;
+        }
+        int c = comparator.compare(weight[e], weight[current]);
+        return c < 0 || (c == 0 && e < current);
+    }
 }
@@ -19,6 +19,7 @@ package org.jgrapht.alg.spanning;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
@@ -118,13 +119,18 @@ public class GreedyMultiplicativeSpanner<V, E>
             Set<E> edgeList = new LinkedHashSet<>();
             double edgeListWeight = 0d;
 
+            // vertices in different components of the spanner are never reachable
+            IndexedUnionFind<V> components = new IndexedUnionFind<>(graph.vertexSet());
+
             for (E e : allEdges) {
                 V s = graph.getEdgeSource(e);
                 V t = graph.getEdgeTarget(e);
 
                 if (!s.equals(t)) { // self-loop?
                     double eWeight = graph.getEdgeWeight(e);
-                    if (!isSpannerReachable(s, t, (2 * k - 1) * eWeight)) {
+                    if (components.union(s, t)
+                        || !isSpannerReachable(s, t, (2 * k - 1) * eWeight))
+                    {
                         edgeList.add(e);
                         edgeListWeight += eWeight;
                         addSpannerEdge(s, t, eWeight);
@@ -29,6 +29,20 @@ import java.util.*;
  * tree, otherwise it computes the minimum spanning forest. The algorithm runs in time $O(E \log
  * E)$. This implementation uses the hashCode and equals method of the vertices.
  *
+ * <p>
+ * The edges are copied into primitive arrays and the vertices are mapped to integers once. The
+ * order in which the edges are inspected depends on the {@link Mode}:
+ * <ul>
+ * <li>{@link Mode#SORT} sorts all edges, packing the weight rounded to a float and the index of
+ * each edge into a single {@code long} key.</li>
+ * <li>{@link Mode#PARALLEL_SORT} does the same using {@link Arrays#parallelSort(long[])}.</li>
+ * <li>{@link Mode#FILTER} uses the Filter-Kruskal algorithm of V. Osipov, P. Sanders and J.
+ * Singler, The Filter-Kruskal Minimum Spanning Tree Algorithm, ALENEX 2009. The edges are
+ * partitioned around a pivot weight as in quicksort; the lighter edges are processed first and,
+ * before the heavier edges are partitioned further, the edges connecting vertices of the same
+ * component are discarded. On dense graphs most edges never need to be sorted.</li>
+ * </ul>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -39,16 +53,31 @@ public class KruskalMinimumSpanningTree<V, E>
     implements
     SpanningTreeAlgorithm<E>
 {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     private final Graph<V, E> graph;
+    private final Mode mode;
 
     /**
-     * Construct a new instance of the algorithm.
+     * Construct a new instance of the algorithm which sorts all edges.
      * 
      * @param graph the input graph
      */
     public KruskalMinimumSpanningTree(Graph<V, E> graph)
+    {
+        this(graph, Mode.SORT);
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param mode the order in which the edges are inspected
+     */
+    public KruskalMinimumSpanningTree(Graph<V, E> graph, Mode mode)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.mode = Objects.requireNonNull(mode, "Mode cannot be null");
     }
 
     /**
@@ -57,26 +86,303 @@ public class KruskalMinimumSpanningTree<V, E>
     @Override
     public SpanningTree<E> getSpanningTree()
     {
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
-        ArrayList<E> allEdges = new ArrayList<>(graph.edgeSet());
-        allEdges.sort(Comparator.comparingDouble(graph::getEdgeWeight));
+        IndexedUnionFind<V> vertices = new IndexedUnionFind<>(graph.vertexSet());
+        @SuppressWarnings("unchecked") E[] edges = (E[]) graph.edgeSet().toArray();
+        int m = edges.length;
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        for (int e = 0; e < m; e++) {
+            source[e] = vertices.indexOf(graph.getEdgeSource(edges[e]));
+            target[e] = vertices.indexOf(graph.getEdgeTarget(edges[e]));
+            weight[e] = graph.getEdgeWeight(edges[e]);
+        }
+
+        Forest forest = new Forest(vertices.getIntUnionFind(), source, target, weight);
+        if (mode == Mode.FILTER) {
+            filterKruskal(forest, weight);
+        } else {
+            sortKruskal(forest, weight, mode == Mode.PARALLEL_SORT);
+        }
 
-        double spanningTreeCost = 0;
         Set<E> edgeList = new HashSet<>();
+        for (int i = 0; i < forest.size; i++) {
+            edgeList.add(edges[forest.treeEdges[i]]);
+        }
+        return new SpanningTreeImpl<>(edgeList, forest.cost);
+    }
+
+    /*
+     * Sort all edges by weight using packed keys. The high bits of a key hold the weight rounded to
+     * a float, which preserves the order of the weights, and the low bits the index of the edge.
+     * Runs of edges whose weights round to the same float are afterwards sorted exactly.
+     */
+    private void sortKruskal(Forest forest, double[] weight, boolean parallel)
+    {
+        int m = weight.length;
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = ((long) sortableBits((float) weight[e]) << 32) | e;
+        }
+        if (parallel) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        int i = 0;
+        while (i < m && !forest.isSpanning()) {
+            int j = i + 1;
+            while (j < m && (keys[j] >>> 32) == (keys[i] >>> 32)) {
+                j++;
+            }
+            if (j - i > 1) {
+                sortRun(keys, i, j, weight);
+            }
+            for (int k = i; k < j; k++) {
+                forest.add((int) keys[k]);
+            }
+            i = j;
+        }
+    }
+
+    /*
+     * The bits of a float as an integer with the same order.
+     */
+    private static int sortableBits(float f)
+    {
+        int bits = Float.floatToIntBits(f);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    /*
+     * Sort a run of keys by the exact weights of their edges.
+     */
+    private static void sortRun(long[] keys, int lo, int hi, double[] weight)
+    {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            for (int i = lo + 1; i < hi; i++) {
+                long key = keys[i];
+                double w = weight[(int) key];
+                int j = i - 1;
+                while (j >= lo && Double.compare(weight[(int) keys[j]], w) > 0) {
+                    keys[j + 1] = keys[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+            }
+            return;
+        }
+
+        // replace the high bits of the keys by the rank of the exact weights in the run
+        double[] sorted = new double[hi - lo];
+        for (int i = lo; i < hi; i++) {
+            sorted[i - lo] = weight[(int) keys[i]];
+        }
+        Arrays.sort(sorted);
+        for (int i = lo; i < hi; i++) {
+            long e = keys[i] & 0xffffffffL;
+            keys[i] = ((long) rank(sorted, weight[(int) e]) << 32) | e;
+        }
+        Arrays.sort(keys, lo, hi);
+    }
+
+    /*
+     * The position of the first occurrence of a weight in the sorted weights.
+     */
+    private static int rank(double[] sorted, double w)
+    {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(sorted[mid], w) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
 
-        for (E edge : allEdges) {
-            V source = graph.getEdgeSource(edge);
-            V target = graph.getEdgeTarget(edge);
-            if (forest.find(source).equals(forest.find(target))) {
+    /*
+     * Filter-Kruskal with an explicit stack of ranges, the lightest range is always on top.
+     */
+    private void filterKruskal(Forest forest, double[] weight)
+    {
+        int m = weight.length;
+        int[] ids = new int[m];
+        double[] w = weight.clone();
+        for (int e = 0; e < m; e++) {
+            ids[e] = e;
+        }
+
+        int[] stack = new int[48];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = m;
+        stack[top++] = 0;
+
+        while (top > 0 && !forest.isSpanning()) {
+            boolean equalWeights = stack[--top] == 1;
+            int hi = stack[--top];
+            int lo = stack[--top];
+
+            if (equalWeights) {
+                for (int i = lo; i < hi; i++) {
+                    forest.add(ids[i]);
+                }
                 continue;
             }
 
-            forest.union(source, target);
-            edgeList.add(edge);
-            spanningTreeCost += graph.getEdgeWeight(edge);
+            // discard the edges which already connect vertices of the same component
+            hi = forest.filter(ids, w, lo, hi);
+
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(ids, w, lo, hi);
+                for (int i = lo; i < hi; i++) {
+                    forest.add(ids[i]);
+                }
+                continue;
+            }
+
+            // three-way partition around the median of three weights
+            double pivot = median(w[lo], w[(lo + hi) >>> 1], w[hi - 1]);
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i < gt) {
+                if (w[i] < pivot) {
+                    swap(ids, w, i++, lt++);
+                } else if (w[i] > pivot) {
+                    swap(ids, w, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+
+            if (top + 9 > stack.length) {
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+            }
+            stack[top++] = gt;
+            stack[top++] = hi;
+            stack[top++] = 0;
+            stack[top++] = lt;
+            stack[top++] = gt;
+            stack[top++] = 1;
+            stack[top++] = lo;
+            stack[top++] = lt;
+            stack[top++] = 0;
+        }
+    }
+
+    private static double median(double a, double b, double c)
+    {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        } else {
+            return a < c ? a : (b < c ? c : b);
         }
+    }
+
+    private static void insertionSort(int[] ids, double[] w, int lo, int hi)
+    {
+        for (int i = lo + 1; i < hi; i++) {
+            int id = ids[i];
+            double wi = w[i];
+            int j = i - 1;
+            while (j >= lo && w[j] > wi) {
+                ids[j + 1] = ids[j];
+                w[j + 1] = w[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            w[j + 1] = wi;
+        }
+    }
 
-        return new SpanningTreeImpl<>(edgeList, spanningTreeCost);
+    private static void swap(int[] ids, double[] w, int i, int j)
+    {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double wi = w[i];
+        w[i] = w[j];
+        w[j] = wi;
+    }
+
+    /**
+     * The spanning forest under construction.
+     */
+    private static class Forest
+    {
+        private final IntUnionFind uf;
+        private final int[] source;
+        private final int[] target;
+        private final double[] weight;
+
+        private final int[] treeEdges;
+        private int size;
+        private double cost;
+
+        Forest(IntUnionFind uf, int[] source, int[] target, double[] weight)
+        {
+            this.uf = uf;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.treeEdges = new int[Math.max(0, uf.size() - 1)];
+        }
+
+        boolean isSpanning()
+        {
+            return uf.numberOfSets() <= 1;
+        }
+
+        void add(int e)
+        {
+            if (uf.union(source[e], target[e])) {
+                treeEdges[size++] = e;
+                cost += weight[e];
+            }
+        }
+
+        /*
+         * Compact the edges between different components to the front of the range and return
+         * the new end of the range.
+         */
+        int filter(int[] ids, double[] w, int lo, int hi)
+        {
+            int k = lo;
+            for (int i = lo; i < hi; i++) {
+                int e = ids[i];
+                if (uf.find(source[e]) != uf.find(target[e])) {
+                    ids[k] = e;
+                    w[k] = w[i];
+                    k++;
+                }
+            }
+            return k;
+        }
+    }
+
+    /**
+     * The order in which the edges are inspected.
+     */
+    public enum Mode
+    {
+        /**
+         * Sort all edges.
+         */
+        SORT,
+        /**
+         * Sort all edges in parallel.
+         */
+        PARALLEL_SORT,
+        /**
+         * Partition the edges and filter the heavier ones, as in Filter-Kruskal.
+         */
+        FILTER,
     }
 }
 
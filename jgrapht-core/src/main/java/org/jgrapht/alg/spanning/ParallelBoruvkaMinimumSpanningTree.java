@@ -0,0 +1,354 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.spanning;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel version of Borůvka's algorithm for the computation of a minimum spanning tree.
+ *
+ * <p>
+ * The graph is first copied into primitive arrays. Each round consists of two parallel phases. In
+ * the first phase every remaining edge is inspected: edges inside a component are discarded, all
+ * other edges compete for the cheapest edge of the two components they connect using an atomic
+ * compare-and-set minimum. In the second phase the cheapest edge of every component is added to
+ * a lock-free union-find, and becomes part of the tree if the union succeeds. Edges with equal
+ * weights are ordered by their position in the edge set of the graph, thus the cheapest edges
+ * never form a cycle and the result does not depend on the scheduling. The number of rounds is at
+ * most $\log V$ and each round takes $O(E+V)$ work.
+ *
+ * <p>
+ * The work is executed on a {@link ForkJoinPool}. Contrary to {@link BoruvkaMinimumSpanningTree},
+ * edge weights are compared exactly and not with a tolerance.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ParallelBoruvkaMinimumSpanningTree<V, E>
+    implements
+    SpanningTreeAlgorithm<E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new instance of the algorithm which uses the common {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBoruvkaMinimumSpanningTree(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to execute the rounds in parallel
+     */
+    public ParallelBoruvkaMinimumSpanningTree(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpanningTree<E> getSpanningTree()
+    {
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            vertexIndex.put(v, vertexIndex.size());
+        }
+        int n = vertexIndex.size();
+
+        // copy the edges to primitive arrays, skipping self-loops
+        @SuppressWarnings("unchecked") E[] edges = (E[]) graph.edgeSet().toArray();
+        int m = edges.length;
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        int[] live = new int[m];
+        int liveCount = 0;
+        for (int e = 0; e < m; e++) {
+            source[e] = vertexIndex.get(graph.getEdgeSource(edges[e]));
+            target[e] = vertexIndex.get(graph.getEdgeTarget(edges[e]));
+            weight[e] = graph.getEdgeWeight(edges[e]);
+            if (source[e] != target[e]) {
+                live[liveCount++] = e;
+            }
+        }
+
+        Rounds rounds = new Rounds(n, source, target, weight, live, liveCount);
+        rounds.run();
+
+        // create result in edge order, so that the weight does not depend on the scheduling
+        Set<E> mstEdges = new LinkedHashSet<>();
+        double mstWeight = 0d;
+        for (int e = 0; e < m; e++) {
+            if (rounds.inTree[e]) {
+                mstEdges.add(edges[e]);
+                mstWeight += weight[e];
+            }
+        }
+        return new SpanningTreeImpl<>(mstEdges, mstWeight);
+    }
+
+    /**
+     * The state of the rounds of the algorithm.
+     */
+    private class Rounds
+    {
+        private final int n;
+        private final int[] source;
+        private final int[] target;
+        private final double[] weight;
+        private final int[] live;
+        private int liveCount;
+
+        private final ConcurrentUnionFind forest;
+        private final AtomicIntegerArray cheapest;
+        private final boolean[] inTree;
+
+        Rounds(int n, int[] source, int[] target, double[] weight, int[] live, int liveCount)
+        {
+            this.n = n;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.live = live;
+            this.liveCount = liveCount;
+            this.forest = new ConcurrentUnionFind(n);
+            this.cheapest = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                cheapest.set(v, -1);
+            }
+            this.inTree = new boolean[source.length];
+        }
+
+        void run()
+        {
+            while (liveCount > 0) {
+                // find the cheapest edge of each component and discard edges inside components
+                int chunks = (liveCount + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD;
+                int[] kept = new int[chunks];
+                pool.invoke(new SelectTask(0, chunks, kept));
+
+                int count = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(live, c * SEQUENTIAL_THRESHOLD, live, count, kept[c]);
+                    count += kept[c];
+                }
+                liveCount = count;
+                if (liveCount == 0) {
+                    break;
+                }
+
+                // merge the components along their cheapest edges
+                pool.invoke(new MergeTask(0, n));
+            }
+        }
+
+        /*
+         * Process a chunk of the live edges, compacting the edges which still connect different
+         * components to the front of the chunk.
+         */
+        void select(int chunk, int[] kept)
+        {
+            int from = chunk * SEQUENTIAL_THRESHOLD;
+            int to = Math.min(from + SEQUENTIAL_THRESHOLD, liveCount);
+            int k = from;
+            for (int i = from; i < to; i++) {
+                int e = live[i];
+                int s = forest.find(source[e]);
+                int t = forest.find(target[e]);
+                if (s == t) {
+                    continue;
+                }
+                live[k++] = e;
+                offer(s, e);
+                offer(t, e);
+            }
+            kept[chunk] = k - from;
+        }
+
+        /*
+         * Atomically replace the cheapest edge of a component if the edge is cheaper.
+         */
+        private void offer(int component, int e)
+        {
+            while (true) {
+                int current = cheapest.get(component);
+                if (current != -1 && !isCheaper(e, current)) {
+                    return;
+                }
+                if (cheapest.compareAndSet(component, current, e)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isCheaper(int e, int f)
+        {
+            return weight[e] < weight[f] || (weight[e] == weight[f] && e < f);
+        }
+
+        void merge(int from, int to)
+        {
+            for (int v = from; v < to; v++) {
+                int e = cheapest.get(v);
+                if (e == -1) {
+                    continue;
+                }
+                cheapest.set(v, -1);
+                if (forest.union(source[e], target[e])) {
+                    inTree[e] = true;
+                }
+            }
+        }
+
+        /**
+         * Offers the live edges of a range of chunks to the components of their endpoints,
+         * dropping the edges inside a component.
+         */
+        private class SelectTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 2316290380658305409L;
+
+            private final int from;
+            private final int to;
+            private final int[] kept;
+
+            SelectTask(int from, int to, int[] kept)
+            {
+                this.from = from;
+                this.to = to;
+                this.kept = kept;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= 1) {
+                    for (int c = from; c < to; c++) {
+                        select(c, kept);
+                    }
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new SelectTask(from, mid, kept), new SelectTask(mid, to, kept));
+            }
+        }
+
+        /**
+         * Adds the cheapest edges of a range of components to the tree. Two components choosing
+         * the same edge union only once, thus the edge is added once.
+         */
+        private class MergeTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = -6410581409281742371L;
+
+            private final int from;
+            private final int to;
+
+            MergeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    merge(from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new MergeTask(from, mid), new MergeTask(mid, to));
+            }
+        }
+    }
+
+    /**
+     * A lock-free union-find over the integers $0, \dots, n-1$. Roots are always linked to a root
+     * with a larger index, thus concurrent unions cannot create a cycle. Finds use path halving.
+     */
+    private static class ConcurrentUnionFind
+    {
+        private final AtomicIntegerArray parent;
+
+        ConcurrentUnionFind(int n)
+        {
+            this.parent = new AtomicIntegerArray(n);
+            for (int i = 0; i < n; i++) {
+                parent.set(i, i);
+            }
+        }
+
+        int find(int x)
+        {
+            while (true) {
+                int p = parent.get(x);
+                if (p == x) {
+                    return x;
+                }
+                int gp = parent.get(p);
+                if (p != gp) {
+                    parent.compareAndSet(x, p, gp);
+                }
+                x = gp;
+            }
+        }
+
+        boolean union(int x, int y)
+        {
+            while (true) {
+                int rx = find(x);
+                int ry = find(y);
+                if (rx == ry) {
+                    return false;
+                }
+                if (rx > ry) {
+                    int tmp = rx;
+                    rx = ry;
+                    ry = tmp;
+                }
+                if (parent.compareAndSet(rx, rx, ry)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
+
+// End ParallelBoruvkaMinimumSpanningTree.java
@@ -21,7 +21,6 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.util.*;
 
-import java.lang.reflect.*;
 import java.util.*;
 
 /**
@@ -30,7 +29,8 @@ import java.util.*;
  * weighted undirected graph. The algorithm was developed by Czech mathematician V. Jarník and later
  * independently by computer scientist Robert C. Prim and rediscovered by E. Dijkstra.
  *
- * This implementation relies on a Fibonacci heap, and runs in $O(|E| + |V|log(|V|))$.
+ * This implementation relies on an addressable 4-ary heap of vertex indices, and runs in $O(|E|
+ * log(|V|))$.
  *
  *
  * @param <V> the graph vertex type
@@ -60,7 +60,6 @@ public class PrimMinimumSpanningTree<V, E>
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public SpanningTree<E> getSpanningTree()
     {
         Set<E> minimumSpanningTreeEdgeSet = new HashSet<>(g.vertexSet().size());
@@ -79,47 +78,52 @@ public class PrimMinimumSpanningTree<V, E>
             indexList.add(v);
         }
 
-        VertexInfo[] vertices = (VertexInfo[]) Array.newInstance(VertexInfo.class, N);
-        FibonacciHeapNode<VertexInfo>[] fibNodes =
-            (FibonacciHeapNode<VertexInfo>[]) Array.newInstance(FibonacciHeapNode.class, N);
-        FibonacciHeap<VertexInfo> fibonacciHeap = new FibonacciHeap<>();
+        boolean[] spanned = new boolean[N];
+        double[] distance = new double[N];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        List<E> edgeFromParent = new ArrayList<>(Collections.nCopies(N, null));
+        IntDoubleHeap heap = new DaryIntDoubleHeap(DaryIntDoubleHeap.DEFAULT_ARITY, N);
 
-        for (int i = 0; i < N; i++) {
-            vertices[i] = new VertexInfo();
-            vertices[i].id = i;
-            vertices[i].distance = Double.MAX_VALUE;
-            fibNodes[i] = new FibonacciHeapNode<>(vertices[i]);
-
-            fibonacciHeap.insert(fibNodes[i], vertices[i].distance);
-        }
-
-        while (!fibonacciHeap.isEmpty()) {
-            FibonacciHeapNode<VertexInfo> fibNode = fibonacciHeap.removeMin();
-            VertexInfo vertexInfo = fibNode.getData();
-
-            V p = indexList.get(vertexInfo.id);
-            vertexInfo.spanned = true;
-
-            // Add the edge from its parent to the spanning tree (if it exists)
-            if (vertexInfo.edgeFromParent != null) {
-                minimumSpanningTreeEdgeSet.add(vertexInfo.edgeFromParent);
-                spanningTreeWeight += g.getEdgeWeight(vertexInfo.edgeFromParent);
+        for (int root = 0; root < N; root++) {
+            if (spanned[root]) {
+                continue;
             }
 
-            // update all (unspanned) neighbors of p
-            for (E e : g.edgesOf(p)) {
-                V q = Graphs.getOppositeVertex(g, e, p);
-                int id = vertexMap.get(q);
+            // start a new tree of the spanning forest
+            heap.insert(root, 0d);
 
-                // if the vertex is not explored and we found a better edge, then update the info
-                if (!vertices[id].spanned) {
-                    double cost = g.getEdgeWeight(e);
+            while (!heap.isEmpty()) {
+                int id = heap.deleteMin();
+                V p = indexList.get(id);
+                spanned[id] = true;
 
-                    if (cost < vertices[id].distance) {
-                        vertices[id].distance = cost;
-                        vertices[id].edgeFromParent = e;
+                // Add the edge from its parent to the spanning tree (if it exists)
+                E parentEdge = edgeFromParent.get(id);
+                if (parentEdge != null) {
+                    minimumSpanningTreeEdgeSet.add(parentEdge);
+                    spanningTreeWeight += g.getEdgeWeight(parentEdge);
+                }
 
-                        fibonacciHeap.decreaseKey(fibNodes[id], cost);
+                // update all (unspanned) neighbors of p
+                for (E e : g.edgesOf(p)) {
+                    V q = Graphs.getOppositeVertex(g, e, p);
+                    int qId = vertexMap.get(q);
+
+                    // if the vertex is not explored and we found a better edge, then update the
+                    // info
+                    if (!spanned[qId]) {
+                        double cost = g.getEdgeWeight(e);
+
+                        if (cost < distance[qId]) {
+                            distance[qId] = cost;
+                            edgeFromParent.set(qId, e);
+
+                            if (heap.contains(qId)) {
+                                heap.decreaseKey(qId, cost);
+                            } else {
+                                heap.insert(qId, cost);
+                            }
+                        }
                     }
                 }
             }
@@ -127,12 +131,4 @@ public class PrimMinimumSpanningTree<V, E>
 
         return new SpanningTreeImpl<>(minimumSpanningTreeEdgeSet, spanningTreeWeight);
     }
-
-    private class VertexInfo
-    {
-        public int id;
-        public boolean spanned;
-        public double distance;
-        public E edgeFromParent;
-    }
 }
@@ -22,6 +22,7 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A dynamic programming algorithm for the TSP problem.
@@ -37,6 +38,15 @@ import java.util.*;
  * running time is $O(2^{|V|} \times |V|^2)$ and it takes $O(2^{|V|} \times |V|)$ extra memory.
  *
  * <p>
+ * The tours start at a fixed vertex. The minimum cost of a path which starts there, visits a set of
+ * vertices and ends at one of them is computed iteratively, by increasing size of the set. The
+ * entries of a layer only depend on the previous layer, thus they are computed in parallel on a
+ * {@link ForkJoinPool}. The costs are stored with an entry only for every pair of a set and a last
+ * vertex in the set, which is a quarter of a table indexed by all vertices and all sets. Paths
+ * which cannot be extended to a tour cheaper than a tour found by the nearest neighbour heuristic,
+ * even if every remaining vertex is entered by its cheapest incoming edge, are pruned.
+ *
+ * <p>
  * See <a href="https://en.wikipedia.org/wiki/Travelling_salesman_problem">wikipedia</a> for more
  * details about TSP.
  *
@@ -53,42 +63,27 @@ public class HeldKarpTSP<V, E>
     implements
     HamiltonianCycleAlgorithm<V, E>
 {
+    private static final int MAX_VERTICES = 31;
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    private final ForkJoinPool pool;
 
     /**
-     * Construct a new instance
+     * Construct a new instance which uses the common {@link ForkJoinPool}.
      */
     public HeldKarpTSP()
     {
+        this(ForkJoinPool.commonPool());
     }
 
-    private double memo(int previousNode, int state, double[][] C, double[][] W)
+    /**
+     * Construct a new instance
+     *
+     * @param pool the pool used to compute the layers of the dynamic program in parallel
+     */
+    public HeldKarpTSP(ForkJoinPool pool)
     {
-        // have we seen this state before?
-        if (C[previousNode][state] != Double.MIN_VALUE)
-            return C[previousNode][state];
-
-        // no cycle has been found yet
-        double totalCost = Double.MAX_VALUE;
-
-        // check if all nodes have been visited (i.e. state + 1 == 2^n)
-        if (state == (1 << W.length) - 1) {
-            // check if there is a return edge we can use
-            if (W[previousNode][0] != Double.MAX_VALUE)
-                totalCost = W[previousNode][0];
-            else
-                totalCost = Double.MAX_VALUE;
-        } else {
-            // try to find the 'best' next (i.e. unvisited and adjacent to previousNode) node in the
-            // tour
-            for (int i = 0; i < W.length; i++) {
-                if (((state >> i) & 1) == 0 && W[previousNode][i] != Double.MAX_VALUE) {
-                    totalCost =
-                        Math.min(totalCost, W[previousNode][i] + memo(i, state ^ (1 << i), C, W));
-                }
-            }
-        }
-
-        return C[previousNode][state] = totalCost;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     /**
@@ -100,6 +95,7 @@ public class HeldKarpTSP<V, E>
      * @throws IllegalArgumentException if the graph contains more than 31 vertices
      */
     @Override
+    @SuppressWarnings("unchecked")
     public GraphPath<V, E> getTour(Graph<V, E> graph)
     {
         final int n = graph.vertexSet().size(); // number of nodes
@@ -108,12 +104,12 @@ public class HeldKarpTSP<V, E>
             throw new IllegalArgumentException("Graph contains no vertices");
         }
 
-        if (n > 31) {
+        if (n > MAX_VERTICES) {
             throw new IllegalArgumentException(
                 "The internal representation of the dynamic programming state "
-                    + "space cannot represent graphs containing more than 31 vertices. "
-                    + "The runtime complexity of this implementation, O(2^|V| x |V|^2),  makes it unsuitable "
-                    + "for graphs with more than 31 vertices.");
+                    + "space cannot represent graphs containing more than " + MAX_VERTICES
+                    + " vertices. The runtime complexity of this implementation, "
+                    + "O(2^|V| x |V|^2), makes it unsuitable for such graphs.");
         }
 
         if (n == 1) {
@@ -122,93 +118,281 @@ public class HeldKarpTSP<V, E>
                 graph, startNode, startNode, Collections.singletonList(startNode), null, 0);
         }
 
-        // W[u, v] = the cost of the minimum weight between u and v
-        double[][] W = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            Arrays.fill(W[i], Double.MAX_VALUE);
-        }
-
         /*
-         * Normalize the graph map each vertex to an integer (using a HashMap) keep the reverse
-         * mapping (using an ArrayList)
+         * Normalize the graph: W[u][v] is the minimum weight of an edge from u to v, and
+         * edges[u][v] is such an edge
          */
+        List<V> indexList = new ArrayList<>(graph.vertexSet());
         Map<V, Integer> vertexMap = new HashMap<>();
-        List<V> indexList = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            vertexMap.put(indexList.get(i), i);
+        }
+        double[][] W = new double[n][n];
+        E[][] edges = (E[][]) new Object[n][n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(W[i], Double.POSITIVE_INFINITY);
+        }
+        boolean undirected = graph.getType().isUndirected();
         for (E e : graph.edgeSet()) {
-            V source = graph.getEdgeSource(e);
-            V target = graph.getEdgeTarget(e);
-
-            // map 'source' if no mapping exists
-            if (!vertexMap.containsKey(source)) {
-                vertexMap.put(source, vertexMap.size());
-                indexList.add(source);
-            }
-
-            // map 'target' if no mapping exists
-            if (!vertexMap.containsKey(target)) {
-                vertexMap.put(target, vertexMap.size());
-                indexList.add(target);
+            int u = vertexMap.get(graph.getEdgeSource(e));
+            int v = vertexMap.get(graph.getEdgeTarget(e));
+            double w = graph.getEdgeWeight(e);
+            if (w < W[u][v]) {
+                W[u][v] = w;
+                edges[u][v] = e;
             }
-
-            int u = vertexMap.get(source);
-            int v = vertexMap.get(target);
-
-            // use Math.min in case we deal with a multigraph
-            W[u][v] = Math.min(W[u][v], graph.getEdgeWeight(e));
-
             // If the graph is undirected we need to also consider the reverse edge
-            if (graph.getType().isUndirected())
-                W[v][u] = Math.min(W[v][u], graph.getEdgeWeight(e));
+            if (undirected && w < W[v][u]) {
+                W[v][u] = w;
+                edges[v][u] = e;
+            }
         }
 
-        // C[prevNode, state] = the minimum cost of a tour that ends in prevNode and contains all
-        // nodes in the bitmask state
-        double[][] C = new double[n][1 << n];
-        for (int i = 0; i < n; i++) {
-            Arrays.fill(C[i], Double.MIN_VALUE);
+        Table table = new Table(W, nearestNeighbourTour(W));
+        for (int k = 0; k < n - 1; k++) {
+            if (table.layerSize(k) < SEQUENTIAL_THRESHOLD) {
+                table.computeLayer(k, 0, n - 1);
+            } else {
+                pool.invoke(new LayerTask(table, k, 0, n - 1));
+            }
         }
 
-        // start the tour from node 0 (because the tour is a cycle the start vertex does not matter)
-        double tourWeight = memo(0, 1, C, W);
+        // close the tour, vertex i of the table is vertex i + 1 of the graph
+        int m = n - 1;
+        int all = (1 << m) - 1;
+        double tourWeight = Double.POSITIVE_INFINITY;
+        int lastNode = -1;
+        for (int l = 0; l < m; l++) {
+            double cost = table.get(l, all ^ (1 << l)) + W[l + 1][0];
+            if (cost < tourWeight) {
+                tourWeight = cost;
+                lastNode = l;
+            }
+        }
 
         // check if there is no tour
-        if (tourWeight == Double.MAX_VALUE)
+        if (tourWeight == Double.POSITIVE_INFINITY)
             return null;
 
         /*
-         * Reconstruct the tour
+         * Reconstruct the tour backwards
          */
-        List<V> vertexList = new ArrayList<>(n);
-        List<E> edgeList = new ArrayList<>(n);
-
-        int lastNode = 0;
-        int lastState = 1;
-
-        vertexList.add(indexList.get(lastNode));
-
-        for (int step = 1; step < n; step++) {
+        int[] order = new int[n + 1];
+        order[m] = lastNode + 1;
+        int set = all ^ (1 << lastNode);
+        for (int step = m - 1; step > 0; step--) {
+            double cost = table.get(lastNode, set);
             int nextNode = -1;
-            for (int node = 0; node < n; node++) {
-                if (C[node][lastState ^ (1 << node)]
-                    + W[lastNode][node] == C[lastNode][lastState])
+            for (int p = 0; p < m; p++) {
+                if ((set & (1 << p)) != 0
+                    && table.get(p, set ^ (1 << p)) + W[p + 1][lastNode + 1] == cost)
                 {
-                    nextNode = node;
+                    nextNode = p;
                     break;
                 }
             }
 
             assert nextNode != -1;
-            vertexList.add(indexList.get(nextNode));
-            edgeList.add(graph.getEdge(indexList.get(lastNode), indexList.get(nextNode)));
-            lastState ^= 1 << nextNode;
+            order[step] = nextNode + 1;
+            set ^= 1 << nextNode;
             lastNode = nextNode;
         }
 
-        // add start vertex
+        List<V> vertexList = new ArrayList<>(n + 1);
+        List<E> edgeList = new ArrayList<>(n);
         vertexList.add(indexList.get(0));
-        edgeList.add(graph.getEdge(indexList.get(lastNode), indexList.get(0)));
+        for (int i = 1; i <= n; i++) {
+            vertexList.add(indexList.get(order[i]));
+            edgeList.add(edges[order[i - 1]][order[i]]);
+        }
 
         return new GraphWalk<>(
             graph, indexList.get(0), indexList.get(0), vertexList, edgeList, tourWeight);
     }
+
+    /*
+     * Compute the weight of a tour which always continues with the cheapest edge to an unvisited
+     * vertex, or infinity if this gets stuck.
+     */
+    private static double nearestNeighbourTour(double[][] W)
+    {
+        int n = W.length;
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        int last = 0;
+        double weight = 0d;
+        for (int step = 1; step < n; step++) {
+            int next = -1;
+            for (int v = 0; v < n; v++) {
+                if (!visited[v] && W[last][v] != Double.POSITIVE_INFINITY
+                    && (next == -1 || W[last][v] < W[last][next]))
+                {
+                    next = v;
+                }
+            }
+            if (next == -1) {
+                return Double.POSITIVE_INFINITY;
+            }
+            visited[next] = true;
+            weight += W[last][next];
+            last = next;
+        }
+        return weight + W[last][0];
+    }
+
+    /**
+     * The costs of all paths from the start vertex, which is vertex 0 of the graph. Vertex $i$ of
+     * the table is vertex $i+1$ of the graph. The entry of a last vertex $l$ and a set $T$, which
+     * does not contain $l$, is the minimum cost of a path which visits exactly the vertices of $T$
+     * and ends at $l$. The entry is stored in row $l$ at position $T'$, which is $T$ without the
+     * bit of $l$. A row has $2^{m-1}$ entries, where $m$ is the number of vertices of the table.
+     */
+    private static class Table
+    {
+        private final double[][] W;
+        private final int m;
+        private final double[][] cost;
+        private final double[] minIn;
+        private final int[] predMask;
+        private final double upperBound;
+        private final boolean bounded;
+
+        Table(double[][] W, double upperBound)
+        {
+            this.W = W;
+            this.m = W.length - 1;
+            this.cost = new double[m][1 << (m - 1)];
+            this.minIn = new double[m + 1];
+            for (int v = 0; v <= m; v++) {
+                minIn[v] = Double.POSITIVE_INFINITY;
+                for (int u = 0; u <= m; u++) {
+                    minIn[v] = Math.min(minIn[v], W[u][v]);
+                }
+            }
+            // bit p of predMask[l] is set if there is an edge from p to l
+            this.predMask = new int[m];
+            for (int l = 0; l < m; l++) {
+                for (int p = 0; p < m; p++) {
+                    if (p != l && W[p + 1][l + 1] != Double.POSITIVE_INFINITY) {
+                        predMask[l] |= 1 << p;
+                    }
+                }
+            }
+            // tolerate rounding errors of sums computed in a different order
+            this.upperBound = upperBound + Math.abs(upperBound) * 1e-9;
+            this.bounded = upperBound != Double.POSITIVE_INFINITY;
+        }
+
+        double get(int l, int set)
+        {
+            int low = set & ((1 << l) - 1);
+            return cost[l][low | ((set >>> (l + 1)) << l)];
+        }
+
+        /*
+         * Number of entries whose set has k vertices.
+         */
+        long layerSize(int k)
+        {
+            long binomial = 1;
+            for (int i = 0; i < k; i++) {
+                binomial = binomial * (m - 1 - i) / (i + 1);
+            }
+            return binomial * m;
+        }
+
+        /*
+         * Compute the entries whose set has k vertices, for last vertices from to to.
+         */
+        void computeLayer(int k, int from, int to)
+        {
+            int limit = 1 << (m - 1);
+            for (int l = from; l < to; l++) {
+                double[] row = cost[l];
+                int lowMask = (1 << l) - 1;
+                int pred = predMask[l];
+                if (k == 0) {
+                    // no other vertices, Gosper's hack does not handle the empty set
+                    row[0] = prune(W[0][l + 1], 1 << l);
+                    continue;
+                }
+                for (int t = (1 << k) - 1; t < limit; t = nextSubset(t)) {
+                    int set = (t & lowMask) | ((t >>> l) << (l + 1));
+                    double best = Double.POSITIVE_INFINITY;
+                    for (int rest = set & pred; rest != 0; rest &= rest - 1) {
+                        int p = Integer.numberOfTrailingZeros(rest);
+                        double c = get(p, set ^ (1 << p)) + W[p + 1][l + 1];
+                        if (c < best) {
+                            best = c;
+                        }
+                    }
+                    row[t] = prune(best, set | (1 << l));
+                }
+            }
+        }
+
+        /*
+         * Return the cost of a path which visits the vertices of a set, or infinity if no tour
+         * which starts with such a path can be shorter than the upper bound.
+         */
+        private double prune(double best, int visited)
+        {
+            if (!bounded || best == Double.POSITIVE_INFINITY) {
+                return best;
+            }
+            // every remaining vertex and the start vertex need an incoming edge
+            double w = best + minIn[0];
+            int remaining = ~visited & ((1 << m) - 1);
+            while (remaining != 0) {
+                w += minIn[Integer.numberOfTrailingZeros(remaining) + 1];
+                remaining &= remaining - 1;
+            }
+            return w > upperBound ? Double.POSITIVE_INFINITY : best;
+        }
+
+        /*
+         * The next larger integer with the same number of bits set.
+         */
+        private static int nextSubset(int t)
+        {
+            int c = t & -t;
+            int r = t + c;
+            return (((r ^ t) >>> 2) / c) | r;
+        }
+    }
+
+    /**
+     * Computes the entries of a layer for a range of last vertices. They only read the previous
+     * layer, thus the ranges are independent.
+     */
+    private static class LayerTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 2845702183716025512L;
+
+        private final Table table;
+        private final int k;
+        private final int from;
+        private final int to;
+
+        LayerTask(Table table, int k, int from, int to)
+        {
+            this.table = table;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LayerTask(table, k, from, mid), new LayerTask(table, k, mid, to));
+                return;
+            }
+            table.computeLayer(k, from, to);
+        }
+    }
 }
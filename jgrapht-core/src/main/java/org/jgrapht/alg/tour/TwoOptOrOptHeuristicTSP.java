@@ -0,0 +1,681 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A local search heuristic for the TSP problem using 2-opt and Or-opt moves with candidate
+ * neighbor lists.
+ *
+ * <p>
+ * The travelling salesman problem (TSP) asks the following question: "Given a list of cities and
+ * the distances between each pair of cities, what is the shortest possible route that visits each
+ * city exactly once and returns to the origin city?".
+ *
+ * <p>
+ * Every run builds a nearest neighbor tour from a random vertex and improves it until a local
+ * minimum is reached. A 2-opt move replaces two edges of the tour by two other edges, and an Or-opt
+ * move moves a segment of up to three vertices, possibly reversed, to another position in the
+ * tour. Only moves which add an edge from a vertex to one of its nearest neighbors are considered,
+ * and a vertex is only checked again after an edge at it was changed (don't look bits). Thus an
+ * improvement pass takes time roughly linear in the number of vertices, instead of quadratic as in
+ * {@link TwoOptHeuristicTSP}. Several runs execute in parallel on a {@link ForkJoinPool} and the
+ * shortest tour is returned.
+ *
+ * <p>
+ * The graph must be undirected and should be complete. Only the nearest neighbors of every vertex
+ * are stored and all other distances are looked up in the graph, thus no dense distance matrix is
+ * built and the graph can also be a view which computes its edges on demand. Missing edges are
+ * treated as edges whose weight is larger than the weight of any tour, thus on graphs which are not
+ * complete the heuristic might not find a tour, even if one exists. The runs access the graph
+ * concurrently, but do not modify it.
+ *
+ * <p>
+ * See: S. Lin and B. W. Kernighan, An effective heuristic algorithm for the traveling-salesman
+ * problem, Operations Research, 21(2), pp. 498-516, 1973, and D. S. Johnson and L. A. McGeoch, The
+ * traveling salesman problem: a case study in local optimization, Local Search in Combinatorial
+ * Optimization, pp. 215-310, 1997.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class TwoOptOrOptHeuristicTSP<V, E>
+    implements
+    HamiltonianCycleAlgorithm<V, E>
+{
+    /**
+     * Default number of nearest neighbors of every vertex which are considered in moves
+     */
+    public static final int DEFAULT_CANDIDATES = 10;
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private final int k;
+    private final int candidates;
+    private final Random rng;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor. By default one run is used.
+     */
+    public TwoOptOrOptHeuristicTSP()
+    {
+        this(1, new Random());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param k how many runs to execute
+     */
+    public TwoOptOrOptHeuristicTSP(int k)
+    {
+        this(k, new Random());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param k how many runs to execute
+     * @param seed seed for the random number generator
+     */
+    public TwoOptOrOptHeuristicTSP(int k, long seed)
+    {
+        this(k, new Random(seed));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param k how many runs to execute
+     * @param rng random number generator
+     */
+    public TwoOptOrOptHeuristicTSP(int k, Random rng)
+    {
+        this(k, DEFAULT_CANDIDATES, rng, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param k how many runs to execute
+     * @param candidates how many nearest neighbors of every vertex are considered in moves
+     * @param rng random number generator
+     * @param pool the pool used to execute the runs in parallel
+     */
+    public TwoOptOrOptHeuristicTSP(int k, int candidates, Random rng, ForkJoinPool pool)
+    {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least one");
+        }
+        if (candidates < 1) {
+            throw new IllegalArgumentException("Number of candidates must be at least one");
+        }
+        this.k = k;
+        this.candidates = candidates;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Computes a tour.
+     *
+     * @param graph the input graph
+     * @return a tour, or null if no tour without missing edges was found
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> getTour(Graph<V, E> graph)
+    {
+        Instance instance = new Instance(graph);
+
+        /*
+         * Special case singleton vertex
+         */
+        if (instance.n == 1) {
+            V start = graph.vertexSet().iterator().next();
+            return new GraphWalk<>(
+                graph, start, start, Collections.singletonList(start), Collections.emptyList(), 0d);
+        }
+
+        long[] seeds = new long[k];
+        for (int i = 0; i < k; i++) {
+            seeds[i] = rng.nextLong();
+        }
+        int[][] tours = new int[k][];
+        pool.invoke(new RunTask(instance, seeds, tours, 0, k));
+
+        int[] best = tours[0];
+        double bestWeight = instance.tourWeight(best);
+        for (int[] tour : tours) {
+            double weight = instance.tourWeight(tour);
+            if (weight < bestWeight) {
+                best = tour;
+                bestWeight = weight;
+            }
+        }
+        return instance.toPath(best);
+    }
+
+    /**
+     * Try to improve a tour by running the local search.
+     *
+     * @param tour a tour
+     * @return a possibly improved tour
+     * @throws IllegalArgumentException if the path is not a tour of its graph
+     */
+    public GraphPath<V, E> improveTour(GraphPath<V, E> tour)
+    {
+        Instance instance = new Instance(tour.getGraph());
+        int n = instance.n;
+        if (n == 1) {
+            return tour;
+        }
+
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int i = 0;
+        V v = tour.getStartVertex();
+        for (E e : tour.getEdgeList()) {
+            if (i == n) {
+                throw new IllegalArgumentException("Not a valid tour");
+            }
+            int u = instance.index.get(v);
+            if (visited[u]) {
+                throw new IllegalArgumentException("Not a valid tour");
+            }
+            visited[u] = true;
+            order[i++] = u;
+            v = Graphs.getOppositeVertex(tour.getGraph(), e, v);
+        }
+        if (i < n || !v.equals(tour.getStartVertex())) {
+            throw new IllegalArgumentException("Not a valid tour");
+        }
+
+        Run run = new Run(instance, order);
+        run.improve();
+        return instance.toPath(run.tour);
+    }
+
+    /**
+     * The vertices of the graph numbered consecutively and the nearest neighbors of every vertex,
+     * sorted by distance. Other distances are looked up in the graph.
+     */
+    private class Instance
+    {
+        private final Graph<V, E> graph;
+        private final int n;
+        private final V[] vertices;
+        private final Map<V, Integer> index;
+        private final int[] candidateStart;
+        private final int[] candidate;
+        private final double[] candidateWeight;
+        private final double missing;
+
+        @SuppressWarnings("unchecked")
+        Instance(Graph<V, E> graph)
+        {
+            this.graph = GraphTests.requireUndirected(graph);
+            if (graph.vertexSet().isEmpty()) {
+                throw new IllegalArgumentException("Graph contains no vertices");
+            }
+            this.vertices = (V[]) graph.vertexSet().toArray();
+            this.n = vertices.length;
+            this.index = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                index.put(vertices[i], i);
+            }
+
+            // select the nearest neighbors by insertion into a short sorted array
+            this.candidateStart = new int[n + 1];
+            int[] nearest = new int[n * candidates];
+            double max = 0d;
+            int[] found = new int[candidates];
+            double[] foundWeight = new double[candidates];
+            for (int u = 0; u < n; u++) {
+                int count = 0;
+                for (E e : graph.edgesOf(vertices[u])) {
+                    double w = graph.getEdgeWeight(e);
+                    max = Math.max(max, Math.abs(w));
+                    int v = index.get(Graphs.getOppositeVertex(graph, e, vertices[u]));
+                    if (v == u || (count == candidates && w >= foundWeight[count - 1])) {
+                        continue;
+                    }
+                    int i = 0;
+                    while (i < count && found[i] != v) {
+                        i++;
+                    }
+                    if (i < count && foundWeight[i] <= w) {
+                        continue;
+                    }
+                    if (i == count && count < candidates) {
+                        count++;
+                    }
+                    i = Math.min(i, count - 1);
+                    while (i > 0 && foundWeight[i - 1] > w) {
+                        found[i] = found[i - 1];
+                        foundWeight[i] = foundWeight[i - 1];
+                        i--;
+                    }
+                    found[i] = v;
+                    foundWeight[i] = w;
+                }
+                System.arraycopy(found, 0, nearest, candidateStart[u], count);
+                candidateStart[u + 1] = candidateStart[u] + count;
+            }
+            this.candidate = Arrays.copyOf(nearest, candidateStart[n]);
+
+            // the weight of a missing edge, which is larger than the weight of any tour
+            this.missing = 2 * n * max + 1d;
+
+            // use the same edges as the distances of the tours
+            this.candidateWeight = new double[candidate.length];
+            for (int u = 0; u < n; u++) {
+                for (int i = candidateStart[u]; i < candidateStart[u + 1]; i++) {
+                    candidateWeight[i] = dist(u, candidate[i]);
+                }
+            }
+        }
+
+        double dist(int u, int v)
+        {
+            E e = graph.getEdge(vertices[u], vertices[v]);
+            return e == null ? missing : graph.getEdgeWeight(e);
+        }
+
+        double tourWeight(int[] tour)
+        {
+            double w = 0d;
+            for (int i = 0; i < n; i++) {
+                w += dist(tour[i], tour[i + 1 == n ? 0 : i + 1]);
+            }
+            return w;
+        }
+
+        GraphPath<V, E> toPath(int[] tour)
+        {
+            if (tourWeight(tour) > missing / 2) {
+                return null;
+            }
+            List<E> tourEdges = new ArrayList<>(n);
+            List<V> tourVertices = new ArrayList<>(n + 1);
+            double tourWeight = 0d;
+            for (int i = 0; i < n; i++) {
+                V u = vertices[tour[i]];
+                E e = graph.getEdge(u, vertices[tour[i + 1 == n ? 0 : i + 1]]);
+                tourVertices.add(u);
+                tourEdges.add(e);
+                tourWeight += graph.getEdgeWeight(e);
+            }
+            tourVertices.add(vertices[tour[0]]);
+            return new GraphWalk<>(
+                graph, vertices[tour[0]], vertices[tour[0]], tourVertices, tourEdges, tourWeight);
+        }
+
+        /*
+         * Build a tour which always continues with the nearest unvisited vertex, starting at a
+         * random vertex. If all neighbors are visited it continues with a random unvisited vertex.
+         */
+        int[] nearestNeighborTour(Random rng)
+        {
+            int[] permutation = new int[n];
+            for (int i = 0; i < n; i++) {
+                permutation[i] = i;
+            }
+            for (int i = n; i > 1; i--) {
+                int j = rng.nextInt(i);
+                int tmp = permutation[i - 1];
+                permutation[i - 1] = permutation[j];
+                permutation[j] = tmp;
+            }
+
+            int[] tour = new int[n];
+            boolean[] visited = new boolean[n];
+            int fallback = 0;
+            int u = permutation[0];
+            for (int step = 0; step < n; step++) {
+                tour[step] = u;
+                visited[u] = true;
+                if (step == n - 1) {
+                    break;
+                }
+                int next = -1;
+                for (int i = candidateStart[u]; i < candidateStart[u + 1]; i++) {
+                    if (!visited[candidate[i]]) {
+                        next = candidate[i];
+                        break;
+                    }
+                }
+                if (next == -1) {
+                    double best = Double.POSITIVE_INFINITY;
+                    for (E e : graph.edgesOf(vertices[u])) {
+                        int v = index.get(Graphs.getOppositeVertex(graph, e, vertices[u]));
+                        if (!visited[v] && graph.getEdgeWeight(e) < best) {
+                            best = graph.getEdgeWeight(e);
+                            next = v;
+                        }
+                    }
+                }
+                if (next == -1) {
+                    while (visited[permutation[fallback]]) {
+                        fallback++;
+                    }
+                    next = permutation[fallback];
+                }
+                u = next;
+            }
+            return tour;
+        }
+    }
+
+    /**
+     * A tour stored as an array of vertices and the position of every vertex in the array, and
+     * the local search on it.
+     */
+    private class Run
+    {
+        private final Instance instance;
+        private final int n;
+        private final int[] tour;
+        private final int[] pos;
+        private final boolean[] active;
+        private final int[] queue;
+        private int head;
+        private int size;
+
+        Run(Instance instance, int[] tour)
+        {
+            this.instance = instance;
+            this.n = instance.n;
+            this.tour = tour;
+            this.pos = new int[n];
+            for (int i = 0; i < n; i++) {
+                pos[tour[i]] = i;
+            }
+            this.active = new boolean[n];
+            this.queue = new int[n];
+        }
+
+        Run(Instance instance, Random rng)
+        {
+            this(instance, instance.nearestNeighborTour(rng));
+        }
+
+        void improve()
+        {
+            // check the vertices in random order of the initial tour
+            for (int v : tour) {
+                activate(v);
+            }
+            while (size > 0) {
+                int a = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                active[a] = false;
+                if (!twoOpt(a)) {
+                    orOpt(a);
+                }
+            }
+        }
+
+        private void activate(int v)
+        {
+            if (!active[v]) {
+                active[v] = true;
+                int tail = head + size;
+                queue[tail >= n ? tail - n : tail] = v;
+                size++;
+            }
+        }
+
+        private int next(int v)
+        {
+            int i = pos[v] + 1;
+            return tour[i == n ? 0 : i];
+        }
+
+        private int prev(int v)
+        {
+            int i = pos[v] - 1;
+            return tour[i < 0 ? n - 1 : i];
+        }
+
+        /*
+         * Try the 2-opt moves which add an edge from a to a near neighbor.
+         */
+        private boolean twoOpt(int a)
+        {
+            for (int dir = 0; dir < 2; dir++) {
+                int b = dir == 0 ? next(a) : prev(a);
+                double dab = instance.dist(a, b);
+                for (int i = instance.candidateStart[a]; i < instance.candidateStart[a + 1]; i++) {
+                    double dac = instance.candidateWeight[i];
+                    if (dac >= dab) {
+                        break;
+                    }
+                    int c = instance.candidate[i];
+                    int d = dir == 0 ? next(c) : prev(c);
+                    if (c == b || d == a) {
+                        continue;
+                    }
+                    double delta = dac + instance.dist(b, d) - dab - instance.dist(c, d);
+                    if (delta < -EPSILON) {
+                        move(a, b, c, d);
+                        activate(a);
+                        activate(b);
+                        activate(c);
+                        activate(d);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /*
+         * Try the Or-opt moves of a segment which starts or ends at a, which add an edge from an
+         * end of the segment to a near neighbor.
+         */
+        private boolean orOpt(int a)
+        {
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length + 4 <= n; length++) {
+                for (int dir = 0; dir < 2; dir++) {
+                    int s1 = a;
+                    int s2 = a;
+                    for (int i = 1; i < length; i++) {
+                        if (dir == 0) {
+                            s2 = next(s2);
+                        } else {
+                            s1 = prev(s1);
+                        }
+                    }
+                    if (orOpt(s1, s2, length)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean orOpt(int s1, int s2, int length)
+        {
+            int p = prev(s1);
+            int q = next(s2);
+            double gain = instance.dist(p, s1) + instance.dist(s2, q) - instance.dist(p, q);
+            if (!(gain > EPSILON)) {
+                return false;
+            }
+
+            for (int end = 0; end < 2; end++) {
+                int s = end == 0 ? s1 : s2;
+                int other = end == 0 ? s2 : s1;
+                for (int i = instance.candidateStart[s]; i < instance.candidateStart[s + 1]; i++) {
+                    double dsc = instance.candidateWeight[i];
+                    if (dsc >= gain) {
+                        break;
+                    }
+                    int c = instance.candidate[i];
+                    if (inSegment(c, s1, length)) {
+                        continue;
+                    }
+
+                    // insert between c and its successor, or its predecessor and c
+                    for (int side = 0; side < 2; side++) {
+                        int x = side == 0 ? c : prev(c);
+                        int y = side == 0 ? next(c) : c;
+                        if (x == q || y == p || inSegment(side == 0 ? y : x, s1, length)) {
+                            continue;
+                        }
+                        int far = side == 0 ? y : x;
+                        double cost = dsc + instance.dist(other, far) - instance.dist(x, y);
+                        if (cost < gain - EPSILON) {
+                            // keep the segment orientation if x is joined to s1
+                            boolean forward = (side == 0) == (end == 0);
+                            moveSegment(p, s1, s2, q, x, y, forward);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean inSegment(int v, int s1, int length)
+        {
+            int offset = pos[v] - pos[s1];
+            if (offset < 0) {
+                offset += n;
+            }
+            return offset < length;
+        }
+
+        /*
+         * Move the segment from s1 to s2 between x and y. The new edges are (p,q) and either
+         * (x,s1),(s2,y) or (x,s2),(s1,y).
+         */
+        private void moveSegment(int p, int s1, int s2, int q, int x, int y, boolean forward)
+        {
+            move(p, s1, x, y);
+            move(p, x, q, s2);
+            if (forward) {
+                move(x, s2, s1, y);
+            }
+            activate(p);
+            activate(q);
+            activate(s1);
+            activate(s2);
+            activate(x);
+            activate(y);
+        }
+
+        /*
+         * Replace the edges (a,b) and (c,d) by (a,c) and (b,d), where the tour visits a, b, c, d
+         * in this order in one of its directions.
+         */
+        private void move(int a, int b, int c, int d)
+        {
+            if (next(a) == b) {
+                reverse(b, c);
+            } else {
+                reverse(c, b);
+            }
+        }
+
+        /*
+         * Reverse the path from x to y, or the rest of the tour if it is shorter, which results in
+         * the same cycle.
+         */
+        private void reverse(int x, int y)
+        {
+            int i = pos[x];
+            int j = pos[y];
+            int length = j - i;
+            if (length < 0) {
+                length += n;
+            }
+            length++;
+            if (2 * length > n) {
+                int t = i;
+                i = j + 1 == n ? 0 : j + 1;
+                j = t == 0 ? n - 1 : t - 1;
+                length = n - length;
+            }
+            for (int s = 0; s < length / 2; s++) {
+                int u = tour[i];
+                int v = tour[j];
+                tour[i] = v;
+                pos[v] = i;
+                tour[j] = u;
+                pos[u] = j;
+                i = i + 1 == n ? 0 : i + 1;
+                j = j == 0 ? n - 1 : j - 1;
+            }
+        }
+    }
+
+    /**
+     * Improves the tours of a range of runs, each from its own seed, thus the tours do not depend
+     * on the scheduling.
+     */
+    private class RunTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -4409384732264819911L;
+
+        private final Instance instance;
+        private final long[] seeds;
+        private final int[][] tours;
+        private final int from;
+        private final int to;
+
+        RunTask(Instance instance, long[] seeds, int[][] tours, int from, int to)
+        {
+            this.instance = instance;
+            this.seeds = seeds;
+            this.tours = tours;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RunTask(instance, seeds, tours, from, mid),
+                    new RunTask(instance, seeds, tours, mid, to));
+                return;
+            }
+            Run run = new Run(instance, new Random(seeds[from]));
+            run.improve();
+            tours[from] = run.tour;
+        }
+    }
+}
+
+// End TwoOptOrOptHeuristicTSP.java
@@ -0,0 +1,309 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A graph copied into primitive arrays in compressed sparse row format.
+ *
+ * <p>
+ * The vertices are numbered $0, \dots, n-1$. The edges of vertex $v$ occupy the positions
+ * {@code start[v]} to {@code start[v + 1] - 1} of three parallel arrays, which hold the opposite
+ * vertex, the weight and the edge itself. Depending on the {@link Direction}, these are the
+ * outgoing, the incoming or all edges of every vertex, in the iteration order of the graph.
+ *
+ * <p>
+ * Algorithms which search a graph many times, or from several threads, copy it once and then work
+ * without hashing or boxing. The arrays are returned without copying and must not be modified. The
+ * only supported change is {@link #sortEdges(IntUnaryOperator)}, which reorders the edges of every
+ * vertex consistently in all three arrays.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class CompressedAdjacency<V, E>
+{
+    /**
+     * The edges of a vertex which are stored.
+     */
+    public enum Direction
+    {
+        /**
+         * The outgoing edges of a vertex, which are all its edges in an undirected graph.
+         */
+        OUTGOING,
+        /**
+         * The incoming edges of a vertex, which are all its edges in an undirected graph.
+         */
+        INCOMING,
+        /**
+         * All edges touching a vertex, as returned by {@link Graph#edgesOf(Object)}.
+         */
+        ALL
+    }
+
+    private final V[] vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final int[] start;
+    private final int[] target;
+    private final double[] weight;
+    private final E[] edges;
+
+    /**
+     * Copy a graph, numbering the vertices in the iteration order of its vertex set.
+     *
+     * @param graph the graph
+     * @param direction the edges of a vertex which are stored
+     */
+    @SuppressWarnings("unchecked")
+    public CompressedAdjacency(Graph<V, E> graph, Direction direction)
+    {
+        this(graph, (V[]) graph.vertexSet().toArray(), null, direction);
+    }
+
+    /**
+     * Copy a graph, numbering the vertices as given.
+     *
+     * @param graph the graph
+     * @param vertices all vertices of the graph, vertex $i$ is stored at position $i$
+     * @param vertexIndex the number of every vertex, or null to compute it from the vertices
+     * @param direction the edges of a vertex which are stored
+     */
+    @SuppressWarnings("unchecked")
+    public CompressedAdjacency(
+        Graph<V, E> graph, V[] vertices, Map<V, Integer> vertexIndex, Direction direction)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = Objects.requireNonNull(vertices, "Vertices cannot be null");
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        int n = vertices.length;
+        if (vertexIndex == null) {
+            vertexIndex = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                vertexIndex.put(vertices[i], i);
+            }
+        }
+        this.vertexIndex = vertexIndex;
+
+        this.start = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            start[v + 1] = start[v] + edgesOf(graph, vertices[v], direction).size();
+        }
+        int m = start[n];
+        this.target = new int[m];
+        this.weight = new double[m];
+        this.edges = (E[]) new Object[m];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            for (E e : edgesOf(graph, vertices[v], direction)) {
+                target[k] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, vertices[v]));
+                weight[k] = graph.getEdgeWeight(e);
+                edges[k] = e;
+                k++;
+            }
+        }
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int getVertexCount()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * Get the vertices, vertex $i$ at position $i$.
+     *
+     * @return an unmodifiable list of the vertices
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(Arrays.asList(vertices));
+    }
+
+    /**
+     * Get the number of every vertex.
+     *
+     * @return an unmodifiable map with the number of every vertex
+     */
+    public Map<V, Integer> getVertexIndex()
+    {
+        return Collections.unmodifiableMap(vertexIndex);
+    }
+
+    /**
+     * Get the offsets of the ranges of the vertices, an array of length $n+1$. The array is not
+     * copied and must not be modified.
+     *
+     * @return the offsets of the ranges
+     */
+    public int[] getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Get the opposite vertex of every edge position. The array is not copied and must not be
+     * modified.
+     *
+     * @return the opposite vertices
+     */
+    public int[] getTarget()
+    {
+        return target;
+    }
+
+    /**
+     * Get the weight of every edge position. The array is not copied and must not be modified.
+     *
+     * @return the weights
+     */
+    public double[] getWeight()
+    {
+        return weight;
+    }
+
+    /**
+     * Get the edge at an edge position.
+     *
+     * @param position the edge position
+     * @return the edge
+     */
+    public E getEdge(int position)
+    {
+        return edges[position];
+    }
+
+    /**
+     * Compute the vertex whose range contains each edge position.
+     *
+     * @return a new array with the vertex of every edge position
+     */
+    public int[] computeSources()
+    {
+        int[] source = new int[target.length];
+        for (int v = 0; v < vertices.length; v++) {
+            Arrays.fill(source, start[v], start[v + 1], v);
+        }
+        return source;
+    }
+
+    /**
+     * Sort the edges within the range of every vertex by a key. Edges with equal keys keep their
+     * relative order.
+     *
+     * @param key the non-negative key of the edge at a position
+     */
+    public void sortEdges(IntUnaryOperator key)
+    {
+        int n = vertices.length;
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, start[v + 1] - start[v]);
+        }
+        long[] keys = new long[maxDegree];
+        int[] tmpTarget = new int[maxDegree];
+        double[] tmpWeight = new double[maxDegree];
+        @SuppressWarnings("unchecked") E[] tmpEdges = (E[]) new Object[maxDegree];
+        for (int v = 0; v < n; v++) {
+            int from = start[v];
+            int d = start[v + 1] - from;
+            if (d < 2) {
+                continue;
+            }
+            for (int i = 0; i < d; i++) {
+                keys[i] = ((long) key.applyAsInt(from + i) << 32) | i;
+            }
+            Arrays.sort(keys, 0, d);
+            System.arraycopy(target, from, tmpTarget, 0, d);
+            System.arraycopy(weight, from, tmpWeight, 0, d);
+            System.arraycopy(edges, from, tmpEdges, 0, d);
+            for (int i = 0; i < d; i++) {
+                int j = (int) keys[i];
+                target[from + i] = tmpTarget[j];
+                weight[from + i] = tmpWeight[j];
+                edges[from + i] = tmpEdges[j];
+            }
+        }
+    }
+
+    /**
+     * Compute the distances from a source vertex by Dijkstra's algorithm.
+     *
+     * @param source the source vertex
+     * @param weight the non-negative weight of every edge position, usually {@link #getWeight()}
+     * @param dist the distance of every vertex, which must be infinite for all vertices before the
+     *        call, and after the call is the distance from the source for the reached vertices
+     * @param pred if not null, filled with the position of the last edge of a shortest path to
+     *        every reached vertex other than the source
+     * @param settle if not null, called with every reached vertex once its distance is final, and
+     *        if it returns false the edges of the vertex are not relaxed
+     * @param heap an empty heap
+     */
+    public void dijkstra(
+        int source, double[] weight, double[] dist, int[] pred, IntPredicate settle,
+        IntDoubleHeap heap)
+    {
+        dist[source] = 0d;
+        heap.insert(source, 0d);
+        while (!heap.isEmpty()) {
+            int u = heap.deleteMin();
+            if (settle != null && !settle.test(u)) {
+                continue;
+            }
+            double du = dist[u];
+            for (int e = start[u]; e < start[u + 1]; e++) {
+                int v = target[e];
+                double newDist = du + weight[e];
+                if (newDist < dist[v]) {
+                    if (dist[v] == Double.POSITIVE_INFINITY) {
+                        heap.insert(v, newDist);
+                    } else {
+                        heap.decreaseKey(v, newDist);
+                    }
+                    dist[v] = newDist;
+                    if (pred != null) {
+                        pred[v] = e;
+                    }
+                }
+            }
+        }
+    }
+
+    private static <V, E> Set<E> edgesOf(Graph<V, E> graph, V v, Direction direction)
+    {
+        switch (direction) {
+        case OUTGOING:
+            return graph.outgoingEdgesOf(v);
+        case INCOMING:
+            return graph.incomingEdgesOf(v);
+        default:
+            return graph.edgesOf(v);
+        }
+    }
+}
+
+// End CompressedAdjacency.java
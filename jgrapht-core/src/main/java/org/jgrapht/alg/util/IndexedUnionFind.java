@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * A <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union Find</a> data
+ * structure over arbitrary elements backed by an {@link IntUnionFind}.
+ *
+ * <p>
+ * The elements are mapped to consecutive integers once, when they are added. Each operation then
+ * performs a single hash lookup per element, while the rest of the work is done on primitive
+ * arrays. Callers which perform many operations on the same elements can look up their indices
+ * once using {@link #indexOf(Object)} and work directly on {@link #getIntUnionFind()}.
+ *
+ * @param <T> element type
+ */
+public class IndexedUnionFind<T>
+{
+    private final Map<T, Integer> index;
+    private final List<T> elements;
+    private final IntUnionFind uf;
+
+    /**
+     * Creates a UnionFind instance with all the elements in separate sets.
+     *
+     * @param elements the initial elements to include (each element in a singleton set).
+     */
+    public IndexedUnionFind(Set<T> elements)
+    {
+        this.index = new HashMap<>();
+        this.elements = new ArrayList<>(elements);
+        for (T element : this.elements) {
+            index.put(element, index.size());
+        }
+        this.uf = new IntUnionFind(this.elements.size());
+    }
+
+    /**
+     * Adds a new element to the data structure in its own set.
+     *
+     * @param element The element to add.
+     */
+    public void addElement(T element)
+    {
+        if (index.containsKey(element)) {
+            throw new IllegalArgumentException(
+                "element is already contained in UnionFind: " + element);
+        }
+        index.put(element, uf.addElement());
+        elements.add(element);
+    }
+
+    /**
+     * Returns the index of an element.
+     *
+     * @param element the element
+     * @return the index of the element in {@link #getIntUnionFind()}
+     * @throws IllegalArgumentException if the element is not contained in the data structure
+     */
+    public int indexOf(T element)
+    {
+        Integer i = index.get(element);
+        if (i == null) {
+            throw new IllegalArgumentException(
+                "element is not contained in this UnionFind data structure: " + element);
+        }
+        return i;
+    }
+
+    /**
+     * Returns the element with a given index.
+     *
+     * @param i the index
+     * @return the element with the given index
+     */
+    public T getElement(int i)
+    {
+        return elements.get(i);
+    }
+
+    /**
+     * Returns the underlying union find over the indices of the elements.
+     *
+     * @return the underlying union find
+     */
+    public IntUnionFind getIntUnionFind()
+    {
+        return uf;
+    }
+
+    /**
+     * Returns the representative element of the set that element is in.
+     *
+     * @param element The element to find.
+     *
+     * @return The element representing the set the element is in.
+     */
+    public T find(T element)
+    {
+        return elements.get(uf.find(indexOf(element)));
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. No guarantees are given as to which
+     * element becomes the representative of the resulting (merged) set: this can be either
+     * find(element1) or find(element2).
+     *
+     * @param element1 The first element to union.
+     * @param element2 The second element to union.
+     * @return true if the sets were merged, false if the elements were already in the same set
+     */
+    public boolean union(T element1, T element2)
+    {
+        return uf.union(indexOf(element1), indexOf(element2));
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise.
+     */
+    public boolean inSameSet(T element1, T element2)
+    {
+        return uf.inSameSet(indexOf(element1), indexOf(element2));
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return uf.numberOfSets();
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure.
+     */
+    public int size()
+    {
+        return uf.size();
+    }
+
+    /**
+     * Resets the UnionFind data structure: each element is placed in its own singleton set.
+     */
+    public void reset()
+    {
+        uf.reset();
+    }
+}
+
+// End IndexedUnionFind.java
@@ -0,0 +1,174 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An array based implementation of the
+ * <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union Find</a> data structure
+ * over the integers $0, \dots, n-1$.
+ *
+ * <p>
+ * Contrary to {@link UnionFind}, parents and ranks are stored in primitive arrays, thus no hashing
+ * or boxing takes place. The implementation uses union by rank and path halving to achieve an
+ * amortized cost of $O(\alpha(n))$ per operation where $\alpha$ is the inverse Ackermann function.
+ * Use {@link IndexedUnionFind} for arbitrary elements.
+ */
+public class IntUnionFind
+{
+    private int[] parent;
+    private int[] rank;
+    private int size;
+    private int count; // number of components
+
+    /**
+     * Creates a UnionFind instance with the elements $0, \dots, n-1$ in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public IntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        parent = new int[n];
+        rank = new int[n];
+        size = n;
+        reset();
+    }
+
+    /**
+     * Adds a new element to the data structure in its own set.
+     *
+     * @return the new element, which is equal to the previous size of the data structure
+     */
+    public int addElement()
+    {
+        if (size == parent.length) {
+            int capacity = Math.max(4, 2 * size);
+            parent = Arrays.copyOf(parent, capacity);
+            rank = Arrays.copyOf(rank, capacity);
+        }
+        int element = size++;
+        parent[element] = element;
+        rank[element] = 0;
+        count++;
+        return element;
+    }
+
+    /**
+     * Returns the representative element of the set that element is in.
+     *
+     * @param element The element to find.
+     *
+     * @return The element representing the set the element is in.
+     * @throws IllegalArgumentException if the element is not contained in the data structure
+     */
+    public int find(int element)
+    {
+        if (element < 0 || element >= size) {
+            throw new IllegalArgumentException(
+                "element is not contained in this UnionFind data structure: " + element);
+        }
+        int x = element;
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. No guarantees are given as to which
+     * element becomes the representative of the resulting (merged) set: this can be either
+     * find(element1) or find(element2).
+     *
+     * @param element1 The first element to union.
+     * @param element2 The second element to union.
+     * @return true if the sets were merged, false if the elements were already in the same set
+     */
+    public boolean union(int element1, int element2)
+    {
+        int parent1 = find(element1);
+        int parent2 = find(element2);
+
+        // check if the elements are already in the same set
+        if (parent1 == parent2) {
+            return false;
+        }
+
+        if (rank[parent1] > rank[parent2]) {
+            parent[parent2] = parent1;
+        } else if (rank[parent1] < rank[parent2]) {
+            parent[parent1] = parent2;
+        } else {
+            parent[parent2] = parent1;
+            rank[parent1]++;
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise.
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Resets the UnionFind data structure: each element is placed in its own singleton set.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+        count = size;
+    }
+}
+
+// End IntUnionFind.java
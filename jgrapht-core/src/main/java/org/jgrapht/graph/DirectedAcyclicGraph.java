@@ -18,6 +18,7 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.traverse.*;
 import org.jgrapht.util.*;
@@ -288,6 +289,79 @@ public class DirectedAcyclicGraph<V, E>
         return result;
     }
 
+    /**
+     * Add a batch of edges and repair the topological order once.
+     *
+     * <p>
+     * Edges which agree with the current topological order are added directly. If there are
+     * other edges, they are added as well and a new topological order of the whole graph is
+     * computed with Kahn's algorithm, in time linear in the size of the graph. Only if this finds a
+     * cycle, these edges are removed again and added one by one in iteration order, as by
+     * {@link #addEdge(Object, Object)}, rejecting the edges which would induce a cycle. Thus
+     * loading many edges is much faster than calling {@link #addEdge(Object, Object)} for each of
+     * them, while a single edge is better added with that method, which only visits the affected
+     * region.
+     *
+     * @param edges the source and target vertices of the edges to add
+     * @return the added edges, in the order of the input, with {@code null} for every edge which
+     *         was not added because it would induce a cycle, it is a self-loop or the graph already
+     *         contains it
+     * @throws IllegalArgumentException if an edge has a vertex which is not a vertex of the graph,
+     *         in which case the graph is not modified
+     */
+    public List<E> addEdges(Collection<? extends Pair<V, V>> edges)
+    {
+        for (Pair<V, V> edge : edges) {
+            assertVertexExist(edge.getFirst());
+            assertVertexExist(edge.getSecond());
+        }
+
+        List<E> result = new ArrayList<>(edges.size());
+        List<Integer> pending = new ArrayList<>();
+        for (Pair<V, V> edge : edges) {
+            V source = edge.getFirst();
+            V target = edge.getSecond();
+            int s = topoOrderMap.getTopologicalIndex(source);
+            int t = topoOrderMap.getTopologicalIndex(target);
+            if (s < t) {
+                result.add(super.addEdge(source, target));
+            } else if (s == t) {
+                // self-loops always induce a cycle
+                result.add(null);
+            } else {
+                pending.add(result.size());
+                result.add(super.addEdge(source, target));
+            }
+        }
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        if (!reorderAll()) {
+            // the old order is still valid without the pending edges
+            for (int i : pending) {
+                E e = result.get(i);
+                if (e != null) {
+                    super.removeEdge(e);
+                }
+            }
+            List<Pair<V, V>> list = new ArrayList<>(edges);
+            for (int i : pending) {
+                Pair<V, V> edge = list.get(i);
+                E e = null;
+                try {
+                    updateDag(edge.getFirst(), edge.getSecond());
+                    e = super.addEdge(edge.getFirst(), edge.getSecond());
+                } catch (CycleFoundException ex) {
+                    // reject the edge
+                }
+                result.set(i, e);
+            }
+        }
+        ++topoModCount;
+        return result;
+    }
+
     /**
      * Get the ancestors of a vertex.
      *
@@ -373,6 +447,60 @@ public class DirectedAcyclicGraph<V, E>
         }
     }
 
+    /**
+     * Compute a new topological order of all vertices with Kahn's algorithm.
+     *
+     * @return false, without changing the order, if the graph contains a cycle
+     */
+    @SuppressWarnings("unchecked")
+    private boolean reorderAll()
+    {
+        int n = vertexSet().size();
+        V[] vertices = (V[]) new Object[n];
+        Map<V, Integer> index = new HashMap<>();
+        int k = 0;
+        for (int i = minTopoIndex; i <= maxTopoIndex; i++) {
+            V v = topoOrderMap.getVertex(i);
+            if (v != null) {
+                index.put(v, k);
+                vertices[k++] = v;
+            }
+        }
+
+        int[] inDegree = new int[n];
+        for (int v = 0; v < n; v++) {
+            inDegree[v] = inDegreeOf(vertices[v]);
+        }
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            V v = vertices[order[head++]];
+            for (E e : outgoingEdgesOf(v)) {
+                int w = index.get(getEdgeTarget(e));
+                if (--inDegree[w] == 0) {
+                    order[tail++] = w;
+                }
+            }
+        }
+        if (tail < n) {
+            return false;
+        }
+
+        topoOrderMap.removeAllVertices();
+        for (int i = 0; i < n; i++) {
+            topoOrderMap.putVertex(i + 1, vertices[order[i]]);
+        }
+        minTopoIndex = 0;
+        maxTopoIndex = n;
+        return true;
+    }
+
     /**
      * Depth first search forward, building up the set (df) of forward-connected vertices in the
      * Affected Region
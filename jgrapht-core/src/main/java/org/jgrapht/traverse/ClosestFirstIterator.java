@@ -32,6 +32,12 @@ import java.util.*;
  * Graph.getEdgeWeight(Edge) is summed to calculate path length. Negative edge weights will result
  * in an IllegalArgumentException. Optionally, path length may be bounded by a finite radius.
  * </p>
+ *
+ * <p>
+ * Vertices are numbered in the order in which they are first seen and kept in a
+ * {@link DaryIntDoubleHeap}. Vertices at equal distance are visited in the order in which they were
+ * first seen.
+ * </p>
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -41,12 +47,17 @@ import java.util.*;
  */
 public class ClosestFirstIterator<V, E>
     extends
-    CrossComponentIterator<V, E, FibonacciHeapNode<ClosestFirstIterator.QueueEntry<V, E>>>
+    CrossComponentIterator<V, E, ClosestFirstIterator.QueueEntry<V, E>>
 {
     /**
-     * Priority queue of fringe vertices.
+     * Priority queue of the numbers of fringe vertices.
      */
-    private FibonacciHeap<QueueEntry<V, E>> heap = new FibonacciHeap<>();
+    private IntDoubleHeap heap = new DaryIntDoubleHeap();
+
+    /**
+     * Seen vertices, indexed by their number.
+     */
+    private List<QueueEntry<V, E>> entries = new ArrayList<>();
 
     /**
      * Maximum distance to search.
@@ -161,13 +172,13 @@ public class ClosestFirstIterator<V, E>
      */
     public double getShortestPathLength(V vertex)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        QueueEntry<V, E> entry = getSeenData(vertex);
 
-        if (node == null) {
+        if (entry == null) {
             return Double.POSITIVE_INFINITY;
         }
 
-        return node.getKey();
+        return entry.shortestPathLength;
     }
 
     /**
@@ -183,13 +194,13 @@ public class ClosestFirstIterator<V, E>
      */
     public E getSpanningTreeEdge(V vertex)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        QueueEntry<V, E> entry = getSeenData(vertex);
 
-        if (node == null) {
+        if (entry == null) {
             return null;
         }
 
-        return node.getData().spanningTreeEdge;
+        return entry.spanningTreeEdge;
     }
 
     /**
@@ -198,10 +209,10 @@ public class ClosestFirstIterator<V, E>
     @Override
     protected boolean isConnectedComponentExhausted()
     {
-        if (heap.size() == 0) {
+        if (heap.isEmpty()) {
             return true;
         } else {
-            if (heap.min().getKey() > radius) {
+            if (heap.findMinKey() > radius) {
                 heap.clear();
 
                 return true;
@@ -223,9 +234,9 @@ public class ClosestFirstIterator<V, E>
         } else {
             shortestPathLength = calculatePathLength(vertex, edge);
         }
-        FibonacciHeapNode<QueueEntry<V, E>> node = createSeenData(vertex, edge);
-        putSeenData(vertex, node);
-        heap.insert(node, shortestPathLength);
+        QueueEntry<V, E> entry = createSeenData(vertex, edge, shortestPathLength);
+        putSeenData(vertex, entry);
+        heap.insert(entry.number, shortestPathLength);
     }
 
     /**
@@ -238,18 +249,19 @@ public class ClosestFirstIterator<V, E>
     @Override
     protected void encounterVertexAgain(V vertex, E edge)
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = getSeenData(vertex);
+        QueueEntry<V, E> entry = getSeenData(vertex);
 
-        if (node.getData().frozen) {
+        if (entry.frozen) {
             // no improvement for this vertex possible
             return;
         }
 
         double candidatePathLength = calculatePathLength(vertex, edge);
 
-        if (candidatePathLength < node.getKey()) {
-            node.getData().spanningTreeEdge = edge;
-            heap.decreaseKey(node, candidatePathLength);
+        if (candidatePathLength < entry.shortestPathLength) {
+            entry.spanningTreeEdge = edge;
+            entry.shortestPathLength = candidatePathLength;
+            heap.decreaseKey(entry.number, candidatePathLength);
         }
     }
 
@@ -259,10 +271,10 @@ public class ClosestFirstIterator<V, E>
     @Override
     protected V provideNextVertex()
     {
-        FibonacciHeapNode<QueueEntry<V, E>> node = heap.removeMin();
-        node.getData().frozen = true;
+        QueueEntry<V, E> entry = entries.get(heap.deleteMin());
+        entry.frozen = true;
 
-        return node.getData().vertex;
+        return entry.vertex;
     }
 
     private void assertNonNegativeEdge(E edge)
@@ -286,9 +298,9 @@ public class ClosestFirstIterator<V, E>
         assertNonNegativeEdge(edge);
 
         V otherVertex = Graphs.getOppositeVertex(getGraph(), edge, vertex);
-        FibonacciHeapNode<QueueEntry<V, E>> otherEntry = getSeenData(otherVertex);
+        QueueEntry<V, E> otherEntry = getSeenData(otherVertex);
 
-        return otherEntry.getKey() + getGraph().getEdgeWeight(edge);
+        return otherEntry.shortestPathLength + getGraph().getEdgeWeight(edge);
     }
 
     private void checkRadiusTraversal(boolean crossComponentTraversal)
@@ -300,20 +312,24 @@ public class ClosestFirstIterator<V, E>
     }
 
     /**
-     * The first time we see a vertex, make up a new heap node for it.
+     * The first time we see a vertex, make up a new queue entry for it.
      *
      * @param vertex a vertex which has just been encountered.
      * @param edge the edge via which the vertex was encountered.
+     * @param shortestPathLength the length of the path via the edge.
      *
-     * @return the new heap node.
+     * @return the new queue entry.
      */
-    private FibonacciHeapNode<QueueEntry<V, E>> createSeenData(V vertex, E edge)
+    private QueueEntry<V, E> createSeenData(V vertex, E edge, double shortestPathLength)
     {
         QueueEntry<V, E> entry = new QueueEntry<>();
+        entry.number = entries.size();
         entry.vertex = vertex;
         entry.spanningTreeEdge = edge;
+        entry.shortestPathLength = shortestPathLength;
+        entries.add(entry);
 
-        return new FibonacciHeapNode<>(entry);
+        return entry;
     }
 
     /**
@@ -321,11 +337,21 @@ public class ClosestFirstIterator<V, E>
      */
     static class QueueEntry<V, E>
     {
+        /**
+         * Number of the vertex in the order in which vertices were first seen.
+         */
+        int number;
+
         /**
          * Best spanning tree edge to vertex seen so far.
          */
         E spanningTreeEdge;
 
+        /**
+         * Length of the shortest path to vertex seen so far.
+         */
+        double shortestPathLength;
+
         /**
          * The vertex reached.
          */
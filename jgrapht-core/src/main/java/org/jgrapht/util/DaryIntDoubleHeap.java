@@ -0,0 +1,263 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable implicit d-ary heap. With arity 2 this is the classical binary heap.
+ *
+ * <p>
+ * The items and their keys are stored in heap order in two parallel arrays, and a third array
+ * maps each item to its position. Insert and decrease-key take $O(\log_d n)$ time and delete-min
+ * $O(d \log_d n)$ time. A 4-ary heap is usually faster than a binary heap, since it is shallower
+ * and the children of a node share a cache line.
+ *
+ * <p>
+ * Ties are broken by the items, that is, among the items with the minimum key the smallest item is
+ * removed first. Thus the order in which items are removed does not depend on the order of the
+ * operations which led to equal keys.
+ */
+public class DaryIntDoubleHeap
+    implements
+    IntDoubleHeap
+{
+    /**
+     * The default arity.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NOT_CONTAINED = -1;
+
+    private final int d;
+    private int[] items;
+    private double[] keys;
+    private int[] position;
+    private int size;
+
+    /**
+     * Create a new 4-ary heap.
+     */
+    public DaryIntDoubleHeap()
+    {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param d the arity of the heap
+     * @throws IllegalArgumentException if the arity is less than two
+     */
+    public DaryIntDoubleHeap(int d)
+    {
+        this(d, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param d the arity of the heap
+     * @param capacity the initial capacity, usually the number of items
+     * @throws IllegalArgumentException if the arity is less than two or the capacity is negative
+     */
+    public DaryIntDoubleHeap(int d, int capacity)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least two");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.d = d;
+        this.items = new int[capacity];
+        this.keys = new double[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, NOT_CONTAINED);
+    }
+
+    @Override
+    public void insert(int item, double key)
+    {
+        if (item < 0) {
+            throw new IllegalArgumentException("Item must be non-negative");
+        }
+        if (item >= position.length) {
+            int capacity = Math.max(item + 1, 2 * position.length);
+            int old = position.length;
+            position = Arrays.copyOf(position, capacity);
+            Arrays.fill(position, old, capacity, NOT_CONTAINED);
+        }
+        if (position[item] != NOT_CONTAINED) {
+            throw new IllegalArgumentException("Item already contained: " + item);
+        }
+        if (size == items.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+            items = Arrays.copyOf(items, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        siftUp(size++, item, key);
+    }
+
+    @Override
+    public void decreaseKey(int item, double key)
+    {
+        int pos = positionOf(item);
+        if (key > keys[pos]) {
+            throw new IllegalArgumentException("Key is larger than the current key");
+        }
+        siftUp(pos, item, key);
+    }
+
+    @Override
+    public boolean contains(int item)
+    {
+        return item >= 0 && item < position.length && position[item] != NOT_CONTAINED;
+    }
+
+    @Override
+    public double getKey(int item)
+    {
+        return keys[positionOf(item)];
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return items[0];
+    }
+
+    @Override
+    public double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = items[0];
+        position[min] = NOT_CONTAINED;
+        size--;
+        if (size > 0) {
+            siftDown(0, items[size], keys[size]);
+        }
+        return min;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[items[i]] = NOT_CONTAINED;
+        }
+        size = 0;
+    }
+
+    private int positionOf(int item)
+    {
+        if (!contains(item)) {
+            throw new IllegalArgumentException("Item not contained: " + item);
+        }
+        return position[item];
+    }
+
+    /*
+     * Place an item with a key at a position or above it.
+     */
+    private void siftUp(int pos, int item, double key)
+    {
+        while (pos > 0) {
+            int parent = (pos - 1) / d;
+            if (precedes(keys[parent], items[parent], key, item)) {
+                break;
+            }
+            items[pos] = items[parent];
+            keys[pos] = keys[parent];
+            position[items[pos]] = pos;
+            pos = parent;
+        }
+        items[pos] = item;
+        keys[pos] = key;
+        position[item] = pos;
+    }
+
+    /*
+     * Place an item with a key at a position or below it.
+     */
+    private void siftDown(int pos, int item, double key)
+    {
+        while (true) {
+            int first = d * pos + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + d, size);
+            int min = first;
+            double minKey = keys[first];
+            for (int c = first + 1; c < last; c++) {
+                if (precedes(keys[c], items[c], minKey, items[min])) {
+                    min = c;
+                    minKey = keys[c];
+                }
+            }
+            if (precedes(key, item, minKey, items[min])) {
+                break;
+            }
+            items[pos] = items[min];
+            keys[pos] = minKey;
+            position[items[pos]] = pos;
+            pos = min;
+        }
+        items[pos] = item;
+        keys[pos] = key;
+        position[item] = pos;
+    }
+
+    /*
+     * Test if an item with a key is ordered before another one.
+     */
+    private static boolean precedes(double key1, int item1, double key2, int item2)
+    {
+        return key1 < key2 || (key1 == key2 && item1 < item2);
+    }
+}
+
+// End DaryIntDoubleHeap.java
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+/**
+ * An addressable priority queue of non-negative integer items with {@code double} keys.
+ *
+ * <p>
+ * Items are addressed directly by their value, thus an item can be contained at most once and its
+ * key can be decreased without a handle object. Implementations store their state in primitive
+ * arrays which grow with the largest item ever inserted, and do not allocate per operation. They
+ * are meant for graph algorithms which number their vertices $0, \dots, n-1$.
+ *
+ * <p>
+ * <b>Note that implementations are not synchronized.</b>
+ */
+public interface IntDoubleHeap
+{
+    /**
+     * Insert an item.
+     *
+     * @param item the item, a non-negative integer
+     * @param key the key of the item
+     * @throws IllegalArgumentException if the item is negative or already contained
+     */
+    void insert(int item, double key);
+
+    /**
+     * Decrease the key of an item.
+     *
+     * @param item the item
+     * @param key the new key, which must not be larger than the current key
+     * @throws IllegalArgumentException if the item is not contained or the key is larger than the
+     *         current key
+     */
+    void decreaseKey(int item, double key);
+
+    /**
+     * Test whether an item is contained.
+     *
+     * @param item the item
+     * @return true if the item is contained, false otherwise
+     */
+    boolean contains(int item);
+
+    /**
+     * Get the key of an item.
+     *
+     * @param item the item
+     * @return the key of the item
+     * @throws IllegalArgumentException if the item is not contained
+     */
+    double getKey(int item);
+
+    /**
+     * Get an item with the minimum key without removing it.
+     *
+     * @return an item with the minimum key
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    int findMin();
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    double findMinKey();
+
+    /**
+     * Remove an item with the minimum key.
+     *
+     * @return the removed item
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    int deleteMin();
+
+    /**
+     * Test whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get the number of items.
+     *
+     * @return the number of items
+     */
+    int size();
+
+    /**
+     * Remove all items. The capacity of the heap is kept.
+     */
+    void clear();
+}
+
+// End IntDoubleHeap.java
@@ -0,0 +1,262 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable pairing heap.
+ *
+ * <p>
+ * See: M. L. Fredman, R. Sedgewick, D. D. Sleator and R. E. Tarjan, The pairing heap: A new form
+ * of self-adjusting heap, Algorithmica, 1 (1986), pp. 111-129.
+ *
+ * <p>
+ * The tree is stored in primitive arrays indexed by the items: the leftmost child, the right
+ * sibling and the left sibling or parent of each item. Insert and decrease-key take $O(1)$ time
+ * and delete-min $O(\log n)$ amortized time, using the two-pass pairing strategy. Pairing heaps
+ * perform well in workloads with many decrease-key operations.
+ */
+public class PairingIntDoubleHeap
+    implements
+    IntDoubleHeap
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NONE = -1;
+    private static final int NOT_CONTAINED = -2;
+
+    private double[] keys;
+    private int[] child;
+    private int[] next;
+    private int[] prev;
+    private int[] pairs;
+    private int root;
+    private int size;
+
+    /**
+     * Create a new heap.
+     */
+    public PairingIntDoubleHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the initial capacity, usually the number of items
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public PairingIntDoubleHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.keys = new double[capacity];
+        this.child = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        Arrays.fill(prev, NOT_CONTAINED);
+        this.pairs = new int[DEFAULT_CAPACITY];
+        this.root = NONE;
+    }
+
+    @Override
+    public void insert(int item, double key)
+    {
+        if (item < 0) {
+            throw new IllegalArgumentException("Item must be non-negative");
+        }
+        if (item >= prev.length) {
+            int capacity = Math.max(item + 1, 2 * prev.length);
+            int old = prev.length;
+            keys = Arrays.copyOf(keys, capacity);
+            child = Arrays.copyOf(child, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            Arrays.fill(prev, old, capacity, NOT_CONTAINED);
+        }
+        if (prev[item] != NOT_CONTAINED) {
+            throw new IllegalArgumentException("Item already contained: " + item);
+        }
+        keys[item] = key;
+        child[item] = NONE;
+        next[item] = NONE;
+        prev[item] = NONE;
+        root = link(root, item);
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int item, double key)
+    {
+        checkContained(item);
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("Key is larger than the current key");
+        }
+        keys[item] = key;
+        if (item == root) {
+            return;
+        }
+
+        // cut the subtree of the item and link it with the root
+        int p = prev[item];
+        if (child[p] == item) {
+            child[p] = next[item];
+        } else {
+            next[p] = next[item];
+        }
+        if (next[item] != NONE) {
+            prev[next[item]] = p;
+        }
+        next[item] = NONE;
+        prev[item] = NONE;
+        root = link(root, item);
+    }
+
+    @Override
+    public boolean contains(int item)
+    {
+        return item >= 0 && item < prev.length && prev[item] != NOT_CONTAINED;
+    }
+
+    @Override
+    public double getKey(int item)
+    {
+        checkContained(item);
+        return keys[item];
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return root;
+    }
+
+    @Override
+    public double findMinKey()
+    {
+        return keys[findMin()];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        int min = findMin();
+
+        // detach the children of the root
+        int count = 0;
+        for (int c = child[min]; c != NONE;) {
+            if (count == pairs.length) {
+                pairs = Arrays.copyOf(pairs, 2 * count);
+            }
+            pairs[count++] = c;
+            int nc = next[c];
+            next[c] = NONE;
+            prev[c] = NONE;
+            c = nc;
+        }
+
+        // first pass links pairs from left to right, second pass from right to left
+        int merged = 0;
+        for (int i = 0; i < count; i += 2) {
+            pairs[merged++] = i + 1 < count ? link(pairs[i], pairs[i + 1]) : pairs[i];
+        }
+        int newRoot = NONE;
+        for (int i = merged - 1; i >= 0; i--) {
+            newRoot = link(pairs[i], newRoot);
+        }
+
+        root = newRoot;
+        child[min] = NONE;
+        prev[min] = NOT_CONTAINED;
+        size--;
+        return min;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (root != NONE) {
+            int count = 0;
+            pairs[count++] = root;
+            while (count > 0) {
+                int x = pairs[--count];
+                for (int c = child[x]; c != NONE; c = next[c]) {
+                    if (count == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, 2 * count);
+                    }
+                    pairs[count++] = c;
+                }
+                prev[x] = NOT_CONTAINED;
+            }
+        }
+        root = NONE;
+        size = 0;
+    }
+
+    private void checkContained(int item)
+    {
+        if (!contains(item)) {
+            throw new IllegalArgumentException("Item not contained: " + item);
+        }
+    }
+
+    /*
+     * Link two detached trees and return the new root.
+     */
+    private int link(int a, int b)
+    {
+        if (a == NONE) {
+            return b;
+        }
+        if (b == NONE) {
+            return a;
+        }
+        if (keys[b] < keys[a]) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int c = child[a];
+        next[b] = c;
+        if (c != NONE) {
+            prev[c] = b;
+        }
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+}
+
+// End PairingIntDoubleHeap.java
@@ -0,0 +1,275 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable radix heap for integer keys.
+ *
+ * <p>
+ * See: R. K. Ahuja, K. Mehlhorn, J. Orlin and R. E. Tarjan, Faster algorithms for the shortest
+ * path problem, Journal of the ACM, 37 (1990), pp. 213-223.
+ *
+ * <p>
+ * A radix heap is a monotone priority queue: the keys must be non-negative integers (of at most
+ * $2^{53}$, so that they are exact as {@code double} values) and no key may be smaller than the
+ * last key removed. This is the case in Dijkstra's algorithm with integer edge weights. Items are
+ * kept in 65 buckets of doubly linked lists stored in primitive arrays, where bucket $i$ holds the
+ * items whose key differs from the last removed key in bit $i-1$ as the highest bit. Insert and
+ * decrease-key take $O(1)$ time and delete-min $O(\log C)$ amortized time, where $C$ is the
+ * largest key.
+ */
+public class RadixIntDoubleHeap
+    implements
+    IntDoubleHeap
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int BUCKETS = 65;
+    private static final int NONE = -1;
+    private static final long MAX_KEY = 1L << 53;
+
+    private long[] keys;
+    private int[] next;
+    private int[] prev;
+    private int[] bucket;
+    private final int[] heads;
+    private long last;
+    private int size;
+
+    /**
+     * Create a new heap.
+     */
+    public RadixIntDoubleHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the initial capacity, usually the number of items
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public RadixIntDoubleHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.keys = new long[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.bucket = new int[capacity];
+        Arrays.fill(bucket, NONE);
+        this.heads = new int[BUCKETS];
+        Arrays.fill(heads, NONE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the key is not a non-negative integer or smaller than
+     *         the last removed key
+     */
+    @Override
+    public void insert(int item, double key)
+    {
+        if (item < 0) {
+            throw new IllegalArgumentException("Item must be non-negative");
+        }
+        if (item >= bucket.length) {
+            int capacity = Math.max(item + 1, 2 * bucket.length);
+            int old = bucket.length;
+            keys = Arrays.copyOf(keys, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            bucket = Arrays.copyOf(bucket, capacity);
+            Arrays.fill(bucket, old, capacity, NONE);
+        }
+        if (bucket[item] != NONE) {
+            throw new IllegalArgumentException("Item already contained: " + item);
+        }
+        keys[item] = toLong(key);
+        add(item);
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the key is not a non-negative integer or smaller than
+     *         the last removed key
+     */
+    @Override
+    public void decreaseKey(int item, double key)
+    {
+        checkContained(item);
+        long k = toLong(key);
+        if (k > keys[item]) {
+            throw new IllegalArgumentException("Key is larger than the current key");
+        }
+        remove(item);
+        keys[item] = k;
+        add(item);
+    }
+
+    @Override
+    public boolean contains(int item)
+    {
+        return item >= 0 && item < bucket.length && bucket[item] != NONE;
+    }
+
+    @Override
+    public double getKey(int item)
+    {
+        checkContained(item);
+        return keys[item];
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (heads[0] == NONE) {
+            redistribute();
+        }
+        return heads[0];
+    }
+
+    @Override
+    public double findMinKey()
+    {
+        return keys[findMin()];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        int min = findMin();
+        remove(min);
+        bucket[min] = NONE;
+        size--;
+        return min;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The heap also forgets the last removed key, thus it can be reused for a new monotone
+     * sequence of keys.
+     */
+    @Override
+    public void clear()
+    {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int x = heads[b]; x != NONE; x = next[x]) {
+                bucket[x] = NONE;
+            }
+            heads[b] = NONE;
+        }
+        last = 0;
+        size = 0;
+    }
+
+    private long toLong(double key)
+    {
+        if (!(key >= 0 && key <= MAX_KEY) || key != Math.rint(key)) {
+            throw new IllegalArgumentException("Key must be a non-negative integer: " + key);
+        }
+        long k = (long) key;
+        if (k < last) {
+            throw new IllegalArgumentException("Key is smaller than the last removed key");
+        }
+        return k;
+    }
+
+    private void checkContained(int item)
+    {
+        if (!contains(item)) {
+            throw new IllegalArgumentException("Item not contained: " + item);
+        }
+    }
+
+    /*
+     * Move the items of the first non-empty bucket to lower buckets, relative to their minimum
+     * key, so that the items with the minimum key end up in bucket zero.
+     */
+    private void redistribute()
+    {
+        int b = 1;
+        while (heads[b] == NONE) {
+            b++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int x = heads[b]; x != NONE; x = next[x]) {
+            min = Math.min(min, keys[x]);
+        }
+        last = min;
+        int x = heads[b];
+        heads[b] = NONE;
+        while (x != NONE) {
+            int nx = next[x];
+            add(x);
+            x = nx;
+        }
+    }
+
+    private void add(int item)
+    {
+        long diff = keys[item] ^ last;
+        int b = diff == 0 ? 0 : 64 - Long.numberOfLeadingZeros(diff);
+        int head = heads[b];
+        next[item] = head;
+        prev[item] = NONE;
+        if (head != NONE) {
+            prev[head] = item;
+        }
+        heads[b] = item;
+        bucket[item] = b;
+    }
+
+    private void remove(int item)
+    {
+        int p = prev[item];
+        int n = next[item];
+        if (p == NONE) {
+            heads[bucket[item]] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != NONE) {
+            prev[n] = p;
+        }
+    }
+}
+
+// End RadixIntDoubleHeap.java
@@ -17,9 +17,13 @@
  */
 package org.jgrapht;
 
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
+import java.util.*;
+import java.util.function.*;
+
 /**
  * Helper methods for graph creation on all tests.
  * 
@@ -50,4 +54,73 @@ public class GraphTestsUtils
             SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultEdgeSupplier(), false);
     }
 
+    /**
+     * Create a random pseudo graph with integer vertices $0, \dots, n-1$ and default edges, as
+     * generated by {@link GnmRandomGraphGenerator} with self-loops and multiple edges.
+     *
+     * @param directed whether the graph is directed
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @param rng the random number generator
+     * @return a random pseudo graph with integer vertices and default edges
+     */
+    public static Graph<Integer, DefaultEdge> createRandomPseudograph(
+        boolean directed, int n, int m, Random rng)
+    {
+        return createRandomPseudograph(directed, n, m, rng, true, true);
+    }
+
+    /**
+     * Create a random pseudo graph with integer vertices $0, \dots, n-1$ and default edges, as
+     * generated by {@link GnmRandomGraphGenerator}.
+     *
+     * @param directed whether the graph is directed
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @param rng the random number generator
+     * @param loops whether the generator may create self-loops
+     * @param multipleEdges whether the generator may create multiple edges
+     * @return a random pseudo graph with integer vertices and default edges
+     */
+    public static Graph<Integer, DefaultEdge> createRandomPseudograph(
+        boolean directed, int n, int m, Random rng, boolean loops, boolean multipleEdges)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rng, loops, multipleEdges)
+            .generateGraph(g);
+        return g;
+    }
+
+    /**
+     * Create a random weighted pseudo graph with integer vertices $0, \dots, n-1$, as generated by
+     * {@link GnmRandomGraphGenerator} with self-loops and multiple edges. The weights are drawn in
+     * the iteration order of the edges.
+     *
+     * @param directed whether the graph is directed
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @param rng the random number generator
+     * @param weight the supplier of the edge weights
+     * @return a random weighted pseudo graph with integer vertices
+     */
+    public static Graph<Integer, DefaultWeightedEdge> createRandomWeightedPseudograph(
+        boolean directed, int n, int m, Random rng, DoubleSupplier weight)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng, true, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, weight.getAsDouble());
+        }
+        return g;
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht;
+
+import java.util.concurrent.*;
+
+/**
+ * Helper methods for tests of algorithms which run on an executor.
+ */
+public class ParallelTestsUtils
+{
+    /**
+     * The number of threads of the pools created for tests.
+     */
+    public static final int PARALLELISM = 4;
+
+    /**
+     * A test body which uses an executor.
+     *
+     * @param <T> the executor type
+     */
+    public interface ExecutorTest<T extends ExecutorService>
+    {
+        /**
+         * Run the test.
+         *
+         * @param executor the executor
+         * @throws Exception if the test fails with a checked exception
+         */
+        void run(T executor)
+            throws Exception;
+    }
+
+    /**
+     * Run a test on a new fork/join pool with {@link #PARALLELISM} threads, and shut the pool down
+     * afterwards.
+     *
+     * @param test the test
+     */
+    public static void withPool(ExecutorTest<ForkJoinPool> test)
+    {
+        withPool(PARALLELISM, test);
+    }
+
+    /**
+     * Run a test on a new fork/join pool, and shut the pool down afterwards.
+     *
+     * @param parallelism the number of threads of the pool
+     * @param test the test
+     */
+    public static void withPool(int parallelism, ExecutorTest<ForkJoinPool> test)
+    {
+        withExecutor(new ForkJoinPool(parallelism), test);
+    }
+
+    /**
+     * Run a test on an executor, and shut the executor down afterwards. Checked exceptions of the
+     * test are rethrown wrapped in an {@link IllegalStateException}.
+     *
+     * @param executor the executor
+     * @param test the test
+     * @param <T> the executor type
+     */
+    public static <T extends ExecutorService> void withExecutor(T executor, ExecutorTest<T> test)
+    {
+        try {
+            test.run(executor);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
+
+// End ParallelTestsUtils.java
@@ -276,6 +276,76 @@ public class TransitiveReductionTest
         assertArrayEquals(expected_transitively_reduced_matrix, actual_transitively_reduced_matrix);
     }
 
+    @Test
+    public void testReduceRandomAcyclic()
+    {
+        Random rng = new Random(11);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 10; i++) {
+                // random acyclic graph, with vertices added in random order
+                int n = 300;
+                int[][] matrix = new int[n][n];
+                List<Integer> permutation = new ArrayList<>();
+                for (int v = 0; v < n; v++) {
+                    permutation.add(v);
+                }
+                Collections.shuffle(permutation, rng);
+                for (int k = 0; k < 1500 + 500 * i; k++) {
+                    int a = rng.nextInt(n);
+                    int b = rng.nextInt(n);
+                    if (a < b) {
+                        matrix[permutation.get(a)][permutation.get(b)] = 1;
+                    }
+                }
+                Graph<Integer, DefaultEdge> graph = fromMatrixToDirectedGraph(matrix);
+
+                // expected result from the dense algorithm
+                BitSet[] bits = new BitSet[n];
+                for (int u = 0; u < n; u++) {
+                    bits[u] = new BitSet(n);
+                    for (int v = 0; v < n; v++) {
+                        if (matrix[u][v] == 1) {
+                            bits[u].set(v);
+                        }
+                    }
+                }
+                TransitiveReduction.transformToPathMatrix(bits);
+                TransitiveReduction.transitiveReduction(bits);
+
+                TransitiveReduction.INSTANCE.reduce(graph, pool);
+                for (int u = 0; u < n; u++) {
+                    for (int v = 0; v < n; v++) {
+                        assertEquals(
+                            matrix[u][v] == 1 && bits[u].get(v), graph.containsEdge(u, v));
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testReduceKnownAcyclicParallel()
+    {
+        // the path a, b, c, d with all shortcuts, and e with edges into the path
+        Graph<String, DefaultEdge> graph = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(graph, "a", "b");
+        Graphs.addEdgeWithVertices(graph, "b", "c");
+        Graphs.addEdgeWithVertices(graph, "c", "d");
+        Graphs.addEdgeWithVertices(graph, "a", "c");
+        Graphs.addEdgeWithVertices(graph, "a", "d");
+        Graphs.addEdgeWithVertices(graph, "b", "d");
+        Graphs.addEdgeWithVertices(graph, "e", "c");
+        Graphs.addEdgeWithVertices(graph, "e", "d");
+
+        ParallelTestsUtils.withPool(pool -> TransitiveReduction.INSTANCE.reduce(graph, pool));
+        assertEquals(5, graph.vertexSet().size());
+        assertEquals(4, graph.edgeSet().size());
+        assertTrue(graph.containsEdge("a", "b"));
+        assertTrue(graph.containsEdge("b", "c"));
+        assertTrue(graph.containsEdge("c", "d"));
+        assertTrue(graph.containsEdge("e", "c"));
+    }
+
     static private Graph<Integer, DefaultEdge> fromMatrixToDirectedGraph(final int[][] matrix)
     {
         final SimpleDirectedGraph<Integer, DefaultEdge> graph =
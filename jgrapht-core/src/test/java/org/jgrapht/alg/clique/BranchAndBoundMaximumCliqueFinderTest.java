@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link BranchAndBoundMaximumCliqueFinder}
+ */
+public class BranchAndBoundMaximumCliqueFinderTest
+{
+    /**
+     * Tests maximum clique finding on an empty graph.
+     */
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        CliqueAlgorithm.Clique<Integer> clique =
+            new BranchAndBoundMaximumCliqueFinder<>(graph).getClique();
+        assertNotNull(clique);
+        assertEquals(0, clique.size());
+        assertEquals(0d, clique.getWeight(), 0d);
+    }
+
+    /**
+     * Tests maximum clique finding on a graph without edges.
+     */
+    @Test
+    public void testIsolatedVertices()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        graph.addVertex(1);
+        graph.addVertex(2);
+        Set<Integer> clique = new BranchAndBoundMaximumCliqueFinder<>(graph).getClique();
+        assertEquals(1, clique.size());
+    }
+
+    @Test
+    public void testGraph()
+    {
+        SimpleGraph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        CliqueAlgorithm.Clique<String> clique =
+            new BranchAndBoundMaximumCliqueFinder<>(g).getClique();
+        assertEquals(4, clique.size());
+        assertEquals(4d, clique.getWeight(), 0d);
+        assertIsClique(g, clique);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(70).generateGraph(g);
+
+        Set<Integer> clique = new BranchAndBoundMaximumCliqueFinder<>(g).getClique();
+        assertEquals(g.vertexSet(), clique);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "1", "2");
+        g.addEdge("1", "2");
+        new BranchAndBoundMaximumCliqueFinder<>(g).getClique();
+    }
+
+    @Test
+    public void testRandomInstances()
+    {
+        ForkJoinPool sequentialPool = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(33);
+            double[] densities = { 0.1, 0.5, 0.8 };
+            for (double p : densities) {
+                for (int i = 0; i < 5; i++) {
+                    Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                    new GnpRandomGraphGenerator<Integer, DefaultEdge>(40, p, rng, false)
+                        .generateGraph(g);
+
+                    int expected = 0;
+                    for (Set<Integer> c : new ParallelDegeneracyBronKerboschCliqueFinder<>(g)) {
+                        expected = Math.max(expected, c.size());
+                    }
+
+                    BranchAndBoundMaximumCliqueFinder<Integer, DefaultEdge> sequential =
+                        new BranchAndBoundMaximumCliqueFinder<>(
+                            g, 0L, TimeUnit.SECONDS, sequentialPool);
+                    Set<Integer> clique = sequential.getClique();
+                    assertEquals(expected, clique.size());
+                    assertIsClique(g, clique);
+                    assertFalse(sequential.isTimeLimitReached());
+
+                    clique =
+                        new BranchAndBoundMaximumCliqueFinder<>(g, 0L, TimeUnit.SECONDS, pool)
+                            .getClique();
+                    assertEquals(expected, clique.size());
+                    assertIsClique(g, clique);
+                }
+            }
+        } finally {
+            sequentialPool.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeout()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(400, 0.9, new Random(7), false)
+            .generateGraph(g);
+
+        BranchAndBoundMaximumCliqueFinder<Integer, DefaultEdge> finder =
+            new BranchAndBoundMaximumCliqueFinder<>(g, 1, TimeUnit.MILLISECONDS);
+        Set<Integer> clique = finder.getClique();
+        assertTrue(finder.isTimeLimitReached());
+        assertFalse(clique.isEmpty());
+        assertIsClique(g, clique);
+    }
+
+    private <V, E> void assertIsClique(Graph<V, E> graph, Set<V> set)
+    {
+        List<V> vertices = new ArrayList<>(set);
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                assertTrue(graph.containsEdge(vertices.get(i), vertices.get(j)));
+            }
+        }
+    }
+}
+
+// End BranchAndBoundMaximumCliqueFinderTest.java
@@ -0,0 +1,86 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntAdjacency}.
+ */
+public class IntAdjacencyTest
+{
+    @Test
+    public void testNeighbors()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        Graphs.addEdgeWithVertices(g, "b", "a");
+        Graphs.addEdgeWithVertices(g, "c", "a");
+        Graphs.addEdgeWithVertices(g, "a", "c");
+
+        int[][] neighbors =
+            IntAdjacency.neighbors(g, IntAdjacency.index(Arrays.asList("c", "b", "a")));
+        assertArrayEquals(new int[] { 2 }, neighbors[0]);
+        assertArrayEquals(new int[] { 2 }, neighbors[1]);
+        assertArrayEquals(new int[] { 0, 1 }, neighbors[2]);
+    }
+
+    @Test
+    public void testRelabel()
+    {
+        int[][] path = { { 1 }, { 0, 2 }, { 1 } };
+        int[][] relabeled = IntAdjacency.relabel(path, new int[] { 1, 2, 0 });
+        assertArrayEquals(new int[] { 1, 2 }, relabeled[0]);
+        assertArrayEquals(new int[] { 0 }, relabeled[1]);
+        assertArrayEquals(new int[] { 0 }, relabeled[2]);
+    }
+
+    @Test
+    public void testDegeneracyOrder()
+    {
+        // a triangle 0, 1, 2 with a pendant path 2 - 3 - 4
+        int[][] neighbors = { { 1, 2 }, { 0, 2 }, { 0, 1, 3 }, { 2, 4 }, { 3 } };
+        int[] core = new int[5];
+        int[] order = IntAdjacency.degeneracyOrder(neighbors, core);
+
+        assertArrayEquals(new int[] { 2, 2, 2, 1, 1 }, core);
+        int[] position = new int[5];
+        for (int i = 0; i < 5; i++) {
+            position[order[i]] = i;
+        }
+        for (int v = 0; v < 5; v++) {
+            int later = 0;
+            for (int u : neighbors[v]) {
+                if (position[u] > position[v]) {
+                    later++;
+                }
+            }
+            assertTrue(later <= 2);
+        }
+        // the pendant vertices are removed before the triangle
+        assertTrue(position[4] < position[0] && position[3] < position[0]);
+    }
+}
+
+// End IntAdjacencyTest.java
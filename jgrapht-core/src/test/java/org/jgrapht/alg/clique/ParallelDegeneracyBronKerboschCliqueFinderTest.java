@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelDegeneracyBronKerboschCliqueFinder}.
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinderTest
+    extends
+    BaseBronKerboschCliqueFinderTest
+{
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<String, DefaultEdge> createFinder1(
+        Graph<String, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph, long timeout, TimeUnit unit)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, timeout, unit);
+    }
+
+    @Test
+    public void testSameAsSequentialWithManyWorkers()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(17);
+            for (int i = 0; i < 5; i++) {
+                Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(100, 0.4, rng, false)
+                    .generateGraph(g);
+
+                Set<Set<Integer>> expected = new HashSet<>();
+                new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+                ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+                    new ParallelDegeneracyBronKerboschCliqueFinder<>(
+                        g, 0L, TimeUnit.SECONDS, pool);
+                List<Set<Integer>> actual = new ArrayList<>();
+                finder.forEach(actual::add);
+
+                assertFalse(finder.isTimeLimitReached());
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected, new HashSet<>(actual));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeout()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.6, new Random(7), false)
+            .generateGraph(g);
+
+        ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+            new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 1, TimeUnit.MILLISECONDS);
+        finder.iterator();
+        assertTrue(finder.isTimeLimitReached());
+    }
+
+}
+
+// End ParallelDegeneracyBronKerboschCliqueFinderTest.java
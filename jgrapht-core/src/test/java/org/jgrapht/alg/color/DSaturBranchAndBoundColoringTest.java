@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.color;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DSaturBranchAndBoundColoring}.
+ */
+public class DSaturBranchAndBoundColoringTest
+    extends
+    BaseColoringTest
+{
+    @Override
+    protected VertexColoringAlgorithm<Integer> getAlgorithm(Graph<Integer, DefaultEdge> graph)
+    {
+        return new DSaturBranchAndBoundColoring<>(graph);
+    }
+
+    @Override
+    protected int getExpectedResultOnDSaturNonOptimalGraph()
+    {
+        return 3;
+    }
+
+    @Test
+    public void testQueenGraphs()
+    {
+        int[] expected = { 5, 7, 7 };
+        ParallelTestsUtils.withPool(pool -> {
+            for (int size = 5; size <= 7; size++) {
+                Graph<Integer, DefaultEdge> g = createQueenGraph(size);
+                DSaturBranchAndBoundColoring<Integer, DefaultEdge> alg =
+                    new DSaturBranchAndBoundColoring<>(g, 0L, TimeUnit.SECONDS, pool);
+                assertColoring(g, alg.getColoring(), expected[size - 5]);
+                assertEquals(size, alg.getLowerBound());
+                assertFalse(alg.isTimeLimitReached());
+            }
+        });
+    }
+
+    @Test
+    public void testKnownChromaticNumbersParallel()
+    {
+        // an odd cycle, an even cycle and a wheel with an odd rim
+        Graph<Integer, DefaultEdge> odd = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> even = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> wheel = new SimpleGraph<>(DefaultEdge.class);
+        for (int v = 0; v < 5; v++) {
+            Graphs.addEdgeWithVertices(odd, v, (v + 1) % 5);
+            Graphs.addEdgeWithVertices(wheel, v, (v + 1) % 5);
+            Graphs.addEdgeWithVertices(wheel, 5, v);
+        }
+        for (int v = 0; v < 6; v++) {
+            Graphs.addEdgeWithVertices(even, v, (v + 1) % 6);
+        }
+
+        List<Graph<Integer, DefaultEdge>> graphs = Arrays.asList(odd, even, wheel);
+        int[] expected = { 3, 2, 4 };
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < graphs.size(); i++) {
+                Graph<Integer, DefaultEdge> g = graphs.get(i);
+                DSaturBranchAndBoundColoring<Integer, DefaultEdge> alg =
+                    new DSaturBranchAndBoundColoring<>(g, 0L, TimeUnit.SECONDS, pool);
+                assertColoring(g, alg.getColoring(), expected[i]);
+                assertFalse(alg.isTimeLimitReached());
+            }
+        });
+    }
+
+    @Test
+    public void testRandomGraphsAgainstBrown()
+    {
+        Random rng = new Random(33);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(25, 0.2 + i * 0.03, rng, false)
+                    .generateGraph(g);
+                int chromaticNumber = new BrownBacktrackColoring<>(g).getChromaticNumber();
+                Coloring<Integer> coloring =
+                    new DSaturBranchAndBoundColoring<>(g, 0L, TimeUnit.SECONDS, pool)
+                        .getColoring();
+                assertColoring(g, coloring, chromaticNumber);
+                assertEquals(chromaticNumber, coloring.getColorClasses().size());
+            }
+        });
+    }
+
+    @Test
+    public void testTimeout()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(200, 0.5, new Random(3), false)
+            .generateGraph(g);
+        DSaturBranchAndBoundColoring<Integer, DefaultEdge> alg =
+            new DSaturBranchAndBoundColoring<>(g, 100, TimeUnit.MILLISECONDS);
+        Coloring<Integer> coloring = alg.getColoring();
+        assertTrue(alg.isTimeLimitReached());
+        assertTrue(alg.getLowerBound() < coloring.getNumberColors());
+        assertTrue(
+            coloring.getNumberColors() <= new SaturationDegreeColoring<>(g)
+                .getColoring().getNumberColors());
+        Map<Integer, Integer> colors = coloring.getColors();
+        for (DefaultEdge e : g.edgeSet()) {
+            assertNotEquals(colors.get(g.getEdgeSource(e)), colors.get(g.getEdgeTarget(e)));
+        }
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Coloring<Integer> coloring = new DSaturBranchAndBoundColoring<>(
+            new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class)).getColoring();
+        assertEquals(0, coloring.getNumberColors());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotSimple()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addEdge(1, 1);
+        new DSaturBranchAndBoundColoring<>(g).getColoring();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTimeout()
+    {
+        new DSaturBranchAndBoundColoring<>(
+            new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class), -1, TimeUnit.SECONDS);
+    }
+
+    private static Graph<Integer, DefaultEdge> createQueenGraph(int size)
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < size * size; i++) {
+            g.addVertex(i);
+        }
+        for (int a = 0; a < size * size; a++) {
+            for (int b = a + 1; b < size * size; b++) {
+                int r1 = a / size, c1 = a % size, r2 = b / size, c2 = b % size;
+                if (r1 == r2 || c1 == c2 || Math.abs(r1 - r2) == Math.abs(c1 - c2)) {
+                    g.addEdge(a, b);
+                }
+            }
+        }
+        return g;
+    }
+}
+
+// End DSaturBranchAndBoundColoringTest.java
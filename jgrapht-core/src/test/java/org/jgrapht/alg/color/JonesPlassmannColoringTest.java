@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.color;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link JonesPlassmannColoring}.
+ */
+public class JonesPlassmannColoringTest
+    extends
+    BaseColoringTest
+{
+    @Override
+    protected VertexColoringAlgorithm<Integer> getAlgorithm(Graph<Integer, DefaultEdge> graph)
+    {
+        return new JonesPlassmannColoring<>(graph, new Random(13));
+    }
+
+    @Override
+    protected int getExpectedResultOnDSaturNonOptimalGraph()
+    {
+        return 3;
+    }
+
+    @Test
+    public void testLargeRandomGraphs()
+    {
+        Random rng = new Random(7);
+        ParallelTestsUtils.withPool(pool -> ParallelTestsUtils.withPool(1, single -> {
+            for (int i = 0; i < 4; i++) {
+                Graph<Integer, DefaultEdge> g = GraphTestsUtils.createRandomPseudograph(
+                    false, 20000, i < 2 ? 60000 : 200000, rng, false, true);
+
+                Coloring<Integer> parallel =
+                    new JonesPlassmannColoring<>(g, new Random(i), pool).getColoring();
+                Coloring<Integer> sequential =
+                    new JonesPlassmannColoring<>(g, new Random(i), single).getColoring();
+                assertEquals(sequential.getColors(), parallel.getColors());
+
+                int maxDegree = 0;
+                for (Integer v : g.vertexSet()) {
+                    maxDegree = Math.max(maxDegree, g.degreeOf(v));
+                }
+                Map<Integer, Integer> colors = parallel.getColors();
+                assertEquals(g.vertexSet().size(), colors.size());
+                assertTrue(parallel.getNumberColors() <= maxDegree + 1);
+                for (DefaultEdge e : g.edgeSet()) {
+                    assertNotEquals(
+                        colors.get(g.getEdgeSource(e)), colors.get(g.getEdgeTarget(e)));
+                }
+                assertEquals(parallel.getNumberColors(), parallel.getColorClasses().size());
+            }
+        }));
+    }
+
+    @Test
+    public void testKnownColorCountsParallel()
+    {
+        // a complete graph on 5 vertices, a star with 6 leaves and 4 isolated vertices
+        Graph<Integer, DefaultEdge> complete = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> star = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> isolated = new SimpleGraph<>(DefaultEdge.class);
+        for (int u = 0; u < 5; u++) {
+            for (int v = u + 1; v < 5; v++) {
+                Graphs.addEdgeWithVertices(complete, u, v);
+            }
+        }
+        for (int v = 1; v <= 6; v++) {
+            Graphs.addEdgeWithVertices(star, 0, v);
+        }
+        Graphs.addAllVertices(isolated, Arrays.asList(0, 1, 2, 3));
+
+        ParallelTestsUtils.withPool(pool -> {
+            for (int seed = 0; seed < 5; seed++) {
+                assertEquals(
+                    5, new JonesPlassmannColoring<>(complete, new Random(seed), pool)
+                        .getColoring().getNumberColors());
+                Coloring<Integer> coloring =
+                    new JonesPlassmannColoring<>(star, new Random(seed), pool).getColoring();
+                assertEquals(2, coloring.getNumberColors());
+                for (int v = 1; v <= 6; v++) {
+                    assertEquals(coloring.getColors().get(1), coloring.getColors().get(v));
+                }
+                assertEquals(
+                    1, new JonesPlassmannColoring<>(isolated, new Random(seed), pool)
+                        .getColoring().getNumberColors());
+            }
+        });
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Coloring<Integer> coloring =
+            new JonesPlassmannColoring<>(new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class))
+                .getColoring();
+        assertEquals(0, coloring.getNumberColors());
+        assertTrue(coloring.getColors().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelfLoop()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addEdge(1, 1);
+        new JonesPlassmannColoring<>(g).getColoring();
+    }
+}
+
+// End JonesPlassmannColoringTest.java
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BitsetReachabilityIndex}.
+ */
+public class BitsetReachabilityIndexTest
+{
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(8);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 10; i++) {
+                // from a forest of components to a few large components
+                Graph<Integer, DefaultEdge> g =
+                    GraphTestsUtils.createRandomPseudograph(true, 300, 100 + 60 * i, rng);
+
+                BitsetReachabilityIndex<Integer> index = new BitsetReachabilityIndex<>(g, pool);
+                for (Integer u : g.vertexSet()) {
+                    Set<Integer> reachable = new HashSet<>();
+                    new DepthFirstIterator<>(g, u).forEachRemaining(reachable::add);
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(reachable.contains(v), index.isReachable(u, v));
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testKnownComponentsParallel()
+    {
+        // the cycle a, b, c leads to d, which leads to the cycle e, f, and g has only a self-loop
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        Graphs.addEdgeWithVertices(g, "b", "c");
+        Graphs.addEdgeWithVertices(g, "c", "a");
+        Graphs.addEdgeWithVertices(g, "c", "d");
+        Graphs.addEdgeWithVertices(g, "d", "e");
+        Graphs.addEdgeWithVertices(g, "e", "f");
+        Graphs.addEdgeWithVertices(g, "f", "e");
+        Graphs.addEdgeWithVertices(g, "g", "g");
+
+        Map<String, String> reachable = new HashMap<>();
+        reachable.put("a", "abcdef");
+        reachable.put("b", "abcdef");
+        reachable.put("c", "abcdef");
+        reachable.put("d", "def");
+        reachable.put("e", "ef");
+        reachable.put("f", "ef");
+        reachable.put("g", "g");
+        ParallelTestsUtils.withPool(pool -> {
+            BitsetReachabilityIndex<String> index = new BitsetReachabilityIndex<>(g, pool);
+            for (String u : g.vertexSet()) {
+                for (String v : g.vertexSet()) {
+                    assertEquals(reachable.get(u).contains(v), index.isReachable(u, v));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testDeepDag()
+    {
+        // a long path with shortcuts, which gives one level per vertex
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        int n = 2000;
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for (int v = 0; v + 1 < n; v++) {
+            g.addEdge(v, v + 1);
+            if (v + 7 < n) {
+                g.addEdge(v, v + 7);
+            }
+        }
+        BitsetReachabilityIndex<Integer> index = new BitsetReachabilityIndex<>(g);
+        Random rng = new Random(2);
+        for (int i = 0; i < 10000; i++) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            assertEquals(u <= v, index.isReachable(u, v));
+        }
+    }
+
+    @Test
+    public void testCycle()
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "a");
+        g.addEdge("c", "d");
+
+        BitsetReachabilityIndex<String> index = new BitsetReachabilityIndex<>(g);
+        assertTrue(index.isReachable("b", "a"));
+        assertTrue(index.isReachable("a", "d"));
+        assertTrue(index.isReachable("d", "d"));
+        assertFalse(index.isReachable("d", "a"));
+        assertEquals(4, g.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new BitsetReachabilityIndex<>(g).isReachable("a", "b");
+    }
+}
+
+// End BitsetReachabilityIndexTest.java
@@ -0,0 +1,174 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GrailReachabilityIndex}.
+ */
+public class GrailReachabilityIndexTest
+{
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            DirectedAcyclicGraph<Integer, DefaultEdge> g = randomDag(300, 600 + 100 * i, rng);
+            for (int traversals = 1; traversals <= 5; traversals += 2) {
+                assertSameReachability(
+                    g, new GrailReachabilityIndex<>(g, traversals, new Random(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testIncrementalUpdates()
+    {
+        Random rng = new Random(3);
+        DirectedAcyclicGraph<Integer, DefaultEdge> g = randomDag(200, 250, rng);
+        GrailReachabilityIndex<Integer, DefaultEdge> index =
+            new GrailReachabilityIndex<>(g, 3, rng);
+        DefaultListenableGraph<Integer, DefaultEdge> listenable = new DefaultListenableGraph<>(g);
+        listenable.addGraphListener(index);
+
+        for (int round = 0; round < 5; round++) {
+            int n = g.vertexSet().size();
+            for (int i = 0; i < 20; i++) {
+                listenable.addVertex(n++);
+            }
+            for (int i = 0; i < 50; i++) {
+                try {
+                    listenable.addEdge(rng.nextInt(n), rng.nextInt(n));
+                } catch (IllegalArgumentException e) {
+                    // the edge would induce a cycle
+                }
+            }
+            assertSameReachability(g, index);
+        }
+
+        Integer removed = g.vertexSet().iterator().next();
+        listenable.removeVertex(removed);
+        assertSameReachability(g, index);
+    }
+
+    @Test
+    public void testDirectModification()
+    {
+        Random rng = new Random(5);
+        DirectedAcyclicGraph<Integer, DefaultEdge> g = randomDag(100, 120, rng);
+        GrailReachabilityIndex<Integer, DefaultEdge> index =
+            new GrailReachabilityIndex<>(g, 3, rng);
+        DefaultListenableGraph<Integer, DefaultEdge> listenable = new DefaultListenableGraph<>(g);
+        listenable.addGraphListener(index);
+
+        int n = g.vertexSet().size();
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                g.addVertex(n++);
+            }
+            for (int i = 0; i < 30; i++) {
+                try {
+                    g.addEdge(rng.nextInt(n), rng.nextInt(n));
+                } catch (IllegalArgumentException e) {
+                    // the edge would induce a cycle
+                }
+            }
+            assertSameReachability(g, index);
+
+            // notified changes after direct ones
+            listenable.addVertex(n++);
+            try {
+                listenable.addEdge(rng.nextInt(n), n - 1);
+            } catch (IllegalArgumentException e) {
+                // the edge would induce a cycle
+            }
+            assertSameReachability(g, index);
+        }
+
+        g.removeVertex(g.vertexSet().iterator().next());
+        assertSameReachability(g, index);
+    }
+
+    @Test
+    public void testPath()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> g = new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+
+        GrailReachabilityIndex<String, DefaultEdge> index = new GrailReachabilityIndex<>(g);
+        assertTrue(index.isReachable("a", "c"));
+        assertFalse(index.isReachable("c", "a"));
+        assertFalse(index.isReachable("a", "d"));
+        assertTrue(index.isReachable("d", "d"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> g = new DirectedAcyclicGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new GrailReachabilityIndex<>(g).isReachable("a", "b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTraversals()
+    {
+        new GrailReachabilityIndex<>(
+            new DirectedAcyclicGraph<>(DefaultEdge.class), 0, new Random());
+    }
+
+    private static DirectedAcyclicGraph<Integer, DefaultEdge> randomDag(int n, int m, Random rng)
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> g = new DirectedAcyclicGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        for (int i = 0; i < n; i++) {
+            g.addVertex();
+        }
+        while (g.edgeSet().size() < m) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            if (u < v) {
+                g.addEdge(u, v);
+            }
+        }
+        return g;
+    }
+
+    private static void assertSameReachability(
+        Graph<Integer, DefaultEdge> g, GrailReachabilityIndex<Integer, DefaultEdge> index)
+    {
+        BitsetReachabilityIndex<Integer> expected = new BitsetReachabilityIndex<>(g);
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                assertEquals(expected.isReachable(u, v), index.isReachable(u, v));
+            }
+        }
+    }
+}
+
+// End GrailReachabilityIndexTest.java
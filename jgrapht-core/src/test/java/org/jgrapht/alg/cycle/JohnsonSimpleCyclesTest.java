@@ -19,10 +19,13 @@
 package org.jgrapht.alg.cycle;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -57,4 +60,116 @@ public class JohnsonSimpleCyclesTest
         assertEquals(cycle1, Arrays.asList(1, 2, 5, 6));
     }
 
+    @Test
+    public void testSameAsTiernan()
+    {
+        Random rng = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> g = randomGraph(12, 0.25, rng);
+            Set<List<Integer>> expected =
+                normalize(new TiernanSimpleCycles<>(g).findSimpleCycles());
+            List<List<Integer>> cycles = new JohnsonSimpleCycles<>(g).findSimpleCycles();
+            assertEquals(expected.size(), cycles.size());
+            assertEquals(expected, normalize(cycles));
+        }
+    }
+
+    @Test
+    public void testMaxLength()
+    {
+        Random rng = new Random(11);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> g = randomGraph(12, 0.3, rng);
+            Set<List<Integer>> all = normalize(new JohnsonSimpleCycles<>(g).findSimpleCycles());
+            for (int maxLength = 1; maxLength <= 7; maxLength++) {
+                Set<List<Integer>> expected = new HashSet<>();
+                for (List<Integer> cycle : all) {
+                    if (cycle.size() <= maxLength) {
+                        expected.add(cycle);
+                    }
+                }
+                List<List<Integer>> cycles =
+                    new JohnsonSimpleCycles<>(g, maxLength).findSimpleCycles();
+                assertEquals(expected.size(), cycles.size());
+                assertEquals(expected, normalize(cycles));
+            }
+        }
+    }
+
+    @Test
+    public void testParallel()
+    {
+        Random rng = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultEdge> g = randomGraph(14, 0.25, rng);
+                Set<List<Integer>> expected =
+                    normalize(new JohnsonSimpleCycles<>(g).findSimpleCycles());
+
+                List<List<Integer>> cycles = new ArrayList<>();
+                new JohnsonSimpleCycles<>(g, Integer.MAX_VALUE, pool).findSimpleCycles(cycles::add);
+                assertEquals(expected.size(), cycles.size());
+                assertEquals(expected, normalize(cycles));
+
+                Set<List<Integer>> bounded =
+                    normalize(new JohnsonSimpleCycles<>(g, 4).findSimpleCycles());
+                assertEquals(
+                    bounded, normalize(new JohnsonSimpleCycles<>(g, 4, pool).findSimpleCycles()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIterator()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultEdge> g = randomGraph(12, 0.25, rng);
+            for (int maxLength : new int[] { 3, Integer.MAX_VALUE }) {
+                JohnsonSimpleCycles<Integer, DefaultEdge> finder =
+                    new JohnsonSimpleCycles<>(g, maxLength);
+                List<List<Integer>> cycles = new ArrayList<>();
+                finder.simpleCyclesIterator().forEachRemaining(cycles::add);
+                assertEquals(finder.findSimpleCycles(), cycles);
+            }
+        }
+
+        Graph<Integer, DefaultEdge> complete = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(30).generateGraph(complete);
+        Iterator<List<Integer>> it = new JohnsonSimpleCycles<>(complete).simpleCyclesIterator();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(it.hasNext());
+            assertTrue(it.next().size() >= 2);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxLength()
+    {
+        new JohnsonSimpleCycles<>(new DefaultDirectedGraph<>(DefaultEdge.class), 0);
+    }
+
+    private static Graph<Integer, DefaultEdge> randomGraph(int n, double p, Random rng)
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(n, p, rng, true).generateGraph(g);
+        return g;
+    }
+
+    private static Set<List<Integer>> normalize(List<List<Integer>> cycles)
+    {
+        Set<List<Integer>> result = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            List<Integer> rotated = new ArrayList<>(cycle);
+            Collections.rotate(rotated, -rotated.indexOf(Collections.min(rotated)));
+            assertTrue(result.add(rotated));
+        }
+        return result;
+    }
+
 }
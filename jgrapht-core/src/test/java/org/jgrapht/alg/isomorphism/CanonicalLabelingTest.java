@@ -0,0 +1,280 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CanonicalLabeling}.
+ */
+public class CanonicalLabelingTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+
+        CanonicalLabeling<Integer, DefaultEdge> c1 = new CanonicalLabeling<>(g1);
+        assertTrue(c1.getCanonicalOrder().isEmpty());
+        assertEquals(c1.getCanonicalForm(), new CanonicalLabeling<>(g2).getCanonicalForm());
+    }
+
+    @Test
+    public void testPermutedRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 50; i++) {
+            Graph<Integer, DefaultEdge> g = randomGraph(5 + rng.nextInt(40), rng, i % 2 == 0);
+            Graph<Integer, DefaultEdge> h = permute(g, rng);
+
+            CanonicalLabeling<Integer, DefaultEdge> cg = new CanonicalLabeling<>(g);
+            CanonicalLabeling<Integer, DefaultEdge> ch = new CanonicalLabeling<>(h);
+            assertEquals(cg.getCanonicalForm(), ch.getCanonicalForm());
+            assertEquals(cg.getHash(), ch.getHash());
+            assertEquals(
+                relabel(g, cg.getCanonicalLabeling()), relabel(h, ch.getCanonicalLabeling()));
+        }
+    }
+
+    @Test
+    public void testSameAsVF2()
+    {
+        Random rng = new Random(33);
+        for (int i = 0; i < 300; i++) {
+            boolean directed = i % 3 == 0;
+            Graph<Integer, DefaultEdge> g1 = randomGraph(6, rng, directed);
+            Graph<Integer, DefaultEdge> g2 = randomGraph(6, rng, directed);
+
+            boolean isomorphic =
+                new VF2GraphIsomorphismInspector<>(g1, g2).isomorphismExists();
+            assertEquals(
+                isomorphic, new CanonicalLabeling<>(g1)
+                    .getCanonicalForm().equals(new CanonicalLabeling<>(g2).getCanonicalForm()));
+        }
+    }
+
+    @Test
+    public void testRegularGraphs()
+    {
+        // same Weisfeiler-Lehman hash, but not isomorphic
+        assertDifferent(
+            NamedGraphGenerator.blanusaFirstSnarkGraph(),
+            NamedGraphGenerator.blanusaSecondSnarkGraph());
+        assertDifferent(
+            NamedGraphGenerator.dodecahedronGraph(), NamedGraphGenerator.desarguesGraph());
+
+        Graph<Integer, DefaultEdge> cycle = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> triangles = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 6; i++) {
+            Graphs.addEdgeWithVertices(cycle, i, (i + 1) % 6);
+            Graphs.addEdgeWithVertices(triangles, i, 3 * (i / 3) + (i + 1) % 3);
+        }
+        assertDifferent(cycle, triangles);
+
+        Graph<Integer, DefaultEdge> petersen = NamedGraphGenerator.petersenGraph();
+        assertEquals(
+            new CanonicalLabeling<>(petersen).getCanonicalForm(),
+            new CanonicalLabeling<>(permute(petersen, new Random(5))).getCanonicalForm());
+    }
+
+    @Test
+    public void testPermutedRandomRegularGraphs()
+    {
+        Random rng = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            int d = 3 + rng.nextInt(2);
+            int n = 2 * (3 + rng.nextInt(5));
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new RandomRegularGraphGenerator<Integer, DefaultEdge>(n, d, rng).generateGraph(g);
+
+            CanonicalLabeling.CanonicalForm expected =
+                new CanonicalLabeling<>(g).getCanonicalForm();
+            for (int j = 0; j < 10; j++) {
+                assertEquals(
+                    expected, new CanonicalLabeling<>(permute(g, rng)).getCanonicalForm());
+            }
+        }
+    }
+
+    @Test
+    public void testHighlySymmetricGraphs()
+    {
+        Graph<Integer, DefaultEdge> complete = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(40).generateGraph(complete);
+        assertEquals(40, new CanonicalLabeling<>(complete).getCanonicalOrder().size());
+
+        Graph<Integer, DefaultEdge> empty = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new EmptyGraphGenerator<Integer, DefaultEdge>(200).generateGraph(empty);
+        assertEquals(200, new CanonicalLabeling<>(empty).getCanonicalOrder().size());
+
+        Graph<Integer, DefaultEdge> cube = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new HyperCubeGraphGenerator<Integer, DefaultEdge>(7).generateGraph(cube);
+        assertEquals(
+            new CanonicalLabeling<>(cube).getCanonicalForm(),
+            new CanonicalLabeling<>(permute(cube, new Random(3))).getCanonicalForm());
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, DefaultEdge> g1 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g1, 0, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g2, 1, 0);
+        Graphs.addEdgeWithVertices(g2, 1, 2);
+        Graph<Integer, DefaultEdge> g3 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g3, 7, 8);
+        Graphs.addEdgeWithVertices(g3, 6, 7);
+
+        assertDifferent(g1, g2);
+        assertEquals(
+            new CanonicalLabeling<>(g1).getCanonicalForm(),
+            new CanonicalLabeling<>(g3).getCanonicalForm());
+        assertEquals(
+            new CanonicalLabeling<>(g1).getCanonicalLabeling().get(1),
+            new CanonicalLabeling<>(g3).getCanonicalLabeling().get(7));
+    }
+
+    @Test
+    public void testVertexColors()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+
+        CanonicalLabeling<Integer, DefaultEdge> end =
+            new CanonicalLabeling<>(g, v -> v == 0 ? 1 : 0);
+        CanonicalLabeling<Integer, DefaultEdge> otherEnd =
+            new CanonicalLabeling<>(g, v -> v == 2 ? 1 : 0);
+        CanonicalLabeling<Integer, DefaultEdge> middle =
+            new CanonicalLabeling<>(g, v -> v == 1 ? 1 : 0);
+
+        assertEquals(end.getCanonicalForm(), otherEnd.getCanonicalForm());
+        assertNotEquals(end.getCanonicalForm(), middle.getCanonicalForm());
+        assertEquals(Integer.valueOf(2), end.getCanonicalLabeling().get(0));
+        assertEquals(Integer.valueOf(2), otherEnd.getCanonicalLabeling().get(2));
+    }
+
+    @Test
+    public void testMultipleEdgesAndSelfLoops()
+    {
+        Graph<Integer, DefaultEdge> g1 = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g1, 0, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+        Graph<Integer, DefaultEdge> g2 = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g2, 0, 1);
+        Graphs.addEdgeWithVertices(g2, 0, 1);
+        Graphs.addEdgeWithVertices(g2, 1, 2);
+        Graph<Integer, DefaultEdge> g3 = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g3, 0, 1);
+        Graphs.addEdgeWithVertices(g3, 1, 2);
+        Graphs.addEdgeWithVertices(g3, 2, 2);
+        Graph<Integer, DefaultEdge> g4 = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g4, 0, 1);
+        Graphs.addEdgeWithVertices(g4, 1, 2);
+        Graphs.addEdgeWithVertices(g4, 1, 1);
+
+        assertEquals(
+            new CanonicalLabeling<>(g1).getCanonicalForm(),
+            new CanonicalLabeling<>(g2).getCanonicalForm());
+        assertDifferent(g1, g3);
+        assertDifferent(g3, g4);
+    }
+
+    private static void assertDifferent(
+        Graph<Integer, DefaultEdge> g1, Graph<Integer, DefaultEdge> g2)
+    {
+        CanonicalLabeling.CanonicalForm f1 = new CanonicalLabeling<>(g1).getCanonicalForm();
+        CanonicalLabeling.CanonicalForm f2 = new CanonicalLabeling<>(g2).getCanonicalForm();
+        assertNotEquals(f1, f2);
+        assertNotEquals(0, f1.compareTo(f2));
+        assertNotEquals(f1.getHash(), f2.getHash());
+    }
+
+    private static Graph<Integer, DefaultEdge> randomGraph(int n, Random rng, boolean directed)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(
+            n, 0.1 + 0.5 * rng.nextDouble(), rng, false).generateGraph(g);
+        return g;
+    }
+
+    private static Graph<Integer, DefaultEdge> permute(Graph<Integer, DefaultEdge> g, Random rng)
+    {
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        List<Integer> images = new ArrayList<>(vertices);
+        Collections.shuffle(images, rng);
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            map.put(vertices.get(i), images.get(i) + 1000);
+        }
+
+        Graph<Integer, DefaultEdge> h = g.getType().isDirected()
+            ? new DefaultDirectedGraph<>(DefaultEdge.class)
+            : new SimpleGraph<>(DefaultEdge.class);
+        Collections.shuffle(images, rng);
+        for (Integer v : images) {
+            h.addVertex(v + 1000);
+        }
+        List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+        Collections.shuffle(edges, rng);
+        for (DefaultEdge e : edges) {
+            h.addEdge(map.get(g.getEdgeSource(e)), map.get(g.getEdgeTarget(e)));
+        }
+        return h;
+    }
+
+    private static Set<List<Integer>> relabel(
+        Graph<Integer, DefaultEdge> g, Map<Integer, Integer> labeling)
+    {
+        Set<List<Integer>> edges = new HashSet<>();
+        for (DefaultEdge e : g.edgeSet()) {
+            int s = labeling.get(g.getEdgeSource(e));
+            int t = labeling.get(g.getEdgeTarget(e));
+            if (!g.getType().isDirected() && s > t) {
+                int tmp = s;
+                s = t;
+                t = tmp;
+            }
+            edges.add(Arrays.asList(s, t));
+        }
+        return edges;
+    }
+}
+
+// End CanonicalLabelingTest.java
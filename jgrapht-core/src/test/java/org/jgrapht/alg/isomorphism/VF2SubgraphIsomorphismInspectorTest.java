@@ -23,6 +23,7 @@ import org.jgrapht.graph.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -806,6 +807,113 @@ public class VF2SubgraphIsomorphismInspectorTest
         }
     }
 
+    /**
+     * RG-3: Tests if the parallel search returns the same matchings in the same order as the
+     * sequential one (on random graphs).
+     */
+    @Test
+    public void testRandomGraphsParallel()
+    {
+        Random rnd = new Random();
+        rnd.setSeed(4242);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 1; i < 30; i++) {
+                int vertexCount = 2 + rnd.nextInt(i + 10),
+                    edgeCount = vertexCount + rnd.nextInt(vertexCount * (vertexCount - 1)) / 2,
+                    subVertexCount = 1 + rnd.nextInt(Math.min(vertexCount, 5));
+
+                Graph<Integer, DefaultEdge> g1 =
+                    SubgraphIsomorphismTestUtils.randomGraph(vertexCount, edgeCount, i),
+                    g2 = SubgraphIsomorphismTestUtils.randomSubgraph(g1, subVertexCount, i);
+
+                List<String> expected = firstMappings(
+                    new VF2SubgraphIsomorphismInspector<>(g1, g2).getMappings(), 5000);
+                List<String> actual = firstMappings(
+                    new VF2SubgraphIsomorphismInspector<>(g1, g2, null, null, true, pool)
+                        .getMappings(),
+                    5000);
+
+                assertFalse(expected.isEmpty());
+                assertEquals(expected, actual);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests the parallel search on a pattern with many mappings for every candidate of its first
+     * vertex.
+     */
+    @Test
+    public void testManyMappingsParallel()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class),
+            g2 = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 16; i++) {
+            for (int j = 0; j < i; j++) {
+                Graphs.addEdgeWithVertices(g1, i, j);
+                if (i < 4) {
+                    Graphs.addEdgeWithVertices(g2, i, j);
+                }
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> expected = firstMappings(
+                new VF2SubgraphIsomorphismInspector<>(g1, g2).getMappings(), Integer.MAX_VALUE);
+            List<String> actual = firstMappings(
+                new VF2SubgraphIsomorphismInspector<>(g1, g2, null, null, true, pool)
+                    .getMappings(),
+                Integer.MAX_VALUE);
+
+            assertEquals(16 * 15 * 14 * 13, expected.size());
+            assertEquals(expected, actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> firstMappings(
+        Iterator<GraphMapping<Integer, DefaultEdge>> iter, int limit)
+    {
+        List<String> mappings = new ArrayList<>();
+        while (iter.hasNext() && mappings.size() < limit) {
+            mappings.add(iter.next().toString());
+        }
+        return mappings;
+    }
+
+    /**
+     * Tests that self-loops are respected on directed graphs
+     */
+    @Test
+    public void testSelfLoops()
+    {
+        Graph<Integer, DefaultEdge> g1 = new DefaultDirectedGraph<>(DefaultEdge.class),
+            g2 = new DefaultDirectedGraph<>(DefaultEdge.class),
+            g3 = new DefaultDirectedGraph<>(DefaultEdge.class);
+
+        Graphs.addEdgeWithVertices(g1, 0, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+
+        Graphs.addEdgeWithVertices(g2, 5, 6);
+        Graphs.addEdgeWithVertices(g2, 6, 6);
+
+        Graphs.addEdgeWithVertices(g3, 5, 6);
+
+        Iterator<GraphMapping<Integer, DefaultEdge>> iter =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2).getMappings();
+        assertEquals("[0=5 1=6 2=~~]", iter.next().toString());
+        assertFalse(iter.hasNext());
+
+        assertFalse(new VF2SubgraphIsomorphismInspector<>(g1, g3).isomorphismExists());
+    }
+
     /**
      * SEM Tests the edge- and vertex-comparator
      */
@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link WeisfeilerLehmanGraphHash}.
+ */
+public class WeisfeilerLehmanGraphHashTest
+{
+
+    @Test
+    public void testIsomorphicGraphs()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g1, 0, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+        Graphs.addEdgeWithVertices(g1, 2, 3);
+        Graphs.addEdgeWithVertices(g1, 1, 4);
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g2, 9, 7);
+        Graphs.addEdgeWithVertices(g2, 5, 6);
+        Graphs.addEdgeWithVertices(g2, 6, 7);
+        Graphs.addEdgeWithVertices(g2, 6, 8);
+
+        WeisfeilerLehmanGraphHash<Integer, DefaultEdge> h1 = new WeisfeilerLehmanGraphHash<>(g1);
+        WeisfeilerLehmanGraphHash<Integer, DefaultEdge> h2 = new WeisfeilerLehmanGraphHash<>(g2);
+        assertEquals(h1.getHash(), h2.getHash());
+        assertEquals(h1.getVertexHashes().get(1), h2.getVertexHashes().get(6));
+        assertEquals(h1.getVertexHashes().get(0), h1.getVertexHashes().get(4));
+        assertNotEquals(h1.getVertexHashes().get(0), h1.getVertexHashes().get(3));
+    }
+
+    @Test
+    public void testNonIsomorphicGraphs()
+    {
+        Graph<Integer, DefaultEdge> path = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> star = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 3; i++) {
+            Graphs.addEdgeWithVertices(path, i, i + 1);
+            Graphs.addEdgeWithVertices(star, 0, i + 1);
+        }
+        assertNotEquals(
+            new WeisfeilerLehmanGraphHash<>(path).getHash(),
+            new WeisfeilerLehmanGraphHash<>(star).getHash());
+
+        Graph<Integer, DefaultEdge> g1 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g1, 0, 1);
+        Graphs.addEdgeWithVertices(g1, 1, 2);
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g2, 1, 0);
+        Graphs.addEdgeWithVertices(g2, 1, 2);
+        assertNotEquals(
+            new WeisfeilerLehmanGraphHash<>(g1).getHash(),
+            new WeisfeilerLehmanGraphHash<>(g2).getHash());
+    }
+
+    @Test
+    public void testRegularGraphs()
+    {
+        // color refinement cannot distinguish regular graphs of the same degree
+        assertEquals(
+            new WeisfeilerLehmanGraphHash<>(NamedGraphGenerator.dodecahedronGraph()).getHash(),
+            new WeisfeilerLehmanGraphHash<>(NamedGraphGenerator.desarguesGraph()).getHash());
+    }
+
+    @Test
+    public void testVertexColorsAndIterations()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 6; i++) {
+            Graphs.addEdgeWithVertices(g, i, i + 1);
+        }
+
+        assertEquals(
+            new WeisfeilerLehmanGraphHash<>(g, v -> v == 0 ? 1 : 0).getHash(),
+            new WeisfeilerLehmanGraphHash<>(g, v -> v == 6 ? 1 : 0).getHash());
+        assertNotEquals(
+            new WeisfeilerLehmanGraphHash<>(g, v -> v == 0 ? 1 : 0).getHash(),
+            new WeisfeilerLehmanGraphHash<>(g, v -> v == 1 ? 1 : 0).getHash());
+
+        Map<Integer, Long> initial =
+            new WeisfeilerLehmanGraphHash<>(g, v -> 0, 0).getVertexHashes();
+        assertEquals(1, new HashSet<>(initial.values()).size());
+        Map<Integer, Long> stable = new WeisfeilerLehmanGraphHash<>(g).getVertexHashes();
+        assertEquals(4, new HashSet<>(stable.values()).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIterations()
+    {
+        new WeisfeilerLehmanGraphHash<>(new SimpleGraph<>(DefaultEdge.class), v -> 0, -1);
+    }
+}
+
+// End WeisfeilerLehmanGraphHashTest.java
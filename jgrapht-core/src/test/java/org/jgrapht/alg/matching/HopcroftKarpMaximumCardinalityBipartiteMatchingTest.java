@@ -19,10 +19,15 @@ package org.jgrapht.alg.matching;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
 
 import java.util.*;
 
+import static org.junit.Assert.*;
+
 /**
  * Unit test for the HopcroftKarpMaximumCardinalityBipartiteMatching class
  * 
@@ -40,4 +45,108 @@ public class HopcroftKarpMaximumCardinalityBipartiteMatchingTest
     {
         return new HopcroftKarpMaximumCardinalityBipartiteMatching<>(graph, partition1, partition2);
     }
+
+    @Test
+    public void testParallelRandomGraphs()
+    {
+        Random rng = new Random(11);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 6; i++) {
+                GnmRandomBipartiteGraphGenerator<Integer, DefaultEdge> generator =
+                    new GnmRandomBipartiteGraphGenerator<>(3000, 5000 - i * 400, 6000, rng);
+                Graph<Integer, DefaultEdge> graph = new Pseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                generator.generateGraph(graph);
+                Set<Integer> partition1 = generator.getFirstPartition();
+                Set<Integer> partition2 = generator.getSecondPartition();
+
+                MatchingAlgorithm.Matching<Integer, DefaultEdge> expected =
+                    new EdmondsMaximumCardinalityMatching<>(graph).getMatching();
+                MatchingAlgorithm.Matching<Integer, DefaultEdge> sequential =
+                    new HopcroftKarpMaximumCardinalityBipartiteMatching<>(
+                        graph, partition1, partition2).getMatching();
+                MatchingAlgorithm.Matching<Integer, DefaultEdge> parallel =
+                    new HopcroftKarpMaximumCardinalityBipartiteMatching<>(
+                        graph, partition1, partition2, pool).getMatching();
+                assertEquals(expected.getEdges().size(), sequential.getEdges().size());
+                assertEquals(expected.getEdges().size(), parallel.getEdges().size());
+                assertTrue(parallel.isPerfect() == expected.isPerfect());
+
+                Set<Integer> matched = new HashSet<>();
+                for (DefaultEdge e : parallel.getEdges()) {
+                    assertTrue(matched.add(graph.getEdgeSource(e)));
+                    assertTrue(matched.add(graph.getEdgeTarget(e)));
+                }
+            }
+        });
+    }
+
+    /**
+     * The greedy initial matching leaves a single augmenting path through all vertices.
+     */
+    @Test
+    public void testLongAugmentingPath()
+    {
+        int k = 50000;
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        Set<Integer> partition1 = new LinkedHashSet<>();
+        Set<Integer> partition2 = new LinkedHashSet<>();
+        createLongAugmentingPath(k, graph, partition1, partition2);
+
+        MatchingAlgorithm.Matching<Integer, DefaultEdge> matching =
+            new HopcroftKarpMaximumCardinalityBipartiteMatching<>(graph, partition1, partition2)
+                .getMatching();
+        assertLongAugmentingPathMatching(k, graph, matching);
+    }
+
+    @Test
+    public void testLongAugmentingPathParallel()
+    {
+        int k = 5000;
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        Set<Integer> partition1 = new LinkedHashSet<>();
+        Set<Integer> partition2 = new LinkedHashSet<>();
+        createLongAugmentingPath(k, graph, partition1, partition2);
+
+        ParallelTestsUtils.withPool(pool -> {
+            MatchingAlgorithm.Matching<Integer, DefaultEdge> matching =
+                new HopcroftKarpMaximumCardinalityBipartiteMatching<>(
+                    graph, partition1, partition2, pool).getMatching();
+            assertLongAugmentingPathMatching(k, graph, matching);
+        });
+    }
+
+    /*
+     * Vertex i of the first partition is adjacent to vertices k + i and k + 1 + i of the second,
+     * except for vertex 0, which is adjacent to k + 1 only.
+     */
+    private static void createLongAugmentingPath(
+        int k, Graph<Integer, DefaultEdge> graph, Set<Integer> partition1,
+        Set<Integer> partition2)
+    {
+        for (int i = 0; i <= k; i++) {
+            graph.addVertex(i);
+            graph.addVertex(k + 1 + i);
+            partition2.add(k + 1 + i);
+        }
+        for (int i = 1; i <= k; i++) {
+            partition1.add(i);
+            graph.addEdge(i, k + i);
+            graph.addEdge(i, k + 1 + i);
+        }
+        partition1.add(0);
+        graph.addEdge(0, k + 1);
+    }
+
+    private static void assertLongAugmentingPathMatching(
+        int k, Graph<Integer, DefaultEdge> graph,
+        MatchingAlgorithm.Matching<Integer, DefaultEdge> matching)
+    {
+        // the only perfect matching pairs every vertex i with k + 1 + i
+        assertTrue(matching.isPerfect());
+        for (int i = 0; i <= k; i++) {
+            assertTrue(matching.getEdges().contains(graph.getEdge(i, k + 1 + i)));
+        }
+    }
 }
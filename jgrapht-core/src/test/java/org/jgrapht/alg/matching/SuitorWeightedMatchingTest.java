@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.matching;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.MatchingAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SuitorWeightedMatching algorithm.
+ */
+public class SuitorWeightedMatchingTest
+    extends
+    ApproximateWeightedMatchingTest
+{
+    @Override
+    public MatchingAlgorithm<Integer, DefaultWeightedEdge> getApproximationAlgorithm(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        return new SuitorWeightedMatching<>(graph);
+    }
+
+    @Test
+    public void testRandomGraphsAgainstGreedy()
+    {
+        Random rng = new Random(17);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultWeightedEdge> g =
+                    GraphTestsUtils.createRandomWeightedPseudograph(
+                        false, 5000, i < 5 ? 10000 : 50000, rng, () -> rng.nextDouble() - 0.1);
+
+                Matching<Integer, DefaultWeightedEdge> expected =
+                    new GreedyWeightedMatching<>(g, false, 1e-12).getMatching();
+                Matching<Integer, DefaultWeightedEdge> m =
+                    new SuitorWeightedMatching<>(g, pool).getMatching();
+                assertEquals(expected.getEdges(), m.getEdges());
+                assertEquals(expected.getWeight(), m.getWeight(), 1e-9);
+            }
+        });
+    }
+
+    @Test
+    public void testKnownLocallyDominantEdges()
+    {
+        // on the path a, b, c, d the heavy middle edge dominates both end edges
+        Graph<String, DefaultWeightedEdge> middle =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(middle, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(middle, "b", "c", 3d);
+        Graphs.addEdgeWithVertices(middle, "c", "d", 1d);
+
+        // on the same path with heavy end edges both end edges are chosen, and the negative edge
+        // from the isolated vertex e is never chosen
+        Graph<String, DefaultWeightedEdge> ends =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(ends, "a", "b", 3d);
+        Graphs.addEdgeWithVertices(ends, "b", "c", 1d);
+        Graphs.addEdgeWithVertices(ends, "c", "d", 3d);
+        Graphs.addEdgeWithVertices(ends, "e", "a", -1d);
+
+        ParallelTestsUtils.withPool(pool -> {
+            Matching<String, DefaultWeightedEdge> m =
+                new SuitorWeightedMatching<>(middle, pool).getMatching();
+            assertEquals(Collections.singleton(middle.getEdge("b", "c")), m.getEdges());
+            assertEquals(3d, m.getWeight(), 0d);
+
+            m = new SuitorWeightedMatching<>(ends, pool).getMatching();
+            assertEquals(
+                new HashSet<>(Arrays.asList(ends.getEdge("a", "b"), ends.getEdge("c", "d"))),
+                m.getEdges());
+            assertEquals(6d, m.getWeight(), 0d);
+        });
+    }
+
+    @Test
+    public void testEqualWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+            .createRandomWeightedPseudograph(false, 3000, 9000, new Random(5), () -> 1d);
+        ParallelTestsUtils.withPool(pool -> {
+            Matching<Integer, DefaultWeightedEdge> m =
+                new SuitorWeightedMatching<>(g, pool).getMatching();
+            assertTrue(isMatching(g, m));
+            assertEquals(m.getEdges().size(), m.getWeight(), 0d);
+            assertEquals(
+                m.getEdges(), new SuitorWeightedMatching<>(g, pool).getMatching().getEdges());
+
+            // the matching is maximal
+            Set<Integer> matched = new HashSet<>();
+            for (DefaultWeightedEdge e : m.getEdges()) {
+                matched.add(g.getEdgeSource(e));
+                matched.add(g.getEdgeTarget(e));
+            }
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                Integer s = g.getEdgeSource(e);
+                Integer t = g.getEdgeTarget(e);
+                assertTrue(s.equals(t) || matched.contains(s) || matched.contains(t));
+            }
+        });
+    }
+}
+
+// End SuitorWeightedMatchingTest.java
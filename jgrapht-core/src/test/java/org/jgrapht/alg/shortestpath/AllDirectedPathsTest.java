@@ -135,6 +135,39 @@ public class AllDirectedPathsTest
             allPathsWithoutCycle.size());
     }
 
+    @Test
+    public void testIterator()
+    {
+        Graph<String, DefaultEdge> toyGraph = toyGraph();
+        toyGraph.addEdge(D, A);
+
+        AllDirectedPaths<String, DefaultEdge> pathFindingAlg = new AllDirectedPaths<>(toyGraph);
+
+        Set<String> sources = new HashSet<>();
+        sources.add(I1);
+        sources.add(I2);
+
+        Set<String> targets = new HashSet<>();
+        targets.add(O1);
+        targets.add(O2);
+
+        for (boolean simplePathsOnly : new boolean[] { true, false }) {
+            List<GraphPath<String, DefaultEdge>> allPaths =
+                pathFindingAlg.getAllPaths(sources, targets, simplePathsOnly, 8);
+            List<GraphPath<String, DefaultEdge>> iteratedPaths = new ArrayList<>();
+            pathFindingAlg
+                .getAllPathsIterator(sources, targets, simplePathsOnly, 8)
+                .forEachRemaining(iteratedPaths::add);
+            assertEquals(allPaths, iteratedPaths);
+        }
+
+        Iterator<GraphPath<String, DefaultEdge>> it =
+            pathFindingAlg.getAllPathsIterator(I1, O1, false, 100);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(O1, it.next().getEndVertex());
+        }
+    }
+
     @Test
     public void testMustBoundIfNonSimplePaths()
     {
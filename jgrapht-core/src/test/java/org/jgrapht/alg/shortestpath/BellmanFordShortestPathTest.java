@@ -19,10 +19,13 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.BellmanFordShortestPath.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -144,11 +147,14 @@ public class BellmanFordShortestPathTest
         g.setEdgeWeight(g.addEdge("s", "x"), 0.0);
         g.setEdgeWeight(g.addEdge("s", "z"), 0.0);
 
-        try {
-            new BellmanFordShortestPath<>(g).getPaths("s");
-            fail("Negative-weight cycle not detected");
-        } catch (RuntimeException e) {
-            assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+        for (Mode mode : Mode.values()) {
+            try {
+                new BellmanFordShortestPath<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, mode)
+                    .getPaths("s");
+                fail("Negative-weight cycle not detected");
+            } catch (RuntimeException e) {
+                assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+            }
         }
     }
 
@@ -163,14 +169,179 @@ public class BellmanFordShortestPathTest
         g.setEdgeWeight(g.addEdge("w", "y"), 1);
         g.setEdgeWeight(g.addEdge("y", "x"), 1);
         g.setEdgeWeight(g.addEdge("y", "x"), -1);
+        for (Mode mode : Mode.values()) {
+            try {
+                new BellmanFordShortestPath<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, mode)
+                    .getPaths("w");
+                fail("Negative-weight cycle not detected");
+            } catch (RuntimeException e) {
+                assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testModes()
+    {
+        Random rng = new Random(3);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+                    .createRandomWeightedPseudograph(true, 1000, 8000, rng, () -> rng.nextInt(10));
+
+                // reduced costs of a potential give negative edges but no negative cycles
+                int[] potential = new int[1000];
+                for (int v = 0; v < potential.length; v++) {
+                    potential[v] = rng.nextInt(50);
+                }
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(
+                        e, g.getEdgeWeight(e) + potential[g.getEdgeSource(e)]
+                            - potential[g.getEdgeTarget(e)]);
+                }
+
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new BellmanFordShortestPath<>(g).getPaths(0);
+                for (Mode mode : Mode.values()) {
+                    assertSamePaths(
+                        g, 0, expected,
+                        new BellmanFordShortestPath<>(
+                            g, ToleranceDoubleComparator.DEFAULT_EPSILON, mode, pool).getPaths(0));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testWikipediaExampleModes()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "w", "z", 2d);
+        Graphs.addEdgeWithVertices(g, "y", "w", 4d);
+        Graphs.addEdgeWithVertices(g, "x", "w", 6d);
+        Graphs.addEdgeWithVertices(g, "x", "y", 3d);
+        Graphs.addEdgeWithVertices(g, "z", "x", -7d);
+        Graphs.addEdgeWithVertices(g, "y", "z", 5d);
+        Graphs.addEdgeWithVertices(g, "z", "y", -3d);
+        Graphs.addEdgeWithVertices(g, "s", "w", 0d);
+        Graphs.addEdgeWithVertices(g, "s", "y", 0d);
+        Graphs.addEdgeWithVertices(g, "s", "x", 0d);
+        Graphs.addEdgeWithVertices(g, "s", "z", 0d);
+
+        ParallelTestsUtils.withPool(pool -> {
+            for (Mode mode : Mode.values()) {
+                SingleSourcePaths<String, DefaultWeightedEdge> paths =
+                    new BellmanFordShortestPath<>(
+                        g, ToleranceDoubleComparator.DEFAULT_EPSILON, mode, pool).getPaths("s");
+                assertEquals(0d, paths.getWeight("s"), 1e-9);
+                assertEquals(-1d, paths.getWeight("w"), 1e-9);
+                assertEquals(-4d, paths.getWeight("y"), 1e-9);
+                assertEquals(-7d, paths.getWeight("x"), 1e-9);
+                assertEquals(0d, paths.getWeight("z"), 1e-9);
+                assertEquals(
+                    Arrays.asList("s", "z", "x", "w"), paths.getPath("w").getVertexList());
+                assertEquals(
+                    Arrays.asList("s", "z", "x", "y"), paths.getPath("y").getVertexList());
+            }
+        });
+    }
+
+    @Test
+    public void testNegativeCycleModes()
+    {
+        Random rng = new Random(9);
+        ParallelTestsUtils.withPool(pool -> {
+            int withCycle = 0;
+            for (int i = 0; i < 10; i++) {
+                // only the graphs with many negative edges have a negative cycle
+                int shift = i % 2 == 0 ? 2 : 10;
+                Graph<Integer, DefaultWeightedEdge> g =
+                    GraphTestsUtils.createRandomWeightedPseudograph(
+                        true, 1000, 8000, rng, () -> rng.nextInt(100) - shift);
+                for (int v = 1; v < 1000; v++) {
+                    Graphs.addEdge(g, 0, v, 0d);
+                }
+
+                boolean expected = hasNegativeCycle(g);
+                if (expected) {
+                    withCycle++;
+                }
+                for (Mode mode : Mode.values()) {
+                    assertEquals(expected, detectsNegativeCycle(g, 0, mode, pool));
+                }
+            }
+            assertTrue(withCycle > 0 && withCycle < 10);
+        });
+    }
+
+    @Test
+    public void testKnownNegativeCycleModes()
+    {
+        // the cycle 1, 2, 3 has weight -1 and is reachable from 0 but not from 4
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 2d);
+        Graphs.addEdgeWithVertices(g, 1, 2, 1d);
+        Graphs.addEdgeWithVertices(g, 2, 3, -3d);
+        Graphs.addEdgeWithVertices(g, 3, 1, 1d);
+        Graphs.addEdgeWithVertices(g, 4, 5, -1d);
+        assertTrue(hasNegativeCycle(g));
+
+        ParallelTestsUtils.withPool(pool -> {
+            for (Mode mode : Mode.values()) {
+                assertTrue(detectsNegativeCycle(g, 0, mode, pool));
+                assertFalse(detectsNegativeCycle(g, 4, mode, pool));
+            }
+
+            // a cycle of weight zero is not negative
+            g.setEdgeWeight(g.getEdge(3, 1), 2d);
+            assertFalse(hasNegativeCycle(g));
+            for (Mode mode : Mode.values()) {
+                assertFalse(detectsNegativeCycle(g, 0, mode, pool));
+            }
+        });
+    }
+
+    private static boolean detectsNegativeCycle(
+        Graph<Integer, DefaultWeightedEdge> g, Integer source, Mode mode, ForkJoinPool pool)
+    {
         try {
-            new BellmanFordShortestPath<>(g).getPaths("w");
-            fail("Negative-weight cycle not detected");
+            new BellmanFordShortestPath<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, mode, pool)
+                .getPaths(source);
+            return false;
         } catch (RuntimeException e) {
-            assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+            assertEquals(BaseShortestPathAlgorithm.GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE,
+                e.getMessage());
+            return true;
         }
     }
 
+    /*
+     * Textbook Bellman-Ford from a virtual source with a zero weight edge to every vertex: there
+     * is a negative cycle if an edge can still be relaxed after n rounds over all edges.
+     */
+    private static boolean hasNegativeCycle(Graph<Integer, DefaultWeightedEdge> g)
+    {
+        Map<Integer, Double> dist = new HashMap<>();
+        for (Integer v : g.vertexSet()) {
+            dist.put(v, 0d);
+        }
+        for (int round = 0; round <= g.vertexSet().size(); round++) {
+            boolean changed = false;
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                double d = dist.get(g.getEdgeSource(e)) + g.getEdgeWeight(e);
+                if (d < dist.get(g.getEdgeTarget(e))) {
+                    dist.put(g.getEdgeTarget(e), d);
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
 
 // End BellmanFordShortestPathTest.java
@@ -0,0 +1,154 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DeltaSteppingShortestPath}.
+ */
+public class DeltaSteppingShortestPathTest
+    extends
+    ShortestPathTestCase
+{
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new DeltaSteppingShortestPath<>(g).getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(5);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 20; i++) {
+                // include zero weights, which create zero weight cycles
+                boolean integral = i < 10;
+                Graph<Integer, DefaultWeightedEdge> g =
+                    GraphTestsUtils.createRandomWeightedPseudograph(
+                        i % 2 == 0, 2000, 10000, rng,
+                        () -> integral ? rng.nextInt(10) : rng.nextDouble());
+
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(g).getPaths(0);
+                List<DeltaSteppingShortestPath<Integer, DefaultWeightedEdge>> algs =
+                    Arrays.asList(
+                        new DeltaSteppingShortestPath<>(g, pool),
+                        new DeltaSteppingShortestPath<>(g, 0.1, pool),
+                        new DeltaSteppingShortestPath<>(g, 3d, pool),
+                        new DeltaSteppingShortestPath<>(g, Double.POSITIVE_INFINITY, pool));
+                for (DeltaSteppingShortestPath<Integer, DefaultWeightedEdge> alg : algs) {
+                    assertSamePaths(g, 0, expected, alg.getPaths(0));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testKnownDistancesParallel()
+    {
+        // the light path s, a, b, c is shorter than the heavy edges from s
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "s", "a", 1d);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(g, "s", "b", 5d);
+        Graphs.addEdgeWithVertices(g, "b", "c", 3d);
+        Graphs.addEdgeWithVertices(g, "s", "c", 10d);
+        Graphs.addEdgeWithVertices(g, "c", "a", 0d);
+        g.addVertex("t");
+
+        ParallelTestsUtils.withPool(pool -> {
+            for (double delta : new double[] { 0.5, 1d, 2d, 3d, Double.POSITIVE_INFINITY }) {
+                SingleSourcePaths<String, DefaultWeightedEdge> paths =
+                    new DeltaSteppingShortestPath<>(g, delta, pool).getPaths("s");
+                assertEquals(0d, paths.getWeight("s"), 0d);
+                assertEquals(1d, paths.getWeight("a"), 0d);
+                assertEquals(2d, paths.getWeight("b"), 0d);
+                assertEquals(5d, paths.getWeight("c"), 0d);
+                assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("t"), 0d);
+                assertEquals(
+                    Arrays.asList("s", "a", "b", "c"), paths.getPath("c").getVertexList());
+                assertNull(paths.getPath("t"));
+            }
+        });
+    }
+
+    @Test
+    public void testZeroWeightCycle()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4));
+        Graphs.addEdge(g, V1, V2, 1d);
+        Graphs.addEdge(g, V2, V3, 0d);
+        Graphs.addEdge(g, V3, V2, 0d);
+        Graphs.addEdge(g, V3, V4, 0d);
+        Graphs.addEdge(g, V4, V3, 0d);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths =
+            new DeltaSteppingShortestPath<>(g).getPaths(V1);
+        GraphPath<String, DefaultWeightedEdge> path = paths.getPath(V4);
+        assertEquals(Arrays.asList(V1, V2, V3, V4), path.getVertexList());
+        assertEquals(1d, path.getWeight(), 0d);
+    }
+
+    @Test
+    public void testUnreachable()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3));
+        Graphs.addEdge(g, V1, V2, 2d);
+
+        DeltaSteppingShortestPath<String, DefaultWeightedEdge> alg =
+            new DeltaSteppingShortestPath<>(g, 1d);
+        assertEquals(2d, alg.getPathWeight(V1, V2), 0d);
+        assertNull(alg.getPath(V1, V3));
+        assertEquals(Double.POSITIVE_INFINITY, alg.getPathWeight(V1, V3), 0d);
+        assertEquals(0d, alg.getPathWeight(V1, V1), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2));
+        Graphs.addEdge(g, V1, V2, -1d);
+        new DeltaSteppingShortestPath<>(g).getPaths(V1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDelta()
+    {
+        new DeltaSteppingShortestPath<>(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), 0d);
+    }
+}
+
+// End DeltaSteppingShortestPathTest.java
@@ -19,10 +19,13 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.function.*;
 
 import static org.junit.Assert.*;
 
@@ -162,6 +165,33 @@ public class DijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testHeaps()
+    {
+        List<Supplier<IntDoubleHeap>> heaps = Arrays.asList(
+            () -> new DaryIntDoubleHeap(2), PairingIntDoubleHeap::new, RadixIntDoubleHeap::new);
+        Random rng = new Random(11);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 1500, rng, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(20));
+            }
+
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new BellmanFordShortestPath<>(g).getPaths(0);
+            for (Supplier<IntDoubleHeap> heap : heaps) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                    new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, heap).getPaths(0);
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.getWeight(v), paths.getWeight(v), 1e-9);
+                }
+            }
+        }
+    }
+
 }
 
 // End DijkstraShortestPathTest.java
@@ -0,0 +1,106 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HubLabelingShortestPath}.
+ */
+public class HubLabelingShortestPathTest
+    extends
+    ShortestPathTestCase
+{
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new HubLabelingShortestPath<>(g).getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(31);
+        for (int i = 0; i < 12; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = i % 2 == 0
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                150, i < 6 ? 200 : 600, rng, true, true).generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                // unit, integer and fractional weights
+                double w = i % 3 == 0 ? 1d : i % 3 == 1 ? rng.nextInt(5) : rng.nextDouble();
+                g.setEdgeWeight(e, w);
+            }
+
+            HubLabelingShortestPath<Integer, DefaultWeightedEdge> labels =
+                new HubLabelingShortestPath<>(g);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+            for (Integer u : g.vertexSet()) {
+                ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                    dijkstra.getPaths(u);
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(paths.getWeight(v), labels.getPathWeight(u, v), 1e-9);
+                }
+            }
+            assertTrue(labels.getAverageLabelSize() < 150);
+        }
+    }
+
+    @Test
+    public void testUnreachable()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3));
+        Graphs.addEdge(g, V1, V2, 2d);
+
+        HubLabelingShortestPath<String, DefaultWeightedEdge> alg = new HubLabelingShortestPath<>(g);
+        assertEquals(2d, alg.getPathWeight(V1, V2), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, alg.getPathWeight(V2, V1), 0d);
+        assertNull(alg.getPath(V1, V3));
+        assertEquals(0d, alg.getPath(V3, V3).getWeight(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2));
+        Graphs.addEdge(g, V1, V2, -1d);
+        new HubLabelingShortestPath<>(g);
+    }
+}
+
+// End HubLabelingShortestPathTest.java
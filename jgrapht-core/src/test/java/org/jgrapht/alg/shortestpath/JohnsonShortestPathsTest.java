@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -25,6 +26,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.*;
@@ -65,6 +67,87 @@ public class JohnsonShortestPathsTest
 
     @Test
     public void testWikipediaExample()
+    {
+        JohnsonShortestPaths<String, DefaultWeightedEdge> alg =
+            new JohnsonShortestPaths<>(wikipediaGraph());
+        assertEquals(-1d, alg.getPathWeight("z", "w"), 1e-9);
+        assertEquals(-4d, alg.getPathWeight("z", "y"), 1e-9);
+        assertEquals(0, alg.getPathWeight("z", "z"), 1e-9);
+        assertEquals(-7, alg.getPathWeight("z", "x"), 1e-9);
+    }
+
+    @Test
+    public void testParallelWikipediaExample()
+    {
+        Graph<String, DefaultWeightedEdge> g = wikipediaGraph();
+        ParallelTestsUtils.withExecutor(Executors.newFixedThreadPool(2), executor -> {
+            for (int batchSize : new int[] { 1, 3, 10 }) {
+                for (boolean all : new boolean[] { false, true }) {
+                    JohnsonShortestPaths<String, DefaultWeightedEdge> alg =
+                        new JohnsonShortestPaths<>(
+                            g, ToleranceDoubleComparator.DEFAULT_EPSILON, executor, batchSize);
+                    if (all) {
+                        alg.computeAllPaths();
+                    }
+                    assertEquals(-1d, alg.getPathWeight("z", "w"), 1e-9);
+                    assertEquals(-4d, alg.getPathWeight("z", "y"), 1e-9);
+                    assertEquals(0, alg.getPathWeight("z", "z"), 1e-9);
+                    assertEquals(-7, alg.getPathWeight("z", "x"), 1e-9);
+                    assertEquals(
+                        Arrays.asList("z", "x", "w"),
+                        alg.getPaths("z").getPath("w").getVertexList());
+                    assertEquals(2d, alg.getPathWeight("w", "z"), 1e-9);
+                }
+            }
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelInvalidBatchSize()
+    {
+        new JohnsonShortestPaths<>(
+            wikipediaGraph(), ToleranceDoubleComparator.DEFAULT_EPSILON,
+            ForkJoinPool.commonPool(), 0);
+    }
+
+    @Test
+    public void testParallelConcurrentQueries()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+            .createRandomWeightedPseudograph(true, 200, 1000, new Random(5), () -> 1d);
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> sequential =
+            new JohnsonShortestPaths<>(g);
+        // the sequential mode is not thread-safe before its first query
+        sequential.getPathWeight(0, 0);
+
+        ParallelTestsUtils.withExecutor(Executors.newFixedThreadPool(4), executor -> {
+            JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                new JohnsonShortestPaths<>(
+                    g, ToleranceDoubleComparator.DEFAULT_EPSILON, executor, 7);
+            List<Callable<Void>> queries = new ArrayList<>();
+            for (int c = 0; c < 8; c++) {
+                int offset = c;
+                queries.add(() -> {
+                    for (int v = 0; v < 200; v++) {
+                        int source = (v * 13 + offset) % 200;
+                        for (int u = 0; u < 200; u += 11) {
+                            assertEquals(
+                                sequential.getPathWeight(source, u),
+                                parallel.getPathWeight(source, u), 1e-9);
+                        }
+                    }
+                    return null;
+                });
+            }
+            ParallelTestsUtils.withExecutor(Executors.newFixedThreadPool(4), callers -> {
+                for (Future<Void> f : callers.invokeAll(queries)) {
+                    f.get();
+                }
+            });
+        });
+    }
+
+    private static Graph<String, DefaultWeightedEdge> wikipediaGraph()
     {
         Graph<String,
             DefaultWeightedEdge> g = GraphTypeBuilder
@@ -83,12 +166,7 @@ public class JohnsonShortestPathsTest
         g.setEdgeWeight(g.addEdge("z", "x"), -7);
         g.setEdgeWeight(g.addEdge("y", "z"), 5);
         g.setEdgeWeight(g.addEdge("z", "y"), -3);
-
-        JohnsonShortestPaths<String, DefaultWeightedEdge> alg = new JohnsonShortestPaths<>(g);
-        assertEquals(-1d, alg.getPathWeight("z", "w"), 1e-9);
-        assertEquals(-4d, alg.getPathWeight("z", "y"), 1e-9);
-        assertEquals(0, alg.getPathWeight("z", "z"), 1e-9);
-        assertEquals(-7, alg.getPathWeight("z", "x"), 1e-9);
+        return g;
     }
 
     @Test
@@ -155,4 +233,60 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testParallelCompareWithSequential()
+    {
+        Random rng = new Random(13);
+        ParallelTestsUtils.withExecutor(Executors.newFixedThreadPool(4), executor -> {
+            int n = 100;
+            int cycles = 0;
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+                    .createRandomWeightedPseudograph(i % 4 != 3, n, 600, rng, rng::nextDouble);
+                boolean negative = i % 2 == 0;
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    if (negative && g.getEdgeSource(e) < g.getEdgeTarget(e)
+                        && rng.nextDouble() < 0.3)
+                    {
+                        g.setEdgeWeight(e, -g.getEdgeWeight(e));
+                    }
+                }
+
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                    new JohnsonShortestPaths<>(g);
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                    new JohnsonShortestPaths<>(g, executor);
+                try {
+                    sequential.getPathWeight(0, 0);
+                } catch (RuntimeException e) {
+                    assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+                    try {
+                        parallel.getPathWeight(0, 0);
+                        fail("Negative-weight cycle not detected");
+                    } catch (RuntimeException e1) {
+                        assertEquals("Graph contains a negative-weight cycle", e1.getMessage());
+                    }
+                    cycles++;
+                    continue;
+                }
+
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        double expected = sequential.getPathWeight(v, u);
+                        assertEquals(expected, parallel.getPathWeight(v, u), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v, u);
+                        if (path == null) {
+                            assertEquals(Double.POSITIVE_INFINITY, expected, 0d);
+                        } else {
+                            assertEquals(expected, path.getWeight(), 1e-9);
+                            assertEquals(v, path.getStartVertex());
+                            assertEquals(u, path.getEndVertex());
+                            assertEquals(expected, parallel.getPaths(v).getWeight(u), 1e-9);
+                        }
+                    }
+                }
+            }
+            assertTrue(cycles > 0 && cycles < 20);
+        });
+    }
 }
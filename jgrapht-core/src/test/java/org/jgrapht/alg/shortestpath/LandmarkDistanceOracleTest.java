@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LandmarkDistanceOracle}.
+ */
+public class LandmarkDistanceOracleTest
+{
+    @Test
+    public void testBounds()
+    {
+        Random rng = new Random(21);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultWeightedEdge> g =
+                    GraphTestsUtils.createRandomWeightedPseudograph(
+                        i % 2 == 0, 100, 250, rng, () -> rng.nextInt(20));
+                Set<Integer> landmarks = new HashSet<>();
+                while (landmarks.size() < 5) {
+                    landmarks.add(rng.nextInt(100));
+                }
+
+                LandmarkDistanceOracle<Integer, DefaultWeightedEdge> oracle =
+                    new LandmarkDistanceOracle<>(g, landmarks, pool);
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp =
+                    new DijkstraShortestPath<>(g);
+                for (Integer u : g.vertexSet()) {
+                    for (Integer v : g.vertexSet()) {
+                        double d = sp.getPathWeight(u, v);
+                        double lower = oracle.getLowerBound(u, v);
+                        double upper = oracle.getUpperBound(u, v);
+                        assertTrue(lower <= d);
+                        assertTrue(d <= upper);
+                        if (landmarks.contains(u) || landmarks.contains(v)) {
+                            assertEquals(d, lower, 0d);
+                            assertEquals(d, upper, 0d);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testKnownBounds()
+    {
+        // a directed cycle a, b, c, d and the same edges without directions
+        Graph<String, DefaultWeightedEdge> directed =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graph<String, DefaultWeightedEdge> undirected =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (Graph<String, DefaultWeightedEdge> g : Arrays.asList(directed, undirected)) {
+            Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+            Graphs.addEdgeWithVertices(g, "b", "c", 2d);
+            Graphs.addEdgeWithVertices(g, "c", "d", 3d);
+            Graphs.addEdgeWithVertices(g, "d", "a", 4d);
+        }
+
+        ParallelTestsUtils.withPool(pool -> {
+            LandmarkDistanceOracle<String, DefaultWeightedEdge> oracle =
+                new LandmarkDistanceOracle<>(directed, Collections.singleton("a"), pool);
+            // from a: b = 1, c = 3, d = 6, and to a: b = 9, c = 7, d = 4
+            assertEquals(5d, oracle.getLowerBound("b", "d"), 0d);
+            assertEquals(15d, oracle.getUpperBound("b", "d"), 0d);
+            assertEquals(0d, oracle.getLowerBound("d", "b"), 0d);
+            assertEquals(5d, oracle.getUpperBound("d", "b"), 0d);
+            assertEquals(2d, oracle.getLowerBound("b", "c"), 0d);
+
+            oracle = new LandmarkDistanceOracle<>(undirected, Collections.singleton("a"), pool);
+            // from a: b = 1, c = 3, d = 4
+            assertEquals(1d, oracle.getLowerBound("c", "d"), 0d);
+            assertEquals(7d, oracle.getUpperBound("c", "d"), 0d);
+            assertEquals(3d, oracle.getLowerBound("b", "d"), 0d);
+            assertEquals(5d, oracle.getUpperBound("b", "d"), 0d);
+        });
+    }
+
+    @Test
+    public void testUnreachable()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        Graphs.addEdge(g, "a", "b", 2d);
+        Graphs.addEdge(g, "b", "c", 3d);
+
+        LandmarkDistanceOracle<String, DefaultWeightedEdge> oracle =
+            new LandmarkDistanceOracle<>(g, Collections.singleton("b"));
+        assertEquals(0d, oracle.getLowerBound("a", "c"), 0d);
+        assertEquals(5d, oracle.getUpperBound("a", "c"), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, oracle.getLowerBound("c", "a"), 0d);
+        assertEquals(0d, oracle.getLowerBound("a", "d"), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, oracle.getUpperBound("a", "d"), 0d);
+        assertEquals(0d, oracle.getUpperBound("d", "d"), 0d);
+    }
+
+    @Test
+    public void testSerialization()
+        throws Exception
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+            .createRandomWeightedPseudograph(false, 50, 150, new Random(4), () -> 1d);
+        LandmarkDistanceOracle<Integer, DefaultWeightedEdge> oracle =
+            new LandmarkDistanceOracle<>(g, new HashSet<>(Arrays.asList(3, 17, 41)));
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(oracle);
+        out.flush();
+        ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()));
+        @SuppressWarnings("unchecked") LandmarkDistanceOracle<Integer,
+            DefaultWeightedEdge> copy =
+                (LandmarkDistanceOracle<Integer, DefaultWeightedEdge>) in.readObject();
+
+        assertEquals(oracle.getLandmarks(), copy.getLandmarks());
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                assertEquals(oracle.getLowerBound(u, v), copy.getLowerBound(u, v), 0d);
+                assertEquals(oracle.getUpperBound(u, v), copy.getUpperBound(u, v), 0d);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        Graphs.addEdge(g, "a", "b", -1d);
+        new LandmarkDistanceOracle<>(g, Collections.singleton("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoLandmarks()
+    {
+        new LandmarkDistanceOracle<>(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class), Collections.emptySet());
+    }
+}
+
+// End LandmarkDistanceOracleTest.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.graph.*;
 import org.junit.*;
 
@@ -115,6 +116,33 @@ public abstract class ShortestPathTestCase
 
         return g;
     }
+
+    /**
+     * Assert that the paths from a source have the weights of reference paths, and that they
+     * start at the source and end at their vertex.
+     *
+     * @param g the graph
+     * @param source the source vertex
+     * @param expected the reference paths
+     * @param actual the paths to check
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    protected static <V, E> void assertSamePaths(
+        Graph<V, E> g, V source, SingleSourcePaths<V, E> expected, SingleSourcePaths<V, E> actual)
+    {
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), actual.getWeight(v), 1e-9);
+            GraphPath<V, E> path = actual.getPath(v);
+            if (path == null) {
+                assertEquals(Double.POSITIVE_INFINITY, expected.getWeight(v), 0d);
+                continue;
+            }
+            assertEquals(expected.getWeight(v), path.getWeight(), 1e-9);
+            assertEquals(source, path.getStartVertex());
+            assertEquals(v, path.getEndVertex());
+        }
+    }
 }
 
 // End ShortestPathTestCase.java
@@ -0,0 +1,120 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link YenShortestPathIterator}.
+ */
+public class YenShortestPathIteratorTest
+{
+    @Test
+    public void testSameAsKShortestSimplePaths()
+    {
+        Random rng = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            boolean directed = i % 2 == 0;
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(9, 0.4, directed, rng);
+            Integer source = 0;
+            Integer sink = g.vertexSet().size() - 1;
+
+            List<GraphPath<Integer, DefaultWeightedEdge>> expected =
+                new KShortestSimplePaths<>(g).getPaths(source, sink, 200);
+            List<GraphPath<Integer, DefaultWeightedEdge>> actual = new ArrayList<>();
+            YenShortestPathIterator<Integer, DefaultWeightedEdge> it =
+                new YenShortestPathIterator<>(g, source, sink);
+            while (it.hasNext() && actual.size() < 200) {
+                actual.add(it.next());
+            }
+
+            assertEquals(expected.size(), actual.size());
+            Set<List<DefaultWeightedEdge>> distinct = new HashSet<>();
+            for (int k = 0; k < expected.size(); k++) {
+                GraphPath<Integer, DefaultWeightedEdge> path = actual.get(k);
+                assertEquals(expected.get(k).getWeight(), path.getWeight(), 1e-9);
+                assertEquals(source, path.getStartVertex());
+                assertEquals(sink, path.getEndVertex());
+                assertEquals(
+                    path.getVertexList().size(), new HashSet<>(path.getVertexList()).size());
+                double weight = 0d;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    weight += g.getEdgeWeight(e);
+                }
+                assertEquals(weight, path.getWeight(), 1e-9);
+                assertTrue(distinct.add(path.getEdgeList()));
+            }
+        }
+    }
+
+    @Test
+    public void testNoPath()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addVertex(3);
+        g.addEdge(2, 1);
+        g.addEdge(2, 3);
+
+        assertFalse(new YenShortestPathIterator<>(g, 1, 3).hasNext());
+
+        YenShortestPathIterator<Integer, DefaultWeightedEdge> it =
+            new YenShortestPathIterator<>(g, 2, 3);
+        assertTrue(it.hasNext());
+        assertEquals(Arrays.asList(2, 3), it.next().getVertexList());
+        assertFalse(it.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testExhausted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+        new YenShortestPathIterator<>(g, 1, 2).next();
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        int n, double p, boolean directed, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new SimpleDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new SimpleWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, false)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+        }
+        return g;
+    }
+}
+
+// End YenShortestPathIteratorTest.java
@@ -19,7 +19,15 @@ package org.jgrapht.alg.spanning;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.SpanningTreeAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
 
 public class KruskalMinimumSpanningTreeTest
     extends
@@ -32,4 +40,35 @@ public class KruskalMinimumSpanningTreeTest
     {
         return new KruskalMinimumSpanningTree<>(network);
     }
+
+    @Test
+    public void testModes()
+    {
+        Random rng = new Random(19);
+        for (int i = 0; i < 30; i++) {
+            WeightedPseudograph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                300, 3000 + 500 * i, rng, true, true).generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, i % 2 == 0 ? rng.nextInt(10) : rng.nextDouble());
+            }
+
+            SpanningTree<DefaultWeightedEdge> expected =
+                new PrimMinimumSpanningTree<>(g).getSpanningTree();
+            for (KruskalMinimumSpanningTree.Mode mode : KruskalMinimumSpanningTree.Mode
+                .values())
+            {
+                SpanningTree<DefaultWeightedEdge> mst =
+                    new KruskalMinimumSpanningTree<>(g, mode).getSpanningTree();
+                assertEquals(expected.getWeight(), mst.getWeight(), 1e-9);
+                assertEquals(expected.getEdges().size(), mst.getEdges().size());
+                double weight = 0d;
+                for (DefaultWeightedEdge e : mst.getEdges()) {
+                    weight += g.getEdgeWeight(e);
+                }
+                assertEquals(weight, mst.getWeight(), 1e-9);
+            }
+        }
+    }
 }
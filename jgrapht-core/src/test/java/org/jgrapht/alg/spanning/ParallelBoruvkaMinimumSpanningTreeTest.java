@@ -0,0 +1,96 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.spanning;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.SpanningTreeAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ParallelBoruvkaMinimumSpanningTreeTest
+    extends
+    MinimumSpanningTreeTest
+{
+
+    @Override
+    SpanningTreeAlgorithm<DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new ParallelBoruvkaMinimumSpanningTree<>(network);
+    }
+
+    @Test
+    public void testEqualWeightsAndPseudographs()
+    {
+        Random rng = new Random(17);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTestsUtils
+                    .createRandomWeightedPseudograph(false, 3000, 10000, rng, () -> rng.nextInt(5));
+
+                SpanningTree<DefaultWeightedEdge> mst =
+                    new ParallelBoruvkaMinimumSpanningTree<>(g, pool).getSpanningTree();
+                assertEquals(
+                    new KruskalMinimumSpanningTree<>(g).getSpanningTree().getWeight(),
+                    mst.getWeight(), 1e-9);
+
+                int components = new ConnectivityInspector<>(g).connectedSets().size();
+                assertEquals(g.vertexSet().size() - components, mst.getEdges().size());
+            }
+        });
+    }
+
+    @Test
+    public void testKnownForestWithTies()
+    {
+        // a square with a diagonal, all of weight 1, plus a self-loop, a lighter parallel edge
+        // and a separate component
+        Graph<String, DefaultWeightedEdge> g = new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(g, "b", "c", 1d);
+        Graphs.addEdgeWithVertices(g, "c", "d", 1d);
+        Graphs.addEdgeWithVertices(g, "d", "a", 1d);
+        Graphs.addEdgeWithVertices(g, "a", "c", 1d);
+        Graphs.addEdge(g, "b", "b", 0d);
+        DefaultWeightedEdge light = Graphs.addEdge(g, "a", "b", 0.5d);
+        DefaultWeightedEdge other = Graphs.addEdgeWithVertices(g, "x", "y", 2d);
+
+        ParallelTestsUtils.withPool(pool -> {
+            SpanningTree<DefaultWeightedEdge> mst =
+                new ParallelBoruvkaMinimumSpanningTree<>(g, pool).getSpanningTree();
+            assertEquals(4.5d, mst.getWeight(), 0d);
+            assertEquals(4, mst.getEdges().size());
+            assertTrue(mst.getEdges().contains(light));
+            assertTrue(mst.getEdges().contains(other));
+            assertFalse(mst.getEdges().contains(g.getEdge("b", "b")));
+
+            // the tree edges connect every component without a cycle
+            Graph<String, DefaultWeightedEdge> forest =
+                new AsSubgraph<>(g, g.vertexSet(), mst.getEdges());
+            assertEquals(2, new ConnectivityInspector<>(forest).connectedSets().size());
+        });
+    }
+}
+
+// End ParallelBoruvkaMinimumSpanningTreeTest.java
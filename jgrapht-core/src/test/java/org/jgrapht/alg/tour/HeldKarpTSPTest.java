@@ -309,4 +309,94 @@ public class HeldKarpTSPTest
             assertHamiltonian(g, tour);
         }
     }
+
+    @Test
+    public void testRandomWeightsAgainstBruteForce()
+    {
+        Random random = new Random(7);
+        ParallelTestsUtils.withPool(pool -> {
+            for (int test = 0; test < 40; test++) {
+                Graph<Integer, DefaultWeightedEdge> g =
+                    new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+                final int n = 2 + random.nextInt(7);
+                for (int i = 0; i < n; i++) {
+                    g.addVertex(i);
+                }
+                for (int u = 0; u < n; u++) {
+                    for (int v = 0; v < n; v++) {
+                        if (u != v && random.nextInt(4) != 0) {
+                            Graphs.addEdge(g, u, v, random.nextInt(100) - 10);
+                        }
+                    }
+                }
+
+                GraphPath<Integer, DefaultWeightedEdge> tour =
+                    new HeldKarpTSP<Integer, DefaultWeightedEdge>(pool).getTour(g);
+                double expected = bruteForce(g, new ArrayList<>(Collections.singleton(0)));
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertNull(tour);
+                } else {
+                    assertNotNull(tour);
+                    assertHamiltonian(g, tour);
+                    assertEquals(expected, tour.getWeight(), 1e-9);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testKnownToursParallel()
+    {
+        ParallelTestsUtils.withPool(pool -> {
+            HeldKarpTSP<String, DefaultWeightedEdge> alg = new HeldKarpTSP<>(pool);
+
+            Graph<String, DefaultWeightedEdge> g = directedGraph();
+            GraphPath<String, DefaultWeightedEdge> tour = alg.getTour(g);
+            assertHamiltonian(g, tour);
+            assertEquals(26d, tour.getWeight(), 1e-9);
+
+            g = directedGraph2();
+            tour = alg.getTour(g);
+            assertHamiltonian(g, tour);
+            assertEquals(2166782d, tour.getWeight(), 1e-9);
+
+            g = symmetric4CitiesGraph();
+            tour = alg.getTour(g);
+            assertHamiltonian(g, tour);
+            assertEquals(97d, tour.getWeight(), 1e-9);
+
+            assertNull(alg.getTour(noSolutionDirectedGraph()));
+            assertNull(alg.getTour(noSolutionUndirectedGraph()));
+        });
+    }
+
+    private static double bruteForce(Graph<Integer, DefaultWeightedEdge> g, List<Integer> prefix)
+    {
+        int n = g.vertexSet().size();
+        Integer last = prefix.get(prefix.size() - 1);
+        if (prefix.size() == n) {
+            return cheapestEdge(g, last, prefix.get(0));
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (Integer v : g.vertexSet()) {
+            if (!prefix.contains(v)) {
+                double w = cheapestEdge(g, last, v);
+                if (w != Double.POSITIVE_INFINITY) {
+                    prefix.add(v);
+                    best = Math.min(best, w + bruteForce(g, prefix));
+                    prefix.remove(prefix.size() - 1);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double cheapestEdge(Graph<Integer, DefaultWeightedEdge> g, Integer u, Integer v)
+    {
+        double best = Double.POSITIVE_INFINITY;
+        for (DefaultWeightedEdge e : g.getAllEdges(u, v)) {
+            best = Math.min(best, g.getEdgeWeight(e));
+        }
+        return best;
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link TwoOptOrOptHeuristicTSP}.
+ */
+public class TwoOptOrOptHeuristicTSPTest
+{
+    @Test
+    public void testWikiExampleSymmetric4Cities()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("A", "B", "C", "D"));
+        Graphs.addEdge(g, "A", "B", 20d);
+        Graphs.addEdge(g, "A", "C", 42d);
+        Graphs.addEdge(g, "A", "D", 35d);
+        Graphs.addEdge(g, "B", "C", 30d);
+        Graphs.addEdge(g, "B", "D", 34d);
+        Graphs.addEdge(g, "C", "D", 12d);
+
+        GraphPath<String, DefaultWeightedEdge> tour =
+            new TwoOptOrOptHeuristicTSP<String, DefaultWeightedEdge>(4, 1).getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(97d, tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testNearOptimal()
+    {
+        Random rng = new Random(5);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(12, rng);
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(5, i).getTour(g);
+            assertHamiltonian(g, tour);
+            double optimal = new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(g).getWeight();
+            assertTrue(tour.getWeight() <= 1.1 * optimal);
+        }
+    }
+
+    @Test
+    public void testBetterThanTwoApprox()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(150, rng);
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(3, i).getTour(g);
+            assertHamiltonian(g, tour);
+            double twoApprox =
+                new TwoApproxMetricTSP<Integer, DefaultWeightedEdge>().getTour(g).getWeight();
+            assertTrue(tour.getWeight() < twoApprox);
+
+            // improving a tour never makes it longer
+            GraphPath<Integer, DefaultWeightedEdge> improved =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>().improveTour(tour);
+            assertHamiltonian(g, improved);
+            assertTrue(improved.getWeight() <= tour.getWeight() + 1e-9);
+        }
+    }
+
+    @Test
+    public void testSparseGraph()
+    {
+        int n = 200;
+        Graph<Integer, DefaultWeightedEdge> g = circle(n, 3, new Random(3));
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(2, 7).getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(n * 2 * Math.sin(Math.PI / n), tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testKnownToursParallel()
+    {
+        int n = 120;
+        Graph<Integer, DefaultWeightedEdge> g = circle(n, 4, new Random(11));
+        ParallelTestsUtils.withPool(pool -> {
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    8, 5, new Random(2), pool).getTour(g);
+            assertHamiltonian(g, tour);
+            assertEquals(n * 2 * Math.sin(Math.PI / n), tour.getWeight(), 1e-9);
+
+            // the optimal tour of the four cities is found from every start
+            SimpleWeightedGraph<String, DefaultWeightedEdge> cities =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            Graphs.addAllVertices(cities, Arrays.asList("A", "B", "C", "D"));
+            Graphs.addEdge(cities, "A", "B", 20d);
+            Graphs.addEdge(cities, "A", "C", 42d);
+            Graphs.addEdge(cities, "A", "D", 35d);
+            Graphs.addEdge(cities, "B", "C", 30d);
+            Graphs.addEdge(cities, "B", "D", 34d);
+            Graphs.addEdge(cities, "C", "D", 12d);
+            GraphPath<String, DefaultWeightedEdge> citiesTour =
+                new TwoOptOrOptHeuristicTSP<String, DefaultWeightedEdge>(
+                    4, 3, new Random(2), pool).getTour(cities);
+            assertHamiltonian(cities, citiesTour);
+            assertEquals(97d, citiesTour.getWeight(), 1e-9);
+        });
+    }
+
+    @Test
+    public void testParallelRuns()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(100, new Random(9));
+        ParallelTestsUtils.withPool(1, sequential -> ParallelTestsUtils.withPool(parallel -> {
+            GraphPath<Integer, DefaultWeightedEdge> first =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    8, 5, new Random(1), sequential).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> second =
+                new TwoOptOrOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    8, 5, new Random(1), parallel).getTour(g);
+            assertHamiltonian(g, second);
+            assertEquals(first.getWeight(), second.getWeight(), 0d);
+        }));
+    }
+
+    @Test
+    public void testSingleVertex()
+    {
+        Graph<String, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        GraphPath<String, DefaultWeightedEdge> tour =
+            new TwoOptOrOptHeuristicTSP<String, DefaultWeightedEdge>().getTour(g);
+        assertHamiltonian(g, tour);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidInstanceDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        new TwoOptOrOptHeuristicTSP<String, DefaultWeightedEdge>().getTour(g);
+    }
+
+    /*
+     * Points on a circle in shuffled order, each connected to its nearest neighbors only. The
+     * optimal tour visits the points along the circle.
+     */
+    private static Graph<Integer, DefaultWeightedEdge> circle(int n, int neighbors, Random rng)
+    {
+        List<Integer> labels = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            labels.add(i);
+        }
+        Collections.shuffle(labels, rng);
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, labels);
+        for (int i = 0; i < n; i++) {
+            for (int j = 1; j <= neighbors; j++) {
+                double angle = 2 * Math.PI * j / n;
+                Graphs.addEdge(
+                    g, labels.get(i), labels.get((i + j) % n), 2 * Math.sin(angle / 2));
+            }
+        }
+        return g;
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> euclidean(int n, Random rng)
+    {
+        double[] x = new double[n];
+        double[] y = new double[n];
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < n; i++) {
+            x[i] = rng.nextDouble();
+            y[i] = rng.nextDouble();
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                Graphs.addEdge(g, i, j, Math.hypot(x[i] - x[j], y[i] - y[j]));
+            }
+        }
+        return g;
+    }
+}
+
+// End TwoOptOrOptHeuristicTSPTest.java
@@ -0,0 +1,223 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.CompressedAdjacency.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CompressedAdjacency}.
+ */
+public class CompressedAdjacencyTest
+{
+    @Test
+    public void testDirections()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 1);
+        for (Direction direction : Direction.values()) {
+            CompressedAdjacency<Integer, DefaultWeightedEdge> adjacency =
+                new CompressedAdjacency<>(g, direction);
+            List<Integer> vertices = adjacency.getVertices();
+            int[] start = adjacency.getStart();
+            int[] target = adjacency.getTarget();
+            int[] source = adjacency.computeSources();
+            for (int v = 0; v < adjacency.getVertexCount(); v++) {
+                Set<DefaultWeightedEdge> expected = direction == Direction.OUTGOING
+                    ? g.outgoingEdgesOf(vertices.get(v)) : direction == Direction.INCOMING
+                        ? g.incomingEdgesOf(vertices.get(v)) : g.edgesOf(vertices.get(v));
+                assertEquals(expected.size(), start[v + 1] - start[v]);
+                for (int k = start[v]; k < start[v + 1]; k++) {
+                    DefaultWeightedEdge e = adjacency.getEdge(k);
+                    assertTrue(expected.contains(e));
+                    assertEquals(v, source[k]);
+                    assertEquals(
+                        Graphs.getOppositeVertex(g, e, vertices.get(v)), vertices.get(target[k]));
+                    assertEquals(g.getEdgeWeight(e), adjacency.getWeight()[k], 0d);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGivenVertexOrder()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1d);
+        Graphs.addEdgeWithVertices(g, "a", "c", 2d);
+        Graphs.addEdgeWithVertices(g, "c", "b", 3d);
+
+        CompressedAdjacency<String, DefaultWeightedEdge> adjacency = new CompressedAdjacency<>(
+            g, new String[] { "c", "b", "a" }, null, Direction.INCOMING);
+        assertEquals(Arrays.asList("c", "b", "a"), adjacency.getVertices());
+        assertEquals(Integer.valueOf(2), adjacency.getVertexIndex().get("a"));
+        assertArrayEquals(new int[] { 0, 1, 3, 3 }, adjacency.getStart());
+        assertArrayEquals(new int[] { 2, 2, 0 }, adjacency.getTarget());
+        assertArrayEquals(new double[] { 2d, 1d, 3d }, adjacency.getWeight(), 0d);
+        assertArrayEquals(new int[] { 0, 1, 1 }, adjacency.computeSources());
+        assertEquals(g.getEdge("c", "b"), adjacency.getEdge(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableVertexIndex()
+    {
+        Graph<String, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        new CompressedAdjacency<>(g, Direction.ALL).getVertexIndex().put("b", 1);
+    }
+
+    @Test
+    public void testSortEdges()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, 2);
+        CompressedAdjacency<Integer, DefaultWeightedEdge> adjacency =
+            new CompressedAdjacency<>(g, Direction.ALL);
+        int n = adjacency.getVertexCount();
+        int[] rank = new int[n];
+        for (int v = 0; v < n; v++) {
+            rank[v] = n - 1 - v;
+        }
+        int[] start = adjacency.getStart();
+        int[] target = adjacency.getTarget();
+        adjacency.sortEdges(k -> rank[target[k]]);
+
+        List<Integer> vertices = adjacency.getVertices();
+        for (int v = 0; v < n; v++) {
+            assertEquals(g.edgesOf(vertices.get(v)).size(), start[v + 1] - start[v]);
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                DefaultWeightedEdge e = adjacency.getEdge(k);
+                assertEquals(
+                    Graphs.getOppositeVertex(g, e, vertices.get(v)), vertices.get(target[k]));
+                assertEquals(g.getEdgeWeight(e), adjacency.getWeight()[k], 0d);
+                if (k > start[v]) {
+                    assertTrue(rank[target[k - 1]] <= rank[target[k]]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDijkstra()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed, 3);
+            CompressedAdjacency<Integer, DefaultWeightedEdge> adjacency =
+                new CompressedAdjacency<>(g, Direction.OUTGOING);
+            int n = adjacency.getVertexCount();
+            int[] source = adjacency.computeSources();
+            for (int s = 0; s < n; s += 7) {
+                double[] dist = new double[n];
+                Arrays.fill(dist, Double.POSITIVE_INFINITY);
+                int[] pred = new int[n];
+                adjacency.dijkstra(
+                    s, adjacency.getWeight(), dist, pred, null, new DaryIntDoubleHeap());
+
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(g).getPaths(adjacency.getVertices().get(s));
+                for (int v = 0; v < n; v++) {
+                    Integer vertex = adjacency.getVertices().get(v);
+                    assertEquals(expected.getWeight(vertex), dist[v], 1e-9);
+                    if (v != s && dist[v] != Double.POSITIVE_INFINITY) {
+                        int e = pred[v];
+                        assertEquals(v, adjacency.getTarget()[e]);
+                        assertEquals(dist[v], dist[source[e]] + adjacency.getWeight()[e], 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDijkstraKnownDistances()
+    {
+        // 0 -> 1 -> 2 is shorter than the direct edge 0 -> 2, vertex 3 is unreachable
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 1d);
+        Graphs.addEdgeWithVertices(g, 1, 2, 2d);
+        Graphs.addEdgeWithVertices(g, 0, 2, 5d);
+        Graphs.addEdgeWithVertices(g, 3, 0, 1d);
+        CompressedAdjacency<Integer, DefaultWeightedEdge> adjacency = new CompressedAdjacency<>(
+            g, new Integer[] { 0, 1, 2, 3 }, null, Direction.OUTGOING);
+
+        double[] dist = new double[4];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        int[] pred = new int[4];
+        adjacency.dijkstra(0, adjacency.getWeight(), dist, pred, null, new DaryIntDoubleHeap());
+        assertArrayEquals(new double[] { 0d, 1d, 3d, Double.POSITIVE_INFINITY }, dist, 0d);
+        assertEquals(g.getEdge(1, 2), adjacency.getEdge(pred[2]));
+        assertEquals(g.getEdge(0, 1), adjacency.getEdge(pred[1]));
+    }
+
+    @Test
+    public void testDijkstraSettle()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 4);
+        CompressedAdjacency<Integer, DefaultWeightedEdge> adjacency =
+            new CompressedAdjacency<>(g, Direction.OUTGOING);
+        int n = adjacency.getVertexCount();
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        List<Integer> settled = new ArrayList<>();
+        adjacency.dijkstra(0, adjacency.getWeight(), dist, null, v -> {
+            settled.add(v);
+            return v == 0;
+        }, new DaryIntDoubleHeap());
+
+        // only the edges of the source are relaxed
+        Set<Integer> expected = new HashSet<>();
+        expected.add(0);
+        int[] start = adjacency.getStart();
+        for (int k = start[0]; k < start[1]; k++) {
+            expected.add(adjacency.getTarget()[k]);
+        }
+        assertEquals(expected, new HashSet<>(settled));
+        assertEquals(expected.size(), settled.size());
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(boolean directed, long seed)
+    {
+        Random rng = new Random(seed);
+        Graph<Integer, DefaultWeightedEdge> g;
+        if (directed) {
+            g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        } else {
+            g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        }
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 300, rng, true, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(10));
+        }
+        return g;
+    }
+}
+
+// End CompressedAdjacencyTest.java
@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntUnionFind} and {@link IndexedUnionFind}.
+ */
+public class IntUnionFindTest
+{
+    @Test
+    public void testSameAsUnionFind()
+    {
+        Random rng = new Random(3);
+        int n = 200;
+        Set<Integer> elements = new LinkedHashSet<>();
+        for (int i = 0; i < n; i++) {
+            elements.add(i);
+        }
+        UnionFind<Integer> expected = new UnionFind<>(elements);
+        IntUnionFind uf = new IntUnionFind(n);
+        IndexedUnionFind<Integer> indexed = new IndexedUnionFind<>(elements);
+
+        for (int i = 0; i < 300; i++) {
+            int a = rng.nextInt(n);
+            int b = rng.nextInt(n);
+            boolean merged = !expected.inSameSet(a, b);
+            expected.union(a, b);
+            assertEquals(merged, uf.union(a, b));
+            assertEquals(merged, indexed.union(a, b));
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+            assertEquals(expected.numberOfSets(), indexed.numberOfSets());
+
+            int c = rng.nextInt(n);
+            int d = rng.nextInt(n);
+            assertEquals(expected.inSameSet(c, d), uf.inSameSet(c, d));
+            assertEquals(expected.inSameSet(c, d), indexed.inSameSet(c, d));
+            assertTrue(expected.inSameSet(c, indexed.find(c)));
+            assertTrue(expected.inSameSet(c, uf.find(c)));
+        }
+
+        uf.reset();
+        assertEquals(n, uf.numberOfSets());
+        assertEquals(n, uf.size());
+    }
+
+    @Test
+    public void testAddElement()
+    {
+        IntUnionFind uf = new IntUnionFind(0);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, uf.addElement());
+        }
+        assertEquals(10, uf.numberOfSets());
+        assertTrue(uf.union(3, 7));
+        assertFalse(uf.union(7, 3));
+        assertEquals(9, uf.numberOfSets());
+
+        IndexedUnionFind<String> indexed =
+            new IndexedUnionFind<>(new HashSet<>(Arrays.asList("a", "b")));
+        indexed.addElement("c");
+        indexed.union("a", "c");
+        assertEquals(indexed.find("a"), indexed.find("c"));
+        assertEquals(2, indexed.numberOfSets());
+        assertEquals("c", indexed.getElement(indexed.indexOf("c")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindMissingElement()
+    {
+        new IntUnionFind(3).find(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddExistingElement()
+    {
+        new IndexedUnionFind<>(new HashSet<>(Arrays.asList("a", "b"))).addElement("a");
+    }
+}
+
+// End IntUnionFindTest.java
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.*;
 import org.jgrapht.alg.connectivity.ConnectivityInspector;
 import org.jgrapht.alg.cycle.CycleDetector;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.traverse.*;
 import org.jgrapht.util.*;
@@ -524,6 +525,82 @@ public class DirectedAcyclicGraphTest
         assertTrue(dag.iterator().hasNext());
     }
 
+    @Test
+    public void testAddEdgesBatch()
+    {
+        for (int i = 0; i < 20; i++) {
+            Graph<Long, DefaultEdge> sourceGraph = setUpWithSeed(100, 1000, i);
+            DirectedAcyclicGraph<Long, DefaultEdge> dag =
+                new DirectedAcyclicGraph<>(DefaultEdge.class);
+            sourceGraph.vertexSet().forEach(dag::addVertex);
+
+            List<Pair<Long, Long>> edges = new ArrayList<>();
+            for (DefaultEdge e : sourceGraph.edgeSet()) {
+                edges.add(
+                    Pair.of(sourceGraph.getEdgeSource(e), sourceGraph.getEdgeTarget(e)));
+            }
+            List<DefaultEdge> added = dag.addEdges(edges);
+            assertEquals(edges.size(), added.size());
+
+            // rejected edges would close a cycle with the added edges
+            assertTopologicalOrder(dag);
+            for (int j = 0; j < edges.size(); j++) {
+                Pair<Long, Long> edge = edges.get(j);
+                if (added.get(j) == null) {
+                    assertTrue(
+                        dag.containsEdge(edge.getFirst(), edge.getSecond())
+                            || dag.getDescendants(edge.getSecond()).contains(edge.getFirst())
+                            || edge.getFirst().equals(edge.getSecond()));
+                } else {
+                    assertEquals(edge.getFirst(), dag.getEdgeSource(added.get(j)));
+                    assertEquals(edge.getSecond(), dag.getEdgeTarget(added.get(j)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAddEdgesAcyclicBatch()
+    {
+        Random rng = new Random(7);
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        for (int v = 0; v < 200; v++) {
+            dag.addVertex(v);
+        }
+        // edges against the insertion order force a new topological order
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int u = rng.nextInt(200);
+            int v = rng.nextInt(200);
+            if (u > v) {
+                edges.add(Pair.of(u, v));
+            }
+        }
+        List<DefaultEdge> added = dag.addEdges(edges);
+        for (int j = 0; j < edges.size(); j++) {
+            Pair<Integer, Integer> edge = edges.get(j);
+            assertTrue(dag.containsEdge(edge.getFirst(), edge.getSecond()));
+            assertTrue(added.get(j) != null || edges.indexOf(edge) < j);
+        }
+        assertTopologicalOrder(dag);
+    }
+
+    @Test
+    public void testAddEdgesUnknownVertex()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag.addVertex("a");
+        dag.addVertex("b");
+        try {
+            dag.addEdges(Arrays.asList(Pair.of("a", "b"), Pair.of("b", "c")));
+            fail("Vertex is not in the graph");
+        } catch (IllegalArgumentException e) {
+            assertTrue(dag.edgeSet().isEmpty());
+        }
+    }
+
     // ~ Private Methods ----------------------------------------------------------
 
     private Graph<Long, DefaultEdge> setUpWithSeed(int vertices, int edges, long seed)
@@ -536,6 +613,18 @@ public class DirectedAcyclicGraphTest
         return sourceGraph;
     }
 
+    private <V, E> void assertTopologicalOrder(DirectedAcyclicGraph<V, E> dag)
+    {
+        Map<V, Integer> position = new HashMap<>();
+        for (V v : dag) {
+            position.put(v, position.size());
+        }
+        assertEquals(dag.vertexSet().size(), position.size());
+        for (E e : dag.edgeSet()) {
+            assertTrue(position.get(dag.getEdgeSource(e)) < position.get(dag.getEdgeTarget(e)));
+        }
+    }
+
     // ~ Inner Classes ----------------------------------------------------------
 
     // it is nice for tests to be easily repeatable, so we use a graph generator
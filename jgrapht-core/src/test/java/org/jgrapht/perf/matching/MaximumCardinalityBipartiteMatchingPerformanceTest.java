@@ -113,6 +113,20 @@ public class MaximumCardinalityBipartiteMatchingPerformanceTest
         }
     }
 
+    public static class ParallelHopcroftKarpMaximumCardinalityBipartiteMatchingBenchmark
+        extends
+        RandomGraphBenchmarkBase
+    {
+        @Override
+        MatchingAlgorithm<Integer, DefaultEdge> createSolver(
+            Graph<Integer, DefaultEdge> graph, Set<Integer> firstPartition,
+            Set<Integer> secondPartition)
+        {
+            return new HopcroftKarpMaximumCardinalityBipartiteMatching<>(
+                graph, firstPartition, secondPartition, ForkJoinPool.commonPool());
+        }
+    }
+
     @Test
     public void testRandomGraphBenchmark()
         throws RunnerException
@@ -123,6 +137,9 @@ public class MaximumCardinalityBipartiteMatchingPerformanceTest
             .include(
                 ".*" + HopcroftKarpMaximumCardinalityBipartiteMatchingBenchmark.class
                     .getSimpleName() + ".*")
+            .include(
+                ".*" + ParallelHopcroftKarpMaximumCardinalityBipartiteMatchingBenchmark.class
+                    .getSimpleName() + ".*")
             .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
             .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
 
@@ -129,7 +129,7 @@ public class ClosestFirstIteratorTest
     @Override
     String getExpectedCCStr1()
     {
-        return "orphan,7,3,9,5,4,6,1,2,8";
+        return "orphan,7,3,9,5,6,4,1,2,8";
     }
 
     @Override
@@ -141,7 +141,7 @@ public class ClosestFirstIteratorTest
     @Override
     String getExpectedCCStr3()
     {
-        return "orphan,7,3,9,5,4,6,1,2,8";
+        return "orphan,7,3,9,5,6,4,1,2,8";
     }
 
     @Override
@@ -0,0 +1,213 @@
+/*
+ * (C) Copyright 2018-2018, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link IntDoubleHeap} implementations.
+ */
+public class IntDoubleHeapTest
+{
+    @Test
+    public void testBinaryHeap()
+    {
+        testRandomOperations(() -> new DaryIntDoubleHeap(2), false);
+    }
+
+    @Test
+    public void testDaryHeap()
+    {
+        testRandomOperations(() -> new DaryIntDoubleHeap(4, 0), false);
+        testRandomOperations(() -> new DaryIntDoubleHeap(7), false);
+    }
+
+    @Test
+    public void testPairingHeap()
+    {
+        testRandomOperations(PairingIntDoubleHeap::new, false);
+    }
+
+    @Test
+    public void testRadixHeap()
+    {
+        testRandomOperations(RadixIntDoubleHeap::new, true);
+    }
+
+    @Test
+    public void testSort()
+    {
+        List<Supplier<IntDoubleHeap>> heaps = Arrays.asList(
+            DaryIntDoubleHeap::new, () -> new DaryIntDoubleHeap(2), PairingIntDoubleHeap::new,
+            RadixIntDoubleHeap::new);
+        Random rng = new Random(7);
+        for (Supplier<IntDoubleHeap> supplier : heaps) {
+            IntDoubleHeap heap = supplier.get();
+            double[] keys = new double[1000];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = rng.nextInt(500);
+                heap.insert(i, keys[i]);
+            }
+            assertEquals(keys.length, heap.size());
+            double[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            for (double key : sorted) {
+                assertEquals(key, heap.findMinKey(), 0d);
+                int item = heap.deleteMin();
+                assertEquals(key, keys[item], 0d);
+                assertFalse(heap.contains(item));
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    public void testDaryTieBreak()
+    {
+        Random rng = new Random(11);
+        for (int d = 2; d <= 4; d++) {
+            IntDoubleHeap heap = new DaryIntDoubleHeap(d);
+            for (int i = 0; i < 200; i++) {
+                heap.insert(i, 10 + rng.nextInt(5));
+            }
+            for (int i = 0; i < 200; i += 3) {
+                heap.decreaseKey(i, Math.min(heap.getKey(i), rng.nextInt(10)));
+            }
+            double lastKey = Double.NEGATIVE_INFINITY;
+            int lastItem = -1;
+            while (!heap.isEmpty()) {
+                double key = heap.findMinKey();
+                int item = heap.deleteMin();
+                assertTrue(key > lastKey || (key == lastKey && item > lastItem));
+                lastKey = key;
+                lastItem = item;
+            }
+        }
+    }
+
+    @Test
+    public void testClear()
+    {
+        for (IntDoubleHeap heap : Arrays.asList(
+            new DaryIntDoubleHeap(), new PairingIntDoubleHeap(), new RadixIntDoubleHeap()))
+        {
+            for (int i = 0; i < 10; i++) {
+                heap.insert(i, 10 - i);
+            }
+            heap.deleteMin();
+            heap.clear();
+            assertTrue(heap.isEmpty());
+            for (int i = 0; i < 10; i++) {
+                assertFalse(heap.contains(i));
+            }
+            heap.insert(3, 1);
+            assertEquals(3, heap.findMin());
+            assertEquals(1, heap.size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInsertTwice()
+    {
+        IntDoubleHeap heap = new DaryIntDoubleHeap();
+        heap.insert(1, 1);
+        heap.insert(1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncreaseKey()
+    {
+        IntDoubleHeap heap = new PairingIntDoubleHeap();
+        heap.insert(1, 1);
+        heap.decreaseKey(1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRadixHeapNonInteger()
+    {
+        new RadixIntDoubleHeap().insert(0, 0.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRadixHeapNotMonotone()
+    {
+        IntDoubleHeap heap = new RadixIntDoubleHeap();
+        heap.insert(0, 5);
+        heap.deleteMin();
+        heap.insert(1, 4);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDeleteMinEmpty()
+    {
+        new RadixIntDoubleHeap().deleteMin();
+    }
+
+    /*
+     * Compare against a sorted set of (key, item) pairs. Monotone heaps only get keys which are at
+     * least the last removed key.
+     */
+    private static void testRandomOperations(Supplier<IntDoubleHeap> supplier, boolean monotone)
+    {
+        Random rng = new Random(17);
+        int n = 300;
+        IntDoubleHeap heap = supplier.get();
+        double[] keys = new double[n];
+        TreeSet<Integer> expected = new TreeSet<>((a, b) -> {
+            int c = Double.compare(keys[a], keys[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+        double last = 0;
+
+        for (int op = 0; op < 20000; op++) {
+            int item = rng.nextInt(n);
+            int choice = rng.nextInt(3);
+            if (choice == 0 && !expected.isEmpty()) {
+                double minKey = keys[expected.first()];
+                assertEquals(minKey, heap.findMinKey(), 0d);
+                int min = heap.deleteMin();
+                assertEquals(minKey, keys[min], 0d);
+                assertTrue(expected.remove(min));
+                last = minKey;
+            } else if (expected.contains(item)) {
+                double current = keys[item];
+                double key = monotone ? last + rng.nextInt((int) (current - last) + 1)
+                    : current - rng.nextInt(10);
+                expected.remove(item);
+                keys[item] = key;
+                expected.add(item);
+                heap.decreaseKey(item, key);
+                assertEquals(key, heap.getKey(item), 0d);
+            } else {
+                keys[item] = monotone ? last + rng.nextInt(1000) : rng.nextInt(1000) - 500;
+                expected.add(item);
+                heap.insert(item, keys[item]);
+            }
+            assertEquals(expected.size(), heap.size());
+            assertEquals(expected.isEmpty(), heap.isEmpty());
+            assertEquals(expected.contains(item), heap.contains(item));
+        }
+    }
+}
+
+// End IntDoubleHeapTest.java